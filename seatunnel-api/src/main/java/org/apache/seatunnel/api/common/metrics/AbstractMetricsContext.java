@@ -58,6 +58,29 @@ public abstract class AbstractMetricsContext implements MetricsContext, Serializ
         return meter;
     }
 
+    public Histogram histogram(String name) {
+        if (metrics.containsKey(name)) {
+            return (Histogram) metrics.get(name);
+        }
+        return this.histogram(name, new ThreadSafeHistogram(name));
+    }
+
+    /**
+     * Returns the latency histogram registered under the name, or registers a new {@link
+     * ThreadSafeBucketedHistogram} in nanoseconds.
+     */
+    public Histogram latencyHistogram(String name) {
+        if (metrics.containsKey(name)) {
+            return (Histogram) metrics.get(name);
+        }
+        return this.histogram(name, new ThreadSafeBucketedHistogram(name, Unit.NS));
+    }
+
+    public <H extends Histogram> H histogram(String name, H histogram) {
+        this.addMetric(name, histogram);
+        return histogram;
+    }
+
     protected void addMetric(String name, Metric metric) {
         if (metric == null) {
             log.warn("Ignoring attempted add of a metric due to being null for name {}.", name);
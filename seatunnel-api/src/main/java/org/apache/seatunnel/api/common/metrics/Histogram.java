@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+/** Metric for recording the distribution of values, e.g. durations. */
+public interface Histogram extends Metric {
+    /**
+     * Record a new value.
+     *
+     * @param value the value to record
+     */
+    void update(long value);
+
+    /**
+     * Get number of values recorded by the histogram.
+     *
+     * @return number of values recorded by the histogram
+     */
+    long getCount();
+
+    /**
+     * Get the sum of all values recorded by the histogram.
+     *
+     * @return sum of all values recorded by the histogram
+     */
+    long getSum();
+
+    /**
+     * Returns the minimum of the recent values, or 0 if nothing was recorded.
+     *
+     * @return minimum of the recent values
+     */
+    long getMin();
+
+    /**
+     * Returns the maximum of the recent values, or 0 if nothing was recorded.
+     *
+     * @return maximum of the recent values
+     */
+    long getMax();
+
+    /**
+     * Returns the mean of the recent values, or 0 if nothing was recorded.
+     *
+     * @return mean of the recent values
+     */
+    double getMean();
+
+    /**
+     * Returns the value at the given quantile of the recent values.
+     *
+     * @param quantile the quantile in range [0, 1]
+     * @return value at the given quantile, or 0 if nothing was recorded
+     */
+    long getQuantile(double quantile);
+}
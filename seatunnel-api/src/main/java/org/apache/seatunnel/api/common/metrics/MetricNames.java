@@ -33,4 +33,12 @@ public final class MetricNames {
     public static final String SINK_WRITE_BYTES = "SinkWriteBytes";
     public static final String SINK_WRITE_QPS = "SinkWriteQPS";
     public static final String SINK_WRITE_BYTES_PER_SECONDS = "SinkWriteBytesPerSeconds";
+    public static final String TRANSFORM_REGEXP_CACHE_HITS = "TransformRegexpCacheHits";
+    public static final String TRANSFORM_REGEXP_CACHE_MISSES = "TransformRegexpCacheMisses";
+    public static final String CHECKPOINT_DURATION = "CheckpointDuration";
+    public static final String CHECKPOINT_ACK_DURATION = "CheckpointAckDuration";
+    public static final String CHECKPOINT_PERSIST_DURATION = "CheckpointPersistDuration";
+    public static final String SOURCE_POLL_LATENCY = "SourcePollLatency";
+    public static final String TRANSFORM_LATENCY = "TransformLatency";
+    public static final String SINK_WRITE_LATENCY = "SinkWriteLatency";
 }
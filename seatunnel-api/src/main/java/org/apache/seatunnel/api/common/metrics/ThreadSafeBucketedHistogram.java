@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free {@link Histogram} counting values into log-linear buckets, in the spirit of
+ * HdrHistogram.
+ *
+ * <p>Every power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, so quantiles are
+ * reported with a relative error below 12.5% over the whole {@code long} range while the memory
+ * footprint stays fixed. Unlike {@link ThreadSafeHistogram} it covers all values recorded since
+ * creation and {@link #update(long)} never blocks, which makes it suitable for per-record latencies
+ * on the hot path. Negative values are recorded as 0.
+ */
+public class ThreadSafeBucketedHistogram implements Histogram, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int SUB_BUCKET_BITS = 3;
+
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final String name;
+
+    private final Unit unit;
+
+    // written sparsely, most buckets are empty
+    private transient AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private final AtomicLong sum = new AtomicLong();
+
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    public ThreadSafeBucketedHistogram(String name) {
+        this(name, Unit.NS);
+    }
+
+    public ThreadSafeBucketedHistogram(String name, Unit unit) {
+        this.name = name;
+        this.unit = unit;
+    }
+
+    @Override
+    public void update(long value) {
+        long v = Math.max(value, 0);
+        buckets.incrementAndGet(bucketIndex(v));
+        sum.addAndGet(v);
+        count.incrementAndGet();
+        if (v < min.get()) {
+            min.accumulateAndGet(v, Math::min);
+        }
+        if (v > max.get()) {
+            max.accumulateAndGet(v, Math::max);
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return count.get();
+    }
+
+    @Override
+    public long getSum() {
+        return sum.get();
+    }
+
+    @Override
+    public long getMin() {
+        return getCount() == 0 ? 0 : min.get();
+    }
+
+    @Override
+    public long getMax() {
+        return getCount() == 0 ? 0 : max.get();
+    }
+
+    @Override
+    public double getMean() {
+        long n = getCount();
+        return n == 0 ? 0 : (double) getSum() / n;
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the value at the given quantile, capped by the
+     * largest recorded value.
+     */
+    @Override
+    public long getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be in range [0, 1]");
+        }
+        long[] snapshot = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(quantile * total), 1);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        int nonEmpty = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (buckets.get(i) != 0) {
+                nonEmpty++;
+            }
+        }
+        out.writeInt(nonEmpty);
+        for (int i = 0; i < BUCKET_COUNT && nonEmpty > 0; i++) {
+            long bucket = buckets.get(i);
+            if (bucket != 0) {
+                out.writeShort(i);
+                out.writeLong(bucket);
+                nonEmpty--;
+            }
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        buckets = new AtomicLongArray(BUCKET_COUNT);
+        int nonEmpty = in.readInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            buckets.set(in.readShort(), in.readLong());
+        }
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = highestBit - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return unit;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSafeBucketedHistogram{"
+                + "name='"
+                + name
+                + '\''
+                + ", count="
+                + getCount()
+                + '}';
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/** {@link Histogram} keeping a sliding window of the most recent values. */
+public class ThreadSafeHistogram implements Histogram, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_WINDOW_SIZE = 1024;
+
+    private final String name;
+
+    private final Unit unit;
+
+    private final long[] window;
+
+    private long count;
+
+    private long sum;
+
+    public ThreadSafeHistogram(String name) {
+        this(name, Unit.MS, DEFAULT_WINDOW_SIZE);
+    }
+
+    public ThreadSafeHistogram(String name, Unit unit, int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must be positive");
+        }
+        this.name = name;
+        this.unit = unit;
+        this.window = new long[windowSize];
+    }
+
+    @Override
+    public synchronized void update(long value) {
+        window[(int) (count % window.length)] = value;
+        count++;
+        sum += value;
+    }
+
+    @Override
+    public synchronized long getCount() {
+        return count;
+    }
+
+    @Override
+    public synchronized long getSum() {
+        return sum;
+    }
+
+    @Override
+    public long getMin() {
+        long[] values = snapshot();
+        return values.length == 0 ? 0 : values[0];
+    }
+
+    @Override
+    public long getMax() {
+        long[] values = snapshot();
+        return values.length == 0 ? 0 : values[values.length - 1];
+    }
+
+    @Override
+    public double getMean() {
+        long[] values = snapshot();
+        if (values.length == 0) {
+            return 0;
+        }
+        double sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum / values.length;
+    }
+
+    @Override
+    public long getQuantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("quantile must be in range [0, 1]");
+        }
+        long[] values = snapshot();
+        if (values.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * values.length) - 1;
+        return values[Math.max(index, 0)];
+    }
+
+    /** Returns the values currently in the window in ascending order. */
+    private long[] snapshot() {
+        long[] values;
+        synchronized (this) {
+            values = Arrays.copyOf(window, (int) Math.min(count, window.length));
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public Unit unit() {
+        return unit;
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadSafeHistogram{" + "name='" + name + '\'' + ", count=" + getCount() + '}';
+    }
+}
@@ -33,9 +33,22 @@ public class ThreadSafeQPSMeter implements Meter, Serializable {
 
     private final long timestamp;
 
+    /** Minimum span of {@link #getWindowedRate()}. */
+    private static final long RATE_WINDOW_MILLIS = 60_000;
+
+    private long windowStartTime;
+
+    private long windowStartCount;
+
+    private long windowMiddleTime;
+
+    private long windowMiddleCount;
+
     public ThreadSafeQPSMeter(String name) {
         this.name = name;
         timestamp = System.currentTimeMillis();
+        windowStartTime = timestamp;
+        windowMiddleTime = timestamp;
     }
 
     @Override
@@ -54,6 +67,26 @@ public class ThreadSafeQPSMeter implements Meter, Serializable {
         return (double) value * 1000 / cost;
     }
 
+    /**
+     * Returns the rate of the recent events, usually over the last one to two minutes.
+     *
+     * <p>The window is only advanced when the rate is read, so {@link #markEvent()} stays as cheap
+     * as before. If the rate is read less often than once per minute, it covers the time since the
+     * previous read instead.
+     */
+    public synchronized double getWindowedRate() {
+        long now = System.currentTimeMillis();
+        long current = getCount();
+        if (now - windowMiddleTime >= RATE_WINDOW_MILLIS) {
+            windowStartTime = windowMiddleTime;
+            windowStartCount = windowMiddleCount;
+            windowMiddleTime = now;
+            windowMiddleCount = current;
+        }
+        long cost = now - windowStartTime;
+        return cost <= 0 ? 0 : (double) (current - windowStartCount) * 1000 / cost;
+    }
+
     @Override
     public long getCount() {
         return VOLATILE_VALUE_UPDATER.get(this);
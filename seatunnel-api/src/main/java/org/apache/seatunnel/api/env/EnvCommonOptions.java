@@ -78,6 +78,21 @@ public interface EnvCommonOptions {
                     .withDescription(
                             "The each parallelism bytes limit per second for read data from source.");
 
+    Option<ReadLimitScope> READ_LIMIT_SCOPE =
+            Options.key("read_limit.scope")
+                    .enumType(ReadLimitScope.class)
+                    .defaultValue(ReadLimitScope.SUBTASK)
+                    .withDescription(
+                            "Whether the read limits apply to each parallelism or to the whole job.");
+
+    Option<ShuffleTransportType> SHUFFLE_TRANSPORT =
+            Options.key("shuffle.transport")
+                    .enumType(ShuffleTransportType.class)
+                    .defaultValue(ShuffleTransportType.IQUEUE)
+                    .withDescription(
+                            "The data plane of shuffles, IQUEUE uses Hazelcast queues, "
+                                    + "DIRECT sends the records straight to the member of the downstream task");
+
     Option<Long> CHECKPOINT_TIMEOUT =
             Options.key("checkpoint.timeout")
                     .longType()
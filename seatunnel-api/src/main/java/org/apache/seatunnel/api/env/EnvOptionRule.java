@@ -33,7 +33,9 @@ public class EnvOptionRule {
                         EnvCommonOptions.CHECKPOINT_TIMEOUT,
                         EnvCommonOptions.READ_LIMIT_ROW_PER_SECOND,
                         EnvCommonOptions.READ_LIMIT_BYTES_PER_SECOND,
+                        EnvCommonOptions.READ_LIMIT_SCOPE,
                         EnvCommonOptions.SAVEMODE_EXECUTE_LOCATION,
+                        EnvCommonOptions.SHUFFLE_TRANSPORT,
                         EnvCommonOptions.CUSTOM_PARAMETERS)
                 .build();
     }
@@ -41,6 +41,17 @@ public interface Collector<T> {
      */
     Object getCheckpointLock();
 
+    /**
+     * Whether the read limits of the job hold back the reader, i.e. the next record would wait for
+     * them. A reader emitting many records while holding the checkpoint lock may end its poll early
+     * when it can resume later, so that checkpoints are not delayed while it waits.
+     *
+     * @return true if the next record would wait for the read limits
+     */
+    default boolean isThrottled() {
+        return false;
+    }
+
     default boolean isEmptyThisPollNext() {
         return false;
     }
@@ -110,6 +110,25 @@ public interface SourceReader<T, SplitT extends SourceSplit>
          */
         void sendSourceEventToEnumerator(SourceEvent sourceEvent);
 
+        /**
+         * Indicates that the reader has nothing to emit, call it in {@link
+         * SourceReader#pollNext(Collector)} instead of sleeping. The engine may stop polling the
+         * reader until {@link #signalDataAvailable()} is called, a split is assigned to it, or
+         * {@code maxIdleMillis} has passed. The default implementation sleeps for {@code
+         * maxIdleMillis}.
+         *
+         * @param maxIdleMillis the longest time the reader may be left idle.
+         */
+        default void markIdle(long maxIdleMillis) throws InterruptedException {
+            Thread.sleep(maxIdleMillis);
+        }
+
+        /**
+         * Indicates that the reader has data to emit again, e.g. from a fetcher thread, so an idle
+         * reader is polled right away.
+         */
+        default void signalDataAvailable() {}
+
         /** @return metricsContext of this reader. */
         MetricsContext getMetricsContext();
 
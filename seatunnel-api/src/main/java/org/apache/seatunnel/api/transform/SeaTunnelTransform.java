@@ -18,11 +18,14 @@
 package org.apache.seatunnel.api.transform;
 
 import org.apache.seatunnel.api.common.PluginIdentifierInterface;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.source.SeaTunnelJobAware;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 public interface SeaTunnelTransform<T>
         extends Serializable, PluginIdentifierInterface, SeaTunnelJobAware {
@@ -30,6 +33,14 @@ public interface SeaTunnelTransform<T>
     /** call it when Transformer initialed */
     default void open() {}
 
+    /**
+     * Set the metrics context of the task running this transform, called before {@link #open()}.
+     * Engines without metrics support never call it.
+     *
+     * @param metricsContext the metrics context of the running task.
+     */
+    default void setMetricsContext(MetricsContext metricsContext) {}
+
     /**
      * Set the data type info of input data.
      *
@@ -53,6 +64,33 @@ public interface SeaTunnelTransform<T>
      */
     T map(T row);
 
+    /**
+     * The max number of rows the engine may buffer and pass to {@link #mapBatch(List)} at once. A
+     * value less than or equal to 1 means the transform is called row by row.
+     */
+    default int getBatchSize() {
+        return 0;
+    }
+
+    /**
+     * Transform a batch of input data, rows filtered out by the transform are not part of the
+     * result. Transforms that can evaluate a whole batch at once override this, by default {@link
+     * #map(Object)} is called for each row.
+     *
+     * @param rows the data need be transformed.
+     * @return transformed data, in the order of the input.
+     */
+    default List<T> mapBatch(List<T> rows) {
+        List<T> outputs = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            T output = map(row);
+            if (output != null) {
+                outputs.add(output);
+            }
+        }
+        return outputs;
+    }
+
     /** call it when Transformer completed */
     default void close() {}
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.api.common.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+public class ThreadSafeBucketedHistogramTest {
+
+    @Test
+    public void testBucketsCoverTheLongRange() {
+        int previous = -1;
+        for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 1000, 1L << 40, Long.MAX_VALUE}) {
+            int index = ThreadSafeBucketedHistogram.bucketIndex(value);
+            Assertions.assertTrue(index > previous);
+            Assertions.assertTrue(ThreadSafeBucketedHistogram.bucketUpperBound(index) >= value);
+            previous = index;
+        }
+        Assertions.assertEquals(
+                Long.MAX_VALUE,
+                ThreadSafeBucketedHistogram.bucketUpperBound(
+                        ThreadSafeBucketedHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testQuantilesAreWithinRelativeError() {
+        ThreadSafeBucketedHistogram histogram = new ThreadSafeBucketedHistogram("latency");
+        for (long i = 1; i <= 100_000; i++) {
+            histogram.update(i);
+        }
+        Assertions.assertEquals(100_000, histogram.getCount());
+        Assertions.assertEquals(1, histogram.getMin());
+        Assertions.assertEquals(100_000, histogram.getMax());
+        Assertions.assertEquals(50_000.5, histogram.getMean(), 0.001);
+        for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+            long expected = (long) (quantile * 100_000);
+            long actual = histogram.getQuantile(quantile);
+            Assertions.assertTrue(actual >= expected, quantile + ": " + actual);
+            Assertions.assertTrue(actual <= expected * 1.125, quantile + ": " + actual);
+        }
+        Assertions.assertEquals(100_000, histogram.getQuantile(1));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        ThreadSafeBucketedHistogram histogram = new ThreadSafeBucketedHistogram("latency");
+        histogram.update(3);
+        histogram.update(1_000_000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(histogram);
+        }
+        // only the two non empty buckets are written
+        Assertions.assertTrue(bytes.size() < 1024, "size: " + bytes.size());
+        ThreadSafeBucketedHistogram copy;
+        try (ObjectInputStream in =
+                new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ThreadSafeBucketedHistogram) in.readObject();
+        }
+        Assertions.assertEquals(2, copy.getCount());
+        Assertions.assertEquals(3, copy.getQuantile(0.5));
+        Assertions.assertEquals(1_000_000, copy.getQuantile(1));
+        copy.update(5);
+        Assertions.assertEquals(3, copy.getCount());
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        ThreadSafeBucketedHistogram histogram = new ThreadSafeBucketedHistogram("latency");
+        Assertions.assertEquals(0, histogram.getMin());
+        Assertions.assertEquals(0, histogram.getMax());
+        Assertions.assertEquals(0, histogram.getQuantile(0.99));
+        histogram.update(-5);
+        Assertions.assertEquals(0, histogram.getMax());
+    }
+}
@@ -40,6 +40,8 @@ public abstract class BaseSourceConfig implements SourceConfig {
     @Getter protected final int sampleShardingThreshold;
     @Getter protected final int inverseSamplingRate;
     @Getter protected final boolean exactlyOnce;
+    @Getter protected final long snapshotBufferSize;
+    @Getter protected final int snapshotSplitParallelism;
 
     // --------------------------------------------------------------------------------------------
     // Debezium Configurations
@@ -55,6 +57,8 @@ public abstract class BaseSourceConfig implements SourceConfig {
             int sampleShardingThreshold,
             int inverseSamplingRate,
             boolean exactlyOnce,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism,
             Properties dbzProperties) {
         this.startupConfig = startupConfig;
         this.stopConfig = stopConfig;
@@ -64,6 +68,8 @@ public abstract class BaseSourceConfig implements SourceConfig {
         this.sampleShardingThreshold = sampleShardingThreshold;
         this.inverseSamplingRate = inverseSamplingRate;
         this.exactlyOnce = exactlyOnce;
+        this.snapshotBufferSize = snapshotBufferSize;
+        this.snapshotSplitParallelism = snapshotSplitParallelism;
         this.dbzProperties = dbzProperties;
     }
 
@@ -65,7 +65,9 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism) {
         super(
                 startupConfig,
                 stopConfig,
@@ -75,6 +77,8 @@ public abstract class JdbcSourceConfig extends BaseSourceConfig {
                 sampleShardingThreshold,
                 inverseSamplingRate,
                 exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism,
                 dbzProperties);
         this.driverClassName = driverClassName;
         this.hostname = hostname;
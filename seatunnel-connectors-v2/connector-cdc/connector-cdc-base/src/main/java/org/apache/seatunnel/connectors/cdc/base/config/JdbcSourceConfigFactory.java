@@ -28,6 +28,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Properties;
 
+import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
+
 /** A {@link SourceConfig.Factory} to provide {@link SourceConfig} of JDBC data source. */
 public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<JdbcSourceConfig> {
 
@@ -57,6 +59,9 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
     protected int connectMaxRetries = JdbcSourceOptions.CONNECT_MAX_RETRIES.defaultValue();
     protected int connectionPoolSize = JdbcSourceOptions.CONNECTION_POOL_SIZE.defaultValue();
     @Setter protected boolean exactlyOnce = JdbcSourceOptions.EXACTLY_ONCE.defaultValue();
+    protected long snapshotBufferSize = SourceOptions.SNAPSHOT_BUFFER_SIZE.defaultValue();
+    protected int snapshotSplitParallelism =
+            SourceOptions.SNAPSHOT_SPLIT_PARALLELISM.defaultValue();
     protected Properties dbzProperties;
 
     /** String hostname of the database server. */
@@ -245,6 +250,13 @@ public abstract class JdbcSourceConfigFactory implements SourceConfig.Factory<Jd
         this.connectMaxRetries = config.get(JdbcSourceOptions.CONNECT_MAX_RETRIES);
         this.connectionPoolSize = config.get(JdbcSourceOptions.CONNECTION_POOL_SIZE);
         this.exactlyOnce = config.get(JdbcSourceOptions.EXACTLY_ONCE);
+        this.snapshotBufferSize = config.get(SourceOptions.SNAPSHOT_BUFFER_SIZE);
+        checkArgument(
+                snapshotBufferSize > 0,
+                "The value of option '%s' must be positive, but is %s",
+                SourceOptions.SNAPSHOT_BUFFER_SIZE.key(),
+                snapshotBufferSize);
+        this.snapshotSplitParallelism = config.get(SourceOptions.SNAPSHOT_SPLIT_PARALLELISM);
         this.dbzProperties = new Properties();
         config.getOptional(SourceOptions.DEBEZIUM_PROPERTIES)
                 .ifPresent(map -> dbzProperties.putAll(map));
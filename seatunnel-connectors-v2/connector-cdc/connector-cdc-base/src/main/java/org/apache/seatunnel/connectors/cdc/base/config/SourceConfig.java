@@ -30,6 +30,9 @@ public interface SourceConfig extends Serializable {
 
     boolean isExactlyOnce();
 
+    /** The number of tables split into chunks concurrently. */
+    int getSnapshotSplitParallelism();
+
     /** Factory for the {@code SourceConfig}. */
     @FunctionalInterface
     interface Factory<C extends SourceConfig> extends Serializable {
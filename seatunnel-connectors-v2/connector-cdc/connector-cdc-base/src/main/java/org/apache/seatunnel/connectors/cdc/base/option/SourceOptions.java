@@ -44,6 +44,20 @@ public class SourceOptions {
                     .withDescription(
                             "The maximum fetch size for per poll when read table snapshot.");
 
+    public static final Option<Long> SNAPSHOT_BUFFER_SIZE =
+            Options.key("snapshot.buffer.size")
+                    .longType()
+                    .defaultValue(64 * 1024 * 1024L)
+                    .withDescription(
+                            "The maximum bytes of the snapshot records of a split held in memory when exactly_once is enabled, the records beyond are spilled to local disk until the split is normalized.");
+
+    public static final Option<Integer> SNAPSHOT_SPLIT_PARALLELISM =
+            Options.key("snapshot.split.parallelism")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The number of tables split into chunks concurrently by the enumerator, each of them holds a database connection while splitting.");
+
     public static final Option<Long> STARTUP_TIMESTAMP =
             Options.key("startup.timestamp")
                     .longType()
@@ -111,7 +125,11 @@ public class SourceOptions {
     public static OptionRule.Builder getBaseRule() {
         return OptionRule.builder()
                 .optional(FORMAT)
-                .optional(SNAPSHOT_SPLIT_SIZE, SNAPSHOT_FETCH_SIZE)
+                .optional(
+                        SNAPSHOT_SPLIT_SIZE,
+                        SNAPSHOT_FETCH_SIZE,
+                        SNAPSHOT_BUFFER_SIZE,
+                        SNAPSHOT_SPLIT_PARALLELISM)
                 .optional(INCREMENTAL_PARALLELISM)
                 .optional(DEBEZIUM_PROPERTIES);
     }
@@ -287,6 +287,9 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
         checkpointSnapshotState.getRemainingTables().addAll(newTables);
         checkpointSnapshotState.getRemainingTables().removeAll(deletedTables);
         checkpointSnapshotState.getAlreadyProcessedTables().removeAll(deletedTables);
+        if (checkpointSnapshotState.getSplitterStates() != null) {
+            checkpointSnapshotState.getSplitterStates().keySet().removeAll(deletedTables);
+        }
         Set<String> deletedSplitIds = new HashSet<>();
         Iterator<SnapshotSplit> splitIterator =
                 checkpointSnapshotState.getRemainingSplits().iterator();
@@ -324,7 +327,8 @@ public abstract class IncrementalSource<T, C extends SourceConfig>
                             false,
                             checkpointSnapshotState.getRemainingTables(),
                             checkpointSnapshotState.isTableIdCaseSensitive(),
-                            checkpointSnapshotState.isRemainingTablesCheckpointed()),
+                            checkpointSnapshotState.isRemainingTablesCheckpointed(),
+                            checkpointSnapshotState.getSplitterStates()),
                     checkpointState.getIncrementalPhaseState());
         }
         return checkpointState;
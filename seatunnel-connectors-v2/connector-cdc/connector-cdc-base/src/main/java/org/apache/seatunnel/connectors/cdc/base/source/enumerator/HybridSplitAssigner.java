@@ -91,6 +91,16 @@ public class HybridSplitAssigner<C extends SourceConfig> implements SplitAssigne
         snapshotSplitAssigner.open();
     }
 
+    @Override
+    public void setSplitsAvailableListener(Runnable listener) {
+        snapshotSplitAssigner.setSplitsAvailableListener(listener);
+    }
+
+    @Override
+    public void close() {
+        snapshotSplitAssigner.close();
+    }
+
     @Override
     public Optional<SourceSplitBase> getNext() {
         if (!snapshotSplitAssigner.noMoreSplits()) {
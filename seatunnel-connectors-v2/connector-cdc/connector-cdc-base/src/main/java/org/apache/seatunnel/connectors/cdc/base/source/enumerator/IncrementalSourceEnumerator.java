@@ -61,6 +61,7 @@ public class IncrementalSourceEnumerator
 
     @Override
     public void open() {
+        splitAssigner.setSplitsAvailableListener(this::onSplitsAvailable);
         splitAssigner.open();
     }
 
@@ -155,6 +156,12 @@ public class IncrementalSourceEnumerator
 
     // ------------------------------------------------------------------------------------------
 
+    private synchronized void onSplitsAvailable() {
+        if (running) {
+            assignSplits();
+        }
+    }
+
     private void assignSplits() {
         final Iterator<Integer> awaitingReader = readersAwaitingSplit.iterator();
 
@@ -18,10 +18,12 @@
 package org.apache.seatunnel.connectors.cdc.base.source.enumerator;
 
 import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+import org.apache.seatunnel.shade.com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
 import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitter;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitterState;
 import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.SnapshotPhaseState;
 import org.apache.seatunnel.connectors.cdc.base.source.event.SnapshotSplitWatermark;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
@@ -38,18 +40,29 @@ import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
-/** Assigner for snapshot split. */
+/**
+ * Assigner for snapshot split.
+ *
+ * <p>The remaining tables are split into chunks in the background by a bounded number of splitter
+ * threads, each of which holds one database connection while splitting a table. The splits of a
+ * table are assignable as soon as they are generated, and the progress of the tables being split is
+ * checkpointed so that a restart continues from there.
+ */
 public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssigner {
     private static final Logger LOG = LoggerFactory.getLogger(SnapshotSplitAssigner.class);
 
@@ -64,6 +77,13 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     private final int currentParallelism;
     private final Deque<TableId> remainingTables;
     private final boolean isRemainingTablesCheckpointed;
+    private final Map<TableId, ChunkSplitterState> splitterStates;
+    /** The tables being split by the splitter threads, guarded by this assigner. */
+    private final Set<TableId> splittingTables = new LinkedHashSet<>();
+
+    private ExecutorService splitExecutor;
+    private volatile RuntimeException splitFailure;
+    private volatile Runnable splitsAvailableListener = () -> {};
 
     private ChunkSplitter chunkSplitter;
     private boolean isTableIdCaseSensitive;
@@ -88,6 +108,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 remainingTables,
                 isTableIdCaseSensitive,
                 true,
+                new HashMap<>(),
                 dialect);
     }
 
@@ -107,6 +128,9 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 checkpoint.getRemainingTables(),
                 checkpoint.isTableIdCaseSensitive(),
                 checkpoint.isRemainingTablesCheckpointed(),
+                checkpoint.getSplitterStates() == null
+                        ? new HashMap<>()
+                        : checkpoint.getSplitterStates(),
                 dialect);
     }
 
@@ -121,6 +145,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             List<TableId> remainingTables,
             boolean isTableIdCaseSensitive,
             boolean isRemainingTablesCheckpointed,
+            Map<TableId, ChunkSplitterState> splitterStates,
             DataSourceDialect<C> dialect) {
         this.context = context;
         this.sourceConfig = context.getSourceConfig();
@@ -132,6 +157,7 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         this.assignerCompleted = assignerCompleted;
         this.remainingTables = new ConcurrentLinkedDeque<>(remainingTables);
         this.isRemainingTablesCheckpointed = isRemainingTablesCheckpointed;
+        this.splitterStates = new HashMap<>(splitterStates);
         this.isTableIdCaseSensitive = isTableIdCaseSensitive;
         this.dialect = dialect;
 
@@ -162,13 +188,28 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
                 throw new RuntimeException("Failed to discover remaining tables to capture", e);
             }
         }
+
+        splitExecutor =
+                Executors.newFixedThreadPool(
+                        sourceConfig.getSnapshotSplitParallelism(),
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("snapshot-splitter-%d")
+                                .setDaemon(true)
+                                .build());
+        splitRemainingTables();
+    }
+
+    @Override
+    public void setSplitsAvailableListener(Runnable listener) {
+        this.splitsAvailableListener = listener;
     }
 
     @Override
-    public Optional<SourceSplitBase> getNext() {
+    public synchronized Optional<SourceSplitBase> getNext() {
         if (chunkSplitter == null) {
             return Optional.empty();
         }
+        checkSplitFailure();
         if (!remainingSplits.isEmpty()) {
             // return remaining splits firstly
             Iterator<SnapshotSplit> iterator = remainingSplits.iterator();
@@ -178,17 +219,66 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
             context.getAssignedSnapshotSplit().put(split.splitId(), split);
             return Optional.of(split);
         } else {
-            // it's turn for new table
+            // the splits of the tables being split are assigned once available
+            splitRemainingTables();
+            return Optional.empty();
+        }
+    }
+
+    /** Submits the remaining tables to the splitter threads which are not busy. */
+    private synchronized void splitRemainingTables() {
+        if (splitExecutor == null || splitExecutor.isShutdown() || splitFailure != null) {
+            return;
+        }
+        while (splittingTables.size() < sourceConfig.getSnapshotSplitParallelism()) {
             TableId nextTable = remainingTables.pollFirst();
-            if (nextTable != null) {
-                // split the given table into chunks (snapshot splits)
-                Collection<SnapshotSplit> splits = chunkSplitter.generateSplits(nextTable);
-                remainingSplits.addAll(splits);
-                alreadyProcessedTables.add(nextTable);
-                return getNext();
-            } else {
-                return Optional.empty();
+            if (nextTable == null) {
+                return;
             }
+            splittingTables.add(nextTable);
+            ChunkSplitterState state = splitterStates.get(nextTable);
+            splitExecutor.execute(() -> splitTable(nextTable, state));
+        }
+    }
+
+    private void splitTable(TableId tableId, ChunkSplitterState state) {
+        try {
+            // split the given table into chunks (snapshot splits)
+            chunkSplitter.generateSplits(
+                    tableId,
+                    state,
+                    (splits, nextState) -> {
+                        addGeneratedSplits(tableId, splits, nextState);
+                        splitsAvailableListener.run();
+                    });
+            splitRemainingTables();
+        } catch (Throwable t) {
+            LOG.error("Failed to split table {} into chunks.", tableId, t);
+            splitFailure =
+                    new RuntimeException(
+                            String.format("Failed to split table %s into chunks", tableId), t);
+        }
+    }
+
+    /**
+     * Adds the generated splits of a table together with the progress of the table, so that they
+     * are always consistent in the snapshot state.
+     */
+    private synchronized void addGeneratedSplits(
+            TableId tableId, Collection<SnapshotSplit> splits, ChunkSplitterState nextState) {
+        remainingSplits.addAll(splits);
+        if (nextState != null) {
+            splitterStates.put(tableId, nextState);
+        } else {
+            splitterStates.remove(tableId);
+            splittingTables.remove(tableId);
+            alreadyProcessedTables.add(tableId);
+        }
+    }
+
+    private void checkSplitFailure() {
+        if (splitFailure != null) {
+            throw splitFailure;
         }
     }
 
@@ -227,21 +317,24 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
     }
 
     @Override
-    public SnapshotPhaseState snapshotState(long checkpointId) {
+    public synchronized SnapshotPhaseState snapshotState(long checkpointId) {
+        checkSplitFailure();
+        // the tables being split are remaining tables to continue splitting after restart
+        List<TableId> tables = new ArrayList<>(splittingTables);
+        tables.addAll(remainingTables);
         SnapshotPhaseState state =
                 new SnapshotPhaseState(
-                        alreadyProcessedTables,
+                        new ArrayList<>(alreadyProcessedTables),
                         remainingSplits.isEmpty()
                                 ? new ArrayList<>()
                                 : new ArrayList<>(remainingSplits),
                         assignedSplits,
                         splitCompletedOffsets,
                         assignerCompleted,
-                        remainingTables.isEmpty()
-                                ? new ArrayList<>()
-                                : new ArrayList<>(remainingTables),
+                        tables,
                         isTableIdCaseSensitive,
-                        true);
+                        true,
+                        new HashMap<>(splitterStates));
         // we need a complete checkpoint before mark this assigner to be completed, to wait for all
         // records of snapshot splits are completely processed
         if (checkpointIdToFinish == null && !assignerCompleted && allSplitsCompleted()) {
@@ -260,9 +353,16 @@ public class SnapshotSplitAssigner<C extends SourceConfig> implements SplitAssig
         }
     }
 
+    @Override
+    public void close() {
+        if (splitExecutor != null) {
+            splitExecutor.shutdownNow();
+        }
+    }
+
     /** Indicates there is no more splits available in this assigner. */
-    public boolean noMoreSplits() {
-        return remainingTables.isEmpty() && remainingSplits.isEmpty();
+    public synchronized boolean noMoreSplits() {
+        return remainingTables.isEmpty() && splittingTables.isEmpty() && remainingSplits.isEmpty();
     }
 
     /**
@@ -104,6 +104,12 @@ public interface SplitAssigner {
      */
     default void close() {}
 
+    /**
+     * Registers the listener to be notified when splits become available in the background, so that
+     * they can be assigned to the readers waiting for splits.
+     */
+    default void setSplitsAvailableListener(Runnable listener) {}
+
     @Data
     final class Context<C extends SourceConfig> {
         private final C sourceConfig;
@@ -29,6 +29,7 @@ import io.debezium.jdbc.JdbcConnection;
 import io.debezium.relational.Column;
 import io.debezium.relational.Table;
 import io.debezium.relational.TableId;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
@@ -46,6 +47,9 @@ import static org.apache.seatunnel.connectors.cdc.base.utils.ObjectUtils.doubleC
 @Slf4j
 public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunkSplitter {
 
+    /** The number of unevenly sized chunks handed over to the assigner at once. */
+    private static final int SPLITS_BATCH_SIZE = 32;
+
     private final JdbcSourceConfig sourceConfig;
     private final JdbcDataSourceDialect dialect;
 
@@ -57,71 +61,108 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
 
     @Override
     public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+        List<SnapshotSplit> splits = new ArrayList<>();
+        generateSplits(tableId, null, (generatedSplits, state) -> splits.addAll(generatedSplits));
+        return splits;
+    }
+
+    @Override
+    public void generateSplits(
+            TableId tableId, ChunkSplitterState state, SplitsConsumer splitsConsumer) {
         try (JdbcConnection jdbc = dialect.openJdbcConnection(sourceConfig)) {
             log.info("Start splitting table {} into chunks...", tableId);
             long start = System.currentTimeMillis();
 
-            Column splitColumn = getSplitColumn(jdbc, dialect, tableId);
-            List<SnapshotSplit> splits = new ArrayList<>();
-            if (splitColumn == null) {
-                if (sourceConfig.isExactlyOnce()) {
-                    throw new UnsupportedOperationException(
+            final SplitsEmitter emitter;
+            if (state != null) {
+                Column splitColumn;
+                // the table schema of the dialect is shared by the tables split in parallel
+                synchronized (dialect) {
+                    splitColumn =
+                            dialect.queryTableSchema(jdbc, tableId)
+                                    .getTable()
+                                    .columnWithName(state.getSplitColumnName());
+                }
+                if (splitColumn == null) {
+                    throw new IllegalStateException(
                             String.format(
-                                    "Exactly once is enabled, but not found primary key or unique key for table %s",
-                                    tableId));
+                                    "Can not continue splitting table %s, the split column %s is not found",
+                                    tableId, state.getSplitColumnName()));
                 }
-                SnapshotSplit singleSplit = createSnapshotSplit(jdbc, tableId, 0, null, null, null);
-                splits.add(singleSplit);
-                log.warn(
-                        "No evenly split column found for table {}, use single split {}",
+                log.info(
+                        "Continue splitting table {} from chunk {}, chunk start: {}",
+                        tableId,
+                        state.getNextChunkId(),
+                        state.getNextChunkStart());
+                emitter =
+                        new SplitsEmitter(
+                                jdbc,
+                                tableId,
+                                getSplitType(splitColumn),
+                                state.getNextChunkId(),
+                                splitsConsumer);
+                splitUnevenlySizedChunks(
+                        jdbc,
                         tableId,
-                        singleSplit);
+                        splitColumn,
+                        state.getNextChunkStart(),
+                        state.getNextChunkStart(),
+                        state.getMax(),
+                        sourceConfig.getSplitSize(),
+                        emitter);
             } else {
-                final List<ChunkRange> chunks;
-                try {
-                    chunks = splitTableIntoChunks(jdbc, tableId, splitColumn);
-                } catch (SQLException e) {
-                    throw new RuntimeException("Failed to split chunks for table " + tableId, e);
+                Column splitColumn;
+                synchronized (dialect) {
+                    splitColumn = getSplitColumn(jdbc, dialect, tableId);
                 }
-
-                // convert chunks into splits
-                SeaTunnelRowType splitType = getSplitType(splitColumn);
-                for (int i = 0; i < chunks.size(); i++) {
-                    ChunkRange chunk = chunks.get(i);
-                    SnapshotSplit split =
-                            createSnapshotSplit(
-                                    jdbc,
-                                    tableId,
-                                    i,
-                                    splitType,
-                                    chunk.getChunkStart(),
-                                    chunk.getChunkEnd());
-                    splits.add(split);
+                if (splitColumn == null) {
+                    if (sourceConfig.isExactlyOnce()) {
+                        throw new UnsupportedOperationException(
+                                String.format(
+                                        "Exactly once is enabled, but not found primary key or unique key for table %s",
+                                        tableId));
+                    }
+                    emitter = new SplitsEmitter(jdbc, tableId, null, 0, splitsConsumer);
+                    emitter.emit(ChunkRange.all());
+                    log.warn(
+                            "No evenly split column found for table {}, use single split", tableId);
+                } else {
+                    emitter =
+                            new SplitsEmitter(
+                                    jdbc, tableId, getSplitType(splitColumn), 0, splitsConsumer);
+                    try {
+                        splitTableIntoChunks(jdbc, tableId, splitColumn, emitter);
+                    } catch (SQLException e) {
+                        throw new RuntimeException(
+                                "Failed to split chunks for table " + tableId, e);
+                    }
                 }
             }
+            emitter.flush(null);
 
             long end = System.currentTimeMillis();
             log.info(
                     "Split table {} into {} chunks, time cost: {}ms.",
                     tableId,
-                    splits.size(),
+                    emitter.getNextChunkId(),
                     end - start);
-            return splits;
         } catch (Exception e) {
             throw new RuntimeException(
                     String.format("Generate Splits for table %s error", tableId), e);
         }
     }
 
-    private List<ChunkRange> splitTableIntoChunks(
-            JdbcConnection jdbc, TableId tableId, Column splitColumn) throws Exception {
+    private void splitTableIntoChunks(
+            JdbcConnection jdbc, TableId tableId, Column splitColumn, SplitsEmitter emitter)
+            throws Exception {
         final String splitColumnName = splitColumn.name();
         final Object[] minMax = queryMinMax(jdbc, tableId, splitColumn);
         final Object min = minMax[0];
         final Object max = minMax[1];
         if (min == null || max == null || min.equals(max)) {
             // empty table, or only one row, return full table scan as a chunk
-            return Collections.singletonList(ChunkRange.all());
+            emitter.emit(ChunkRange.all());
+            return;
         }
 
         final int chunkSize = sourceConfig.getSplitSize();
@@ -153,8 +194,9 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
             if (dataIsEvenlyDistributed) {
                 // the minimum dynamic chunk size is at least 1
                 final int dynamicChunkSize = Math.max((int) (distributionFactor * chunkSize), 1);
-                return splitEvenlySizedChunks(
-                        tableId, min, max, approximateRowCnt, chunkSize, dynamicChunkSize);
+                emitter.emitAll(
+                        splitEvenlySizedChunks(
+                                tableId, min, max, approximateRowCnt, chunkSize, dynamicChunkSize));
             } else {
                 int shardCount = (int) (approximateRowCnt / chunkSize);
                 int inverseSamplingRate = sourceConfig.getInverseSamplingRate();
@@ -182,42 +224,55 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
                             "Sample data from table {} end, the sample size is {}",
                             tableId,
                             sample.length);
-                    return efficientShardingThroughSampling(
-                            tableId, sample, approximateRowCnt, shardCount);
+                    emitter.emitAll(
+                            efficientShardingThroughSampling(
+                                    tableId, sample, approximateRowCnt, shardCount));
+                } else {
+                    splitUnevenlySizedChunks(
+                            jdbc, tableId, splitColumn, null, min, max, chunkSize, emitter);
                 }
-                return splitUnevenlySizedChunks(jdbc, tableId, splitColumn, min, max, chunkSize);
             }
         } else {
-            return splitUnevenlySizedChunks(jdbc, tableId, splitColumn, min, max, chunkSize);
+            splitUnevenlySizedChunks(
+                    jdbc, tableId, splitColumn, null, min, max, chunkSize, emitter);
         }
     }
 
-    /** Split table into unevenly sized chunks by continuously calculating next chunk max value. */
-    protected List<ChunkRange> splitUnevenlySizedChunks(
+    /**
+     * Split table into unevenly sized chunks by continuously calculating next chunk max value. The
+     * chunks are handed over in batches together with the progress to continue from, as this is the
+     * slow path for large tables.
+     */
+    protected void splitUnevenlySizedChunks(
             JdbcConnection jdbc,
             TableId tableId,
             Column splitColumn,
-            Object min,
+            Object chunkStart,
+            Object previousChunkEnd,
             Object max,
-            int chunkSize)
+            int chunkSize,
+            SplitsEmitter emitter)
             throws SQLException {
         log.info(
                 "Use unevenly-sized chunks for table {}, the chunk size is {}", tableId, chunkSize);
-        final List<ChunkRange> splits = new ArrayList<>();
-        Object chunkStart = null;
-        Object chunkEnd = nextChunkEnd(jdbc, min, tableId, splitColumn, max, chunkSize);
+        Object chunkEnd =
+                nextChunkEnd(jdbc, previousChunkEnd, tableId, splitColumn, max, chunkSize);
         int count = 0;
         while (chunkEnd != null && ObjectCompare(chunkEnd, max) <= 0) {
             // we start from [null, min + chunk_size) and avoid [null, min)
-            splits.add(ChunkRange.of(chunkStart, chunkEnd));
+            emitter.emit(ChunkRange.of(chunkStart, chunkEnd));
+            if (emitter.getPendingSize() >= SPLITS_BATCH_SIZE) {
+                emitter.flush(
+                        new ChunkSplitterState(
+                                splitColumn.name(), chunkEnd, max, emitter.getNextChunkId()));
+            }
             // may sleep a while to avoid DDOS on MySQL server
             maySleep(count++, tableId);
             chunkStart = chunkEnd;
             chunkEnd = nextChunkEnd(jdbc, chunkEnd, tableId, splitColumn, max, chunkSize);
         }
         // add the ending split
-        splits.add(ChunkRange.of(chunkStart, null));
-        return splits;
+        emitter.emit(ChunkRange.of(chunkStart, null));
     }
 
     protected Object nextChunkEnd(
@@ -474,4 +529,54 @@ public abstract class AbstractJdbcSourceChunkSplitter implements JdbcSourceChunk
         }
         return then;
     }
+
+    /** Converts chunk ranges of a table into snapshot splits and hands them over in batches. */
+    protected class SplitsEmitter {
+        private final JdbcConnection jdbc;
+        private final TableId tableId;
+        private final SeaTunnelRowType splitType;
+        private final SplitsConsumer splitsConsumer;
+        private final List<SnapshotSplit> pendingSplits = new ArrayList<>();
+        @Getter private int nextChunkId;
+
+        SplitsEmitter(
+                JdbcConnection jdbc,
+                TableId tableId,
+                SeaTunnelRowType splitType,
+                int nextChunkId,
+                SplitsConsumer splitsConsumer) {
+            this.jdbc = jdbc;
+            this.tableId = tableId;
+            this.splitType = splitType;
+            this.nextChunkId = nextChunkId;
+            this.splitsConsumer = splitsConsumer;
+        }
+
+        void emit(ChunkRange chunk) {
+            pendingSplits.add(
+                    createSnapshotSplit(
+                            jdbc,
+                            tableId,
+                            nextChunkId++,
+                            splitType,
+                            chunk.getChunkStart(),
+                            chunk.getChunkEnd()));
+        }
+
+        void emitAll(List<ChunkRange> chunks) {
+            chunks.forEach(this::emit);
+        }
+
+        int getPendingSize() {
+            return pendingSplits.size();
+        }
+
+        /** Hands over the pending splits, the state is {@code null} after the last chunk. */
+        void flush(ChunkSplitterState state) {
+            if (!pendingSplits.isEmpty() || state == null) {
+                splitsConsumer.accept(new ArrayList<>(pendingSplits), state);
+                pendingSplits.clear();
+            }
+        }
+    }
 }
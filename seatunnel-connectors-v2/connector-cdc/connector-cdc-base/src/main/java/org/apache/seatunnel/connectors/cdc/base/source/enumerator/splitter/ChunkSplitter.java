@@ -28,4 +28,32 @@ public interface ChunkSplitter {
 
     /** Generates all snapshot splits (chunks) for the give data collection. */
     Collection<SnapshotSplit> generateSplits(TableId tableId);
+
+    /**
+     * Generates the snapshot splits (chunks) for the give data collection and hands them over to
+     * the consumer as soon as they are available.
+     *
+     * @param tableId the data collection to split
+     * @param state the progress of a previous split of the data collection to continue from, or
+     *     {@code null} to split it from the beginning
+     * @param splitsConsumer the consumer of the generated splits
+     */
+    default void generateSplits(
+            TableId tableId, ChunkSplitterState state, SplitsConsumer splitsConsumer) {
+        splitsConsumer.accept(generateSplits(tableId), null);
+    }
+
+    /** The consumer of snapshot splits which are generated incrementally. */
+    @FunctionalInterface
+    interface SplitsConsumer {
+
+        /**
+         * Accepts the next splits of a data collection.
+         *
+         * @param splits the splits generated since the last call
+         * @param state the progress to continue splitting the data collection after these splits,
+         *     or {@code null} if these are the last splits of the data collection
+         */
+        void accept(Collection<SnapshotSplit> splits, ChunkSplitterState state);
+    }
 }
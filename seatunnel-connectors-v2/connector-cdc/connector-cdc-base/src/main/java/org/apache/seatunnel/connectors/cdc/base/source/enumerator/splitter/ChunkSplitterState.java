@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * The progress of a table that is partially split into chunks, the splits of chunks before {@link
+ * #nextChunkStart} have been generated already. It is checkpointed so that the split of the table
+ * can continue from here after a restart.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ChunkSplitterState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** The name of the column the table is split by. */
+    private final String splitColumnName;
+
+    /** The start (inclusive) of the next chunk to generate. */
+    private final Object nextChunkStart;
+
+    /** The max value of the split column when the split of the table was started. */
+    private final Object max;
+
+    /** The id of the next chunk to generate. */
+    private final int nextChunkId;
+}
@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Time;
+import org.apache.kafka.connect.data.Timestamp;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of kafka connect values driven by their {@link Schema}, used by {@link
+ * SnapshotSplitBuffer} to hold snapshot records as compact byte arrays. The encoding of a value is
+ * deterministic, equal keys of the same schema are encoded to equal bytes.
+ */
+final class ConnectValueCodec {
+
+    private static final byte NULL = 0;
+    private static final byte NOT_NULL = 1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INT = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_BOOLEAN = 4;
+    private static final byte TYPE_SHORT = 5;
+    private static final byte TYPE_BYTE = 6;
+    private static final byte TYPE_DOUBLE = 7;
+    private static final byte TYPE_FLOAT = 8;
+    private static final byte TYPE_BYTES = 9;
+
+    private ConnectValueCodec() {}
+
+    static byte[] encode(Schema schema, Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            write(out, schema, value);
+        } catch (IOException e) {
+            throw new SeaTunnelException("Encode value of schema " + schema + " failed", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static Object decode(Schema schema, byte[] bytes) {
+        try {
+            return read(new DataInputStream(new ByteArrayInputStream(bytes)), schema);
+        } catch (IOException e) {
+            throw new SeaTunnelException("Decode value of schema " + schema + " failed", e);
+        }
+    }
+
+    static void write(DataOutput out, Schema schema, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+            return;
+        }
+        out.writeByte(NOT_NULL);
+        String logicalName = schema.name();
+        switch (schema.type()) {
+            case INT8:
+                out.writeByte((Byte) value);
+                break;
+            case INT16:
+                out.writeShort((Short) value);
+                break;
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(logicalName)) {
+                    out.writeInt(Date.fromLogical(schema, (java.util.Date) value));
+                } else if (Time.LOGICAL_NAME.equals(logicalName)) {
+                    out.writeInt(Time.fromLogical(schema, (java.util.Date) value));
+                } else {
+                    out.writeInt((Integer) value);
+                }
+                break;
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+                    out.writeLong(Timestamp.fromLogical(schema, (java.util.Date) value));
+                } else {
+                    out.writeLong((Long) value);
+                }
+                break;
+            case FLOAT32:
+                out.writeFloat((Float) value);
+                break;
+            case FLOAT64:
+                out.writeDouble((Double) value);
+                break;
+            case BOOLEAN:
+                out.writeBoolean((Boolean) value);
+                break;
+            case STRING:
+                writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+                break;
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(logicalName)) {
+                    writeBytes(out, Decimal.fromLogical(schema, (BigDecimal) value));
+                } else if (value instanceof ByteBuffer) {
+                    ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    byte[] array = new byte[buffer.remaining()];
+                    buffer.get(array);
+                    writeBytes(out, array);
+                } else {
+                    writeBytes(out, (byte[]) value);
+                }
+                break;
+            case ARRAY:
+                Collection<?> elements = (Collection<?>) value;
+                out.writeInt(elements.size());
+                for (Object element : elements) {
+                    write(out, schema.valueSchema(), element);
+                }
+                break;
+            case MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                out.writeInt(map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    write(out, schema.keySchema(), entry.getKey());
+                    write(out, schema.valueSchema(), entry.getValue());
+                }
+                break;
+            case STRUCT:
+                Struct struct = (Struct) value;
+                for (Field field : schema.fields()) {
+                    write(out, field.schema(), struct.getWithoutDefault(field.name()));
+                }
+                break;
+            default:
+                throw new SeaTunnelException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    static Object read(DataInput in, Schema schema) throws IOException {
+        if (in.readByte() == NULL) {
+            return null;
+        }
+        String logicalName = schema.name();
+        switch (schema.type()) {
+            case INT8:
+                return in.readByte();
+            case INT16:
+                return in.readShort();
+            case INT32:
+                if (Date.LOGICAL_NAME.equals(logicalName)) {
+                    return Date.toLogical(schema, in.readInt());
+                } else if (Time.LOGICAL_NAME.equals(logicalName)) {
+                    return Time.toLogical(schema, in.readInt());
+                }
+                return in.readInt();
+            case INT64:
+                if (Timestamp.LOGICAL_NAME.equals(logicalName)) {
+                    return Timestamp.toLogical(schema, in.readLong());
+                }
+                return in.readLong();
+            case FLOAT32:
+                return in.readFloat();
+            case FLOAT64:
+                return in.readDouble();
+            case BOOLEAN:
+                return in.readBoolean();
+            case STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case BYTES:
+                if (Decimal.LOGICAL_NAME.equals(logicalName)) {
+                    return Decimal.toLogical(schema, readBytes(in));
+                }
+                return readBytes(in);
+            case ARRAY:
+                int size = in.readInt();
+                List<Object> elements = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    elements.add(read(in, schema.valueSchema()));
+                }
+                return elements;
+            case MAP:
+                int entries = in.readInt();
+                Map<Object, Object> map = new HashMap<>(entries * 2);
+                for (int i = 0; i < entries; i++) {
+                    Object key = read(in, schema.keySchema());
+                    map.put(key, read(in, schema.valueSchema()));
+                }
+                return map;
+            case STRUCT:
+                Struct struct = new Struct(schema);
+                for (Field field : schema.fields()) {
+                    Object fieldValue = read(in, field.schema());
+                    if (fieldValue != null) {
+                        struct.put(field, fieldValue);
+                    }
+                }
+                return struct;
+            default:
+                throw new SeaTunnelException("Unsupported schema type " + schema.type());
+        }
+    }
+
+    /**
+     * Writes the source partition or offset map of a record, whose values are plain java
+     * primitives.
+     */
+    static void writeOffsetMap(DataOutput out, Map<String, ?> map) throws IOException {
+        if (map == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(map.size());
+        for (Map.Entry<String, ?> entry : map.entrySet()) {
+            writeBytes(out, entry.getKey().getBytes(StandardCharsets.UTF_8));
+            writeOffsetValue(out, entry.getValue());
+        }
+    }
+
+    static Map<String, Object> readOffsetMap(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String key = new String(readBytes(in), StandardCharsets.UTF_8);
+            map.put(key, readOffsetValue(in));
+        }
+        return map;
+    }
+
+    private static void writeOffsetValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeBytes(out, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INT);
+            out.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong((Long) value);
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof byte[]) {
+            out.writeByte(TYPE_BYTES);
+            writeBytes(out, (byte[]) value);
+        } else {
+            throw new SeaTunnelException(
+                    "Unsupported source offset value type " + value.getClass().getName());
+        }
+    }
+
+    private static Object readOffsetValue(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case TYPE_STRING:
+                return new String(readBytes(in), StandardCharsets.UTF_8);
+            case TYPE_INT:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_BYTES:
+                return readBytes(in);
+            default:
+                throw new SeaTunnelException("Unknown source offset value type " + type);
+        }
+    }
+
+    static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static byte[] readBytes(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return bytes;
+    }
+}
@@ -31,10 +31,10 @@ import io.debezium.pipeline.DataChangeEvent;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -64,7 +64,11 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     private FetchTask<SourceSplitBase> snapshotSplitReadTask;
     private SnapshotSplit currentSnapshotSplit;
 
+    // buffers of the snapshot splits not emitted yet when exactly-once is enabled
+    private final List<SnapshotSplitBuffer> outputBuffers = new ArrayList<>();
+
     private static final long READER_CLOSE_TIMEOUT_SECONDS = 30L;
+    private static final int FORMAT_BATCH_SIZE = 1024;
 
     public IncrementalSourceScanFetcher(FetchTask.Context taskContext, int subtaskId) {
         this.taskContext = taskContext;
@@ -153,7 +157,10 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         boolean reachChangeLogEnd = false;
         SourceRecord lowWatermark = null;
         SourceRecord highWatermark = null;
-        Map<Struct, SourceRecord> outputBuffer = new LinkedHashMap<>();
+        SnapshotSplitBuffer outputBuffer =
+                new SnapshotSplitBuffer(taskContext.getSnapshotBufferSize());
+        outputBuffers.removeIf(SnapshotSplitBuffer::isClosed);
+        outputBuffers.add(outputBuffer);
         while (!reachChangeLogEnd) {
             checkReadException();
             List<DataChangeEvent> batch = queue.poll();
@@ -191,16 +198,60 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
         // snapshot split return its data once
         hasNextElement.set(false);
 
-        final List<SourceRecord> normalizedRecords = new ArrayList<>();
-        normalizedRecords.add(lowWatermark);
-        normalizedRecords.addAll(taskContext.formatMessageTimestamp(outputBuffer.values()));
-        normalizedRecords.add(highWatermark);
+        if (outputBuffer.getSpilledRuns() > 0) {
+            log.info(
+                    "Snapshot split {} spilled {} runs to local disk",
+                    currentSnapshotSplit.splitId(),
+                    outputBuffer.getSpilledRuns());
+        }
 
+        // the normalized records are decoded from the buffer while they are emitted, still as
+        // one element so they are emitted between two checkpoints
         final List<SourceRecords> sourceRecordsSet = new ArrayList<>();
-        sourceRecordsSet.add(new SourceRecords(normalizedRecords));
+        sourceRecordsSet.add(
+                new SourceRecords(
+                        normalizedRecords(lowWatermark, outputBuffer.iterator(), highWatermark)));
         return sourceRecordsSet.iterator();
     }
 
+    private Iterator<SourceRecord> normalizedRecords(
+            SourceRecord lowWatermark,
+            Iterator<SourceRecord> snapshotRecords,
+            SourceRecord highWatermark) {
+        return new Iterator<SourceRecord>() {
+            private Iterator<SourceRecord> current =
+                    Collections.singletonList(lowWatermark).iterator();
+            private boolean highWatermarkEmitted;
+
+            @Override
+            public boolean hasNext() {
+                while (!current.hasNext()) {
+                    if (snapshotRecords.hasNext()) {
+                        List<SourceRecord> batch = new ArrayList<>(FORMAT_BATCH_SIZE);
+                        while (batch.size() < FORMAT_BATCH_SIZE && snapshotRecords.hasNext()) {
+                            batch.add(snapshotRecords.next());
+                        }
+                        current = taskContext.formatMessageTimestamp(batch).iterator();
+                    } else if (!highWatermarkEmitted) {
+                        highWatermarkEmitted = true;
+                        current = Collections.singletonList(highWatermark).iterator();
+                    } else {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public SourceRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
     private void assertLowWatermark(SourceRecord lowWatermark) {
         checkState(
                 isLowWatermarkEvent(lowWatermark),
@@ -222,6 +273,8 @@ public class IncrementalSourceScanFetcher implements Fetcher<SourceRecords, Sour
     @Override
     public void close() {
         try {
+            outputBuffers.forEach(SnapshotSplitBuffer::close);
+            outputBuffers.clear();
             if (taskContext != null) {
                 taskContext.close();
             }
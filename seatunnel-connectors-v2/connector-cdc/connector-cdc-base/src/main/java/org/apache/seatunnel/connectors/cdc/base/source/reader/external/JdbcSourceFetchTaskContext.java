@@ -40,7 +40,6 @@ import io.debezium.util.SchemaNameAdjuster;
 import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /** The context for fetch task that fetching data of snapshot split from JDBC data source. */
@@ -78,8 +77,7 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
     }
 
     @Override
-    public void rewriteOutputBuffer(
-            Map<Struct, SourceRecord> outputBuffer, SourceRecord changeRecord) {
+    public void rewriteOutputBuffer(SnapshotSplitBuffer outputBuffer, SourceRecord changeRecord) {
         Struct key = (Struct) changeRecord.key();
         Struct value = (Struct) changeRecord.value();
         if (value != null) {
@@ -106,7 +104,7 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
                     outputBuffer.put(key, record);
                     break;
                 case DELETE:
-                    outputBuffer.remove(key);
+                    outputBuffer.remove(key, changeRecord.keySchema());
                     break;
                 case READ:
                     throw new IllegalStateException(
@@ -156,6 +154,11 @@ public abstract class JdbcSourceFetchTaskContext implements FetchTask.Context {
         return sourceConfig.isExactlyOnce();
     }
 
+    @Override
+    public long getSnapshotBufferSize() {
+        return sourceConfig.getSnapshotBufferSize();
+    }
+
     public JdbcDataSourceDialect getDataSourceDialect() {
         return dataSourceDialect;
     }
@@ -0,0 +1,486 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.seatunnel.common.utils.SeaTunnelException;
+
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+
+/**
+ * Buffer of the snapshot records of one snapshot split, keyed by the record key, used to normalize
+ * the snapshot with the change events read until the end watermark when exactly-once is enabled.
+ *
+ * <p>Records are held as binary encoded keys and values. When the buffered bytes exceed the
+ * configured budget, the buffer is written to a local file as a run sorted by key and cleared, so
+ * the heap used depends on the budget instead of the size of the split. Removing a key already
+ * spilled leaves a tombstone. {@link #iterator()} merges the sorted runs with the buffer, the
+ * latest entry of a key wins.
+ */
+@Slf4j
+public class SnapshotSplitBuffer implements Closeable {
+
+    /** Estimated heap used by a buffered entry besides its key and value bytes. */
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private static final int RUN_FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final long maxBufferBytes;
+    private final List<RecordTemplate> templates = new ArrayList<>();
+    private final List<Path> runs = new ArrayList<>();
+
+    private Map<BinaryKey, Entry> entries = new LinkedHashMap<>();
+    private long bufferedBytes;
+    private Path spillDirectory;
+    private boolean reading;
+    private volatile boolean closed;
+
+    public SnapshotSplitBuffer(long maxBufferBytes) {
+        this.maxBufferBytes = maxBufferBytes;
+    }
+
+    public void put(Struct key, SourceRecord record) {
+        checkWritable();
+        int template = templateOf(record);
+        byte[] keyBytes = ConnectValueCodec.encode(record.keySchema(), key);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ConnectValueCodec.writeOffsetMap(out, record.sourcePartition());
+            ConnectValueCodec.writeOffsetMap(out, record.sourceOffset());
+            ConnectValueCodec.write(out, record.valueSchema(), record.value());
+        } catch (IOException e) {
+            throw new SeaTunnelException("Encode snapshot record " + record + " failed", e);
+        }
+        putEntry(new BinaryKey(keyBytes), new Entry(template, bytes.toByteArray()));
+    }
+
+    public void remove(Struct key, Schema keySchema) {
+        checkWritable();
+        BinaryKey binaryKey = new BinaryKey(ConnectValueCodec.encode(keySchema, key));
+        if (runs.isEmpty()) {
+            Entry removed = entries.remove(binaryKey);
+            if (removed != null) {
+                bufferedBytes -= sizeOf(binaryKey, removed);
+            }
+        } else {
+            putEntry(binaryKey, Entry.TOMBSTONE);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /** Returns the number of runs spilled to local disk. */
+    public int getSpilledRuns() {
+        return runs.size();
+    }
+
+    /**
+     * Returns the buffered records, in insertion order when nothing has been spilled and in key
+     * order otherwise. The buffer can't be modified any more and is closed when the iterator is
+     * exhausted.
+     */
+    public Iterator<SourceRecord> iterator() {
+        checkWritable();
+        reading = true;
+        if (runs.isEmpty()) {
+            Iterator<Map.Entry<BinaryKey, Entry>> iterator = entries.entrySet().iterator();
+            return new Iterator<SourceRecord>() {
+                @Override
+                public boolean hasNext() {
+                    if (iterator.hasNext()) {
+                        return true;
+                    }
+                    close();
+                    return false;
+                }
+
+                @Override
+                public SourceRecord next() {
+                    Map.Entry<BinaryKey, Entry> entry = iterator.next();
+                    iterator.remove();
+                    return toRecord(entry.getKey(), entry.getValue());
+                }
+            };
+        }
+        return new MergingIterator();
+    }
+
+    @Override
+    public void close() {
+        reading = true;
+        closed = true;
+        entries = new LinkedHashMap<>();
+        bufferedBytes = 0;
+        if (spillDirectory != null) {
+            try {
+                for (Path run : runs) {
+                    Files.deleteIfExists(run);
+                }
+                Files.deleteIfExists(spillDirectory);
+            } catch (IOException e) {
+                log.warn("Delete spill directory {} failed", spillDirectory, e);
+            }
+            spillDirectory = null;
+        }
+    }
+
+    private void checkWritable() {
+        if (reading) {
+            throw new IllegalStateException("The snapshot split buffer is already read.");
+        }
+    }
+
+    private void putEntry(BinaryKey key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            bufferedBytes -= sizeOf(key, previous);
+        }
+        bufferedBytes += sizeOf(key, entry);
+        if (bufferedBytes > maxBufferBytes) {
+            spill();
+        }
+    }
+
+    private int templateOf(SourceRecord record) {
+        for (int i = templates.size() - 1; i >= 0; i--) {
+            if (templates.get(i).matches(record)) {
+                return i;
+            }
+        }
+        templates.add(new RecordTemplate(record));
+        return templates.size() - 1;
+    }
+
+    private SourceRecord toRecord(BinaryKey key, Entry entry) {
+        RecordTemplate template = templates.get(entry.template);
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry.value));
+            Map<String, ?> sourcePartition = ConnectValueCodec.readOffsetMap(in);
+            Map<String, ?> sourceOffset = ConnectValueCodec.readOffsetMap(in);
+            Object value = ConnectValueCodec.read(in, template.valueSchema);
+            return new SourceRecord(
+                    sourcePartition,
+                    sourceOffset,
+                    template.topic,
+                    template.kafkaPartition,
+                    template.keySchema,
+                    ConnectValueCodec.decode(template.keySchema, key.bytes),
+                    template.valueSchema,
+                    value);
+        } catch (IOException e) {
+            throw new SeaTunnelException("Decode snapshot record failed", e);
+        }
+    }
+
+    private void spill() {
+        List<Map.Entry<BinaryKey, Entry>> sorted = new ArrayList<>(entries.entrySet());
+        sorted.sort(Map.Entry.comparingByKey());
+        try {
+            if (spillDirectory == null) {
+                spillDirectory = Files.createTempDirectory("seatunnel-cdc-snapshot-");
+            }
+            Path run = spillDirectory.resolve("run-" + runs.size());
+            try (DataOutputStream out =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    Files.newOutputStream(run), RUN_FILE_BUFFER_SIZE))) {
+                for (Map.Entry<BinaryKey, Entry> entry : sorted) {
+                    ConnectValueCodec.writeBytes(out, entry.getKey().bytes);
+                    Entry value = entry.getValue();
+                    out.writeInt(value.template);
+                    if (value != Entry.TOMBSTONE) {
+                        ConnectValueCodec.writeBytes(out, value.value);
+                    }
+                }
+            }
+            runs.add(run);
+        } catch (IOException e) {
+            close();
+            throw new SeaTunnelException("Spill snapshot records to local disk failed", e);
+        }
+        log.info(
+                "Spilled {} snapshot records ({} bytes) to run {} in {}",
+                sorted.size(),
+                bufferedBytes,
+                runs.size() - 1,
+                spillDirectory);
+        entries = new LinkedHashMap<>();
+        bufferedBytes = 0;
+    }
+
+    private static long sizeOf(BinaryKey key, Entry entry) {
+        return ENTRY_OVERHEAD_BYTES
+                + key.bytes.length
+                + (entry.value == null ? 0 : entry.value.length);
+    }
+
+    /** Merges the sorted runs on disk and the sorted buffer, the latest run of a key wins. */
+    private class MergingIterator implements Iterator<SourceRecord> {
+
+        private final PriorityQueue<RunCursor> cursors = new PriorityQueue<>();
+        private SourceRecord next;
+
+        MergingIterator() {
+            List<Map.Entry<BinaryKey, Entry>> sorted = new ArrayList<>(entries.entrySet());
+            sorted.sort(Map.Entry.comparingByKey());
+            entries = new LinkedHashMap<>();
+            try {
+                for (int i = 0; i < runs.size(); i++) {
+                    addCursor(new FileRunCursor(i, runs.get(i)));
+                }
+                addCursor(new MemoryRunCursor(runs.size(), sorted.iterator()));
+            } catch (IOException e) {
+                closeCursors();
+                throw new SeaTunnelException("Read spilled snapshot records failed", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null && !cursors.isEmpty()) {
+                    // cursors of equal keys are ordered from the latest run to the earliest
+                    RunCursor latest = cursors.poll();
+                    BinaryKey key = latest.key;
+                    Entry entry = latest.entry;
+                    addCursor(latest);
+                    while (!cursors.isEmpty() && cursors.peek().key.equals(key)) {
+                        addCursor(cursors.poll());
+                    }
+                    if (entry != Entry.TOMBSTONE) {
+                        next = toRecord(key, entry);
+                    }
+                }
+            } catch (IOException e) {
+                closeCursors();
+                throw new SeaTunnelException("Read spilled snapshot records failed", e);
+            }
+            if (next == null) {
+                closeCursors();
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public SourceRecord next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            SourceRecord record = next;
+            next = null;
+            return record;
+        }
+
+        private void addCursor(RunCursor cursor) throws IOException {
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            } else {
+                cursor.close();
+            }
+        }
+
+        private void closeCursors() {
+            for (RunCursor cursor : cursors) {
+                cursor.closeQuietly();
+            }
+            cursors.clear();
+            close();
+        }
+    }
+
+    private abstract static class RunCursor implements Comparable<RunCursor>, Closeable {
+        final int order;
+        BinaryKey key;
+        Entry entry;
+
+        RunCursor(int order) {
+            this.order = order;
+        }
+
+        abstract boolean advance() throws IOException;
+
+        void closeQuietly() {
+            try {
+                close();
+            } catch (IOException e) {
+                log.warn("Close spilled run failed", e);
+            }
+        }
+
+        @Override
+        public int compareTo(RunCursor other) {
+            int result = key.compareTo(other.key);
+            return result != 0 ? result : Integer.compare(other.order, order);
+        }
+    }
+
+    private static class FileRunCursor extends RunCursor {
+        private final DataInputStream in;
+
+        FileRunCursor(int order, Path run) throws IOException {
+            super(order);
+            this.in =
+                    new DataInputStream(
+                            new BufferedInputStream(
+                                    Files.newInputStream(run), RUN_FILE_BUFFER_SIZE));
+        }
+
+        @Override
+        boolean advance() throws IOException {
+            byte[] keyBytes;
+            try {
+                keyBytes = ConnectValueCodec.readBytes(in);
+            } catch (EOFException e) {
+                return false;
+            }
+            key = new BinaryKey(keyBytes);
+            int template = in.readInt();
+            entry =
+                    template == Entry.TOMBSTONE.template
+                            ? Entry.TOMBSTONE
+                            : new Entry(template, ConnectValueCodec.readBytes(in));
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static class MemoryRunCursor extends RunCursor {
+        private final Iterator<Map.Entry<BinaryKey, Entry>> iterator;
+
+        MemoryRunCursor(int order, Iterator<Map.Entry<BinaryKey, Entry>> iterator) {
+            super(order);
+            this.iterator = iterator;
+        }
+
+        @Override
+        boolean advance() {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            Map.Entry<BinaryKey, Entry> next = iterator.next();
+            iterator.remove();
+            key = next.getKey();
+            entry = next.getValue();
+            return true;
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /** The parts of a record that don't change between the records of a split. */
+    private static class RecordTemplate {
+        private final String topic;
+        private final Integer kafkaPartition;
+        private final Schema keySchema;
+        private final Schema valueSchema;
+
+        RecordTemplate(SourceRecord record) {
+            this.topic = record.topic();
+            this.kafkaPartition = record.kafkaPartition();
+            this.keySchema = record.keySchema();
+            this.valueSchema = record.valueSchema();
+        }
+
+        boolean matches(SourceRecord record) {
+            return (keySchema == record.keySchema()
+                            || Objects.equals(keySchema, record.keySchema()))
+                    && (valueSchema == record.valueSchema()
+                            || Objects.equals(valueSchema, record.valueSchema()))
+                    && Objects.equals(topic, record.topic())
+                    && Objects.equals(kafkaPartition, record.kafkaPartition());
+        }
+    }
+
+    private static class Entry {
+        static final Entry TOMBSTONE = new Entry(-1, null);
+
+        final int template;
+        final byte[] value;
+
+        Entry(int template, byte[] value) {
+            this.template = template;
+            this.value = value;
+        }
+    }
+
+    private static final class BinaryKey implements Comparable<BinaryKey> {
+        private final byte[] bytes;
+        private final int hash;
+
+        BinaryKey(byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BinaryKey
+                    && hash == ((BinaryKey) o).hash
+                    && Arrays.equals(bytes, ((BinaryKey) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public int compareTo(BinaryKey other) {
+            int length = Math.min(bytes.length, other.bytes.length);
+            for (int i = 0; i < length; i++) {
+                int result = Byte.toUnsignedInt(bytes[i]) - Byte.toUnsignedInt(other.bytes[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return bytes.length - other.bytes.length;
+        }
+    }
+}
@@ -26,18 +26,30 @@ import java.util.List;
 /** Data structure to describe a set of {@link SourceRecord}. */
 public final class SourceRecords {
 
-    private final List<SourceRecord> sourceRecords;
+    private List<SourceRecord> sourceRecords;
+
+    /** Records produced on demand, which can only be iterated once. */
+    private Iterator<SourceRecord> lazyRecords;
 
     public SourceRecords(List<SourceRecord> sourceRecords) {
         this.sourceRecords = sourceRecords;
     }
 
+    public SourceRecords(Iterator<SourceRecord> lazyRecords) {
+        this.lazyRecords = lazyRecords;
+    }
+
     public List<SourceRecord> getSourceRecordList() {
+        if (sourceRecords == null) {
+            sourceRecords = new ArrayList<>();
+            lazyRecords.forEachRemaining(sourceRecords::add);
+            lazyRecords = null;
+        }
         return sourceRecords;
     }
 
     public Iterator<SourceRecord> iterator() {
-        return sourceRecords.iterator();
+        return sourceRecords != null ? sourceRecords.iterator() : lazyRecords;
     }
 
     public static SourceRecords fromSingleRecord(SourceRecord record) {
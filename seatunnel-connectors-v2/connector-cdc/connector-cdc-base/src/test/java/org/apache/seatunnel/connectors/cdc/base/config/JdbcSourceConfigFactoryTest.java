@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.config;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.connectors.cdc.base.option.SourceOptions;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+public class JdbcSourceConfigFactoryTest {
+
+    @Test
+    public void testRejectNonPositiveSnapshotBufferSize() {
+        for (long size : new long[] {0, -1}) {
+            ReadonlyConfig config =
+                    ReadonlyConfig.fromMap(
+                            Collections.singletonMap(
+                                    SourceOptions.SNAPSHOT_BUFFER_SIZE.key(), size));
+            Assertions.assertThrows(
+                    IllegalArgumentException.class,
+                    () -> new TestSourceConfigFactory().fromReadonlyConfig(config));
+        }
+    }
+
+    private static class TestSourceConfigFactory extends JdbcSourceConfigFactory {
+
+        @Override
+        public JdbcSourceConfig create(int subtask) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
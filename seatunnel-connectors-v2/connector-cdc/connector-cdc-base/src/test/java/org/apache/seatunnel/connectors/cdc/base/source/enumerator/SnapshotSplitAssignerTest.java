@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.enumerator;
+
+import org.apache.seatunnel.connectors.cdc.base.config.SourceConfig;
+import org.apache.seatunnel.connectors.cdc.base.dialect.DataSourceDialect;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitter;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.splitter.ChunkSplitterState;
+import org.apache.seatunnel.connectors.cdc.base.source.enumerator.state.SnapshotPhaseState;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SnapshotSplit;
+import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import io.debezium.relational.TableId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class SnapshotSplitAssignerTest {
+
+    private static final TableId TABLE_1 = TableId.parse("db1.table1");
+    private static final TableId TABLE_2 = TableId.parse("db1.table2");
+
+    /**
+     * A completed {@link SnapshotPhaseState} with empty collections, serialized by the version
+     * before it had splitter states.
+     */
+    private static final String PREVIOUS_VERSION_STATE =
+            "rO0ABXNyAFNvcmcuYXBhY2hlLnNlYXR1bm5lbC5jb25uZWN0b3JzLmNkYy5iYXNl"
+                    + "LnNvdXJjZS5lbnVtZXJhdG9yLnN0YXRlLlNuYXBzaG90UGhhc2VTdGF0ZZD6oGg1"
+                    + "iafsAgAIWgATaXNBc3NpZ25lckNvbXBsZXRlZFoAHWlzUmVtYWluaW5nVGFibGVz"
+                    + "Q2hlY2twb2ludGVkWgAWaXNUYWJsZUlkQ2FzZVNlbnNpdGl2ZUwAFmFscmVhZHlQ"
+                    + "cm9jZXNzZWRUYWJsZXN0ABBMamF2YS91dGlsL0xpc3Q7TAAOYXNzaWduZWRTcGxp"
+                    + "dHN0AA9MamF2YS91dGlsL01hcDtMAA9yZW1haW5pbmdTcGxpdHNxAH4AAUwAD3Jl"
+                    + "bWFpbmluZ1RhYmxlc3EAfgABTAAVc3BsaXRDb21wbGV0ZWRPZmZzZXRzcQB+AAJ4"
+                    + "cAEBAHNyABNqYXZhLnV0aWwuQXJyYXlMaXN0eIHSHZnHYZ0DAAFJAARzaXpleHAA"
+                    + "AAAAdwQAAAAAeHNyABFqYXZhLnV0aWwuSGFzaE1hcAUH2sHDFmDRAwACRgAKbG9h"
+                    + "ZEZhY3RvckkACXRocmVzaG9sZHhwP0AAAAAAAAB3CAAAABAAAAAAeHNxAH4ABAAA"
+                    + "AAB3BAAAAAB4c3EAfgAEAAAAAHcEAAAAAHhzcQB+AAY/QAAAAAAAAHcIAAAAEAAA"
+                    + "AAB4";
+
+    @Test
+    public void testSplitTablesInParallel() throws Exception {
+        // both tables must be split at the same time to pass the barrier
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ChunkSplitter splitter =
+                new TestChunkSplitter() {
+                    @Override
+                    public void generateSplits(
+                            TableId tableId,
+                            ChunkSplitterState state,
+                            SplitsConsumer splitsConsumer) {
+                        try {
+                            barrier.await(10, TimeUnit.SECONDS);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                        super.generateSplits(tableId, state, splitsConsumer);
+                    }
+                };
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                createAssigner(splitter, Arrays.asList(TABLE_1, TABLE_2));
+        Semaphore splitsAvailable = new Semaphore(0);
+        assigner.setSplitsAvailableListener(splitsAvailable::release);
+        assigner.open();
+
+        List<String> splitIds = new ArrayList<>();
+        while (splitIds.size() < 4) {
+            Optional<SourceSplitBase> split = assigner.getNext();
+            if (split.isPresent()) {
+                splitIds.add(split.get().splitId());
+            } else {
+                Assertions.assertTrue(splitsAvailable.tryAcquire(10, TimeUnit.SECONDS));
+            }
+        }
+        assigner.close();
+
+        Assertions.assertEquals(
+                new HashSet<>(
+                        Arrays.asList(
+                                "db1.table1:0", "db1.table1:1", "db1.table2:0", "db1.table2:1")),
+                new HashSet<>(splitIds));
+        Assertions.assertTrue(assigner.noMoreSplits());
+        SnapshotPhaseState state = assigner.snapshotState(1L);
+        Assertions.assertTrue(state.getRemainingTables().isEmpty());
+        Assertions.assertTrue(state.getSplitterStates().isEmpty());
+        Assertions.assertEquals(
+                new HashSet<>(Arrays.asList(TABLE_1, TABLE_2)),
+                new HashSet<>(state.getAlreadyProcessedTables()));
+    }
+
+    @Test
+    public void testSnapshotStateOfPartiallySplitTable() throws Exception {
+        CountDownLatch firstBatchGenerated = new CountDownLatch(1);
+        CountDownLatch continueSplitting = new CountDownLatch(1);
+        ChunkSplitter splitter =
+                new TestChunkSplitter() {
+                    @Override
+                    void awaitBeforeLastBatch() throws InterruptedException {
+                        firstBatchGenerated.countDown();
+                        continueSplitting.await(10, TimeUnit.SECONDS);
+                    }
+                };
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                createAssigner(splitter, Collections.singletonList(TABLE_1));
+        assigner.open();
+        Assertions.assertTrue(firstBatchGenerated.await(10, TimeUnit.SECONDS));
+
+        SnapshotPhaseState state = assigner.snapshotState(1L);
+        continueSplitting.countDown();
+        assigner.close();
+
+        Assertions.assertEquals(Collections.singletonList(TABLE_1), state.getRemainingTables());
+        Assertions.assertEquals(
+                Collections.singletonList("db1.table1:0"),
+                state.getRemainingSplits().stream()
+                        .map(SnapshotSplit::splitId)
+                        .collect(Collectors.toList()));
+        Assertions.assertEquals(
+                Collections.singletonMap(TABLE_1, new ChunkSplitterState("id", 100L, 200L, 1)),
+                state.getSplitterStates());
+        Assertions.assertFalse(assigner.noMoreSplits());
+    }
+
+    @Test
+    public void testContinueSplittingFromCheckpoint() throws Exception {
+        ChunkSplitterState checkpointedState = new ChunkSplitterState("id", 100L, 200L, 1);
+        Map<TableId, ChunkSplitterState> receivedStates = new ConcurrentHashMap<>();
+        ChunkSplitter splitter =
+                new TestChunkSplitter() {
+                    @Override
+                    public void generateSplits(
+                            TableId tableId,
+                            ChunkSplitterState state,
+                            SplitsConsumer splitsConsumer) {
+                        receivedStates.put(tableId, state);
+                        splitsConsumer.accept(
+                                Collections.singletonList(split(tableId, state.getNextChunkId())),
+                                null);
+                    }
+                };
+        SnapshotPhaseState checkpoint =
+                new SnapshotPhaseState(
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        new HashMap<>(),
+                        new HashMap<>(),
+                        false,
+                        new ArrayList<>(Collections.singletonList(TABLE_1)),
+                        false,
+                        true,
+                        new HashMap<>(Collections.singletonMap(TABLE_1, checkpointedState)));
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                new SnapshotSplitAssigner<>(
+                        createContext(), 1, checkpoint, createDialect(splitter));
+        Semaphore splitsAvailable = new Semaphore(0);
+        assigner.setSplitsAvailableListener(splitsAvailable::release);
+        assigner.open();
+
+        Assertions.assertTrue(splitsAvailable.tryAcquire(10, TimeUnit.SECONDS));
+        Optional<SourceSplitBase> split = assigner.getNext();
+        assigner.close();
+
+        Assertions.assertEquals(checkpointedState, receivedStates.get(TABLE_1));
+        Assertions.assertTrue(split.isPresent());
+        Assertions.assertEquals("db1.table1:1", split.get().splitId());
+        Assertions.assertTrue(assigner.noMoreSplits());
+    }
+
+    @Test
+    public void testRestoreCheckpointOfPreviousVersion() throws Exception {
+        SnapshotPhaseState checkpoint;
+        try (ObjectInputStream in =
+                new ObjectInputStream(
+                        new ByteArrayInputStream(
+                                Base64.getDecoder().decode(PREVIOUS_VERSION_STATE)))) {
+            checkpoint = (SnapshotPhaseState) in.readObject();
+        }
+        Assertions.assertTrue(checkpoint.isAssignerCompleted());
+        Assertions.assertTrue(checkpoint.isRemainingTablesCheckpointed());
+        Assertions.assertTrue(checkpoint.getRemainingTables().isEmpty());
+        Assertions.assertNull(checkpoint.getSplitterStates());
+
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                new SnapshotSplitAssigner<>(
+                        createContext(), 1, checkpoint, createDialect(new TestChunkSplitter()));
+        SnapshotPhaseState state = assigner.snapshotState(1L);
+        Assertions.assertTrue(state.isAssignerCompleted());
+        Assertions.assertTrue(state.getSplitterStates().isEmpty());
+    }
+
+    @Test
+    public void testSplitFailure() throws Exception {
+        CountDownLatch failed = new CountDownLatch(1);
+        ChunkSplitter splitter =
+                new TestChunkSplitter() {
+                    @Override
+                    public void generateSplits(
+                            TableId tableId,
+                            ChunkSplitterState state,
+                            SplitsConsumer splitsConsumer) {
+                        failed.countDown();
+                        throw new IllegalStateException("split column not found");
+                    }
+                };
+        SnapshotSplitAssigner<SourceConfig> assigner =
+                createAssigner(splitter, Collections.singletonList(TABLE_1));
+        assigner.open();
+        Assertions.assertTrue(failed.await(10, TimeUnit.SECONDS));
+
+        RuntimeException exception = null;
+        for (int i = 0; i < 100 && exception == null; i++) {
+            try {
+                assigner.getNext();
+                Thread.sleep(100);
+            } catch (RuntimeException e) {
+                exception = e;
+            }
+        }
+        assigner.close();
+
+        Assertions.assertNotNull(exception);
+        Assertions.assertEquals(
+                "Failed to split table db1.table1 into chunks", exception.getMessage());
+        Assertions.assertThrows(RuntimeException.class, () -> assigner.snapshotState(1L));
+    }
+
+    private static SnapshotSplitAssigner<SourceConfig> createAssigner(
+            ChunkSplitter splitter, List<TableId> tables) {
+        return new SnapshotSplitAssigner<>(
+                createContext(), 1, new ArrayList<>(tables), false, createDialect(splitter));
+    }
+
+    private static SplitAssigner.Context<SourceConfig> createContext() {
+        SourceConfig sourceConfig = Mockito.mock(SourceConfig.class);
+        Mockito.when(sourceConfig.getSnapshotSplitParallelism()).thenReturn(2);
+        Set<TableId> capturedTables = new HashSet<>();
+        return new SplitAssigner.Context<>(
+                sourceConfig, capturedTables, new HashMap<>(), new HashMap<>());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataSourceDialect<SourceConfig> createDialect(ChunkSplitter splitter) {
+        DataSourceDialect<SourceConfig> dialect = Mockito.mock(DataSourceDialect.class);
+        Mockito.when(dialect.createChunkSplitter(Mockito.any())).thenReturn(splitter);
+        return dialect;
+    }
+
+    private static SnapshotSplit split(TableId tableId, int chunkId) {
+        return new SnapshotSplit(tableId + ":" + chunkId, tableId, null, null, null);
+    }
+
+    /** Splits every table into two chunks which are handed over one by one. */
+    private static class TestChunkSplitter implements ChunkSplitter {
+
+        @Override
+        public Collection<SnapshotSplit> generateSplits(TableId tableId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void generateSplits(
+                TableId tableId, ChunkSplitterState state, SplitsConsumer splitsConsumer) {
+            splitsConsumer.accept(
+                    Collections.singletonList(split(tableId, 0)),
+                    new ChunkSplitterState("id", 100L, 200L, 1));
+            try {
+                awaitBeforeLastBatch();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            splitsConsumer.accept(Collections.singletonList(split(tableId, 1)), null);
+        }
+
+        void awaitBeforeLastBatch() throws InterruptedException {}
+    }
+}
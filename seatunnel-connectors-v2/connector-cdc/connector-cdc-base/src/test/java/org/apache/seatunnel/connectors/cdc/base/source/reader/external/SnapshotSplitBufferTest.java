@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.cdc.base.source.reader.external;
+
+import org.apache.kafka.connect.data.Date;
+import org.apache.kafka.connect.data.Decimal;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.SchemaBuilder;
+import org.apache.kafka.connect.data.Struct;
+import org.apache.kafka.connect.data.Timestamp;
+import org.apache.kafka.connect.source.SourceRecord;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class SnapshotSplitBufferTest {
+
+    private static final Schema KEY_SCHEMA =
+            SchemaBuilder.struct().name("key").field("id", Schema.INT64_SCHEMA).build();
+
+    private static final Schema ROW_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("row")
+                    .field("id", Schema.INT64_SCHEMA)
+                    .field("name", Schema.OPTIONAL_STRING_SCHEMA)
+                    .field("price", Decimal.builder(2).optional().build())
+                    .field("birthday", Date.builder().optional().build())
+                    .field("updated", Timestamp.builder().optional().build())
+                    .field("tags", SchemaBuilder.array(Schema.STRING_SCHEMA).optional().build())
+                    .field("payload", Schema.OPTIONAL_BYTES_SCHEMA)
+                    .build();
+
+    private static final Schema VALUE_SCHEMA =
+            SchemaBuilder.struct()
+                    .name("envelope")
+                    .field("after", ROW_SCHEMA)
+                    .field("op", Schema.STRING_SCHEMA)
+                    .field("ts_ms", Schema.OPTIONAL_INT64_SCHEMA)
+                    .build();
+
+    @Test
+    public void testKeepInsertionOrderInMemory() {
+        SnapshotSplitBuffer buffer = new SnapshotSplitBuffer(Long.MAX_VALUE);
+        for (long id = 10; id > 0; id--) {
+            buffer.put(key(id), record(id, "name-" + id));
+        }
+        buffer.put(key(5), record(5, "updated"));
+        buffer.remove(key(7), KEY_SCHEMA);
+
+        List<SourceRecord> records = readAll(buffer);
+        Assertions.assertEquals(0, buffer.getSpilledRuns());
+        Assertions.assertEquals(9, records.size());
+        List<Long> ids = new ArrayList<>();
+        for (SourceRecord record : records) {
+            ids.add(((Struct) record.key()).getInt64("id"));
+        }
+        Assertions.assertEquals(Arrays.asList(10L, 9L, 8L, 6L, 5L, 4L, 3L, 2L, 1L), ids);
+        Assertions.assertEquals(record(5, "updated"), records.get(4));
+        Assertions.assertEquals(record(10, "name-10"), records.get(0));
+    }
+
+    @Test
+    public void testSpillAndMergeRuns() {
+        SnapshotSplitBuffer buffer = new SnapshotSplitBuffer(4 * 1024);
+        Map<Long, SourceRecord> expected = new HashMap<>();
+        for (long id = 0; id < 1000; id++) {
+            SourceRecord record = record(id, "name-" + id);
+            buffer.put(key(id), record);
+            expected.put(id, record);
+        }
+        Assertions.assertTrue(buffer.getSpilledRuns() > 1);
+
+        // change events rewrite records already spilled
+        for (long id = 0; id < 1000; id += 7) {
+            SourceRecord record = record(id, "changed-" + id);
+            buffer.put(key(id), record);
+            expected.put(id, record);
+        }
+        for (long id = 3; id < 1000; id += 11) {
+            buffer.remove(key(id), KEY_SCHEMA);
+            expected.remove(id);
+        }
+        buffer.put(key(1000), record(1000, "inserted"));
+        expected.put(1000L, record(1000, "inserted"));
+        // a key removed and inserted again is kept
+        buffer.put(key(3), record(3, "inserted"));
+        expected.put(3L, record(3, "inserted"));
+
+        List<SourceRecord> records = readAll(buffer);
+        Assertions.assertEquals(expected.size(), records.size());
+        for (SourceRecord record : records) {
+            long id = ((Struct) record.key()).getInt64("id");
+            Assertions.assertEquals(expected.get(id), record);
+        }
+        Assertions.assertTrue(buffer.isClosed());
+    }
+
+    @Test
+    public void testCloseBeforeRead() {
+        SnapshotSplitBuffer buffer = new SnapshotSplitBuffer(1024);
+        for (long id = 0; id < 100; id++) {
+            buffer.put(key(id), record(id, "name-" + id));
+        }
+        buffer.close();
+        Assertions.assertTrue(buffer.isClosed());
+        Assertions.assertThrows(IllegalStateException.class, buffer::iterator);
+    }
+
+    private static List<SourceRecord> readAll(SnapshotSplitBuffer buffer) {
+        List<SourceRecord> records = new ArrayList<>();
+        Iterator<SourceRecord> iterator = buffer.iterator();
+        iterator.forEachRemaining(records::add);
+        return records;
+    }
+
+    private static Struct key(long id) {
+        return new Struct(KEY_SCHEMA).put("id", id);
+    }
+
+    private static SourceRecord record(long id, String name) {
+        Struct row =
+                new Struct(ROW_SCHEMA)
+                        .put("id", id)
+                        .put("name", name)
+                        .put("price", BigDecimal.valueOf(id * 100 + 99, 2))
+                        .put("birthday", Date.toLogical(Date.SCHEMA, (int) id))
+                        .put("updated", new java.util.Date(1700000000000L + id))
+                        .put("tags", Arrays.asList("a", String.valueOf(id)))
+                        .put("payload", new byte[] {(byte) id, 1, 2});
+        if (id % 2 == 0) {
+            row.put("name", null);
+        }
+        Struct value = new Struct(VALUE_SCHEMA).put("after", row).put("op", "r");
+        Map<String, Object> offset = new HashMap<>();
+        offset.put("file", "binlog.000001");
+        offset.put("pos", 4L + id);
+        offset.put("snapshot", true);
+        return new SourceRecord(
+                Collections.singletonMap("server", "mysql"),
+                offset,
+                "topic",
+                null,
+                KEY_SCHEMA,
+                key(id),
+                VALUE_SCHEMA,
+                value);
+    }
+}
@@ -99,6 +99,10 @@ public class MongodbIncrementalSource<T> extends IncrementalSource<T, MongodbSou
                 .ifPresent(builder::splitMetaGroupSize);
         Optional.ofNullable(config.get(MongodbSourceOptions.INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB))
                 .ifPresent(builder::splitSizeMB);
+        Optional.ofNullable(config.get(MongodbSourceOptions.SNAPSHOT_BUFFER_SIZE))
+                .ifPresent(builder::snapshotBufferSize);
+        Optional.ofNullable(config.get(MongodbSourceOptions.SNAPSHOT_SPLIT_PARALLELISM))
+                .ifPresent(builder::snapshotSplitParallelism);
         Optional.ofNullable(startupConfig).ifPresent(builder::startupOptions);
         Optional.ofNullable(stopConfig).ifPresent(builder::stopOptions);
         return builder;
@@ -65,6 +65,10 @@ public class MongodbSourceConfig implements SourceConfig {
 
     private final int splitSizeMB;
 
+    private final long snapshotBufferSize;
+
+    private final int snapshotSplitParallelism;
+
     MongodbSourceConfig(
             String hosts,
             String username,
@@ -80,7 +84,9 @@ public class MongodbSourceConfig implements SourceConfig {
             StopConfig stopOptions,
             int heartbeatIntervalMillis,
             int splitMetaGroupSize,
-            int splitSizeMB) {
+            int splitSizeMB,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism) {
         this.hosts = checkNotNull(hosts);
         this.username = username;
         this.password = password;
@@ -98,6 +104,8 @@ public class MongodbSourceConfig implements SourceConfig {
         this.heartbeatIntervalMillis = heartbeatIntervalMillis;
         this.splitMetaGroupSize = splitMetaGroupSize;
         this.splitSizeMB = splitSizeMB;
+        this.snapshotBufferSize = snapshotBufferSize;
+        this.snapshotSplitParallelism = snapshotSplitParallelism;
     }
 
     @Override
@@ -33,6 +33,8 @@ import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.Mongo
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB;
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.POLL_AWAIT_TIME_MILLIS;
 import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.POLL_MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.SNAPSHOT_BUFFER_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceOptions.SNAPSHOT_SPLIT_PARALLELISM;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkNotNull;
 
@@ -59,6 +61,8 @@ public class MongodbSourceConfigProvider {
         private int heartbeatIntervalMillis = HEARTBEAT_INTERVAL_MILLIS.defaultValue();
         private int splitMetaGroupSize = 2;
         private int splitSizeMB = INCREMENTAL_SNAPSHOT_CHUNK_SIZE_MB.defaultValue();
+        private long snapshotBufferSize = SNAPSHOT_BUFFER_SIZE.defaultValue();
+        private int snapshotSplitParallelism = SNAPSHOT_SPLIT_PARALLELISM.defaultValue();
 
         public Builder hosts(String hosts) {
             this.hosts = hosts;
@@ -141,6 +145,18 @@ public class MongodbSourceConfigProvider {
             return this;
         }
 
+        public Builder snapshotBufferSize(long snapshotBufferSize) {
+            checkArgument(snapshotBufferSize > 0);
+            this.snapshotBufferSize = snapshotBufferSize;
+            return this;
+        }
+
+        public Builder snapshotSplitParallelism(int snapshotSplitParallelism) {
+            checkArgument(snapshotSplitParallelism > 0);
+            this.snapshotSplitParallelism = snapshotSplitParallelism;
+            return this;
+        }
+
         public Builder splitMetaGroupSize(int splitMetaGroupSize) {
             this.splitMetaGroupSize = splitMetaGroupSize;
             return this;
@@ -169,7 +185,9 @@ public class MongodbSourceConfigProvider {
                     stopOptions,
                     heartbeatIntervalMillis,
                     splitMetaGroupSize,
-                    splitSizeMB);
+                    splitSizeMB,
+                    snapshotBufferSize,
+                    snapshotSplitParallelism);
         }
     }
 }
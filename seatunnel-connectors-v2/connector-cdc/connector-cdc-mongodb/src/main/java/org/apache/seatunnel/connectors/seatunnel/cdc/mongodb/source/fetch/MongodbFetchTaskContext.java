@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.source.fetch;
 
 import org.apache.seatunnel.connectors.cdc.base.source.offset.Offset;
 import org.apache.seatunnel.connectors.cdc.base.source.reader.external.FetchTask;
+import org.apache.seatunnel.connectors.cdc.base.source.reader.external.SnapshotSplitBuffer;
 import org.apache.seatunnel.connectors.cdc.base.source.split.SourceSplitBase;
 import org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.config.MongodbSourceConfig;
 import org.apache.seatunnel.connectors.seatunnel.cdc.mongodb.exception.MongodbConnectorException;
@@ -49,7 +50,6 @@ import javax.annotation.Nonnull;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT;
@@ -142,6 +142,11 @@ public class MongodbFetchTaskContext implements FetchTask.Context {
         return true;
     }
 
+    @Override
+    public long getSnapshotBufferSize() {
+        return sourceConfig.getSnapshotBufferSize();
+    }
+
     @Override
     public Offset getStreamOffset(SourceRecord record) {
         return new ChangeStreamOffset(getResumeToken(record));
@@ -180,7 +185,7 @@ public class MongodbFetchTaskContext implements FetchTask.Context {
 
     @Override
     public void rewriteOutputBuffer(
-            Map<Struct, SourceRecord> outputBuffer, @Nonnull SourceRecord changeRecord) {
+            SnapshotSplitBuffer outputBuffer, @Nonnull SourceRecord changeRecord) {
         Struct key = (Struct) changeRecord.key();
         Struct value = (Struct) changeRecord.value();
 
@@ -212,7 +217,7 @@ public class MongodbFetchTaskContext implements FetchTask.Context {
                     outputBuffer.put(key, record);
                     break;
                 case DELETE:
-                    outputBuffer.remove(key);
+                    outputBuffer.remove(key, changeRecord.keySchema());
                     break;
                 default:
                     throw new MongodbConnectorException(
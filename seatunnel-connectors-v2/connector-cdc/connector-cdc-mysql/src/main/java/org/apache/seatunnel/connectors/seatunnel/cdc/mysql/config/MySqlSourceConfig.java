@@ -57,7 +57,9 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism) {
         super(
                 startupConfig,
                 stopConfig,
@@ -80,7 +82,9 @@ public class MySqlSourceConfig extends JdbcSourceConfig {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism);
     }
 
     @Override
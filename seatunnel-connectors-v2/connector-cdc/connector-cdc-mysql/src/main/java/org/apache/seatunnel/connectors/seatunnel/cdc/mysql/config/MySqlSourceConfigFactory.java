@@ -132,6 +132,8 @@ public class MySqlSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism);
     }
 }
@@ -65,7 +65,9 @@ public class OracleSourceConfig extends JdbcSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism) {
         super(
                 startupConfig,
                 stopConfig,
@@ -88,7 +90,9 @@ public class OracleSourceConfig extends JdbcSourceConfig {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism);
         this.useSelectCount = useSelectCount;
         this.skipAnalyze = skipAnalyze;
     }
@@ -160,7 +160,9 @@ public class OracleSourceConfigFactory extends JdbcSourceConfigFactory {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism);
     }
 
     private void validateConfig() throws IllegalArgumentException {
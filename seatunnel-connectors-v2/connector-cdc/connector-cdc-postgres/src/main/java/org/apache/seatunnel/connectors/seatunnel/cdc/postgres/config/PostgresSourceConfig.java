@@ -52,7 +52,9 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism) {
         super(
                 startupConfig,
                 stopConfig,
@@ -75,7 +77,9 @@ public class PostgresSourceConfig extends JdbcSourceConfig {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism);
     }
 
     @Override
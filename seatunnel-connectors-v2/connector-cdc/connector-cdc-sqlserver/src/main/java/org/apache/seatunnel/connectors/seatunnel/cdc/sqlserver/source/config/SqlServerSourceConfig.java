@@ -57,7 +57,9 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
             long connectTimeoutMillis,
             int connectMaxRetries,
             int connectionPoolSize,
-            boolean exactlyOnce) {
+            boolean exactlyOnce,
+            long snapshotBufferSize,
+            int snapshotSplitParallelism) {
         super(
                 startupConfig,
                 stopConfig,
@@ -80,7 +82,9 @@ public class SqlServerSourceConfig extends JdbcSourceConfig {
                 connectTimeoutMillis,
                 connectMaxRetries,
                 connectionPoolSize,
-                exactlyOnce);
+                exactlyOnce,
+                snapshotBufferSize,
+                snapshotSplitParallelism);
     }
 
     @Override
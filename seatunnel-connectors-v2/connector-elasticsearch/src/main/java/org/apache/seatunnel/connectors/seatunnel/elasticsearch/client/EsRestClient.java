@@ -44,6 +44,8 @@ import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
 import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.ssl.SSLContexts;
 import org.apache.http.util.Asserts;
@@ -51,6 +53,7 @@ import org.apache.http.util.EntityUtils;
 
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 
@@ -65,6 +68,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -214,12 +218,7 @@ public class EsRestClient {
                         "bulk es Response is null");
             }
             if (response.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                String entity = EntityUtils.toString(response.getEntity());
-                JsonNode json = objectMapper.readTree(entity);
-                int took = json.get("took").asInt();
-                boolean errors = json.get("errors").asBoolean();
-                return new BulkResponse(errors, took, entity);
+                return toBulkResponse(response);
             } else {
                 throw new ElasticsearchConnectorException(
                         ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
@@ -235,6 +234,64 @@ public class EsRestClient {
         }
     }
 
+    /**
+     * send the first {@code length} bytes of {@code requestBody} to /_bulk without waiting for the
+     * response, the array must not be modified until the returned future completes
+     */
+    public CompletableFuture<BulkResponse> bulkAsync(byte[] requestBody, int length) {
+        Request request = new Request("POST", "/_bulk");
+        request.setEntity(
+                new ByteArrayEntity(requestBody, 0, length, ContentType.APPLICATION_JSON));
+        CompletableFuture<BulkResponse> future = new CompletableFuture<>();
+        restClient.performRequestAsync(
+                request,
+                new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        try {
+                            future.complete(toBulkResponse(response));
+                        } catch (Exception e) {
+                            future.completeExceptionally(
+                                    new ElasticsearchConnectorException(
+                                            ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                            "bulk es error",
+                                            e));
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        future.completeExceptionally(
+                                new ElasticsearchConnectorException(
+                                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                                        "bulk es error",
+                                        e));
+                    }
+                });
+        return future;
+    }
+
+    private static BulkResponse toBulkResponse(Response response) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String entity = EntityUtils.toString(response.getEntity());
+        JsonNode json = objectMapper.readTree(entity);
+        int took = json.get("took").asInt();
+        boolean errors = json.get("errors").asBoolean();
+        if (!errors) {
+            return new BulkResponse(false, took, entity);
+        }
+        // every item is an object keyed by its action, e.g. {"index": {"status": 429, "error":...}}
+        JsonNode items = json.get("items");
+        int[] itemStatus = new int[items.size()];
+        for (int i = 0; i < itemStatus.length; i++) {
+            JsonNode item = items.get(i).elements().next();
+            if (item.has("error")) {
+                itemStatus[i] = item.get("status").asInt();
+            }
+        }
+        return new BulkResponse(true, took, entity, itemStatus);
+    }
+
     public ElasticsearchClusterInfo getClusterInfo() {
         Request request = new Request("GET", "/");
         try {
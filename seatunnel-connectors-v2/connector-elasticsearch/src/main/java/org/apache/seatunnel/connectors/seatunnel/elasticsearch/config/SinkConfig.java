@@ -70,6 +70,13 @@ public class SinkConfig {
                     .defaultValue(3)
                     .withDescription("one bulk request max try count");
 
+    public static final Option<Integer> MAX_IN_FLIGHT_BULKS =
+            Options.key("max_in_flight_bulks")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of bulk requests sent asynchronously while the writer fills the next one, 0 sends them synchronously");
+
     public static final Option<SchemaSaveMode> SCHEMA_SAVE_MODE =
             Options.key("schema_save_mode")
                     .enumType(SchemaSaveMode.class)
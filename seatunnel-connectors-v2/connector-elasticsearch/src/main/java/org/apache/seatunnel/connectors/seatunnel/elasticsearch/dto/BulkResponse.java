@@ -23,6 +23,8 @@ public class BulkResponse {
     private boolean errors;
     private int took;
     private String response;
+    /** the status of every item when {@link #errors} is set, 0 for the items that succeeded */
+    private int[] itemStatus;
 
     public BulkResponse() {}
 
@@ -32,6 +34,11 @@ public class BulkResponse {
         this.response = response;
     }
 
+    public BulkResponse(boolean errors, int took, String response, int[] itemStatus) {
+        this(errors, took, response);
+        this.itemStatus = itemStatus;
+    }
+
     public boolean isErrors() {
         return errors;
     }
@@ -55,4 +62,12 @@ public class BulkResponse {
     public void setResponse(String response) {
         this.response = response;
     }
+
+    public int[] getItemStatus() {
+        return itemStatus;
+    }
+
+    public void setItemStatus(int[] itemStatus) {
+        this.itemStatus = itemStatus;
+    }
 }
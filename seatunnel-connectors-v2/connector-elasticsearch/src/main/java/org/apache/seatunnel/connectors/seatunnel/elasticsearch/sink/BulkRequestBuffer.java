@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The body of one bulk request, every item being the serialized row followed by a newline. The
+ * arrays are kept when the buffer is cleared, so that a writer reusing its buffers does not
+ * allocate once they have grown to the size of a batch.
+ */
+final class BulkRequestBuffer {
+
+    private byte[] bytes;
+    private int length;
+    private int[] itemEnds;
+    private int items;
+    private int attempts;
+
+    BulkRequestBuffer(int expectedItems) {
+        this.bytes = new byte[Math.max(expectedItems, 1) * 256];
+        this.itemEnds = new int[Math.max(expectedItems, 1)];
+    }
+
+    void add(String item) {
+        int itemLength = item.length();
+        ensureCapacity(length + itemLength + 1);
+        int position = length;
+        for (int i = 0; i < itemLength; i++) {
+            char c = item.charAt(i);
+            if (c >= 0x80) {
+                // only ascii is copied char by char, anything else goes through the encoder
+                byte[] encoded = item.getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(length + encoded.length + 1);
+                System.arraycopy(encoded, 0, bytes, length, encoded.length);
+                position = length + encoded.length;
+                break;
+            }
+            bytes[position++] = (byte) c;
+        }
+        bytes[position++] = '\n';
+        length = position;
+        if (items == itemEnds.length) {
+            itemEnds = Arrays.copyOf(itemEnds, items * 2);
+        }
+        itemEnds[items++] = length;
+    }
+
+    /** Keeps the items {@code i} for which {@code keep[i]} is set, in order. */
+    void retain(boolean[] keep) {
+        int retained = 0;
+        int position = 0;
+        for (int i = 0; i < items; i++) {
+            int start = i == 0 ? 0 : itemEnds[i - 1];
+            int end = itemEnds[i];
+            if (keep[i]) {
+                if (start != position) {
+                    System.arraycopy(bytes, start, bytes, position, end - start);
+                }
+                position += end - start;
+                itemEnds[retained++] = position;
+            }
+        }
+        items = retained;
+        length = position;
+    }
+
+    void clear() {
+        length = 0;
+        items = 0;
+        attempts = 0;
+    }
+
+    /** Counts one more sending of the buffer and returns the number of sendings so far. */
+    int nextAttempt() {
+        return ++attempts;
+    }
+
+    int attempts() {
+        return attempts;
+    }
+
+    int size() {
+        return items;
+    }
+
+    boolean isEmpty() {
+        return items == 0;
+    }
+
+    byte[] array() {
+        return bytes;
+    }
+
+    int length() {
+        return length;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+        }
+    }
+}
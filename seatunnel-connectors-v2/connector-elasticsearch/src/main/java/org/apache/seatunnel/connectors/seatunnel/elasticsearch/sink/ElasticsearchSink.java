@@ -40,6 +40,7 @@ import java.util.Optional;
 
 import static org.apache.seatunnel.api.table.factory.FactoryUtil.discoverFactory;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_IN_FLIGHT_BULKS;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_RETRY_COUNT;
 
 public class ElasticsearchSink
@@ -58,11 +59,14 @@ public class ElasticsearchSink
 
     private final int maxRetryCount;
 
+    private final int maxInFlightBulks;
+
     public ElasticsearchSink(ReadonlyConfig config, CatalogTable catalogTable) {
         this.config = config;
         this.catalogTable = catalogTable;
         maxBatchSize = config.get(MAX_BATCH_SIZE);
         maxRetryCount = config.get(MAX_RETRY_COUNT);
+        maxInFlightBulks = config.get(MAX_IN_FLIGHT_BULKS);
     }
 
     @Override
@@ -73,7 +77,7 @@ public class ElasticsearchSink
     @Override
     public ElasticsearchSinkWriter createWriter(SinkWriter.Context context) {
         return new ElasticsearchSinkWriter(
-                context, catalogTable, config, maxBatchSize, maxRetryCount);
+                context, catalogTable, config, maxBatchSize, maxRetryCount, maxInFlightBulks);
     }
 
     @Override
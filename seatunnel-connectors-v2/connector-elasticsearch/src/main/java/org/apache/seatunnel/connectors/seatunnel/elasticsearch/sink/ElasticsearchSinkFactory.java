@@ -19,6 +19,7 @@ package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
 import org.apache.seatunnel.api.configuration.util.OptionRule;
+import org.apache.seatunnel.api.configuration.util.OptionValidationException;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.catalog.TableIdentifier;
 import org.apache.seatunnel.api.table.connector.TableSink;
@@ -42,6 +43,7 @@ import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.Sin
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.INDEX_TYPE;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.KEY_DELIMITER;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_BATCH_SIZE;
+import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_IN_FLIGHT_BULKS;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.MAX_RETRY_COUNT;
 import static org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig.PRIMARY_KEYS;
 
@@ -64,6 +66,7 @@ public class ElasticsearchSinkFactory implements TableSinkFactory {
                         PASSWORD,
                         MAX_RETRY_COUNT,
                         MAX_BATCH_SIZE,
+                        MAX_IN_FLIGHT_BULKS,
                         TLS_VERIFY_CERTIFICATE,
                         TLS_VERIFY_HOSTNAME,
                         TLS_KEY_STORE_PATH,
@@ -76,6 +79,11 @@ public class ElasticsearchSinkFactory implements TableSinkFactory {
     @Override
     public TableSink createSink(TableSinkFactoryContext context) {
         ReadonlyConfig readonlyConfig = context.getOptions();
+        if (readonlyConfig.get(MAX_IN_FLIGHT_BULKS) < 0) {
+            throw new OptionValidationException(
+                    "The value of option '%s' must not be negative, but is %s",
+                    MAX_IN_FLIGHT_BULKS.key(), readonlyConfig.get(MAX_IN_FLIGHT_BULKS));
+        }
         String original = readonlyConfig.get(INDEX);
         CatalogTable newTable =
                 CatalogTable.of(
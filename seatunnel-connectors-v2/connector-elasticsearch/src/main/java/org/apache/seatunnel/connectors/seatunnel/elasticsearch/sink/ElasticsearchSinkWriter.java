@@ -24,7 +24,6 @@ import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
-import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.common.utils.RetryUtils.RetryMaterial;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.client.EsRestClient;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.dto.BulkResponse;
@@ -36,15 +35,30 @@ import org.apache.seatunnel.connectors.seatunnel.elasticsearch.serialize.SeaTunn
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchCommitInfo;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.state.ElasticsearchSinkState;
 
+import org.apache.http.HttpStatus;
+
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * ElasticsearchSinkWriter is a sink writer that will write {@link SeaTunnelRow} to Elasticsearch.
+ *
+ * <p>Rows are serialized into pooled {@link BulkRequestBuffer}s and every full buffer is sent
+ * asynchronously, up to {@code max_in_flight_bulks} of them at a time, the writer blocking for a
+ * free buffer beyond that. When the cluster rejects some items of a bulk with 429 or 503, only
+ * those items are sent again after a backoff, any other item failure fails the bulk. A failed bulk
+ * is reported by the next call of the writer.
+ *
+ * <p>As retries may reorder the bulks in flight, a bulk holding updates or deletes is sent alone,
+ * after the bulks before it completed and before any bulk after it is sent, so that changes of a
+ * document apply in order.
  */
 @Slf4j
 public class ElasticsearchSinkWriter
@@ -55,20 +69,34 @@ public class ElasticsearchSinkWriter
 
     private final int maxBatchSize;
 
+    private final int maxInFlightBulks;
+
     private final SeaTunnelRowSerializer seaTunnelRowSerializer;
-    private final List<String> requestEsList;
     private EsRestClient esRestClient;
     private RetryMaterial retryMaterial;
     private static final long DEFAULT_SLEEP_TIME_MS = 200L;
+    private static final int SC_TOO_MANY_REQUESTS = 429;
+
+    /** the buffers not in flight, there is one more than the bulks allowed in flight */
+    private final BlockingQueue<BulkRequestBuffer> freeBuffers;
+
+    private final ScheduledExecutorService retryScheduler;
+    private BulkRequestBuffer currentBuffer;
+    private boolean currentBufferHasChanges;
+    private final Object inFlightLock = new Object();
+    private int inFlightBulks;
+    private volatile Throwable bulkFailure;
 
     public ElasticsearchSinkWriter(
             Context context,
             CatalogTable catalogTable,
             ReadonlyConfig config,
             int maxBatchSize,
-            int maxRetryCount) {
+            int maxRetryCount,
+            int maxInFlightBulks) {
         this.context = context;
         this.maxBatchSize = maxBatchSize;
+        this.maxInFlightBulks = maxInFlightBulks;
 
         IndexInfo indexInfo = new IndexInfo(catalogTable.getTableId().getTableName(), config);
         esRestClient = EsRestClient.createInstance(config);
@@ -78,63 +106,200 @@ public class ElasticsearchSinkWriter
                         indexInfo,
                         catalogTable.getSeaTunnelRowType());
 
-        this.requestEsList = new ArrayList<>(maxBatchSize);
         this.retryMaterial =
                 new RetryMaterial(maxRetryCount, true, exception -> true, DEFAULT_SLEEP_TIME_MS);
+        this.freeBuffers = new ArrayBlockingQueue<>(maxInFlightBulks + 1);
+        for (int i = 0; i <= maxInFlightBulks; i++) {
+            freeBuffers.add(new BulkRequestBuffer(maxBatchSize));
+        }
+        this.retryScheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "es-bulk-retry");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
     }
 
     @Override
     public void write(SeaTunnelRow element) {
+        checkBulkFailure();
         if (RowKind.UPDATE_BEFORE.equals(element.getRowKind())) {
             return;
         }
 
         String indexRequestRow = seaTunnelRowSerializer.serializeRow(element);
-        requestEsList.add(indexRequestRow);
-        if (requestEsList.size() >= maxBatchSize) {
-            bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        if (currentBuffer == null) {
+            currentBuffer = takeFreeBuffer();
+        }
+        currentBuffer.add(indexRequestRow);
+        if (!RowKind.INSERT.equals(element.getRowKind())) {
+            currentBufferHasChanges = true;
+        }
+        if (currentBuffer.size() >= maxBatchSize) {
+            flush();
         }
     }
 
     @Override
     public Optional<ElasticsearchCommitInfo> prepareCommit() {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
+        checkBulkFailure();
+        flush();
+        awaitInFlightBulks();
+        checkBulkFailure();
         return Optional.empty();
     }
 
     @Override
     public void abortPrepare() {}
 
-    public synchronized void bulkEsWithRetry(
-            EsRestClient esRestClient, List<String> requestEsList) {
+    private void flush() {
+        if (currentBuffer == null || currentBuffer.isEmpty()) {
+            return;
+        }
+        BulkRequestBuffer buffer = currentBuffer;
+        boolean ordered = maxInFlightBulks == 0 || currentBufferHasChanges;
+        currentBuffer = null;
+        currentBufferHasChanges = false;
+        if (ordered) {
+            awaitInFlightBulks();
+        }
+        synchronized (inFlightLock) {
+            inFlightBulks++;
+        }
+        send(buffer);
+        if (ordered) {
+            awaitInFlightBulks();
+        }
+    }
+
+    private void send(BulkRequestBuffer buffer) {
+        buffer.nextAttempt();
         try {
-            RetryUtils.retryWithException(
-                    () -> {
-                        if (requestEsList.size() > 0) {
-                            String requestBody = String.join("\n", requestEsList) + "\n";
-                            BulkResponse bulkResponse = esRestClient.bulk(requestBody);
-                            if (bulkResponse.isErrors()) {
-                                throw new ElasticsearchConnectorException(
-                                        ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
-                                        "bulk es error: " + bulkResponse.getResponse());
-                            }
-                            return bulkResponse;
-                        }
-                        return null;
-                    },
-                    retryMaterial);
-            requestEsList.clear();
+            esRestClient
+                    .bulkAsync(buffer.array(), buffer.length())
+                    .whenComplete((response, error) -> onBulkCompleted(buffer, response, error));
         } catch (Exception e) {
+            release(buffer, e);
+        }
+    }
+
+    private void onBulkCompleted(BulkRequestBuffer buffer, BulkResponse response, Throwable error) {
+        if (error != null) {
+            retryOrFail(buffer, error);
+            return;
+        }
+        if (!response.isErrors()) {
+            release(buffer, null);
+            return;
+        }
+        int[] itemStatus = response.getItemStatus();
+        if (itemStatus.length != buffer.size()) {
+            release(buffer, bulkResponseError(response));
+            return;
+        }
+        boolean[] rejected = new boolean[itemStatus.length];
+        int rejectedItems = 0;
+        for (int i = 0; i < itemStatus.length; i++) {
+            if (itemStatus[i] == SC_TOO_MANY_REQUESTS
+                    || itemStatus[i] == HttpStatus.SC_SERVICE_UNAVAILABLE) {
+                rejected[i] = true;
+                rejectedItems++;
+            } else if (itemStatus[i] != 0) {
+                release(buffer, bulkResponseError(response));
+                return;
+            }
+        }
+        // the items that succeeded are dropped, so that a retry does not write them again
+        buffer.retain(rejected);
+        log.debug("{} of {} items of the bulk rejected", rejectedItems, itemStatus.length);
+        retryOrFail(buffer, bulkResponseError(response));
+    }
+
+    private void retryOrFail(BulkRequestBuffer buffer, Throwable error) {
+        if (buffer.attempts() >= retryMaterial.getRetryTimes()) {
+            release(buffer, error);
+            return;
+        }
+        long backoff = retryMaterial.computeRetryWaitTimeMillis(buffer.attempts());
+        log.info(
+                "Bulk of {} items failed, attempt {} of {}, retrying in {} ms: {}",
+                buffer.size(),
+                buffer.attempts(),
+                retryMaterial.getRetryTimes(),
+                backoff,
+                error.getMessage());
+        try {
+            retryScheduler.schedule(() -> send(buffer), backoff, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            release(buffer, error);
+        }
+    }
+
+    private void release(BulkRequestBuffer buffer, Throwable error) {
+        synchronized (inFlightLock) {
+            if (error != null && bulkFailure == null) {
+                bulkFailure = error;
+            }
+            buffer.clear();
+            freeBuffers.add(buffer);
+            inFlightBulks--;
+            inFlightLock.notifyAll();
+        }
+    }
+
+    private static ElasticsearchConnectorException bulkResponseError(BulkResponse response) {
+        return new ElasticsearchConnectorException(
+                ElasticsearchConnectorErrorCode.BULK_RESPONSE_ERROR,
+                "bulk es error: " + response.getResponse());
+    }
+
+    private BulkRequestBuffer takeFreeBuffer() {
+        try {
+            return freeBuffers.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
             throw new ElasticsearchConnectorException(
                     CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
-                    "ElasticSearch execute batch statement error",
+                    "Interrupted while waiting for an in-flight bulk",
                     e);
         }
     }
 
+    private void awaitInFlightBulks() {
+        synchronized (inFlightLock) {
+            try {
+                while (inFlightBulks > 0) {
+                    inFlightLock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ElasticsearchConnectorException(
+                        CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                        "Interrupted while waiting for the in-flight bulks",
+                        e);
+            }
+        }
+    }
+
+    private void checkBulkFailure() {
+        if (bulkFailure != null) {
+            throw new ElasticsearchConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "ElasticSearch execute batch statement error",
+                    bulkFailure);
+        }
+    }
+
     @Override
     public void close() throws IOException {
-        bulkEsWithRetry(this.esRestClient, this.requestEsList);
-        esRestClient.close();
+        try {
+            flush();
+            awaitInFlightBulks();
+            checkBulkFailure();
+        } finally {
+            retryScheduler.shutdownNow();
+            esRestClient.close();
+        }
     }
 }
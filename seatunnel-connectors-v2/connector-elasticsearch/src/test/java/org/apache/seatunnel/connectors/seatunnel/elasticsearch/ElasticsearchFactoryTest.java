@@ -17,12 +17,23 @@
 
 package org.apache.seatunnel.connectors.seatunnel.elasticsearch;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.configuration.util.OptionValidationException;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.factory.TableSinkFactoryContext;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink.ElasticsearchSinkFactory;
 import org.apache.seatunnel.connectors.seatunnel.elasticsearch.source.ElasticsearchSourceFactory;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 public class ElasticsearchFactoryTest {
 
     @Test
@@ -30,4 +41,27 @@ public class ElasticsearchFactoryTest {
         Assertions.assertNotNull((new ElasticsearchSourceFactory()).optionRule());
         Assertions.assertNotNull((new ElasticsearchSinkFactory()).optionRule());
     }
+
+    @Test
+    void rejectNegativeMaxInFlightBulks() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(SinkConfig.INDEX.key(), "st_index");
+        config.put(SinkConfig.MAX_IN_FLIGHT_BULKS.key(), -1);
+        CatalogTable catalogTable =
+                CatalogTable.of(
+                        TableIdentifier.of("catalog", "database", "table"),
+                        TableSchema.builder().build(),
+                        Collections.emptyMap(),
+                        Collections.emptyList(),
+                        "comment");
+        TableSinkFactoryContext context =
+                TableSinkFactoryContext.replacePlaceholderAndCreate(
+                        catalogTable,
+                        ReadonlyConfig.fromMap(config),
+                        getClass().getClassLoader(),
+                        Collections.emptyList());
+        Assertions.assertThrows(
+                OptionValidationException.class,
+                () -> new ElasticsearchSinkFactory().createSink(context));
+    }
 }
@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.elasticsearch.sink;
+
+import org.apache.seatunnel.shade.com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.EsClusterConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.config.SinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.elasticsearch.exception.ElasticsearchConnectorException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/** Runs the writer against a local HTTP stub that answers every bulk item as configured. */
+public class ElasticsearchSinkWriterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final CatalogTable CATALOG_TABLE =
+            CatalogTable.of(
+                    TableIdentifier.of("catalog", "database", "st_index"),
+                    TableSchema.builder()
+                            .column(
+                                    PhysicalColumn.of(
+                                            "id",
+                                            BasicType.STRING_TYPE,
+                                            (Long) null,
+                                            true,
+                                            null,
+                                            ""))
+                            .build(),
+                    Collections.emptyMap(),
+                    Collections.emptyList(),
+                    "comment");
+
+    private HttpServer server;
+    /** the ids of the documents of every bulk received, in order */
+    private final List<List<String>> bulks = new CopyOnWriteArrayList<>();
+    /** the status of a document given the number of the bulk, starting at 0, and its id */
+    private volatile BiFunction<Integer, String, Integer> itemStatus = (bulk, id) -> 201;
+
+    private volatile CountDownLatch bulkBarrier;
+    private final List<Boolean> barrierReached = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext(
+                "/", exchange -> respond(exchange, "{\"version\":{\"number\":\"7.10.0\"}}"));
+        server.createContext("/_bulk", this::handleBulk);
+        server.start();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void testRetryOnlyRejectedItems() throws IOException {
+        itemStatus =
+                (bulk, id) -> {
+                    if (bulk == 0 && id.equals("2")) {
+                        return 429;
+                    }
+                    if (bulk == 0 && id.equals("4")) {
+                        return 503;
+                    }
+                    return 201;
+                };
+        ElasticsearchSinkWriter writer = createWriter(4, 3, 0);
+        for (String id : Arrays.asList("1", "2", "3ü", "4")) {
+            writer.write(row(id));
+        }
+        writer.prepareCommit();
+        writer.close();
+
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("1", "2", "3ü", "4"), Arrays.asList("2", "4")), bulks);
+    }
+
+    @Test
+    public void testFailOnNonRetryableItem() throws IOException {
+        itemStatus = (bulk, id) -> id.equals("3") ? 400 : 201;
+        ElasticsearchSinkWriter writer = createWriter(4, 3, 0);
+        for (int i = 1; i <= 4; i++) {
+            writer.write(row(String.valueOf(i)));
+        }
+
+        Assertions.assertThrows(ElasticsearchConnectorException.class, writer::prepareCommit);
+        Assertions.assertEquals(1, bulks.size());
+        Assertions.assertThrows(
+                ElasticsearchConnectorException.class, () -> writer.write(row("5")));
+        Assertions.assertThrows(ElasticsearchConnectorException.class, writer::close);
+    }
+
+    @Test
+    public void testFailWhenRetriesExhausted() {
+        itemStatus = (bulk, id) -> id.equals("1") ? 429 : 201;
+        ElasticsearchSinkWriter writer = createWriter(2, 2, 1);
+        writer.write(row("1"));
+        writer.write(row("2"));
+
+        Assertions.assertThrows(ElasticsearchConnectorException.class, writer::prepareCommit);
+        Assertions.assertEquals(
+                Arrays.asList(Arrays.asList("1", "2"), Collections.singletonList("1")), bulks);
+    }
+
+    @Test
+    public void testBulksInFlight() throws IOException {
+        // every bulk is held by the stub until the second one arrives
+        bulkBarrier = new CountDownLatch(2);
+        ElasticsearchSinkWriter writer = createWriter(1, 1, 2);
+        writer.write(row("1"));
+        writer.write(row("2"));
+        writer.prepareCommit();
+        writer.close();
+
+        Assertions.assertEquals(Arrays.asList(true, true), barrierReached);
+        Assertions.assertEquals(2, bulks.size());
+    }
+
+    @Test
+    public void testChangesWaitForRetriedBulks() throws IOException {
+        itemStatus = (bulk, id) -> bulk == 0 ? 429 : 201;
+        ElasticsearchSinkWriter writer = createWriter(1, 3, 2);
+        writer.write(row("insert"));
+        SeaTunnelRow update = row("update");
+        update.setRowKind(RowKind.UPDATE_AFTER);
+        writer.write(update);
+        writer.prepareCommit();
+        writer.close();
+
+        Assertions.assertEquals(
+                Arrays.asList(
+                        Collections.singletonList("insert"),
+                        Collections.singletonList("insert"),
+                        Collections.singletonList("update")),
+                bulks);
+    }
+
+    private ElasticsearchSinkWriter createWriter(
+            int maxBatchSize, int maxRetryCount, int maxInFlightBulks) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(
+                EsClusterConnectionConfig.HOSTS.key(),
+                Collections.singletonList("http://localhost:" + server.getAddress().getPort()));
+        config.put(SinkConfig.INDEX.key(), "st_index");
+        return new ElasticsearchSinkWriter(
+                null,
+                CATALOG_TABLE,
+                ReadonlyConfig.fromMap(config),
+                maxBatchSize,
+                maxRetryCount,
+                maxInFlightBulks);
+    }
+
+    private static SeaTunnelRow row(String id) {
+        return new SeaTunnelRow(new Object[] {id});
+    }
+
+    private void handleBulk(HttpExchange exchange) throws IOException {
+        String body = new String(readAll(exchange), StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        List<String> ids = new ArrayList<>();
+        // an index action and its document for every row
+        for (int i = 1; i < lines.length; i += 2) {
+            ids.add(OBJECT_MAPPER.readTree(lines[i]).get("id").asText());
+        }
+        int bulk;
+        synchronized (bulks) {
+            bulk = bulks.size();
+            bulks.add(ids);
+        }
+        CountDownLatch barrier = bulkBarrier;
+        if (barrier != null) {
+            barrier.countDown();
+            try {
+                barrierReached.add(barrier.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        StringBuilder items = new StringBuilder();
+        boolean errors = false;
+        for (String id : ids) {
+            int status = itemStatus.apply(bulk, id);
+            items.append(items.length() == 0 ? "" : ",")
+                    .append("{\"index\":{\"_id\":\"")
+                    .append(id)
+                    .append("\",\"status\":")
+                    .append(status);
+            if (status >= 300) {
+                errors = true;
+                items.append(",\"error\":{\"type\":\"rejected\"}");
+            }
+            items.append("}}");
+        }
+        respond(exchange, "{\"took\":1,\"errors\":" + errors + ",\"items\":[" + items + "]}");
+    }
+
+    private static byte[] readAll(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[4096];
+        int read;
+        while ((read = exchange.getRequestBody().read(chunk)) > 0) {
+            out.write(chunk, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
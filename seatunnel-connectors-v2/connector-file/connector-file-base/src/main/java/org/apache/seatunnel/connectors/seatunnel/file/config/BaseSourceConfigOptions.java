@@ -119,6 +119,25 @@ public class BaseSourceConfigOptions {
                     .defaultValue(0L)
                     .withDescription("The number of rows to skip");
 
+    public static final Option<Long> FILE_SPLIT_SIZE =
+            Options.key("file_split_size")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "Uncompressed text, csv and json files larger than this number of bytes are cut into "
+                                    + "splits of this size, aligned to line breaks, so they are read in parallel. "
+                                    + "Parquet files are cut at row group boundaries. "
+                                    + "0 reads each file as one split");
+
+    public static final Option<String> FILTER =
+            Options.key("filter")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The condition of the rows to read from parquet and orc files, in the syntax "
+                                    + "of a sql where clause. It is pushed down to skip row groups and "
+                                    + "stripes by their statistics");
+
     public static final Option<List<String>> READ_PARTITIONS =
             Options.key("read_partitions")
                     .listType()
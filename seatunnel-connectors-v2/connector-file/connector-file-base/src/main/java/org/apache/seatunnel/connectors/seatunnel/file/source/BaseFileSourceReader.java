@@ -60,7 +60,7 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
                 try {
                     // todo: If there is only one table , the tableId is not needed, but it's better
                     // to set this
-                    readStrategy.read(split.splitId(), "", output);
+                    readStrategy.read(split, "", output);
                 } catch (Exception e) {
                     throw CommonError.fileOperationFailed("SeaTunnel", "read", split.splitId(), e);
                 }
@@ -69,7 +69,7 @@ public class BaseFileSourceReader implements SourceReader<SeaTunnelRow, FileSour
                 log.info("Closed the bounded File source");
                 context.signalNoMoreElement();
             } else {
-                Thread.sleep(1000L);
+                context.markIdle(1000L);
             }
         }
     }
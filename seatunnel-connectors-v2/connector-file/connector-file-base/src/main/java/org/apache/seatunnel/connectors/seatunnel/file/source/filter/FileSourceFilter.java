@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.common.utils.DateTimeUtils;
+import org.apache.seatunnel.common.utils.DateUtils;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import net.sf.jsqlparser.JSQLParserException;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NotExpression;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.Between;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.schema.Column;
+
+import java.math.BigDecimal;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A row filter of a file source, parsed from a condition in the syntax of a sql where clause, e.g.
+ * {@code dt >= '2024-01-01' and (id in (1, 2) or name is null)}.
+ *
+ * <p>The filter is evaluated on every row read, with the three valued logic of sql: a row is kept
+ * only if the condition is true, not if it is false or unknown. Columnar formats additionally
+ * convert it to their own predicates to skip data by statistics, see {@link ParquetFilterConverter}
+ * and {@link OrcFilterConverter}.
+ */
+public abstract class FileSourceFilter {
+
+    public enum Operator {
+        EQ,
+        NOT_EQ,
+        LT,
+        LT_EQ,
+        GT,
+        GT_EQ;
+
+        private Operator flip() {
+            switch (this) {
+                case LT:
+                    return GT;
+                case LT_EQ:
+                    return GT_EQ;
+                case GT:
+                    return LT;
+                case GT_EQ:
+                    return LT_EQ;
+                default:
+                    return this;
+            }
+        }
+    }
+
+    /** Evaluates the filter on the row, returns null if the result is unknown. */
+    public abstract Boolean evaluate(SeaTunnelRow row);
+
+    public boolean test(SeaTunnelRow row) {
+        return Boolean.TRUE.equals(evaluate(row));
+    }
+
+    public static FileSourceFilter parse(String condition, SeaTunnelRowType rowType) {
+        Expression expression;
+        try {
+            expression = CCJSqlParserUtil.parseCondExpression(condition);
+        } catch (JSQLParserException e) {
+            throw new FileConnectorException(
+                    CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                    String.format("Parse filter [%s] failed", condition),
+                    e);
+        }
+        return convert(expression, rowType);
+    }
+
+    private static FileSourceFilter convert(Expression expression, SeaTunnelRowType rowType) {
+        if (expression instanceof Parenthesis) {
+            return convert(((Parenthesis) expression).getExpression(), rowType);
+        } else if (expression instanceof AndExpression) {
+            AndExpression and = (AndExpression) expression;
+            return new And(
+                    Arrays.asList(
+                            convert(and.getLeftExpression(), rowType),
+                            convert(and.getRightExpression(), rowType)));
+        } else if (expression instanceof OrExpression) {
+            OrExpression or = (OrExpression) expression;
+            return new Or(
+                    Arrays.asList(
+                            convert(or.getLeftExpression(), rowType),
+                            convert(or.getRightExpression(), rowType)));
+        } else if (expression instanceof NotExpression) {
+            return new Not(convert(((NotExpression) expression).getExpression(), rowType));
+        } else if (expression instanceof IsNullExpression) {
+            IsNullExpression isNull = (IsNullExpression) expression;
+            FileSourceFilter filter =
+                    new IsNull(FilterColumn.of(isNull.getLeftExpression(), rowType, expression));
+            return isNull.isNot() ? new Not(filter) : filter;
+        } else if (expression instanceof ComparisonOperator) {
+            return convertComparison((ComparisonOperator) expression, rowType);
+        } else if (expression instanceof InExpression) {
+            InExpression in = (InExpression) expression;
+            if (!(in.getRightItemsList() instanceof ExpressionList)) {
+                throw unsupported(expression);
+            }
+            FilterColumn column = FilterColumn.of(in.getLeftExpression(), rowType, expression);
+            List<Object> values = new ArrayList<>();
+            for (Expression value : ((ExpressionList) in.getRightItemsList()).getExpressions()) {
+                values.add(column.literal(value, expression));
+            }
+            FileSourceFilter filter = new In(column, values);
+            return in.isNot() ? new Not(filter) : filter;
+        } else if (expression instanceof Between) {
+            Between between = (Between) expression;
+            FilterColumn column = FilterColumn.of(between.getLeftExpression(), rowType, expression);
+            FileSourceFilter filter =
+                    new And(
+                            Arrays.asList(
+                                    new Comparison(
+                                            column,
+                                            Operator.GT_EQ,
+                                            column.literal(
+                                                    between.getBetweenExpressionStart(),
+                                                    expression)),
+                                    new Comparison(
+                                            column,
+                                            Operator.LT_EQ,
+                                            column.literal(
+                                                    between.getBetweenExpressionEnd(),
+                                                    expression))));
+            return between.isNot() ? new Not(filter) : filter;
+        }
+        throw unsupported(expression);
+    }
+
+    private static FileSourceFilter convertComparison(
+            ComparisonOperator comparison, SeaTunnelRowType rowType) {
+        Operator operator;
+        if (comparison instanceof EqualsTo) {
+            operator = Operator.EQ;
+        } else if (comparison instanceof NotEqualsTo) {
+            operator = Operator.NOT_EQ;
+        } else if (comparison instanceof MinorThan) {
+            operator = Operator.LT;
+        } else if (comparison instanceof MinorThanEquals) {
+            operator = Operator.LT_EQ;
+        } else if (comparison instanceof GreaterThan) {
+            operator = Operator.GT;
+        } else if (comparison instanceof GreaterThanEquals) {
+            operator = Operator.GT_EQ;
+        } else {
+            throw unsupported(comparison);
+        }
+        Expression left = comparison.getLeftExpression();
+        Expression right = comparison.getRightExpression();
+        if (!isColumn(left, rowType) && isColumn(right, rowType)) {
+            FilterColumn column = FilterColumn.of(right, rowType, comparison);
+            return new Comparison(column, operator.flip(), column.literal(left, comparison));
+        }
+        FilterColumn column = FilterColumn.of(left, rowType, comparison);
+        return new Comparison(column, operator, column.literal(right, comparison));
+    }
+
+    private static boolean isColumn(Expression expression, SeaTunnelRowType rowType) {
+        return expression instanceof Column
+                && rowType.indexOf(columnName((Column) expression), false) >= 0;
+    }
+
+    private static String columnName(Column column) {
+        String name = column.getColumnName();
+        if (name.length() > 1
+                && (name.startsWith("`") && name.endsWith("`")
+                        || name.startsWith("\"") && name.endsWith("\""))) {
+            return name.substring(1, name.length() - 1);
+        }
+        return name;
+    }
+
+    private static FileConnectorException unsupported(Expression expression) {
+        return new FileConnectorException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported filter expression [%s]", expression));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Integer compare(Object value, Object literal) {
+        if (value.getClass() == literal.getClass()) {
+            return ((Comparable) value).compareTo(literal);
+        }
+        if (value instanceof Number && literal instanceof Number) {
+            return new BigDecimal(value.toString()).compareTo(new BigDecimal(literal.toString()));
+        }
+        return null;
+    }
+
+    /** A column of the row type that a filter refers to. */
+    @Getter
+    @AllArgsConstructor
+    public static class FilterColumn {
+        private final String name;
+        private final int index;
+        private final SeaTunnelDataType<?> type;
+
+        private static FilterColumn of(
+                Expression expression, SeaTunnelRowType rowType, Expression filter) {
+            if (!(expression instanceof Column)) {
+                throw unsupported(filter);
+            }
+            String name = columnName((Column) expression);
+            int index = rowType.indexOf(name, false);
+            if (index < 0) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "The filter column [%s] is not one of the columns read [%s]",
+                                name, String.join(",", rowType.getFieldNames())));
+            }
+            return new FilterColumn(
+                    rowType.getFieldName(index), index, rowType.getFieldType(index));
+        }
+
+        /** Converts the literal to the java type of the values of the column. */
+        private Object literal(Expression expression, Expression filter) {
+            String value;
+            if (expression instanceof StringValue) {
+                value = ((StringValue) expression).getValue();
+            } else if (expression instanceof LongValue) {
+                value = ((LongValue) expression).getStringValue();
+            } else if (expression instanceof DoubleValue) {
+                value = expression.toString();
+            } else if (expression instanceof SignedExpression
+                    && (((SignedExpression) expression).getExpression() instanceof LongValue
+                            || ((SignedExpression) expression).getExpression()
+                                    instanceof DoubleValue)) {
+                value = expression.toString();
+            } else if (expression instanceof Column
+                    && ("true".equalsIgnoreCase(expression.toString())
+                            || "false".equalsIgnoreCase(expression.toString()))) {
+                value = expression.toString();
+            } else {
+                throw unsupported(filter);
+            }
+            try {
+                switch (type.getSqlType()) {
+                    case STRING:
+                        return value;
+                    case BOOLEAN:
+                        if (!"true".equalsIgnoreCase(value) && !"false".equalsIgnoreCase(value)) {
+                            throw new IllegalArgumentException(value + " is not a boolean");
+                        }
+                        return Boolean.valueOf(value);
+                    case TINYINT:
+                        return Byte.valueOf(value);
+                    case SMALLINT:
+                        return Short.valueOf(value);
+                    case INT:
+                        return Integer.valueOf(value);
+                    case BIGINT:
+                        return Long.valueOf(value);
+                    case FLOAT:
+                        return Float.valueOf(value);
+                    case DOUBLE:
+                        return Double.valueOf(value);
+                    case DECIMAL:
+                        return new BigDecimal(value);
+                    case DATE:
+                        return DateUtils.parse(value);
+                    case TIME:
+                        return LocalTime.parse(value);
+                    case TIMESTAMP:
+                        return DateTimeUtils.parse(value);
+                    default:
+                        throw new FileConnectorException(
+                                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                                String.format(
+                                        "Filter on column [%s] of type [%s] is not supported",
+                                        name, type));
+                }
+            } catch (RuntimeException e) {
+                if (e instanceof FileConnectorException) {
+                    throw e;
+                }
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "Convert [%s] in filter [%s] to the type [%s] of column [%s] failed",
+                                value, filter, type, name),
+                        e);
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class And extends FileSourceFilter {
+        private final List<FileSourceFilter> children;
+
+        @Override
+        public Boolean evaluate(SeaTunnelRow row) {
+            Boolean result = Boolean.TRUE;
+            for (FileSourceFilter child : children) {
+                Boolean value = child.evaluate(row);
+                if (Boolean.FALSE.equals(value)) {
+                    return Boolean.FALSE;
+                }
+                if (value == null) {
+                    result = null;
+                }
+            }
+            return result;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Or extends FileSourceFilter {
+        private final List<FileSourceFilter> children;
+
+        @Override
+        public Boolean evaluate(SeaTunnelRow row) {
+            Boolean result = Boolean.FALSE;
+            for (FileSourceFilter child : children) {
+                Boolean value = child.evaluate(row);
+                if (Boolean.TRUE.equals(value)) {
+                    return Boolean.TRUE;
+                }
+                if (value == null) {
+                    result = null;
+                }
+            }
+            return result;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Not extends FileSourceFilter {
+        private final FileSourceFilter child;
+
+        @Override
+        public Boolean evaluate(SeaTunnelRow row) {
+            Boolean value = child.evaluate(row);
+            return value == null ? null : !value;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class IsNull extends FileSourceFilter {
+        private final FilterColumn column;
+
+        @Override
+        public Boolean evaluate(SeaTunnelRow row) {
+            return row.getField(column.getIndex()) == null;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Comparison extends FileSourceFilter {
+        private final FilterColumn column;
+        private final Operator operator;
+        private final Object value;
+
+        @Override
+        public Boolean evaluate(SeaTunnelRow row) {
+            Object field = row.getField(column.getIndex());
+            if (field == null) {
+                return null;
+            }
+            Integer result = compare(field, value);
+            if (result == null) {
+                return null;
+            }
+            switch (operator) {
+                case EQ:
+                    return result == 0;
+                case NOT_EQ:
+                    return result != 0;
+                case LT:
+                    return result < 0;
+                case LT_EQ:
+                    return result <= 0;
+                case GT:
+                    return result > 0;
+                default:
+                    return result >= 0;
+            }
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class In extends FileSourceFilter {
+        private final FilterColumn column;
+        private final List<Object> values;
+
+        @Override
+        public Boolean evaluate(SeaTunnelRow row) {
+            Object field = row.getField(column.getIndex());
+            if (field == null) {
+                return null;
+            }
+            for (Object value : values) {
+                Integer result = compare(field, value);
+                if (result != null && result == 0) {
+                    return Boolean.TRUE;
+                }
+            }
+            return Boolean.FALSE;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.orc.storage.ql.io.sarg.SearchArgumentFactory;
+import org.apache.orc.storage.serde2.io.HiveDecimalWritable;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a {@link FileSourceFilter} to an orc {@link SearchArgument}, which lets the reader skip
+ * stripes and row groups by their statistics and bloom filters.
+ *
+ * <p>The search argument may keep more rows than the filter, but never less: parts of the filter on
+ * columns or types that can not be pushed down are left out where that only widens it.
+ */
+public class OrcFilterConverter {
+
+    private OrcFilterConverter() {}
+
+    /** Returns the search argument, or null if no part of the filter can be pushed down. */
+    public static SearchArgument convert(FileSourceFilter filter, TypeDescription fileSchema) {
+        if (!canConvert(filter, fileSchema, false)) {
+            return null;
+        }
+        SearchArgument.Builder builder = SearchArgumentFactory.newBuilder().startAnd();
+        build(builder, filter, fileSchema);
+        return builder.end().build();
+    }
+
+    /** @param exact whether the whole filter has to be converted, as the operand of a not has to */
+    private static boolean canConvert(
+            FileSourceFilter filter, TypeDescription fileSchema, boolean exact) {
+        if (filter instanceof FileSourceFilter.And) {
+            List<FileSourceFilter> children = ((FileSourceFilter.And) filter).getChildren();
+            return exact
+                    ? children.stream().allMatch(child -> canConvert(child, fileSchema, true))
+                    : children.stream().anyMatch(child -> canConvert(child, fileSchema, false));
+        } else if (filter instanceof FileSourceFilter.Or) {
+            return ((FileSourceFilter.Or) filter)
+                    .getChildren().stream().allMatch(child -> canConvert(child, fileSchema, exact));
+        } else if (filter instanceof FileSourceFilter.Not) {
+            return canConvert(((FileSourceFilter.Not) filter).getChild(), fileSchema, true);
+        }
+        return leafType(filter, fileSchema) != null;
+    }
+
+    /** Adds the convertible part of the filter to the builder. */
+    private static void build(
+            SearchArgument.Builder builder, FileSourceFilter filter, TypeDescription fileSchema) {
+        if (filter instanceof FileSourceFilter.And) {
+            builder.startAnd();
+            for (FileSourceFilter child : ((FileSourceFilter.And) filter).getChildren()) {
+                if (canConvert(child, fileSchema, false)) {
+                    build(builder, child, fileSchema);
+                }
+            }
+            builder.end();
+        } else if (filter instanceof FileSourceFilter.Or) {
+            builder.startOr();
+            for (FileSourceFilter child : ((FileSourceFilter.Or) filter).getChildren()) {
+                build(builder, child, fileSchema);
+            }
+            builder.end();
+        } else if (filter instanceof FileSourceFilter.Not) {
+            builder.startNot();
+            build(builder, ((FileSourceFilter.Not) filter).getChild(), fileSchema);
+            builder.end();
+        } else if (filter instanceof FileSourceFilter.IsNull) {
+            FileSourceFilter.FilterColumn column = ((FileSourceFilter.IsNull) filter).getColumn();
+            builder.isNull(column.getName(), leafType(filter, fileSchema));
+        } else if (filter instanceof FileSourceFilter.In) {
+            FileSourceFilter.In in = (FileSourceFilter.In) filter;
+            List<Object> values = new ArrayList<>();
+            for (Object value : in.getValues()) {
+                values.add(literal(value));
+            }
+            builder.in(in.getColumn().getName(), leafType(filter, fileSchema), values.toArray());
+        } else {
+            FileSourceFilter.Comparison comparison = (FileSourceFilter.Comparison) filter;
+            String name = comparison.getColumn().getName();
+            PredicateLeaf.Type type = leafType(filter, fileSchema);
+            Object value = literal(comparison.getValue());
+            switch (comparison.getOperator()) {
+                case EQ:
+                    builder.equals(name, type, value);
+                    break;
+                case NOT_EQ:
+                    builder.startNot().equals(name, type, value).end();
+                    break;
+                case LT:
+                    builder.lessThan(name, type, value);
+                    break;
+                case LT_EQ:
+                    builder.lessThanEquals(name, type, value);
+                    break;
+                case GT:
+                    builder.startNot().lessThanEquals(name, type, value).end();
+                    break;
+                default:
+                    builder.startNot().lessThan(name, type, value).end();
+            }
+        }
+    }
+
+    /**
+     * Returns the type of the leaf, or null if its column is not in the file or the type of the
+     * column is not supported. Timestamps are left out, as the statistics of orc 1.5 depend on the
+     * time zone of the writer, and so are chars, whose statistics contain the padding.
+     */
+    private static PredicateLeaf.Type leafType(
+            FileSourceFilter filter, TypeDescription fileSchema) {
+        FileSourceFilter.FilterColumn column;
+        if (filter instanceof FileSourceFilter.IsNull) {
+            column = ((FileSourceFilter.IsNull) filter).getColumn();
+        } else if (filter instanceof FileSourceFilter.Comparison) {
+            column = ((FileSourceFilter.Comparison) filter).getColumn();
+        } else {
+            column = ((FileSourceFilter.In) filter).getColumn();
+        }
+        int index = fileSchema.getFieldNames().indexOf(column.getName());
+        if (index < 0) {
+            return null;
+        }
+        TypeDescription.Category category = fileSchema.getChildren().get(index).getCategory();
+        switch (column.getType().getSqlType()) {
+            case BOOLEAN:
+                return category == TypeDescription.Category.BOOLEAN
+                        ? PredicateLeaf.Type.BOOLEAN
+                        : null;
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return category == TypeDescription.Category.BYTE
+                                || category == TypeDescription.Category.SHORT
+                                || category == TypeDescription.Category.INT
+                                || category == TypeDescription.Category.LONG
+                        ? PredicateLeaf.Type.LONG
+                        : null;
+            case FLOAT:
+            case DOUBLE:
+                return category == TypeDescription.Category.FLOAT
+                                || category == TypeDescription.Category.DOUBLE
+                        ? PredicateLeaf.Type.FLOAT
+                        : null;
+            case STRING:
+                return category == TypeDescription.Category.STRING
+                        ? PredicateLeaf.Type.STRING
+                        : null;
+            case DECIMAL:
+                return category == TypeDescription.Category.DECIMAL
+                        ? PredicateLeaf.Type.DECIMAL
+                        : null;
+            case DATE:
+                return category == TypeDescription.Category.DATE ? PredicateLeaf.Type.DATE : null;
+            default:
+                return null;
+        }
+    }
+
+    private static Object literal(Object value) {
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        }
+        if (value instanceof BigDecimal) {
+            return new HiveDecimalWritable(value.toString());
+        }
+        if (value instanceof LocalDate) {
+            return Date.valueOf((LocalDate) value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Converts a {@link FileSourceFilter} to a parquet {@link FilterPredicate}, which lets the reader
+ * skip row groups by their statistics, dictionaries and bloom filters.
+ *
+ * <p>The predicate may keep more rows than the filter, but never less: parts of the filter on
+ * columns or types that can not be pushed down are left out where that only widens the predicate.
+ */
+public class ParquetFilterConverter {
+
+    private ParquetFilterConverter() {}
+
+    /** Returns the predicate, or null if no part of the filter can be pushed down. */
+    public static FilterPredicate convert(FileSourceFilter filter, MessageType fileSchema) {
+        return convert(filter, fileSchema, false);
+    }
+
+    /**
+     * @param exact whether the result must match exactly the rows of the filter, as the operand of
+     *     a not has to
+     */
+    private static FilterPredicate convert(
+            FileSourceFilter filter, MessageType fileSchema, boolean exact) {
+        if (filter instanceof FileSourceFilter.And) {
+            FilterPredicate result = null;
+            for (FileSourceFilter child : ((FileSourceFilter.And) filter).getChildren()) {
+                FilterPredicate predicate = convert(child, fileSchema, exact);
+                if (predicate == null && exact) {
+                    return null;
+                }
+                if (predicate != null) {
+                    result = result == null ? predicate : FilterApi.and(result, predicate);
+                }
+            }
+            return result;
+        } else if (filter instanceof FileSourceFilter.Or) {
+            FilterPredicate result = null;
+            for (FileSourceFilter child : ((FileSourceFilter.Or) filter).getChildren()) {
+                FilterPredicate predicate = convert(child, fileSchema, exact);
+                if (predicate == null) {
+                    return null;
+                }
+                result = result == null ? predicate : FilterApi.or(result, predicate);
+            }
+            return result;
+        } else if (filter instanceof FileSourceFilter.Not) {
+            FilterPredicate predicate =
+                    convert(((FileSourceFilter.Not) filter).getChild(), fileSchema, true);
+            return predicate == null ? null : FilterApi.not(predicate);
+        }
+        return convertLeaf(filter, fileSchema);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static FilterPredicate convertLeaf(FileSourceFilter filter, MessageType fileSchema) {
+        FileSourceFilter.FilterColumn filterColumn;
+        if (filter instanceof FileSourceFilter.IsNull) {
+            filterColumn = ((FileSourceFilter.IsNull) filter).getColumn();
+        } else if (filter instanceof FileSourceFilter.Comparison) {
+            filterColumn = ((FileSourceFilter.Comparison) filter).getColumn();
+        } else {
+            filterColumn = ((FileSourceFilter.In) filter).getColumn();
+        }
+        String name = filterColumn.getName();
+        if (name.contains(".") || !fileSchema.containsField(name)) {
+            return null;
+        }
+        Type type = fileSchema.getType(name);
+        if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        PrimitiveType primitiveType = type.asPrimitiveType();
+        Operators.Column column = column(primitiveType);
+        if (column == null) {
+            return null;
+        }
+        if (filter instanceof FileSourceFilter.IsNull) {
+            return FilterApi.eq((Operators.Column & Operators.SupportsEqNotEq) column, null);
+        }
+        if (filter instanceof FileSourceFilter.In) {
+            Set<Comparable> values = new HashSet<>();
+            for (Object value : ((FileSourceFilter.In) filter).getValues()) {
+                Comparable converted = value(primitiveType, value);
+                if (converted == null) {
+                    return null;
+                }
+                values.add(converted);
+            }
+            return FilterApi.in((Operators.Column & Operators.SupportsEqNotEq) column, values);
+        }
+        FileSourceFilter.Comparison comparison = (FileSourceFilter.Comparison) filter;
+        Comparable value = value(primitiveType, comparison.getValue());
+        if (value == null) {
+            return null;
+        }
+        switch (comparison.getOperator()) {
+            case EQ:
+                return FilterApi.eq((Operators.Column & Operators.SupportsEqNotEq) column, value);
+            case NOT_EQ:
+                return FilterApi.notEq(
+                        (Operators.Column & Operators.SupportsEqNotEq) column, value);
+            default:
+                if (!(column instanceof Operators.SupportsLtGt)) {
+                    return null;
+                }
+        }
+        Operators.Column ltGtColumn = column;
+        switch (comparison.getOperator()) {
+            case LT:
+                return FilterApi.lt((Operators.Column & Operators.SupportsLtGt) ltGtColumn, value);
+            case LT_EQ:
+                return FilterApi.ltEq(
+                        (Operators.Column & Operators.SupportsLtGt) ltGtColumn, value);
+            case GT:
+                return FilterApi.gt((Operators.Column & Operators.SupportsLtGt) ltGtColumn, value);
+            default:
+                return FilterApi.gtEq(
+                        (Operators.Column & Operators.SupportsLtGt) ltGtColumn, value);
+        }
+    }
+
+    private static Operators.Column<?> column(PrimitiveType type) {
+        String name = type.getName();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return FilterApi.booleanColumn(name);
+            case INT32:
+                return FilterApi.intColumn(name);
+            case INT64:
+                return FilterApi.longColumn(name);
+            case FLOAT:
+                return FilterApi.floatColumn(name);
+            case DOUBLE:
+                return FilterApi.doubleColumn(name);
+            case BINARY:
+                return FilterApi.binaryColumn(name);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Converts the value of the filter to the physical type of the column, the same way the values
+     * of the column are converted when they are read, or returns null if it can not be converted.
+     */
+    @SuppressWarnings("rawtypes")
+    private static Comparable value(PrimitiveType type, Object value) {
+        LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return value instanceof Boolean ? (Boolean) value : null;
+            case INT32:
+                if (value instanceof LocalDate
+                        && annotation instanceof LogicalTypeAnnotation.DateLogicalTypeAnnotation) {
+                    return (int) ((LocalDate) value).toEpochDay();
+                }
+                if ((value instanceof Integer || value instanceof Short || value instanceof Byte)
+                        && (annotation == null
+                                || annotation
+                                        instanceof
+                                        LogicalTypeAnnotation.IntLogicalTypeAnnotation)) {
+                    return ((Number) value).intValue();
+                }
+                return null;
+            case INT64:
+                if (value instanceof Long
+                        && (annotation == null
+                                || annotation
+                                        instanceof
+                                        LogicalTypeAnnotation.IntLogicalTypeAnnotation)) {
+                    return (Long) value;
+                }
+                if (value instanceof LocalDateTime
+                        && annotation
+                                instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) {
+                    LogicalTypeAnnotation.TimestampLogicalTypeAnnotation timestamp =
+                            (LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation;
+                    if (timestamp.isAdjustedToUTC()
+                            && timestamp.getUnit() == LogicalTypeAnnotation.TimeUnit.MILLIS) {
+                        return ((LocalDateTime) value)
+                                .atZone(ZoneId.systemDefault())
+                                .toInstant()
+                                .toEpochMilli();
+                    }
+                }
+                return null;
+            case FLOAT:
+                return value instanceof Float ? (Float) value : null;
+            case DOUBLE:
+                return value instanceof Double ? (Double) value : null;
+            case BINARY:
+                if (value instanceof String
+                        && annotation
+                                instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation) {
+                    return Binary.fromString((String) value);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+}
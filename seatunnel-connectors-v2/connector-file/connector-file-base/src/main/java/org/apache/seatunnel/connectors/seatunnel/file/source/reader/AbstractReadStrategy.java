@@ -22,9 +22,14 @@ import org.apache.seatunnel.shade.com.typesafe.config.Config;
 import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.file.hadoop.HadoopFileSystemProxy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FileSourceFilter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.hadoop.fs.FileStatus;
 
@@ -32,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.Charset;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -66,6 +72,10 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
     protected List<String> readColumns = new ArrayList<>();
     protected boolean isMergePartition = true;
     protected long skipHeaderNumber = BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.defaultValue();
+    protected long fileSplitSize = BaseSourceConfigOptions.FILE_SPLIT_SIZE.defaultValue();
+    protected String filter;
+    private transient FileSourceFilter rowFilter;
+    private transient SeaTunnelRowType rowFilterType;
     protected transient boolean isKerberosAuthorization = false;
     protected HadoopFileSystemProxy hadoopFileSystemProxy;
 
@@ -133,6 +143,19 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
             skipHeaderNumber =
                     pluginConfig.getLong(BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key());
         }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key())) {
+            fileSplitSize = pluginConfig.getLong(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key());
+        }
+        if (pluginConfig.hasPath(BaseSourceConfigOptions.FILTER.key())) {
+            filter = pluginConfig.getString(BaseSourceConfigOptions.FILTER.key());
+            if (!isFilterSupported()) {
+                throw new FileConnectorException(
+                        CommonErrorCodeDeprecated.ILLEGAL_ARGUMENT,
+                        String.format(
+                                "The option '%s' is only supported for parquet and orc files",
+                                BaseSourceConfigOptions.FILTER.key()));
+            }
+        }
         if (pluginConfig.hasPath(BaseSourceConfigOptions.READ_PARTITIONS.key())) {
             readPartitions.addAll(
                     pluginConfig.getStringList(BaseSourceConfigOptions.READ_PARTITIONS.key()));
@@ -195,6 +218,58 @@ public abstract class AbstractReadStrategy implements ReadStrategy {
         return new SeaTunnelRowType(newFieldNames, newFieldTypes);
     }
 
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (fileSplitSize <= 0 || !isSplittable()) {
+            return ReadStrategy.super.getFileSplits(tableId, path);
+        }
+        long fileLength = hadoopFileSystemProxy.getFileStatus(path).getLen();
+        if (fileLength <= fileSplitSize) {
+            return ReadStrategy.super.getFileSplits(tableId, path);
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (long start = 0; start < fileLength; start += fileSplitSize) {
+            splits.add(
+                    new FileSourceSplit(
+                            tableId, path, start, Math.min(fileSplitSize, fileLength - start)));
+        }
+        return splits;
+    }
+
+    /**
+     * Returns the {@code filter} parsed against the row type read, or null if there is no filter.
+     */
+    protected FileSourceFilter getRowFilter() {
+        if (filter == null) {
+            return null;
+        }
+        SeaTunnelRowType rowType = getActualSeaTunnelRowTypeInfo();
+        if (rowFilter == null || rowFilterType != rowType) {
+            rowFilter = FileSourceFilter.parse(filter, rowType);
+            rowFilterType = rowType;
+        }
+        return rowFilter;
+    }
+
+    /** Whether rows are checked against the {@code filter} option, see {@link #getRowFilter()}. */
+    protected boolean isFilterSupported() {
+        return false;
+    }
+
+    /** Whether files can be read in byte ranges, see {@link LineRangeReader}. */
+    protected boolean isSplittable() {
+        return false;
+    }
+
+    /**
+     * Whether lines of uncompressed files in the encoding can be found by searching the bytes for
+     * line breaks.
+     */
+    protected static boolean isLineSplittable(CompressFormat compressFormat, String encoding) {
+        return compressFormat == CompressFormat.NONE
+                && Arrays.equals("\n".getBytes(Charset.forName(encoding)), new byte[] {'\n'});
+    }
+
     protected boolean filterFileByPattern(FileStatus fileStatus) {
         if (Objects.nonNull(pattern)) {
             return pattern.matcher(fileStatus.getPath().getName()).matches();
@@ -28,6 +28,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOpt
 import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.HadoopConf;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.json.JsonDeserializationSchema;
 
 import io.airlift.compress.lzo.LzopCodec;
@@ -37,6 +38,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
@@ -94,26 +96,56 @@ public class JsonReadStrategy extends AbstractReadStrategy {
         }
         try (BufferedReader reader =
                 new BufferedReader(new InputStreamReader(inputStream, encoding))) {
-            reader.lines()
-                    .forEach(
-                            line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(
-                                                    line.getBytes(StandardCharsets.UTF_8));
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    seaTunnelRow.setTableId(tableId);
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    throw CommonError.fileOperationFailed(
-                                            "JsonFile", "read", path, e);
-                                }
-                            });
+            reader.lines().forEach(line -> collectLine(line, path, partitionsMap, tableId, output));
+        }
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), tableId, output);
+            return;
+        }
+        String path = split.getFilePath();
+        Map<String, String> partitionsMap = parsePartitionsByPath(path);
+        try (LineRangeReader reader =
+                new LineRangeReader(
+                        hadoopFileSystemProxy.getInputStream(path),
+                        split.getStart(),
+                        split.getLength(),
+                        Charset.forName(encoding))) {
+            String line;
+            while ((line = reader.nextLine()) != null) {
+                collectLine(line, path, partitionsMap, tableId, output);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isSplittable() {
+        return isLineSplittable(compressFormat, encoding);
+    }
+
+    private void collectLine(
+            String line,
+            String path,
+            Map<String, String> partitionsMap,
+            String tableId,
+            Collector<SeaTunnelRow> output) {
+        try {
+            SeaTunnelRow seaTunnelRow =
+                    deserializationSchema.deserialize(line.getBytes(StandardCharsets.UTF_8));
+            if (isMergePartition) {
+                int index = seaTunnelRowType.getTotalFields();
+                for (String value : partitionsMap.values()) {
+                    seaTunnelRow.setField(index++, value);
+                }
+            }
+            seaTunnelRow.setTableId(tableId);
+            output.collect(seaTunnelRow);
+        } catch (IOException e) {
+            throw CommonError.fileOperationFailed("JsonFile", "read", path, e);
         }
     }
 
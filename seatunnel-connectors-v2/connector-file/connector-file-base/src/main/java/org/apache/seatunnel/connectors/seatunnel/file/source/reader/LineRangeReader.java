@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.hadoop.fs.FSDataInputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a byte range of a file. A line belongs to the range its first byte is in,
+ * except that a line starting right at the end of a range belongs to that range rather than the
+ * next one, so every range but the first skips the line it starts in, and every range reads the
+ * line that crosses its end to completion.
+ *
+ * <p>Lines end like in {@link java.io.BufferedReader#readLine()}, at {@code \n}, {@code \r} or
+ * {@code \r\n}, so that a file yields the same lines whether it is split or not.
+ */
+class LineRangeReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FSDataInputStream input;
+    private final Charset charset;
+    private final long end;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLimit;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+
+    // offset in the file of the next line
+    private long position;
+
+    LineRangeReader(FSDataInputStream input, long start, long length, Charset charset)
+            throws IOException {
+        this.input = input;
+        this.charset = charset;
+        this.end = start + length;
+        this.position = start;
+        if (start > 0) {
+            input.seek(start);
+            // the line started before, or right at, the start belongs to the previous range
+            readLine();
+        }
+    }
+
+    /** @return the next line without its line break, or {@code null} after the range. */
+    String nextLine() throws IOException {
+        if (position > end || !readLine()) {
+            return null;
+        }
+        return new String(line, 0, lineLength, charset);
+    }
+
+    /** Reads bytes up to the next line break into {@link #line}, false at the end of the file. */
+    private boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean read = false;
+        while (true) {
+            if (!fillBuffer()) {
+                return read;
+            }
+            read = true;
+            int lineStart = bufferPosition;
+            while (bufferPosition < bufferLimit
+                    && buffer[bufferPosition] != '\n'
+                    && buffer[bufferPosition] != '\r') {
+                bufferPosition++;
+            }
+            appendToLine(lineStart, bufferPosition - lineStart);
+            position += bufferPosition - lineStart;
+            if (bufferPosition < bufferLimit) {
+                // skip the line break, a \r\n counts as one
+                byte lineBreak = buffer[bufferPosition++];
+                position++;
+                if (lineBreak == '\r' && fillBuffer() && buffer[bufferPosition] == '\n') {
+                    bufferPosition++;
+                    position++;
+                }
+                return true;
+            }
+        }
+    }
+
+    /** Reads more bytes if the buffer is exhausted, false at the end of the file. */
+    private boolean fillBuffer() throws IOException {
+        if (bufferPosition < bufferLimit) {
+            return true;
+        }
+        bufferLimit = input.read(buffer, 0, BUFFER_SIZE);
+        bufferPosition = 0;
+        if (bufferLimit <= 0) {
+            bufferLimit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private void appendToLine(int offset, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        System.arraycopy(buffer, offset, line, lineLength, length);
+        lineLength += length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+}
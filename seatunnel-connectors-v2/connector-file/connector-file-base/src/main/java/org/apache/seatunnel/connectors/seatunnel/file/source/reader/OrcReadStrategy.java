@@ -33,6 +33,8 @@ import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FileSourceFilter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.OrcFilterConverter;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.hadoop.fs.FSDataInputStream;
@@ -53,6 +55,7 @@ import org.apache.orc.storage.ql.exec.vector.StructColumnVector;
 import org.apache.orc.storage.ql.exec.vector.TimestampColumnVector;
 import org.apache.orc.storage.ql.exec.vector.UnionColumnVector;
 import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -105,7 +108,17 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                 schema.addField(seaTunnelRowType.getFieldName(i), typeDescription);
             }
             List<TypeDescription> children = schema.getChildren();
-            RecordReader rows = reader.rows(reader.options().schema(schema));
+            Reader.Options options = reader.options().schema(schema);
+            FileSourceFilter rowFilter = getRowFilter();
+            if (rowFilter != null) {
+                SearchArgument searchArgument =
+                        OrcFilterConverter.convert(rowFilter, reader.getSchema());
+                if (searchArgument != null) {
+                    options.searchArgument(
+                            searchArgument, schema.getFieldNames().toArray(new String[0]));
+                }
+            }
+            RecordReader rows = reader.rows(options);
             VectorizedRowBatch rowBatch = schema.createRowBatch();
             while (rows.nextBatch(rowBatch)) {
                 int num = 0;
@@ -136,7 +149,9 @@ public class OrcReadStrategy extends AbstractReadStrategy {
                     }
                     SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
                     seaTunnelRow.setTableId(tableId);
-                    output.collect(seaTunnelRow);
+                    if (rowFilter == null || rowFilter.test(seaTunnelRow)) {
+                        output.collect(seaTunnelRow);
+                    }
                     num++;
                 }
             }
@@ -184,6 +199,8 @@ public class OrcReadStrategy extends AbstractReadStrategy {
             }
             seaTunnelRowType = new SeaTunnelRowType(fields, types);
             seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
+            // fail fast on a filter that does not fit the columns read
+            getRowFilter();
             return getActualSeaTunnelRowTypeInfo();
         } catch (IOException e) {
             String errorMsg = String.format("Create orc reader for this file [%s] failed", path);
@@ -845,4 +862,9 @@ public class OrcReadStrategy extends AbstractReadStrategy {
             return timestampList.toArray(TYPE_ARRAY_LOCAL_DATETIME);
         }
     }
+
+    @Override
+    protected boolean isFilterSupported() {
+        return true;
+    }
 }
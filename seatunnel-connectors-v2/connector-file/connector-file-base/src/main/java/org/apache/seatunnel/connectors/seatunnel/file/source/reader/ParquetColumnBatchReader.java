@@ -0,0 +1,282 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.api.source.Collector;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FileSourceFilter;
+
+import org.apache.parquet.VersionParser;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReaderImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.filter2.compat.RowGroupFilter.FilterLevel;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.io.api.PrimitiveConverter;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads flat parquet columns page by page into batches of {@link SeaTunnelRow}, without
+ * materializing an intermediate record per row. Each batch is filled one column at a time, which
+ * keeps the decoding of a column in a tight loop.
+ *
+ * <p>Only top level, non repeated primitive columns are supported, see {@link #create}. The values
+ * are the same as the ones {@link ParquetReadStrategy} resolves from avro records.
+ */
+class ParquetColumnBatchReader {
+    static final int BATCH_SIZE = 1024;
+
+    private static final PrimitiveConverter NO_OP_CONVERTER = new PrimitiveConverter() {};
+
+    private final MessageType requestedSchema;
+    private final ColumnDescriptor[] columns;
+    private final ValueReader[] valueReaders;
+
+    private ParquetColumnBatchReader(
+            MessageType requestedSchema, ColumnDescriptor[] columns, ValueReader[] valueReaders) {
+        this.requestedSchema = requestedSchema;
+        this.columns = columns;
+        this.valueReaders = valueReaders;
+    }
+
+    /**
+     * Creates a reader for the fields of the row type, or returns null if any of them can not be
+     * read column by column, in which case the file has to be read record by record.
+     */
+    static ParquetColumnBatchReader create(MessageType fileSchema, SeaTunnelRowType rowType) {
+        List<Type> fields = new ArrayList<>(rowType.getTotalFields());
+        ValueReader[] valueReaders = new ValueReader[rowType.getTotalFields()];
+        for (int i = 0; i < rowType.getTotalFields(); i++) {
+            String fieldName = rowType.getFieldName(i);
+            if (!fileSchema.containsField(fieldName)) {
+                return null;
+            }
+            Type type = fileSchema.getType(fieldName);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) {
+                return null;
+            }
+            valueReaders[i] = valueReader(type.asPrimitiveType(), rowType.getFieldType(i));
+            if (valueReaders[i] == null) {
+                return null;
+            }
+            fields.add(type);
+        }
+        MessageType requestedSchema = new MessageType(fileSchema.getName(), fields);
+        ColumnDescriptor[] columns =
+                requestedSchema.getColumns().toArray(new ColumnDescriptor[fields.size()]);
+        return new ParquetColumnBatchReader(requestedSchema, columns, valueReaders);
+    }
+
+    private static ValueReader valueReader(PrimitiveType type, SeaTunnelDataType<?> fieldType) {
+        LogicalTypeAnnotation annotation = type.getLogicalTypeAnnotation();
+        switch (type.getPrimitiveTypeName()) {
+            case BOOLEAN:
+                return ColumnReader::getBoolean;
+            case FLOAT:
+                return ColumnReader::getFloat;
+            case DOUBLE:
+                return ColumnReader::getDouble;
+            case INT32:
+                switch (fieldType.getSqlType()) {
+                    case INT:
+                        return ColumnReader::getInteger;
+                    case TINYINT:
+                        return reader -> (byte) reader.getInteger();
+                    case SMALLINT:
+                        return reader -> (short) reader.getInteger();
+                    case DATE:
+                        return reader -> LocalDate.ofEpochDay(reader.getInteger());
+                    case DECIMAL:
+                        int intScale = ((DecimalType) fieldType).getScale();
+                        return reader -> BigDecimal.valueOf(reader.getInteger(), intScale);
+                    default:
+                        return null;
+                }
+            case INT64:
+                if (annotation == null
+                        || annotation instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation) {
+                    return ColumnReader::getLong;
+                }
+                if (annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    int longScale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation)
+                                    .getScale();
+                    return reader -> BigDecimal.valueOf(reader.getLong(), longScale);
+                }
+                if (annotation instanceof LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) {
+                    LogicalTypeAnnotation.TimestampLogicalTypeAnnotation timestamp =
+                            (LogicalTypeAnnotation.TimestampLogicalTypeAnnotation) annotation;
+                    if (timestamp.isAdjustedToUTC()
+                            && timestamp.getUnit() == LogicalTypeAnnotation.TimeUnit.MILLIS) {
+                        return reader ->
+                                LocalDateTime.ofInstant(
+                                        Instant.ofEpochMilli(reader.getLong()),
+                                        ZoneId.systemDefault());
+                    }
+                }
+                return null;
+            case INT96:
+                return reader -> ParquetReadStrategy.int96ToLocalDateTime(reader.getBinary());
+            case BINARY:
+                if (annotation == null) {
+                    return reader -> reader.getBinary().getBytes();
+                }
+                if (annotation instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation) {
+                    return reader -> reader.getBinary().toStringUsingUTF8();
+                }
+                return null;
+            case FIXED_LEN_BYTE_ARRAY:
+                if (annotation instanceof LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) {
+                    int scale =
+                            ((LogicalTypeAnnotation.DecimalLogicalTypeAnnotation) annotation)
+                                    .getScale();
+                    return reader ->
+                            new BigDecimal(new BigInteger(reader.getBinary().getBytes()), scale);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Reads the row groups of the file reader. Row groups whose statistics or dictionaries don't
+     * match {@code filterPredicate} are skipped. The values in {@code partitionValues} are appended
+     * to every row, only rows matching the row filter are collected if there is one.
+     */
+    void read(
+            ParquetFileReader fileReader,
+            FilterPredicate filterPredicate,
+            List<String> partitionValues,
+            FileSourceFilter rowFilter,
+            String tableId,
+            Collector<SeaTunnelRow> output)
+            throws IOException {
+        fileReader.setRequestedSchema(requestedSchema);
+        VersionParser.ParsedVersion writerVersion = writerVersion(fileReader);
+        int arity = columns.length + partitionValues.size();
+        ColumnReader[] columnReaders = new ColumnReader[columns.length];
+        List<BlockMetaData> blocks = new ArrayList<>(fileReader.getRowGroups());
+        Set<BlockMetaData> matchingBlocks = matchingBlocks(fileReader, blocks, filterPredicate);
+        for (BlockMetaData block : blocks) {
+            if (!matchingBlocks.contains(block)) {
+                fileReader.skipNextRowGroup();
+                continue;
+            }
+            PageReadStore rowGroup = fileReader.readNextRowGroup();
+            for (int i = 0; i < columns.length; i++) {
+                columnReaders[i] =
+                        new ColumnReaderImpl(
+                                columns[i],
+                                rowGroup.getPageReader(columns[i]),
+                                NO_OP_CONVERTER,
+                                writerVersion);
+            }
+            long remaining = rowGroup.getRowCount();
+            while (remaining > 0) {
+                int batchSize = (int) Math.min(BATCH_SIZE, remaining);
+                Object[][] batch = new Object[batchSize][];
+                for (int row = 0; row < batchSize; row++) {
+                    Object[] fields = new Object[arity];
+                    for (int i = 0; i < partitionValues.size(); i++) {
+                        fields[columns.length + i] = partitionValues.get(i);
+                    }
+                    batch[row] = fields;
+                }
+                for (int i = 0; i < columns.length; i++) {
+                    readColumn(columnReaders[i], i, batch);
+                }
+                for (Object[] fields : batch) {
+                    SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
+                    seaTunnelRow.setTableId(tableId);
+                    if (rowFilter == null || rowFilter.test(seaTunnelRow)) {
+                        output.collect(seaTunnelRow);
+                    }
+                }
+                remaining -= batchSize;
+            }
+        }
+    }
+
+    private static Set<BlockMetaData> matchingBlocks(
+            ParquetFileReader fileReader,
+            List<BlockMetaData> blocks,
+            FilterPredicate filterPredicate) {
+        Set<BlockMetaData> matchingBlocks = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (filterPredicate == null) {
+            matchingBlocks.addAll(blocks);
+        } else {
+            matchingBlocks.addAll(
+                    RowGroupFilter.filterRowGroups(
+                            Arrays.asList(FilterLevel.STATISTICS, FilterLevel.DICTIONARY),
+                            FilterCompat.get(filterPredicate),
+                            blocks,
+                            fileReader));
+        }
+        return matchingBlocks;
+    }
+
+    private void readColumn(ColumnReader columnReader, int column, Object[][] batch) {
+        ValueReader valueReader = valueReaders[column];
+        int maxDefinitionLevel = columns[column].getMaxDefinitionLevel();
+        for (Object[] fields : batch) {
+            if (columnReader.getCurrentDefinitionLevel() == maxDefinitionLevel) {
+                fields[column] = valueReader.read(columnReader);
+            }
+            columnReader.consume();
+        }
+    }
+
+    private static VersionParser.ParsedVersion writerVersion(ParquetFileReader fileReader) {
+        try {
+            return VersionParser.parse(fileReader.getFileMetaData().getCreatedBy());
+        } catch (RuntimeException | VersionParser.VersionParseException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(ColumnReader reader);
+    }
+}
@@ -33,6 +33,9 @@ import org.apache.seatunnel.common.exception.CommonError;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FileSourceFilter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.ParquetFilterConverter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 
 import org.apache.avro.Conversions;
 import org.apache.avro.data.TimeConversions;
@@ -41,10 +44,15 @@ import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.util.Utf8;
 import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.avro.AvroParquetReader;
 import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
 import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
 import org.apache.parquet.hadoop.metadata.ParquetMetadata;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
@@ -58,6 +66,7 @@ import org.apache.parquet.schema.Type;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -65,6 +74,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +95,13 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
     @Override
     public void read(String path, String tableId, Collector<SeaTunnelRow> output)
             throws FileConnectorException, IOException {
+        read(new FileSourceSplit(tableId, path), tableId, output);
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        String path = split.getFilePath();
         if (Boolean.FALSE.equals(checkFileType(path))) {
             String errorMsg =
                     String.format(
@@ -98,16 +115,62 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 hadoopFileSystemProxy.doWithHadoopAuth(
                         (configuration, userGroupInformation) ->
                                 HadoopInputFile.fromPath(filePath, configuration));
+        ParquetReadOptions.Builder readOptions =
+                HadoopReadOptions.builder(hadoopInputFile.getConfiguration());
+        if (!split.isWholeFile()) {
+            // row groups whose midpoint falls in the range belong to the split
+            readOptions.withRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        FileSourceFilter rowFilter = getRowFilter();
+        FilterPredicate filterPredicate = null;
+        // one footer read: the filter is converted with its schema and prunes its row groups
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(hadoopInputFile, readOptions.build())) {
+            MessageType fileSchema = reader.getFileMetaData().getSchema();
+            if (rowFilter != null) {
+                filterPredicate = ParquetFilterConverter.convert(rowFilter, fileSchema);
+            }
+            ParquetColumnBatchReader columnBatchReader =
+                    ParquetColumnBatchReader.create(fileSchema, seaTunnelRowType);
+            if (columnBatchReader != null) {
+                List<String> partitionValues =
+                        isMergePartition
+                                ? new ArrayList<>(partitionsMap.values())
+                                : Collections.emptyList();
+                columnBatchReader.read(
+                        reader, filterPredicate, partitionValues, rowFilter, tableId, output);
+                return;
+            }
+        }
+        readRecords(
+                hadoopInputFile, split, filterPredicate, rowFilter, partitionsMap, tableId, output);
+    }
+
+    private void readRecords(
+            HadoopInputFile hadoopInputFile,
+            FileSourceSplit split,
+            FilterPredicate filterPredicate,
+            FileSourceFilter rowFilter,
+            Map<String, String> partitionsMap,
+            String tableId,
+            Collector<SeaTunnelRow> output)
+            throws IOException {
         int fieldsCount = seaTunnelRowType.getTotalFields();
         GenericData dataModel = new GenericData();
         dataModel.addLogicalTypeConversion(new Conversions.DecimalConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.DateConversion());
         dataModel.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
         GenericRecord record;
-        try (ParquetReader<GenericData.Record> reader =
+        ParquetReader.Builder<GenericData.Record> builder =
                 AvroParquetReader.<GenericData.Record>builder(hadoopInputFile)
-                        .withDataModel(dataModel)
-                        .build()) {
+                        .withDataModel(dataModel);
+        if (!split.isWholeFile()) {
+            builder.withFileRange(split.getStart(), split.getStart() + split.getLength());
+        }
+        if (filterPredicate != null) {
+            builder.withFilter(FilterCompat.get(filterPredicate));
+        }
+        try (ParquetReader<GenericData.Record> reader = builder.build()) {
             while ((record = reader.read()) != null) {
                 Object[] fields;
                 if (isMergePartition) {
@@ -125,7 +188,9 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 }
                 SeaTunnelRow seaTunnelRow = new SeaTunnelRow(fields);
                 seaTunnelRow.setTableId(tableId);
-                output.collect(seaTunnelRow);
+                if (rowFilter == null || rowFilter.test(seaTunnelRow)) {
+                    output.collect(seaTunnelRow);
+                }
             }
         }
     }
@@ -184,12 +249,18 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                                         resolveObject(key, keyType),
                                         resolveObject(value, valueType)));
                 return dataMap;
+            case DECIMAL:
+                if (field instanceof Integer || field instanceof Long) {
+                    // INT32 and INT64 decimals are read as their unscaled value
+                    return BigDecimal.valueOf(
+                            ((Number) field).longValue(), ((DecimalType) fieldType).getScale());
+                }
+                return field;
             case BOOLEAN:
             case INT:
             case BIGINT:
             case FLOAT:
             case DOUBLE:
-            case DECIMAL:
             case DATE:
                 return field;
             case STRING:
@@ -207,15 +278,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 return bytes;
             case TIMESTAMP:
                 if (field instanceof GenericData.Fixed) {
-                    Binary binary =
-                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes());
-                    NanoTime nanoTime = NanoTime.fromBinary(binary);
-                    int julianDay = nanoTime.getJulianDay();
-                    long nanosOfDay = nanoTime.getTimeOfDayNanos();
-                    long timestamp =
-                            (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
-                                    + nanosOfDay / NANOS_PER_MILLISECOND;
-                    return new Timestamp(timestamp).toLocalDateTime();
+                    return int96ToLocalDateTime(
+                            Binary.fromConstantByteArray(((GenericData.Fixed) field).bytes()));
                 }
                 Instant instant = Instant.ofEpochMilli((long) field);
                 return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
@@ -236,6 +300,53 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    static LocalDateTime int96ToLocalDateTime(Binary binary) {
+        NanoTime nanoTime = NanoTime.fromBinary(binary);
+        int julianDay = nanoTime.getJulianDay();
+        long nanosOfDay = nanoTime.getTimeOfDayNanos();
+        long timestamp =
+                (julianDay - JULIAN_DAY_NUMBER_FOR_UNIX_EPOCH) * MILLIS_PER_DAY
+                        + nanosOfDay / NANOS_PER_MILLISECOND;
+        return new Timestamp(timestamp).toLocalDateTime();
+    }
+
+    /**
+     * Cuts files larger than {@code file_split_size} at row group boundaries, every split covers
+     * consecutive row groups of at least {@code file_split_size} bytes.
+     */
+    @Override
+    public List<FileSourceSplit> getFileSplits(String tableId, String path) throws IOException {
+        if (fileSplitSize <= 0) {
+            return super.getFileSplits(tableId, path);
+        }
+        List<BlockMetaData> rowGroups;
+        try (ParquetFileReader reader =
+                hadoopFileSystemProxy.doWithHadoopAuth(
+                        ((configuration, userGroupInformation) ->
+                                ParquetFileReader.open(
+                                        HadoopInputFile.fromPath(
+                                                new Path(path), configuration))))) {
+            rowGroups = reader.getRowGroups();
+        }
+        List<FileSourceSplit> splits = new ArrayList<>();
+        long start = -1;
+        for (int i = 0; i < rowGroups.size(); i++) {
+            BlockMetaData rowGroup = rowGroups.get(i);
+            if (start < 0) {
+                start = rowGroup.getStartingPos();
+            }
+            long end = rowGroup.getStartingPos() + rowGroup.getCompressedSize();
+            if (end - start >= fileSplitSize || i == rowGroups.size() - 1) {
+                splits.add(new FileSourceSplit(tableId, path, start, end - start));
+                start = -1;
+            }
+        }
+        if (splits.size() <= 1) {
+            return super.getFileSplits(tableId, path);
+        }
+        return splits;
+    }
+
     @Override
     public SeaTunnelRowType getSeaTunnelRowTypeInfo(String path) throws FileConnectorException {
         return getSeaTunnelRowTypeInfo(TablePath.DEFAULT, path);
@@ -281,6 +392,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                 });
         seaTunnelRowType = new SeaTunnelRowType(fields, types);
         seaTunnelRowTypeWithPartition = mergePartitionTypes(path, seaTunnelRowType);
+        // fail fast on a filter that does not fit the columns read
+        getRowFilter();
         return getActualSeaTunnelRowTypeInfo();
     }
 
@@ -299,6 +412,8 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                             return BasicType.SHORT_TYPE;
                         case DATE:
                             return LocalTimeType.LOCAL_DATE_TYPE;
+                        case DECIMAL:
+                            return decimalType(type);
                         default:
                             throw CommonError.convertToSeaTunnelTypeError(
                                     PARQUET, type.toString(), name);
@@ -307,6 +422,9 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
                     if (type.asPrimitiveType().getOriginalType() == OriginalType.TIMESTAMP_MILLIS) {
                         return LocalTimeType.LOCAL_DATE_TIME_TYPE;
                     }
+                    if (type.asPrimitiveType().getOriginalType() == OriginalType.DECIMAL) {
+                        return decimalType(type);
+                    }
                     return BasicType.LONG_TYPE;
                 case INT96:
                     return LocalTimeType.LOCAL_DATE_TIME_TYPE;
@@ -401,6 +519,13 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
         }
     }
 
+    private static DecimalType decimalType(Type type) {
+        LogicalTypeAnnotation.DecimalLogicalTypeAnnotation decimal =
+                (LogicalTypeAnnotation.DecimalLogicalTypeAnnotation)
+                        type.getLogicalTypeAnnotation();
+        return new DecimalType(decimal.getPrecision(), decimal.getScale());
+    }
+
     @Override
     boolean checkFileType(String path) {
         boolean checkResult;
@@ -418,4 +543,9 @@ public class ParquetReadStrategy extends AbstractReadStrategy {
             throw new FileConnectorException(FileConnectorErrorCode.FILE_TYPE_INVALID, errorMsg);
         }
     }
+
+    @Override
+    protected boolean isFilterSupported() {
+        return true;
+    }
 }
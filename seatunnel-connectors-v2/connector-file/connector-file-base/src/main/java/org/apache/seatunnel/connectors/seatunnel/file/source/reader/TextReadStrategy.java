@@ -33,6 +33,7 @@ import org.apache.seatunnel.connectors.seatunnel.file.config.CompressFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.config.FileFormat;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorErrorCode;
 import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
 import org.apache.seatunnel.format.text.TextDeserializationSchema;
 import org.apache.seatunnel.format.text.constant.TextFormatConstant;
 import org.apache.seatunnel.format.text.splitor.CsvLineSplitor;
@@ -46,6 +47,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Optional;
@@ -88,47 +90,78 @@ public class TextReadStrategy extends AbstractReadStrategy {
                 new BufferedReader(new InputStreamReader(inputStream, encoding))) {
             reader.lines()
                     .skip(skipHeaderNumber)
-                    .forEach(
-                            line -> {
-                                try {
-                                    SeaTunnelRow seaTunnelRow =
-                                            deserializationSchema.deserialize(
-                                                    line.getBytes(StandardCharsets.UTF_8));
-                                    if (!readColumns.isEmpty()) {
-                                        // need column projection
-                                        Object[] fields;
-                                        if (isMergePartition) {
-                                            fields =
-                                                    new Object
-                                                            [readColumns.size()
-                                                                    + partitionsMap.size()];
-                                        } else {
-                                            fields = new Object[readColumns.size()];
-                                        }
-                                        for (int i = 0; i < indexes.length; i++) {
-                                            fields[i] = seaTunnelRow.getField(indexes[i]);
-                                        }
-                                        seaTunnelRow = new SeaTunnelRow(fields);
-                                    }
-                                    if (isMergePartition) {
-                                        int index = seaTunnelRowType.getTotalFields();
-                                        for (String value : partitionsMap.values()) {
-                                            seaTunnelRow.setField(index++, value);
-                                        }
-                                    }
-                                    seaTunnelRow.setTableId(tableId);
-                                    output.collect(seaTunnelRow);
-                                } catch (IOException e) {
-                                    String errorMsg =
-                                            String.format(
-                                                    "Deserialize this data [%s] failed, please check the origin data",
-                                                    line);
-                                    throw new FileConnectorException(
-                                            FileConnectorErrorCode.DATA_DESERIALIZE_FAILED,
-                                            errorMsg,
-                                            e);
-                                }
-                            });
+                    .forEach(line -> collectLine(line, partitionsMap, tableId, output));
+        }
+    }
+
+    @Override
+    public void read(FileSourceSplit split, String tableId, Collector<SeaTunnelRow> output)
+            throws FileConnectorException, IOException {
+        if (split.isWholeFile()) {
+            read(split.getFilePath(), tableId, output);
+            return;
+        }
+        Map<String, String> partitionsMap = parsePartitionsByPath(split.getFilePath());
+        try (LineRangeReader reader =
+                new LineRangeReader(
+                        hadoopFileSystemProxy.getInputStream(split.getFilePath()),
+                        split.getStart(),
+                        split.getLength(),
+                        Charset.forName(encoding))) {
+            String line;
+            // the header rows are at the start of the first split
+            for (long i = 0; split.getStart() == 0 && i < skipHeaderNumber; i++) {
+                if (reader.nextLine() == null) {
+                    return;
+                }
+            }
+            while ((line = reader.nextLine()) != null) {
+                collectLine(line, partitionsMap, tableId, output);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isSplittable() {
+        return isLineSplittable(compressFormat, encoding);
+    }
+
+    private void collectLine(
+            String line,
+            Map<String, String> partitionsMap,
+            String tableId,
+            Collector<SeaTunnelRow> output) {
+        try {
+            SeaTunnelRow seaTunnelRow =
+                    deserializationSchema.deserialize(line.getBytes(StandardCharsets.UTF_8));
+            if (!readColumns.isEmpty()) {
+                // need column projection
+                Object[] fields;
+                if (isMergePartition) {
+                    fields = new Object[readColumns.size() + partitionsMap.size()];
+                } else {
+                    fields = new Object[readColumns.size()];
+                }
+                for (int i = 0; i < indexes.length; i++) {
+                    fields[i] = seaTunnelRow.getField(indexes[i]);
+                }
+                seaTunnelRow = new SeaTunnelRow(fields);
+            }
+            if (isMergePartition) {
+                int index = seaTunnelRowType.getTotalFields();
+                for (String value : partitionsMap.values()) {
+                    seaTunnelRow.setField(index++, value);
+                }
+            }
+            seaTunnelRow.setTableId(tableId);
+            output.collect(seaTunnelRow);
+        } catch (IOException e) {
+            String errorMsg =
+                    String.format(
+                            "Deserialize this data [%s] failed, please check the origin data",
+                            line);
+            throw new FileConnectorException(
+                    FileConnectorErrorCode.DATA_DESERIALIZE_FAILED, errorMsg, e);
         }
     }
 
@@ -26,24 +26,41 @@ public class FileSourceSplit implements SourceSplit {
 
     @Getter private final String tableId;
     @Getter private final String filePath;
+    /** The offset of the first byte of the split in the file. */
+    @Getter private final long start;
+    /**
+     * The number of bytes of the split, 0 if the split covers the whole file, as splits restored
+     * from states before byte ranges were added do.
+     */
+    @Getter private final long length;
 
     public FileSourceSplit(String splitId) {
-        this.filePath = splitId;
-        this.tableId = null;
+        this(null, splitId);
     }
 
     public FileSourceSplit(String tableId, String filePath) {
+        this(tableId, filePath, 0, 0);
+    }
+
+    public FileSourceSplit(String tableId, String filePath, long start, long length) {
         this.tableId = tableId;
         this.filePath = filePath;
+        this.start = start;
+        this.length = length;
+    }
+
+    public boolean isWholeFile() {
+        return length <= 0;
     }
 
     @Override
     public String splitId() {
         // In order to be compatible with the split before the upgrade, when tableId is null,
         // filePath is directly returned
-        if (tableId == null) {
-            return filePath;
+        String splitId = tableId == null ? filePath : tableId + "_" + filePath;
+        if (isWholeFile()) {
+            return splitId;
         }
-        return tableId + "_" + filePath;
+        return splitId + "@" + start;
     }
 }
@@ -18,6 +18,8 @@
 package org.apache.seatunnel.connectors.seatunnel.file.source.split;
 
 import org.apache.seatunnel.api.source.SourceSplitEnumerator;
+import org.apache.seatunnel.common.exception.CommonError;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ReadStrategy;
 import org.apache.seatunnel.connectors.seatunnel.file.source.state.FileSourceState;
 
 import org.slf4j.Logger;
@@ -39,19 +41,24 @@ public class FileSourceSplitEnumerator
     private final Set<FileSourceSplit> pendingSplit = new HashSet<>();
     private Set<FileSourceSplit> assignedSplit;
     private final List<String> filePaths;
+    private final ReadStrategy readStrategy;
 
     public FileSourceSplitEnumerator(
-            SourceSplitEnumerator.Context<FileSourceSplit> context, List<String> filePaths) {
+            SourceSplitEnumerator.Context<FileSourceSplit> context,
+            List<String> filePaths,
+            ReadStrategy readStrategy) {
         this.context = context;
         this.filePaths = filePaths;
+        this.readStrategy = readStrategy;
         this.assignedSplit = new HashSet<>();
     }
 
     public FileSourceSplitEnumerator(
             SourceSplitEnumerator.Context<FileSourceSplit> context,
             List<String> filePaths,
+            ReadStrategy readStrategy,
             FileSourceState sourceState) {
-        this(context, filePaths);
+        this(context, filePaths, readStrategy);
         this.assignedSplit = sourceState.getAssignedSplit();
     }
 
@@ -70,7 +77,13 @@ public class FileSourceSplitEnumerator
 
     private Set<FileSourceSplit> discoverySplits() {
         Set<FileSourceSplit> fileSourceSplits = new HashSet<>();
-        filePaths.forEach(k -> fileSourceSplits.add(new FileSourceSplit(k)));
+        for (String filePath : filePaths) {
+            try {
+                fileSourceSplits.addAll(readStrategy.getFileSplits(null, filePath));
+            } catch (IOException e) {
+                throw CommonError.fileOperationFailed("SeaTunnel", "split", filePath, e);
+            }
+        }
         return fileSourceSplits;
     }
 
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.filter;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+
+import org.apache.orc.TypeDescription;
+import org.apache.orc.storage.ql.io.sarg.SearchArgument;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class FileSourceFilterTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "price", "dt", "flag", "part"},
+                    new SeaTunnelDataType<?>[] {
+                        BasicType.LONG_TYPE,
+                        BasicType.STRING_TYPE,
+                        new DecimalType(10, 2),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.STRING_TYPE
+                    });
+
+    private static SeaTunnelRow row(Long id, String name, String price, String dt, Boolean flag) {
+        return new SeaTunnelRow(
+                new Object[] {
+                    id,
+                    name,
+                    price == null ? null : new BigDecimal(price),
+                    dt == null ? null : LocalDate.parse(dt),
+                    flag,
+                    "p1"
+                });
+    }
+
+    @Test
+    public void testEvaluate() {
+        SeaTunnelRow row = row(5L, "a", "1.50", "2024-01-02", true);
+        Assertions.assertTrue(FileSourceFilter.parse("id = 5", ROW_TYPE).test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("5 <= id", ROW_TYPE).test(row));
+        Assertions.assertFalse(FileSourceFilter.parse("5 < id", ROW_TYPE).test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("id > -1 and id <> 6", ROW_TYPE).test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("price = 1.5", ROW_TYPE).test(row));
+        Assertions.assertTrue(
+                FileSourceFilter.parse("dt between '2024-01-01' and '2024-01-31'", ROW_TYPE)
+                        .test(row));
+        Assertions.assertFalse(
+                FileSourceFilter.parse("dt not between '2024-01-01' and '2024-01-31'", ROW_TYPE)
+                        .test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("name in ('b', 'a')", ROW_TYPE).test(row));
+        Assertions.assertFalse(FileSourceFilter.parse("name not in ('a')", ROW_TYPE).test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("flag = true", ROW_TYPE).test(row));
+        Assertions.assertTrue(
+                FileSourceFilter.parse("`part` = 'p1' and (id = 1 or name = 'a')", ROW_TYPE)
+                        .test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("not (id = 1)", ROW_TYPE).test(row));
+    }
+
+    @Test
+    public void testEvaluateNull() {
+        SeaTunnelRow row = row(null, null, null, null, null);
+        Assertions.assertTrue(FileSourceFilter.parse("id is null", ROW_TYPE).test(row));
+        Assertions.assertFalse(FileSourceFilter.parse("id is not null", ROW_TYPE).test(row));
+        // comparisons with null are unknown, and so are their negations
+        Assertions.assertFalse(FileSourceFilter.parse("id = 1", ROW_TYPE).test(row));
+        Assertions.assertFalse(FileSourceFilter.parse("not (id = 1)", ROW_TYPE).test(row));
+        Assertions.assertFalse(FileSourceFilter.parse("id not in (1)", ROW_TYPE).test(row));
+        Assertions.assertTrue(FileSourceFilter.parse("id = 1 or id is null", ROW_TYPE).test(row));
+        Assertions.assertFalse(FileSourceFilter.parse("id = 1 or part = 'p2'", ROW_TYPE).test(row));
+    }
+
+    @Test
+    public void testParseError() {
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> FileSourceFilter.parse("unknown = 1", ROW_TYPE));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FileSourceFilter.parse("id = 'a'", ROW_TYPE));
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> FileSourceFilter.parse("id like 'a%'", ROW_TYPE));
+        Assertions.assertThrows(
+                FileConnectorException.class, () -> FileSourceFilter.parse("id = ", ROW_TYPE));
+    }
+
+    @Test
+    public void testConvertToParquetPredicate() {
+        MessageType schema =
+                MessageTypeParser.parseMessageType(
+                        "message test { optional int64 id; optional binary name (STRING);"
+                                + " optional fixed_len_byte_array(5) price (DECIMAL(10,2));"
+                                + " optional int32 dt (DATE); optional boolean flag; }");
+        FilterPredicate predicate =
+                ParquetFilterConverter.convert(
+                        FileSourceFilter.parse(
+                                "id >= 10 and dt < '1970-01-11' and price = 1 and part = 'p1'",
+                                ROW_TYPE),
+                        schema);
+        Assertions.assertEquals("and(gteq(id, 10), lt(dt, 10))", predicate.toString());
+
+        predicate =
+                ParquetFilterConverter.convert(
+                        FileSourceFilter.parse("not (id = 1 and part = 'p1')", ROW_TYPE), schema);
+        Assertions.assertNull(predicate);
+
+        predicate =
+                ParquetFilterConverter.convert(
+                        FileSourceFilter.parse("id = 1 or name is null", ROW_TYPE), schema);
+        Assertions.assertEquals("or(eq(id, 1), eq(name, null))", predicate.toString());
+
+        predicate =
+                ParquetFilterConverter.convert(
+                        FileSourceFilter.parse("id = 1 or part = 'p1'", ROW_TYPE), schema);
+        Assertions.assertNull(predicate);
+    }
+
+    @Test
+    public void testConvertToOrcSearchArgument() {
+        TypeDescription schema =
+                TypeDescription.fromString(
+                        "struct<id:bigint,name:char(5),price:decimal(10,2),dt:date,flag:boolean>");
+        SearchArgument searchArgument =
+                OrcFilterConverter.convert(
+                        FileSourceFilter.parse(
+                                "id > 10 and price <= 1.5 and name = 'a' and part = 'p1'",
+                                ROW_TYPE),
+                        schema);
+        Assertions.assertEquals(
+                "leaf-0 = (LESS_THAN_EQUALS id 10), leaf-1 = (LESS_THAN_EQUALS price 1.5),"
+                        + " expr = (and (not leaf-0) leaf-1)",
+                searchArgument.toString());
+
+        Assertions.assertNull(
+                OrcFilterConverter.convert(
+                        FileSourceFilter.parse("name = 'a' or id = 1", ROW_TYPE), schema));
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.source.reader;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest.TestCollector;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.NanoTime;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class ParquetReadStrategySplitTest {
+
+    private static final int ROWS = 5000;
+
+    private static final int TYPED_ROWS = 2500;
+
+    private static final String TYPED_COLUMNS =
+            "  optional int32 c_tinyint (INT_8);\n"
+                    + "  optional int32 c_smallint (INT_16);\n"
+                    + "  optional int32 c_date (DATE);\n"
+                    + "  optional int96 c_int96;\n"
+                    + "  optional int64 c_timestamp (TIMESTAMP_MILLIS);\n"
+                    + "  optional int32 c_decimal_int (DECIMAL(9,2));\n"
+                    + "  optional int64 c_decimal_long (DECIMAL(18,4));\n"
+                    + "  optional fixed_len_byte_array(16) c_decimal_fixed (DECIMAL(38,10));\n"
+                    + "  optional binary c_bytes;\n"
+                    + "  optional binary c_string (UTF8);\n";
+
+    private static final int TYPED_FIELDS = 10;
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testReadRowGroupSplitsOfFlatFile() throws Exception {
+        String schema =
+                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"},"
+                        + "{\"name\":\"name\",\"type\":[\"null\",\"string\"]},{\"name\":\"salary\",\"type\":\"double\"}]}";
+        File file = writeFile(schema, false);
+        List<List<Object>> wholeFile = readSplits(file, 0, 1);
+        Assertions.assertEquals(ROWS, wholeFile.size());
+        for (int i = 0; i < ROWS; i++) {
+            Assertions.assertEquals(
+                    Arrays.asList(i, i % 10 == 0 ? null : "name-" + i, i * 1.5d), wholeFile.get(i));
+        }
+        Assertions.assertEquals(wholeFile, readSplits(file, 4096, 2));
+        Assertions.assertEquals(wholeFile, readSplits(file, file.length(), 1));
+    }
+
+    @Test
+    public void testReadRowGroupSplitsOfNestedFile() throws Exception {
+        String schema =
+                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"int\"},"
+                        + "{\"name\":\"skills\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}]}";
+        File file = writeFile(schema, true);
+        List<List<Object>> wholeFile = readSplits(file, 0, 1);
+        Assertions.assertEquals(ROWS, wholeFile.size());
+        Assertions.assertEquals(wholeFile, readSplits(file, 4096, 2));
+    }
+
+    @Test
+    public void testColumnAndRecordReadsConvertValuesAlike() throws Exception {
+        MessageType flatSchema =
+                MessageTypeParser.parseMessageType("message test {\n" + TYPED_COLUMNS + "}");
+        File flatFile = writeTypedFile("flat.parquet", flatSchema, false);
+        Assertions.assertNotNull(
+                ParquetColumnBatchReader.create(flatSchema, readRowType(flatFile)));
+
+        MessageType nestedSchema =
+                MessageTypeParser.parseMessageType(
+                        "message test {\n"
+                                + TYPED_COLUMNS
+                                + "  optional group c_list (LIST) {\n"
+                                + "    repeated binary array (UTF8);\n"
+                                + "  }\n"
+                                + "}");
+        File nestedFile = writeTypedFile("nested.parquet", nestedSchema, true);
+        Assertions.assertNull(
+                ParquetColumnBatchReader.create(nestedSchema, readRowType(nestedFile)));
+
+        List<List<Object>> columnRows = readSplits(flatFile, 0, 1);
+        List<List<Object>> recordRows = readSplits(nestedFile, 0, 1);
+        Assertions.assertEquals(TYPED_ROWS, columnRows.size());
+        Assertions.assertEquals(TYPED_ROWS, recordRows.size());
+        for (int i = 0; i < TYPED_ROWS; i++) {
+            List<Object> expected = expectedTypedRow(i);
+            Assertions.assertEquals(expected, columnRows.get(i), "column read of row " + i);
+            Assertions.assertEquals(
+                    expected,
+                    recordRows.get(i).subList(0, TYPED_FIELDS),
+                    "record read of row " + i);
+        }
+    }
+
+    private File writeTypedFile(String name, MessageType schema, boolean nested)
+            throws Exception {
+        File file = tempDir.resolve(name).toFile();
+        SimpleGroupFactory factory = new SimpleGroupFactory(schema);
+        try (ParquetWriter<Group> writer =
+                ExampleParquetWriter.builder(new org.apache.hadoop.fs.Path(file.getPath()))
+                        .withType(schema)
+                        .withConf(new Configuration())
+                        .build()) {
+            for (int i = 0; i < TYPED_ROWS; i++) {
+                Group group = factory.newGroup();
+                if (!isNull(i, 0)) {
+                    group.append("c_tinyint", tinyint(i));
+                }
+                if (!isNull(i, 1)) {
+                    group.append("c_smallint", smallint(i));
+                }
+                if (!isNull(i, 2)) {
+                    group.append("c_date", (int) epochDay(i));
+                }
+                if (!isNull(i, 3)) {
+                    group.append(
+                            "c_int96",
+                            new NanoTime((int) (2440588 + epochDay(i)), nanosOfDay(i)).toBinary());
+                }
+                if (!isNull(i, 4)) {
+                    group.append("c_timestamp", epochMillis(i));
+                }
+                if (!isNull(i, 5)) {
+                    group.append("c_decimal_int", i * 37 - 10000);
+                }
+                if (!isNull(i, 6)) {
+                    group.append("c_decimal_long", i * 1000003L - 7);
+                }
+                if (!isNull(i, 7)) {
+                    group.append("c_decimal_fixed", Binary.fromConstantByteArray(fixed(i)));
+                }
+                if (!isNull(i, 8)) {
+                    group.append("c_bytes", Binary.fromConstantByteArray(bytes(i)));
+                }
+                if (!isNull(i, 9)) {
+                    group.append("c_string", "string-" + i);
+                }
+                if (nested) {
+                    group.addGroup("c_list").append("array", "element-" + i);
+                }
+                writer.write(group);
+            }
+        }
+        return file;
+    }
+
+    private static List<Object> expectedTypedRow(int i) {
+        Object[] fields = {
+            (byte) tinyint(i),
+            (short) smallint(i),
+            LocalDate.ofEpochDay(epochDay(i)),
+            new Timestamp(epochDay(i) * 86400000L + nanosOfDay(i) / 1000000).toLocalDateTime(),
+            LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis(i)), ZoneId.systemDefault()),
+            BigDecimal.valueOf(i * 37 - 10000, 2),
+            BigDecimal.valueOf(i * 1000003L - 7, 4),
+            new BigDecimal(fixedUnscaled(i), 10),
+            ByteBuffer.wrap(bytes(i)),
+            "string-" + i
+        };
+        for (int field = 0; field < fields.length; field++) {
+            if (isNull(i, field)) {
+                fields[field] = null;
+            }
+        }
+        return Arrays.asList(fields);
+    }
+
+    /** Every column is null on its own rows, so each converter sees nulls between values. */
+    private static boolean isNull(int row, int field) {
+        return (row + field) % 7 == 0;
+    }
+
+    private static int tinyint(int i) {
+        return i % 256 - 128;
+    }
+
+    private static int smallint(int i) {
+        return i * 13 - 16000;
+    }
+
+    private static long epochDay(int i) {
+        return 18000L + i;
+    }
+
+    private static long nanosOfDay(int i) {
+        return (i % 86400) * 1000000000L + 123456789L;
+    }
+
+    private static long epochMillis(int i) {
+        return 1600000000000L + i * 1001L;
+    }
+
+    private static BigInteger fixedUnscaled(int i) {
+        return BigInteger.valueOf(i - 1000).multiply(BigInteger.TEN.pow(20)).add(BigInteger.ONE);
+    }
+
+    private static byte[] fixed(int i) {
+        byte[] unscaled = fixedUnscaled(i).toByteArray();
+        byte[] bytes = new byte[16];
+        Arrays.fill(bytes, 0, bytes.length - unscaled.length, unscaled[0] < 0 ? (byte) -1 : 0);
+        System.arraycopy(
+                unscaled, 0, bytes, bytes.length - unscaled.length, unscaled.length);
+        return bytes;
+    }
+
+    private static byte[] bytes(int i) {
+        return ("bytes-" + i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private File writeFile(String schemaString, boolean nested) throws Exception {
+        Schema schema = new Schema.Parser().parse(schemaString);
+        File file = tempDir.resolve("test.parquet").toFile();
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(
+                                new org.apache.hadoop.fs.Path(file.getPath()))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .withRowGroupSize(4096)
+                        .build()) {
+            for (int i = 0; i < ROWS; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                if (nested) {
+                    record.put("skills", Arrays.asList("skill-" + i, "skill-" + (i + 1)));
+                } else {
+                    record.put("name", i % 10 == 0 ? null : "name-" + i);
+                    record.put("salary", i * 1.5d);
+                }
+                writer.write(record);
+            }
+        }
+        return file;
+    }
+
+    private SeaTunnelRowType readRowType(File file) throws Exception {
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            return readStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+        }
+    }
+
+    private List<List<Object>> readSplits(File file, long splitSize, int minSplits)
+            throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put(BaseSourceConfigOptions.FILE_PATH.key(), file.getPath());
+        options.put(BaseSourceConfigOptions.FILE_FORMAT_TYPE.key(), "parquet");
+        options.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), splitSize);
+        Config pluginConfig = ConfigFactory.parseMap(options);
+        List<List<Object>> rows = new ArrayList<>();
+        try (ParquetReadStrategy readStrategy = new ParquetReadStrategy()) {
+            readStrategy.setPluginConfig(pluginConfig);
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            readStrategy.getFileNamesByPath(file.getPath());
+            readStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+            List<FileSourceSplit> splits = readStrategy.getFileSplits(null, file.getPath());
+            Assertions.assertTrue(splits.size() >= minSplits, "split size " + splitSize);
+            if (minSplits == 1) {
+                Assertions.assertEquals(1, splits.size());
+            }
+            for (FileSourceSplit split : splits) {
+                TestCollector collector = new TestCollector();
+                readStrategy.read(split, "", collector);
+                for (SeaTunnelRow row : collector.getRows()) {
+                    List<Object> fields = new ArrayList<>();
+                    for (Object field : row.getFields()) {
+                        if (field instanceof Object[]) {
+                            fields.add(Arrays.asList((Object[]) field));
+                        } else if (field instanceof byte[]) {
+                            fields.add(ByteBuffer.wrap((byte[]) field));
+                        } else {
+                            fields.add(field);
+                        }
+                    }
+                    rows.add(fields);
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,261 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.exception.FileConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.FileSourceFilter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.OrcFilterConverter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.filter.ParquetFilterConverter;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.AbstractReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ExcelReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.JsonReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.OrcReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.ParquetReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.XmlReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest.TestCollector;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.orc.OrcFile;
+import org.apache.orc.Reader;
+import org.apache.orc.RecordReader;
+import org.apache.orc.TypeDescription;
+import org.apache.orc.Writer;
+import org.apache.orc.storage.ql.exec.vector.BytesColumnVector;
+import org.apache.orc.storage.ql.exec.vector.LongColumnVector;
+import org.apache.orc.storage.ql.exec.vector.VectorizedRowBatch;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class ReadStrategyFilterTest {
+
+    private static final int ROWS = 5000;
+    private static final String FILTER =
+            "(id >= 1000 and id < 1010 or id = 4321) and name <> 'name-1003'";
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testParquetFilter() throws Exception {
+        File file = tempDir.resolve("test.parquet").toFile();
+        String schemaString =
+                "{\"type\":\"record\",\"name\":\"User\",\"fields\":[{\"name\":\"id\",\"type\":\"long\"},"
+                        + "{\"name\":\"name\",\"type\":[\"null\",\"string\"]},"
+                        + "{\"name\":\"skills\",\"type\":{\"type\":\"array\",\"items\":\"string\"}}]}";
+        Schema schema = new Schema.Parser().parse(schemaString);
+        try (ParquetWriter<GenericRecord> writer =
+                AvroParquetWriter.<GenericRecord>builder(
+                                new org.apache.hadoop.fs.Path(file.getPath()))
+                        .withSchema(schema)
+                        .withConf(new Configuration())
+                        .withRowGroupSize(4096)
+                        .build()) {
+            for (long i = 0; i < ROWS; i++) {
+                GenericRecord record = new GenericData.Record(schema);
+                record.put("id", i);
+                record.put("name", "name-" + i);
+                record.put("skills", Arrays.asList("skill-" + i));
+                writer.write(record);
+            }
+        }
+
+        // flat columns are read column by column, nested ones through avro records
+        Assertions.assertEquals(
+                expectedIds(),
+                readIds(new ParquetReadStrategy(), file, "parquet", Arrays.asList("id", "name")));
+        Assertions.assertEquals(
+                expectedIds(), readIds(new ParquetReadStrategy(), file, "parquet", null));
+
+        try (ParquetFileReader reader =
+                ParquetFileReader.open(
+                        HadoopInputFile.fromPath(
+                                new org.apache.hadoop.fs.Path(file.getPath()),
+                                new Configuration()))) {
+            int rowGroups = reader.getRowGroups().size();
+            ParquetReadStrategy readStrategy = new ParquetReadStrategy();
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            FileSourceFilter filter =
+                    FileSourceFilter.parse(
+                            FILTER, readStrategy.getSeaTunnelRowTypeInfo(file.getPath()));
+            try (ParquetFileReader filteredReader =
+                    ParquetFileReader.open(
+                            HadoopInputFile.fromPath(
+                                    new org.apache.hadoop.fs.Path(file.getPath()),
+                                    new Configuration()),
+                            HadoopReadOptions.builder(new Configuration())
+                                    .withRecordFilter(
+                                            FilterCompat.get(
+                                                    ParquetFilterConverter.convert(
+                                                            filter,
+                                                            reader.getFileMetaData().getSchema())))
+                                    .build())) {
+                Assertions.assertTrue(rowGroups > 4);
+                Assertions.assertTrue(filteredReader.getRowGroups().size() <= 4);
+            }
+        }
+    }
+
+    @Test
+    public void testOrcFilter() throws Exception {
+        File file = tempDir.resolve("test.orc").toFile();
+        TypeDescription schema = TypeDescription.fromString("struct<id:bigint,name:string>");
+        try (Writer writer =
+                OrcFile.createWriter(
+                        new org.apache.hadoop.fs.Path(file.getPath()),
+                        OrcFile.writerOptions(new Configuration())
+                                .setSchema(schema)
+                                .rowIndexStride(1000))) {
+            VectorizedRowBatch batch = schema.createRowBatch();
+            LongColumnVector id = (LongColumnVector) batch.cols[0];
+            BytesColumnVector name = (BytesColumnVector) batch.cols[1];
+            for (int i = 0; i < ROWS; i++) {
+                int row = batch.size++;
+                id.vector[row] = i;
+                name.setVal(row, ("name-" + i).getBytes(StandardCharsets.UTF_8));
+                if (batch.size == batch.getMaxSize()) {
+                    writer.addRowBatch(batch);
+                    batch.reset();
+                }
+            }
+            writer.addRowBatch(batch);
+        }
+
+        Assertions.assertEquals(
+                expectedIds(),
+                readIds(new OrcReadStrategy(), file, "orc", Arrays.asList("id", "name")));
+        Assertions.assertEquals(expectedIds(), readIds(new OrcReadStrategy(), file, "orc", null));
+        // the filter is evaluated on the rows read, so it can only refer to columns read
+        Assertions.assertThrows(
+                FileConnectorException.class,
+                () -> readIds(new OrcReadStrategy(), file, "orc", Arrays.asList("id")));
+
+        OrcReadStrategy readStrategy = new OrcReadStrategy();
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        FileSourceFilter filter =
+                FileSourceFilter.parse(
+                        FILTER, readStrategy.getSeaTunnelRowTypeInfo(file.getPath()));
+        Reader reader =
+                OrcFile.createReader(
+                        new org.apache.hadoop.fs.Path(file.getPath()),
+                        OrcFile.readerOptions(new Configuration()));
+        long rows = 0;
+        try (RecordReader recordReader =
+                reader.rows(
+                        reader.options()
+                                .searchArgument(
+                                        OrcFilterConverter.convert(filter, reader.getSchema()),
+                                        new String[] {"id", "name"}))) {
+            VectorizedRowBatch batch = reader.getSchema().createRowBatch();
+            while (recordReader.nextBatch(batch)) {
+                rows += batch.size;
+            }
+        }
+        // only the row groups of 1000 rows containing the ids are read
+        Assertions.assertEquals(2000, rows);
+    }
+
+    @Test
+    public void testRejectFilterOfUnsupportedFormats() {
+        Config pluginConfig =
+                ConfigFactory.parseMap(
+                        Collections.singletonMap(BaseSourceConfigOptions.FILTER.key(), FILTER));
+        for (AbstractReadStrategy readStrategy :
+                Arrays.asList(
+                        new TextReadStrategy(),
+                        new JsonReadStrategy(),
+                        new XmlReadStrategy(),
+                        new ExcelReadStrategy())) {
+            FileConnectorException exception =
+                    Assertions.assertThrows(
+                            FileConnectorException.class,
+                            () -> readStrategy.setPluginConfig(pluginConfig));
+            Assertions.assertTrue(
+                    exception.getMessage().contains("only supported for parquet and orc"),
+                    exception.getMessage());
+        }
+    }
+
+    private static List<Long> expectedIds() {
+        List<Long> ids =
+                IntStream.range(1000, 1010)
+                        .filter(i -> i != 1003)
+                        .mapToObj(i -> (long) i)
+                        .collect(Collectors.toList());
+        ids.add(4321L);
+        return ids;
+    }
+
+    private static List<Long> readIds(
+            AbstractReadStrategy readStrategy, File file, String format, List<String> columns)
+            throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put(BaseSourceConfigOptions.FILE_PATH.key(), file.getPath());
+        options.put(BaseSourceConfigOptions.FILE_FORMAT_TYPE.key(), format);
+        options.put(BaseSourceConfigOptions.FILTER.key(), FILTER);
+        if (columns != null) {
+            options.put(BaseSourceConfigOptions.READ_COLUMNS.key(), columns);
+        }
+        Config pluginConfig = ConfigFactory.parseMap(options);
+        List<Long> ids = new ArrayList<>();
+        try {
+            readStrategy.setPluginConfig(pluginConfig);
+            readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+            readStrategy.getFileNamesByPath(file.getPath());
+            readStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+            TestCollector collector = new TestCollector();
+            readStrategy.read(file.getPath(), "", collector);
+            for (SeaTunnelRow row : collector.getRows()) {
+                ids.add((Long) row.getField(0));
+            }
+        } finally {
+            readStrategy.close();
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.file.writer;
+
+import org.apache.seatunnel.shade.com.typesafe.config.Config;
+import org.apache.seatunnel.shade.com.typesafe.config.ConfigFactory;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.file.config.BaseSourceConfigOptions;
+import org.apache.seatunnel.connectors.seatunnel.file.source.reader.TextReadStrategy;
+import org.apache.seatunnel.connectors.seatunnel.file.source.split.FileSourceSplit;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest.LocalConf;
+import org.apache.seatunnel.connectors.seatunnel.file.writer.ParquetReadStrategyTest.TestCollector;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hadoop.fs.CommonConfigurationKeysPublic.FS_DEFAULT_NAME_DEFAULT;
+
+public class TextReadStrategySplitTest {
+
+    @TempDir private Path tempDir;
+
+    @Test
+    public void testReadSplitsOfFile() throws Exception {
+        List<String> lines = new ArrayList<>();
+        StringBuilder content = new StringBuilder("header\n");
+        for (int i = 0; i < 200; i++) {
+            String line = "line-" + i + "-" + "测试".substring(0, i % 3);
+            lines.add(line);
+            content.append(line).append(i % 5 == 0 ? "\r\n" : "\n");
+        }
+        File file = tempDir.resolve("test.txt").toFile();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        for (long splitSize : new long[] {1, 7, 64, 1000, file.length()}) {
+            List<FileSourceSplit> splits = new ArrayList<>();
+            List<String> readLines = new ArrayList<>();
+            try (TextReadStrategy readStrategy = createReadStrategy(file, splitSize)) {
+                splits.addAll(readStrategy.getFileSplits(null, file.getPath()));
+                for (FileSourceSplit split : splits) {
+                    TestCollector collector = new TestCollector();
+                    readStrategy.read(split, "", collector);
+                    for (SeaTunnelRow row : collector.getRows()) {
+                        readLines.add((String) row.getField(0));
+                    }
+                }
+            }
+            Assertions.assertEquals(
+                    (file.length() + splitSize - 1) / splitSize, splits.size(), "" + splitSize);
+            Assertions.assertEquals(lines, readLines, "split size " + splitSize);
+        }
+    }
+
+    @Test
+    public void testReadSplitsWithMixedLineBreaks() throws Exception {
+        String[] lineBreaks = {"\n", "\r", "\r\n"};
+        StringBuilder content = new StringBuilder("header\r");
+        for (int i = 0; i < 100; i++) {
+            content.append("line-").append(i).append(lineBreaks[i % lineBreaks.length]);
+        }
+        File file = tempDir.resolve("mixed.txt").toFile();
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        List<String> expected = new ArrayList<>();
+        try (TextReadStrategy readStrategy = createReadStrategy(file, file.length())) {
+            TestCollector collector = new TestCollector();
+            readStrategy.read(file.getPath(), "", collector);
+            for (SeaTunnelRow row : collector.getRows()) {
+                expected.add((String) row.getField(0));
+            }
+        }
+        Assertions.assertEquals(100, expected.size());
+
+        for (long splitSize : new long[] {1, 2, 5, 13, file.length()}) {
+            List<String> readLines = new ArrayList<>();
+            try (TextReadStrategy readStrategy = createReadStrategy(file, splitSize)) {
+                for (FileSourceSplit split : readStrategy.getFileSplits(null, file.getPath())) {
+                    TestCollector collector = new TestCollector();
+                    readStrategy.read(split, "", collector);
+                    for (SeaTunnelRow row : collector.getRows()) {
+                        readLines.add((String) row.getField(0));
+                    }
+                }
+            }
+            Assertions.assertEquals(expected, readLines, "split size " + splitSize);
+        }
+    }
+
+    private TextReadStrategy createReadStrategy(File file, long splitSize) throws Exception {
+        Map<String, Object> options = new HashMap<>();
+        options.put(BaseSourceConfigOptions.FILE_PATH.key(), file.getPath());
+        options.put(BaseSourceConfigOptions.FILE_FORMAT_TYPE.key(), "text");
+        options.put(BaseSourceConfigOptions.SKIP_HEADER_ROW_NUMBER.key(), 1);
+        options.put(BaseSourceConfigOptions.FILE_SPLIT_SIZE.key(), splitSize);
+        Config pluginConfig = ConfigFactory.parseMap(options);
+        TextReadStrategy readStrategy = new TextReadStrategy();
+        readStrategy.setPluginConfig(pluginConfig);
+        readStrategy.init(new LocalConf(FS_DEFAULT_NAME_DEFAULT));
+        readStrategy.getFileNamesByPath(file.getPath());
+        readStrategy.getSeaTunnelRowTypeInfo(file.getPath());
+        return readStrategy;
+    }
+}
@@ -70,6 +70,8 @@ public class CosFileSourceFactory implements TableSourceFactory {
                 .optional(BaseSourceConfigOptions.DATETIME_FORMAT)
                 .optional(BaseSourceConfigOptions.TIME_FORMAT)
                 .optional(BaseSourceConfigOptions.FILE_FILTER_PATTERN)
+                .optional(BaseSourceConfigOptions.FILE_SPLIT_SIZE)
+                .optional(BaseSourceConfigOptions.FILTER)
                 .optional(BaseSourceConfigOptions.COMPRESS_CODEC)
                 .build();
     }
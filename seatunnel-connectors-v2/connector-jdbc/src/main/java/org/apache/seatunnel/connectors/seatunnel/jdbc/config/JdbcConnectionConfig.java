@@ -41,6 +41,8 @@ public class JdbcConnectionConfig implements Serializable {
 
     public int batchSize = JdbcOptions.BATCH_SIZE.defaultValue();
 
+    public int maxInFlightBatches = JdbcOptions.MAX_IN_FLIGHT_BATCHES.defaultValue();
+
     public String xaDataSourceClassName;
 
     public int maxCommitAttempts = JdbcOptions.MAX_COMMIT_ATTEMPTS.defaultValue();
@@ -66,11 +68,14 @@ public class JdbcConnectionConfig implements Serializable {
         builder.maxRetries(config.get(JdbcOptions.MAX_RETRIES));
         builder.connectionCheckTimeoutSeconds(config.get(JdbcOptions.CONNECTION_CHECK_TIMEOUT_SEC));
         builder.batchSize(config.get(JdbcOptions.BATCH_SIZE));
+        builder.maxInFlightBatches(config.get(JdbcOptions.MAX_IN_FLIGHT_BATCHES));
         if (config.get(JdbcOptions.IS_EXACTLY_ONCE)) {
             builder.xaDataSourceClassName(config.get(JdbcOptions.XA_DATA_SOURCE_CLASS_NAME));
             builder.maxCommitAttempts(config.get(JdbcOptions.MAX_COMMIT_ATTEMPTS));
             builder.transactionTimeoutSec(config.get(JdbcOptions.TRANSACTION_TIMEOUT_SEC));
             builder.maxRetries(0);
+            // the XA transaction of a checkpoint is bound to the writer thread
+            builder.maxInFlightBatches(0);
         }
         if (config.get(JdbcOptions.USE_KERBEROS)) {
             builder.useKerberos(config.get(JdbcOptions.USE_KERBEROS));
@@ -120,6 +125,10 @@ public class JdbcConnectionConfig implements Serializable {
         return batchSize;
     }
 
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public String getXaDataSourceClassName() {
         return xaDataSourceClassName;
     }
@@ -152,6 +161,7 @@ public class JdbcConnectionConfig implements Serializable {
         private String query;
         private boolean autoCommit = JdbcOptions.AUTO_COMMIT.defaultValue();
         private int batchSize = JdbcOptions.BATCH_SIZE.defaultValue();
+        private int maxInFlightBatches = JdbcOptions.MAX_IN_FLIGHT_BATCHES.defaultValue();
         private String xaDataSourceClassName;
         private int maxCommitAttempts = JdbcOptions.MAX_COMMIT_ATTEMPTS.defaultValue();
         private int transactionTimeoutSec = JdbcOptions.TRANSACTION_TIMEOUT_SEC.defaultValue();
@@ -213,6 +223,11 @@ public class JdbcConnectionConfig implements Serializable {
             return this;
         }
 
+        public Builder maxInFlightBatches(int maxInFlightBatches) {
+            this.maxInFlightBatches = maxInFlightBatches;
+            return this;
+        }
+
         public Builder xaDataSourceClassName(String xaDataSourceClassName) {
             this.xaDataSourceClassName = xaDataSourceClassName;
             return this;
@@ -256,6 +271,7 @@ public class JdbcConnectionConfig implements Serializable {
         public JdbcConnectionConfig build() {
             JdbcConnectionConfig jdbcConnectionConfig = new JdbcConnectionConfig();
             jdbcConnectionConfig.batchSize = this.batchSize;
+            jdbcConnectionConfig.maxInFlightBatches = this.maxInFlightBatches;
             jdbcConnectionConfig.driverName = this.driverName;
             jdbcConnectionConfig.compatibleMode = this.compatibleMode;
             jdbcConnectionConfig.maxRetries = this.maxRetries;
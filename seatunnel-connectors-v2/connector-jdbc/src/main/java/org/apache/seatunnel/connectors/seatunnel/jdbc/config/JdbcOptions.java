@@ -21,6 +21,7 @@ import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.sink.DataSaveMode;
 import org.apache.seatunnel.api.sink.SchemaSaveMode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.BulkInsertModeEnum;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.FieldIdeEnum;
 
 import java.math.BigDecimal;
@@ -81,6 +82,14 @@ public interface JdbcOptions {
     Option<Integer> BATCH_SIZE =
             Options.key("batch_size").intType().defaultValue(1000).withDescription("batch size");
 
+    Option<Integer> MAX_IN_FLIGHT_BATCHES =
+            Options.key("max_in_flight_batches")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of full batches written to the database in the background while the writer fills the next batch. "
+                                    + "Zero writes each batch on the writer thread. Not supported when is_exactly_once is true.");
+
     Option<Integer> FETCH_SIZE =
             Options.key("fetch_size")
                     .intType()
@@ -157,6 +166,14 @@ public interface JdbcOptions {
                     .defaultValue(false)
                     .withDescription("support copy in statement (postgresql)");
 
+    Option<BulkInsertModeEnum> BULK_INSERT_MODE =
+            Options.key("bulk_insert_mode")
+                    .enumType(BulkInsertModeEnum.class)
+                    .defaultValue(BulkInsertModeEnum.NONE)
+                    .withDescription(
+                            "Write plain inserts as multi-row VALUES statements (MULTI_VALUES) or "
+                                    + "stream them with LOAD DATA LOCAL INFILE (LOAD_DATA, mysql)");
+
     /** source config */
     Option<String> PARTITION_COLUMN =
             Options.key("partition_column")
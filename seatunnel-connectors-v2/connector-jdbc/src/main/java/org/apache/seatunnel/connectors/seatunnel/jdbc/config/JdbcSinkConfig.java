@@ -18,6 +18,7 @@
 package org.apache.seatunnel.connectors.seatunnel.jdbc.config;
 
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.BulkInsertModeEnum;
 
 import lombok.Builder;
 import lombok.Data;
@@ -44,6 +45,7 @@ public class JdbcSinkConfig implements Serializable {
     @Builder.Default private boolean isPrimaryKeyUpdated = true;
     private boolean supportUpsertByInsertOnly;
     private boolean useCopyStatement;
+    @Builder.Default private BulkInsertModeEnum bulkInsertMode = BulkInsertModeEnum.NONE;
 
     public static JdbcSinkConfig of(ReadonlyConfig config) {
         JdbcSinkConfigBuilder builder = JdbcSinkConfig.builder();
@@ -57,6 +59,7 @@ public class JdbcSinkConfig implements Serializable {
         builder.supportUpsertByInsertOnly(config.get(SUPPORT_UPSERT_BY_INSERT_ONLY));
         builder.simpleSql(config.get(JdbcOptions.QUERY));
         builder.useCopyStatement(config.get(JdbcOptions.USE_COPY_STATEMENT));
+        builder.bulkInsertMode(config.get(JdbcOptions.BULK_INSERT_MODE));
         return builder.build();
     }
 }
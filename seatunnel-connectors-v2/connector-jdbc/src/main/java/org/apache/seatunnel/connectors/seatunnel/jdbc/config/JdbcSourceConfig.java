@@ -35,6 +35,7 @@ public class JdbcSourceConfig implements Serializable {
     private String whereConditionClause;
     public String compatibleMode;
     private int fetchSize;
+    private int splitReadBatchSize;
 
     private boolean useDynamicSplitter;
     private int splitSize;
@@ -56,6 +57,7 @@ public class JdbcSourceConfig implements Serializable {
         builder.useDynamicSplitter(isOldVersion ? false : true);
 
         builder.splitSize(config.get(JdbcSourceOptions.SPLIT_SIZE));
+        builder.splitReadBatchSize(config.get(JdbcSourceOptions.SPLIT_READ_BATCH_SIZE));
         builder.splitEvenDistributionFactorUpperBound(
                 config.get(JdbcSourceOptions.SPLIT_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND));
         builder.splitEvenDistributionFactorLowerBound(
@@ -51,6 +51,16 @@ public interface JdbcSourceOptions {
                     .withDescription(
                             "The split size (number of rows) of table snapshot, captured tables are split into multiple splits when read     of table.");
 
+    Option<Integer> SPLIT_READ_BATCH_SIZE =
+            Options.key("split.read-batch-size")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of rows emitted at once from a split with an integral, decimal or temporal split key. When"
+                                    + " it is > 0 the rows of such a split are read in the order of the split key, and a checkpoint"
+                                    + " taken between two batches records the last emitted key, so a restored split continues after it."
+                                    + " The default 0 reads every split at once without ordering it.");
+
     Option<Double> SPLIT_EVEN_DISTRIBUTION_FACTOR_UPPER_BOUND =
             Options.key("split.even-distribution.factor.upper-bound")
                     .doubleType()
@@ -42,6 +42,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * InputFormat to read data from a database and generate Rows. The InputFormat has to be configured
@@ -62,6 +63,14 @@ public class JdbcInputFormat implements Serializable {
     private transient TableSchema splitTableSchema;
     private transient PreparedStatement statement;
     private transient ResultSet resultSet;
+    // column of the split key in the result set of a resumable split, 0 otherwise
+    private transient int splitKeyColumn;
+    // field of the split key in the converted rows of a resumable split
+    private transient int splitKeyField;
+    // the split key of the last row as returned by the driver, to compare it with the next row
+    private transient Object lastSplitKeyValue;
+    // the split key of the last row as the SeaTunnel type of the split key
+    private transient Object lastSplitKey;
     private volatile boolean hasNext;
 
     public JdbcInputFormat(JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
@@ -97,6 +106,17 @@ public class JdbcInputFormat implements Serializable {
 
             statement = chunkSplitter.generateSplitStatement(inputSplit, splitTableSchema);
             resultSet = statement.executeQuery();
+            if (chunkSplitter.isResumable(inputSplit, splitTableSchema)) {
+                splitKeyColumn = resultSet.findColumn(inputSplit.getSplitKeyName());
+                splitKeyField =
+                        splitTableSchema
+                                .toPhysicalRowDataType()
+                                .indexOf(inputSplit.getSplitKeyName());
+            } else {
+                splitKeyColumn = 0;
+            }
+            lastSplitKeyValue = null;
+            lastSplitKey = inputSplit.getResumeKey();
             hasNext = resultSet.next();
         } catch (SQLException se) {
             throw new JdbcConnectorException(
@@ -137,6 +157,36 @@ public class JdbcInputFormat implements Serializable {
         return !hasNext;
     }
 
+    /** @see ChunkSplitter#isResumable(JdbcSourceSplit, TableSchema) */
+    public boolean isResumable(JdbcSourceSplit split) {
+        return chunkSplitter.isResumable(
+                split, tables.get(split.getTablePath()).getTableSchema());
+    }
+
+    /**
+     * The split key of the last record of a resumable split, converted like the split key field of
+     * the record so that it can be kept in the split state.
+     */
+    public Object getLastSplitKey() {
+        return lastSplitKey;
+    }
+
+    /**
+     * Checks whether the next record of a resumable split has the same split key as the last one, a
+     * split can only be resumed between records with different keys.
+     */
+    public boolean nextRecordHasLastSplitKey() {
+        try {
+            return hasNext
+                    && Objects.equals(resultSet.getObject(splitKeyColumn), lastSplitKeyValue);
+        } catch (SQLException se) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                    "Couldn't read split key - " + se.getMessage(),
+                    se);
+        }
+    }
+
     /** Convert a row of data to seatunnelRow */
     public SeaTunnelRow nextRecord() {
         try {
@@ -146,6 +196,10 @@ public class JdbcInputFormat implements Serializable {
             SeaTunnelRow seaTunnelRow = jdbcRowConverter.toInternal(resultSet, splitTableSchema);
             seaTunnelRow.setTableId(splitTableId);
             seaTunnelRow.setRowKind(RowKind.INSERT);
+            if (splitKeyColumn > 0) {
+                lastSplitKeyValue = resultSet.getObject(splitKeyColumn);
+                lastSplitKey = seaTunnelRow.getField(splitKeyField);
+            }
 
             // update hasNext after we've read the record
             hasNext = resultSet.next();
@@ -28,14 +28,32 @@ import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatc
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import java.io.IOException;
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-/** A JDBC outputFormat */
+/**
+ * A JDBC outputFormat
+ *
+ * <p>With {@link JdbcConnectionConfig#getMaxInFlightBatches()} above zero, full batches are
+ * executed by a background thread while the writer fills the next one. The background thread then
+ * owns the statement executor and the connection, {@link #flush()} waits until it has executed
+ * every batch so the writer may use the connection again, e.g. to commit.
+ */
 public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implements Serializable {
 
     protected final JdbcConnectionProvider connectionProvider;
@@ -52,6 +70,10 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     private transient volatile boolean closed = false;
     private transient volatile Exception flushException;
 
+    private transient List<I> buffer;
+    private transient ExecutorService flushExecutor;
+    private transient Deque<Future<?>> inFlightBatches;
+
     public JdbcOutputFormat(
             JdbcConnectionProvider connectionProvider,
             JdbcConnectionConfig jdbcConnectionConfig,
@@ -72,6 +94,16 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                     e);
         }
         jdbcStatementExecutor = createAndOpenStatementExecutor(statementExecutorFactory);
+        if (jdbcConnectionConfig.getMaxInFlightBatches() > 0) {
+            buffer = new ArrayList<>();
+            inFlightBatches = new ArrayDeque<>();
+            flushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ThreadFactoryBuilder()
+                                    .setNameFormat("jdbc-async-flush-%d")
+                                    .setDaemon(true)
+                                    .build());
+        }
     }
 
     private E createAndOpenStatementExecutor(StatementExecutorFactory<E> statementExecutorFactory) {
@@ -103,7 +135,11 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
             batchCount++;
             if (jdbcConnectionConfig.getBatchSize() > 0
                     && batchCount >= jdbcConnectionConfig.getBatchSize()) {
-                flush();
+                if (flushExecutor != null) {
+                    submitBatch();
+                } else {
+                    flush();
+                }
             }
         } catch (Exception e) {
             throw new JdbcConnectorException(
@@ -114,7 +150,11 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
     }
 
     protected void addToBatch(I record) throws SQLException {
-        jdbcStatementExecutor.addToBatch(record);
+        if (flushExecutor != null) {
+            buffer.add(record);
+        } else {
+            jdbcStatementExecutor.addToBatch(record);
+        }
     }
 
     public synchronized void flush() throws IOException {
@@ -125,16 +165,71 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                             ExceptionUtils.getMessage(flushException)));
             return;
         }
+        if (flushExecutor != null) {
+            if (batchCount > 0) {
+                submitBatch();
+            }
+            // the writer commits or snapshots afterwards, no batch may still be running
+            while (!inFlightBatches.isEmpty()) {
+                awaitBatch(inFlightBatches.poll());
+            }
+            checkFlushException();
+            return;
+        }
         if (batchCount == 0) {
             LOG.debug("No data to flush.");
             return;
         }
+        flushWithRetry();
+        batchCount = 0;
+    }
+
+    private void submitBatch() {
+        while (inFlightBatches.size() >= jdbcConnectionConfig.getMaxInFlightBatches()) {
+            awaitBatch(inFlightBatches.poll());
+        }
+        checkFlushException();
+        List<I> batch = buffer;
+        buffer = new ArrayList<>(batch.size());
+        batchCount = 0;
+        inFlightBatches.add(flushExecutor.submit(() -> executeBatch(batch)));
+    }
 
+    private void executeBatch(List<I> batch) {
+        if (flushException != null) {
+            // a previous batch failed, the writer fails on its next call
+            return;
+        }
+        try {
+            for (I record : batch) {
+                jdbcStatementExecutor.addToBatch(record);
+            }
+            flushWithRetry();
+        } catch (Exception e) {
+            LOG.error("Writing records to JDBC failed.", e);
+            flushException = e;
+        }
+    }
+
+    private void awaitBatch(Future<?> batch) {
+        try {
+            batch.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.FLUSH_DATA_FAILED,
+                    "unable to flush; interrupted while waiting for a batch",
+                    e);
+        } catch (ExecutionException e) {
+            flushException = e;
+        }
+    }
+
+    private void flushWithRetry() throws IOException {
         final int sleepMs = 1000;
         for (int i = 0; i <= jdbcConnectionConfig.getMaxRetries(); i++) {
             try {
                 attemptFlush();
-                batchCount = 0;
                 break;
             } catch (SQLException e) {
                 LOG.error("JDBC executeBatch error, retry times = {}", i, e);
@@ -190,6 +285,17 @@ public class JdbcOutputFormat<I, E extends JdbcBatchStatementExecutor<I>> implem
                 }
             }
 
+            if (flushExecutor != null) {
+                // the batches in flight still own the statements
+                flushExecutor.shutdown();
+                try {
+                    flushExecutor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    flushExecutor.shutdownNow();
+                }
+            }
+
             try {
                 if (jdbcStatementExecutor != null) {
                     jdbcStatementExecutor.closeStatements();
@@ -22,15 +22,20 @@ import org.apache.seatunnel.api.table.catalog.TablePath;
 import org.apache.seatunnel.api.table.catalog.TableSchema;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcSinkConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.dialectenum.BulkInsertModeEnum;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferReducedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.BufferedBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.CopyManagerBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.FieldNamedPreparedStatement;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.InsertOrUpdateBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.LoadDataBatchStatementExecutor;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.MultiRowInsertBatchStatementExecutor;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.SimpleBatchStatementExecutor;
 
 import org.apache.commons.lang3.StringUtils;
@@ -49,6 +54,9 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor
 public class JdbcOutputFormatBuilder {
+    /** SQL Server caps a VALUES list at 1000 rows, longer statements gain little elsewhere. */
+    private static final int MAX_ROWS_PER_INSERT = 1000;
+
     @NonNull private final JdbcDialect dialect;
     @NonNull private final JdbcConnectionProvider connectionProvider;
     @NonNull private final JdbcSinkConfig jdbcSinkConfig;
@@ -64,6 +72,7 @@ public class JdbcOutputFormatBuilder {
                                 jdbcSinkConfig.getDatabase() + "." + jdbcSinkConfig.getTable()));
 
         final List<String> primaryKeys = jdbcSinkConfig.getPrimaryKeys();
+        final BulkInsertModeEnum bulkInsertMode = jdbcSinkConfig.getBulkInsertMode();
         if (jdbcSinkConfig.isUseCopyStatement()) {
             statementExecutorFactory =
                     () ->
@@ -79,7 +88,9 @@ public class JdbcOutputFormatBuilder {
                                     dialect.getRowConverter());
         } else if (primaryKeys == null || primaryKeys.isEmpty()) {
             statementExecutorFactory =
-                    () -> createSimpleBufferedExecutor(dialect, database, table, tableSchema);
+                    () ->
+                            createSimpleBufferedExecutor(
+                                    dialect, database, table, tableSchema, bulkInsertMode);
         } else {
             statementExecutorFactory =
                     () ->
@@ -91,7 +102,8 @@ public class JdbcOutputFormatBuilder {
                                     primaryKeys.toArray(new String[0]),
                                     jdbcSinkConfig.isEnableUpsert(),
                                     jdbcSinkConfig.isPrimaryKeyUpdated(),
-                                    jdbcSinkConfig.isSupportUpsertByInsertOnly());
+                                    jdbcSinkConfig.isSupportUpsertByInsertOnly(),
+                                    bulkInsertMode);
         }
 
         return new JdbcOutputFormat(
@@ -101,10 +113,14 @@ public class JdbcOutputFormatBuilder {
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
-            JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
-        String insertSQL =
-                dialect.getInsertIntoStatement(database, table, tableSchema.getFieldNames());
-        return createSimpleBufferedExecutor(insertSQL, tableSchema, dialect.getRowConverter());
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            BulkInsertModeEnum bulkInsertMode) {
+        return new BufferedBatchStatementExecutor(
+                createInsertExecutor(dialect, database, table, tableSchema, bulkInsertMode, false),
+                Function.identity());
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createSimpleBufferedExecutor(
@@ -122,7 +138,8 @@ public class JdbcOutputFormatBuilder {
             String[] pkNames,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            BulkInsertModeEnum bulkInsertMode) {
         int[] pkFields =
                 Arrays.stream(pkNames)
                         .mapToInt(tableSchema.toPhysicalRowDataType()::indexOf)
@@ -151,9 +168,15 @@ public class JdbcOutputFormatBuilder {
                         keyExtractor,
                         enableUpsert,
                         isPrimaryKeyUpdated,
-                        supportUpsertByInsertOnly);
+                        supportUpsertByInsertOnly,
+                        bulkInsertMode);
         return new BufferReducedBatchStatementExecutor(
-                upsertExecutor, deleteExecutor, keyExtractor, Function.identity());
+                upsertExecutor,
+                deleteExecutor,
+                keyExtractor,
+                Function.identity(),
+                tableSchema.toPhysicalRowDataType(),
+                pkFields);
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createUpsertExecutor(
@@ -166,9 +189,11 @@ public class JdbcOutputFormatBuilder {
             Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
             boolean enableUpsert,
             boolean isPrimaryKeyUpdated,
-            boolean supportUpsertByInsertOnly) {
+            boolean supportUpsertByInsertOnly,
+            BulkInsertModeEnum bulkInsertMode) {
         if (supportUpsertByInsertOnly) {
-            return createInsertOnlyExecutor(dialect, database, table, tableSchema);
+            return createInsertExecutor(
+                    dialect, database, table, tableSchema, bulkInsertMode, true);
         }
         if (enableUpsert) {
             Optional<String> upsertSQL =
@@ -208,18 +233,61 @@ public class JdbcOutputFormatBuilder {
         return new CopyManagerBatchStatementExecutor(copyInSql, tableSchema);
     }
 
-    private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOnlyExecutor(
-            JdbcDialect dialect, String database, String table, TableSchema tableSchema) {
+    private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertExecutor(
+            JdbcDialect dialect,
+            String database,
+            String table,
+            TableSchema tableSchema,
+            BulkInsertModeEnum bulkInsertMode,
+            boolean upsertByInsert) {
+        String[] fieldNames = tableSchema.getFieldNames();
+        switch (bulkInsertMode) {
+            case MULTI_VALUES:
+                int maxParameters = dialect.getMultiRowInsertMaxParameters();
+                if (maxParameters <= 0) {
+                    throw unsupportedBulkInsertMode(dialect, bulkInsertMode);
+                }
+                return new MultiRowInsertBatchStatementExecutor(
+                        rowCount ->
+                                dialect.getMultiRowInsertIntoStatement(
+                                        database, table, fieldNames, rowCount),
+                        Math.min(MAX_ROWS_PER_INSERT, maxParameters / fieldNames.length),
+                        tableSchema,
+                        dialect.getRowConverter());
+            case LOAD_DATA:
+                return new LoadDataBatchStatementExecutor(
+                        binaryFields ->
+                                dialect.getLoadDataStatement(
+                                                database,
+                                                table,
+                                                fieldNames,
+                                                binaryFields,
+                                                upsertByInsert)
+                                        .orElseThrow(
+                                                () ->
+                                                        unsupportedBulkInsertMode(
+                                                                dialect, bulkInsertMode)),
+                        tableSchema,
+                        upsertByInsert);
+            default:
+                return new SimpleBatchStatementExecutor(
+                        connection ->
+                                FieldNamedPreparedStatement.prepareStatement(
+                                        connection,
+                                        dialect.getInsertIntoStatement(database, table, fieldNames),
+                                        fieldNames),
+                        tableSchema,
+                        dialect.getRowConverter());
+        }
+    }
 
-        return new SimpleBatchStatementExecutor(
-                connection ->
-                        FieldNamedPreparedStatement.prepareStatement(
-                                connection,
-                                dialect.getInsertIntoStatement(
-                                        database, table, tableSchema.getFieldNames()),
-                                tableSchema.getFieldNames()),
-                tableSchema,
-                dialect.getRowConverter());
+    private static JdbcConnectorException unsupportedBulkInsertMode(
+            JdbcDialect dialect, BulkInsertModeEnum bulkInsertMode) {
+        return new JdbcConnectorException(
+                JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                String.format(
+                        "Dialect %s doesn't support bulk_insert_mode = %s. Please configure option bulk_insert_mode = NONE.",
+                        dialect.dialectName(), bulkInsertMode));
     }
 
     private static JdbcBatchStatementExecutor<SeaTunnelRow> createInsertOrUpdateExecutor(
@@ -43,10 +43,16 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.util.function.IntFunction;
 
-/** Base class for all converters that convert between JDBC object and SeaTunnel internal object. */
+/**
+ * Base class for all converters that convert between JDBC object and SeaTunnel internal object.
+ *
+ * <p>The conversion of each column is resolved once per {@link TableSchema} into a {@link
+ * FieldGetter} or {@link FieldSetter}, so converting a row does not look at the column types
+ * anymore. Dialects customize columns by overriding {@link #createFieldGetter} and {@link
+ * #createFieldSetter}.
+ */
 @Slf4j
 public abstract class AbstractJdbcRowConverter implements JdbcRowConverter {
 
@@ -62,84 +68,96 @@ public abstract class AbstractJdbcRowConverter implements JdbcRowConverter {
     protected static final LocalDate[] TYPE_ARRAY_LOCAL_DATE = new LocalDate[0];
     protected static final LocalDateTime[] TYPE_ARRAY_LOCAL_DATETIME = new LocalDateTime[0];
 
+    // a converter sees a handful of schemas, e.g. the value and the key schema of an upsert
+    private static final int MAX_CACHED_SCHEMAS = 8;
+
+    /** Reads one column of the current row of a {@link ResultSet}. */
+    @FunctionalInterface
+    protected interface FieldGetter {
+        Object get(ResultSet rs, int resultSetIndex) throws SQLException;
+    }
+
+    /** Binds a non null value to one parameter of a {@link PreparedStatement}. */
+    @FunctionalInterface
+    protected interface FieldSetter {
+        void set(PreparedStatement statement, int statementIndex, Object value) throws SQLException;
+    }
+
+    private transient volatile CompiledSchema<FieldGetter>[] getterCache;
+
+    private transient volatile CompiledSchema<FieldSetter>[] setterCache;
+
     public abstract String converterName();
 
     public AbstractJdbcRowConverter() {}
 
     @Override
     public SeaTunnelRow toInternal(ResultSet rs, TableSchema tableSchema) throws SQLException {
-        SeaTunnelRowType typeInfo = tableSchema.toPhysicalRowDataType();
-        Object[] fields = new Object[typeInfo.getTotalFields()];
-        for (int fieldIndex = 0; fieldIndex < typeInfo.getTotalFields(); fieldIndex++) {
-            SeaTunnelDataType<?> seaTunnelDataType = typeInfo.getFieldType(fieldIndex);
-            String fieldName = typeInfo.getFieldName(fieldIndex);
-            int resultSetIndex = fieldIndex + 1;
-            switch (seaTunnelDataType.getSqlType()) {
-                case STRING:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getString(rs, resultSetIndex);
-                    break;
-                case BOOLEAN:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getBoolean(rs, resultSetIndex);
-                    break;
-                case TINYINT:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getByte(rs, resultSetIndex);
-                    break;
-                case SMALLINT:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getShort(rs, resultSetIndex);
-                    break;
-                case INT:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getInt(rs, resultSetIndex);
-                    break;
-                case BIGINT:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getLong(rs, resultSetIndex);
-                    break;
-                case FLOAT:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getFloat(rs, resultSetIndex);
-                    break;
-                case DOUBLE:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getDouble(rs, resultSetIndex);
-                    break;
-                case DECIMAL:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getBigDecimal(rs, resultSetIndex);
-                    break;
-                case DATE:
+        FieldGetter[] getters = getFieldGetters(tableSchema).fields;
+        Object[] fields = new Object[getters.length];
+        for (int fieldIndex = 0; fieldIndex < getters.length; fieldIndex++) {
+            fields[fieldIndex] = getters[fieldIndex].get(rs, fieldIndex + 1);
+        }
+        return new SeaTunnelRow(fields);
+    }
+
+    /**
+     * Creates the reader of a column, called once per column of each schema.
+     *
+     * @throws org.apache.seatunnel.common.exception.SeaTunnelRuntimeException if the type is not
+     *     supported
+     */
+    protected FieldGetter createFieldGetter(
+            SeaTunnelDataType<?> seaTunnelDataType, String fieldName) {
+        switch (seaTunnelDataType.getSqlType()) {
+            case STRING:
+                return JdbcFieldTypeUtils::getString;
+            case BOOLEAN:
+                return JdbcFieldTypeUtils::getBoolean;
+            case TINYINT:
+                return JdbcFieldTypeUtils::getByte;
+            case SMALLINT:
+                return JdbcFieldTypeUtils::getShort;
+            case INT:
+                return JdbcFieldTypeUtils::getInt;
+            case BIGINT:
+                return JdbcFieldTypeUtils::getLong;
+            case FLOAT:
+                return JdbcFieldTypeUtils::getFloat;
+            case DOUBLE:
+                return JdbcFieldTypeUtils::getDouble;
+            case DECIMAL:
+                return JdbcFieldTypeUtils::getBigDecimal;
+            case DATE:
+                return (rs, resultSetIndex) -> {
                     Date sqlDate = JdbcFieldTypeUtils.getDate(rs, resultSetIndex);
-                    fields[fieldIndex] =
-                            Optional.ofNullable(sqlDate).map(e -> e.toLocalDate()).orElse(null);
-                    break;
-                case TIME:
-                    fields[fieldIndex] = readTime(rs, resultSetIndex);
-                    break;
-                case TIMESTAMP:
+                    return sqlDate == null ? null : sqlDate.toLocalDate();
+                };
+            case TIME:
+                return this::readTime;
+            case TIMESTAMP:
+                return (rs, resultSetIndex) -> {
                     Timestamp sqlTimestamp = JdbcFieldTypeUtils.getTimestamp(rs, resultSetIndex);
-                    fields[fieldIndex] =
-                            Optional.ofNullable(sqlTimestamp)
-                                    .map(e -> e.toLocalDateTime())
-                                    .orElse(null);
-                    break;
-                case BYTES:
-                    fields[fieldIndex] = JdbcFieldTypeUtils.getBytes(rs, resultSetIndex);
-                    break;
-                case NULL:
-                    fields[fieldIndex] = null;
-                    break;
-                case ARRAY:
-                    fields[fieldIndex] =
-                            convertToArray(rs, resultSetIndex, seaTunnelDataType, fieldName);
-                    break;
-                case MAP:
-                case ROW:
-                default:
-                    throw CommonError.unsupportedDataType(
-                            converterName(), seaTunnelDataType.getSqlType().toString(), fieldName);
-            }
+                    return sqlTimestamp == null ? null : sqlTimestamp.toLocalDateTime();
+                };
+            case BYTES:
+                return JdbcFieldTypeUtils::getBytes;
+            case NULL:
+                return (rs, resultSetIndex) -> null;
+            case ARRAY:
+                Object[] arrayType = arrayType(seaTunnelDataType, fieldName);
+                return (rs, resultSetIndex) -> toArray(rs.getArray(resultSetIndex), arrayType);
+            case MAP:
+            case ROW:
+            default:
+                throw CommonError.unsupportedDataType(
+                        converterName(), seaTunnelDataType.getSqlType().toString(), fieldName);
         }
-        return new SeaTunnelRow(fields);
     }
 
     protected LocalTime readTime(ResultSet rs, int resultSetIndex) throws SQLException {
         Time sqlTime = JdbcFieldTypeUtils.getTime(rs, resultSetIndex);
-        return Optional.ofNullable(sqlTime).map(e -> e.toLocalTime()).orElse(null);
+        return sqlTime == null ? null : sqlTime.toLocalTime();
     }
 
     public Object[] convertToArray(
@@ -149,138 +167,219 @@ public abstract class AbstractJdbcRowConverter implements JdbcRowConverter {
             String fieldName)
             throws SQLException {
         Array array = rs.getArray(resultSetIndex);
-        if (array != null) {
-            Object[] elementArr = (Object[]) array.getArray();
-            List<Object> origArray = Arrays.asList(elementArr);
-            SeaTunnelDataType<?> elementType =
-                    ((ArrayType<?, ?>) seaTunnelDataType).getElementType();
-            switch (elementType.getSqlType()) {
-                case STRING:
-                    return origArray.toArray(TYPE_ARRAY_STRING);
-                case BOOLEAN:
-                    return origArray.toArray(TYPE_ARRAY_BOOLEAN);
-                case TINYINT:
-                    return origArray.toArray(TYPE_ARRAY_BYTE);
-                case SMALLINT:
-                    return origArray.toArray(TYPE_ARRAY_SHORT);
-                case INT:
-                    return origArray.toArray(TYPE_ARRAY_INTEGER);
-                case BIGINT:
-                    return origArray.toArray(TYPE_ARRAY_LONG);
-                case FLOAT:
-                    return origArray.toArray(TYPE_ARRAY_FLOAT);
-                case DOUBLE:
-                    return origArray.toArray(TYPE_ARRAY_DOUBLE);
-                case DECIMAL:
-                    return origArray.toArray(TYPE_ARRAY_BIG_DECIMAL);
-                default:
-                    String type = String.format("Array[%s]", elementType.getSqlType());
-                    throw CommonError.unsupportedDataType(converterName(), type, fieldName);
-            }
-        } else {
+        return array == null ? null : toArray(array, arrayType(seaTunnelDataType, fieldName));
+    }
+
+    private static Object[] toArray(Array array, Object[] arrayType) throws SQLException {
+        if (array == null) {
             return null;
         }
+        return Arrays.asList((Object[]) array.getArray()).toArray(arrayType);
+    }
+
+    private Object[] arrayType(SeaTunnelDataType<?> seaTunnelDataType, String fieldName) {
+        SeaTunnelDataType<?> elementType = ((ArrayType<?, ?>) seaTunnelDataType).getElementType();
+        switch (elementType.getSqlType()) {
+            case STRING:
+                return TYPE_ARRAY_STRING;
+            case BOOLEAN:
+                return TYPE_ARRAY_BOOLEAN;
+            case TINYINT:
+                return TYPE_ARRAY_BYTE;
+            case SMALLINT:
+                return TYPE_ARRAY_SHORT;
+            case INT:
+                return TYPE_ARRAY_INTEGER;
+            case BIGINT:
+                return TYPE_ARRAY_LONG;
+            case FLOAT:
+                return TYPE_ARRAY_FLOAT;
+            case DOUBLE:
+                return TYPE_ARRAY_DOUBLE;
+            case DECIMAL:
+                return TYPE_ARRAY_BIG_DECIMAL;
+            default:
+                String type = String.format("Array[%s]", elementType.getSqlType());
+                throw CommonError.unsupportedDataType(converterName(), type, fieldName);
+        }
     }
 
     @Override
     public PreparedStatement toExternal(
             TableSchema tableSchema, SeaTunnelRow row, PreparedStatement statement)
             throws SQLException {
-        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
-        for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
-            try {
-                SeaTunnelDataType<?> seaTunnelDataType = rowType.getFieldType(fieldIndex);
-                int statementIndex = fieldIndex + 1;
+        CompiledSchema<FieldSetter> compiled = getFieldSetters(tableSchema);
+        FieldSetter[] setters = compiled.fields;
+        int fieldIndex = 0;
+        try {
+            for (; fieldIndex < setters.length; fieldIndex++) {
                 Object fieldValue = row.getField(fieldIndex);
                 if (fieldValue == null) {
-                    statement.setObject(statementIndex, null);
-                    continue;
+                    statement.setObject(fieldIndex + 1, null);
+                } else {
+                    setters[fieldIndex].set(statement, fieldIndex + 1, fieldValue);
                 }
+            }
+        } catch (Exception e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.DATA_TYPE_CAST_FAILED,
+                    "error field:" + compiled.rowType.getFieldNames()[fieldIndex],
+                    e);
+        }
+        return statement;
+    }
 
-                switch (seaTunnelDataType.getSqlType()) {
-                    case STRING:
-                        statement.setString(statementIndex, (String) row.getField(fieldIndex));
-                        break;
-                    case BOOLEAN:
-                        statement.setBoolean(statementIndex, (Boolean) row.getField(fieldIndex));
-                        break;
-                    case TINYINT:
-                        statement.setByte(statementIndex, (Byte) row.getField(fieldIndex));
-                        break;
-                    case SMALLINT:
-                        statement.setShort(statementIndex, (Short) row.getField(fieldIndex));
-                        break;
-                    case INT:
-                        statement.setInt(statementIndex, (Integer) row.getField(fieldIndex));
-                        break;
-                    case BIGINT:
-                        statement.setLong(statementIndex, (Long) row.getField(fieldIndex));
-                        break;
-                    case FLOAT:
-                        statement.setFloat(statementIndex, (Float) row.getField(fieldIndex));
-                        break;
-                    case DOUBLE:
-                        statement.setDouble(statementIndex, (Double) row.getField(fieldIndex));
-                        break;
-                    case DECIMAL:
-                        statement.setBigDecimal(
-                                statementIndex, (BigDecimal) row.getField(fieldIndex));
-                        break;
-                    case DATE:
-                        LocalDate localDate = (LocalDate) row.getField(fieldIndex);
-                        statement.setDate(statementIndex, java.sql.Date.valueOf(localDate));
-                        break;
-                    case TIME:
-                        writeTime(statement, statementIndex, (LocalTime) row.getField(fieldIndex));
-                        break;
-                    case TIMESTAMP:
-                        LocalDateTime localDateTime = (LocalDateTime) row.getField(fieldIndex);
+    /**
+     * Creates the writer of a column, called once per column of each schema. Null values are bound
+     * by {@link #toExternal} and never passed to the setter.
+     */
+    protected FieldSetter createFieldSetter(
+            SeaTunnelDataType<?> seaTunnelDataType, String fieldName) {
+        switch (seaTunnelDataType.getSqlType()) {
+            case STRING:
+                return (statement, index, value) -> statement.setString(index, (String) value);
+            case BOOLEAN:
+                return (statement, index, value) -> statement.setBoolean(index, (Boolean) value);
+            case TINYINT:
+                return (statement, index, value) -> statement.setByte(index, (Byte) value);
+            case SMALLINT:
+                return (statement, index, value) -> statement.setShort(index, (Short) value);
+            case INT:
+                return (statement, index, value) -> statement.setInt(index, (Integer) value);
+            case BIGINT:
+                return (statement, index, value) -> statement.setLong(index, (Long) value);
+            case FLOAT:
+                return (statement, index, value) -> statement.setFloat(index, (Float) value);
+            case DOUBLE:
+                return (statement, index, value) -> statement.setDouble(index, (Double) value);
+            case DECIMAL:
+                return (statement, index, value) ->
+                        statement.setBigDecimal(index, (BigDecimal) value);
+            case DATE:
+                return (statement, index, value) ->
+                        statement.setDate(index, java.sql.Date.valueOf((LocalDate) value));
+            case TIME:
+                return (statement, index, value) -> writeTime(statement, index, (LocalTime) value);
+            case TIMESTAMP:
+                return (statement, index, value) ->
                         statement.setTimestamp(
-                                statementIndex, java.sql.Timestamp.valueOf(localDateTime));
-                        break;
-                    case BYTES:
-                        statement.setBytes(statementIndex, (byte[]) row.getField(fieldIndex));
-                        break;
-                    case NULL:
-                        statement.setNull(statementIndex, java.sql.Types.NULL);
-                        break;
-                    case ARRAY:
-                        SeaTunnelDataType elementType =
-                                ((ArrayType) seaTunnelDataType).getElementType();
-                        Object[] array = (Object[]) row.getField(fieldIndex);
-                        if (array == null) {
-                            statement.setNull(statementIndex, java.sql.Types.ARRAY);
-                            break;
-                        }
-                        if (SqlType.TINYINT.equals(elementType.getSqlType())) {
-                            Short[] shortArray = new Short[array.length];
-                            for (int i = 0; i < array.length; i++) {
-                                shortArray[i] = Short.valueOf(array[i].toString());
-                            }
-                            statement.setObject(statementIndex, shortArray);
-                        } else {
-                            statement.setObject(statementIndex, array);
+                                index, java.sql.Timestamp.valueOf((LocalDateTime) value));
+            case BYTES:
+                return (statement, index, value) -> statement.setBytes(index, (byte[]) value);
+            case NULL:
+                return (statement, index, value) -> statement.setNull(index, java.sql.Types.NULL);
+            case ARRAY:
+                SeaTunnelDataType<?> elementType =
+                        ((ArrayType<?, ?>) seaTunnelDataType).getElementType();
+                if (SqlType.TINYINT.equals(elementType.getSqlType())) {
+                    return (statement, index, value) -> {
+                        Object[] array = (Object[]) value;
+                        Short[] shortArray = new Short[array.length];
+                        for (int i = 0; i < array.length; i++) {
+                            shortArray[i] = Short.valueOf(array[i].toString());
                         }
-                        break;
-                    case MAP:
-                    case ROW:
-                    default:
-                        throw new JdbcConnectorException(
-                                CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
-                                "Unexpected value: " + seaTunnelDataType);
+                        statement.setObject(index, shortArray);
+                    };
                 }
-            } catch (Exception e) {
-                throw new JdbcConnectorException(
-                        JdbcConnectorErrorCode.DATA_TYPE_CAST_FAILED,
-                        "error field:" + rowType.getFieldNames()[fieldIndex],
-                        e);
-            }
+                return PreparedStatement::setObject;
+            case MAP:
+            case ROW:
+            default:
+                // only fails for non null values, as a column of an unsupported type may be empty
+                return (statement, index, value) -> {
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                            "Unexpected value: " + seaTunnelDataType);
+                };
         }
-        return statement;
     }
 
     protected void writeTime(PreparedStatement statement, int index, LocalTime time)
             throws SQLException {
         statement.setTime(index, java.sql.Time.valueOf(time));
     }
+
+    private CompiledSchema<FieldGetter> getFieldGetters(TableSchema tableSchema) {
+        CompiledSchema<FieldGetter>[] cache = getterCache;
+        CompiledSchema<FieldGetter> compiled = CompiledSchema.lookup(cache, tableSchema);
+        if (compiled == null) {
+            compiled =
+                    CompiledSchema.compile(
+                            tableSchema, FieldGetter[]::new, this::createFieldGetter);
+            getterCache = CompiledSchema.add(cache, compiled);
+        }
+        return compiled;
+    }
+
+    private CompiledSchema<FieldSetter> getFieldSetters(TableSchema tableSchema) {
+        CompiledSchema<FieldSetter>[] cache = setterCache;
+        CompiledSchema<FieldSetter> compiled = CompiledSchema.lookup(cache, tableSchema);
+        if (compiled == null) {
+            compiled =
+                    CompiledSchema.compile(
+                            tableSchema, FieldSetter[]::new, this::createFieldSetter);
+            setterCache = CompiledSchema.add(cache, compiled);
+        }
+        return compiled;
+    }
+
+    private interface FieldCompiler<T> {
+        T compile(SeaTunnelDataType<?> seaTunnelDataType, String fieldName);
+    }
+
+    /**
+     * The compiled columns of a schema. Schemas are looked up by identity, the caches are replaced
+     * as a whole so readers need no lock.
+     */
+    private static final class CompiledSchema<T> {
+
+        private final TableSchema tableSchema;
+
+        private final SeaTunnelRowType rowType;
+
+        private final T[] fields;
+
+        private CompiledSchema(TableSchema tableSchema, SeaTunnelRowType rowType, T[] fields) {
+            this.tableSchema = tableSchema;
+            this.rowType = rowType;
+            this.fields = fields;
+        }
+
+        private static <T> CompiledSchema<T> compile(
+                TableSchema tableSchema,
+                IntFunction<T[]> arrayFactory,
+                FieldCompiler<T> fieldCompiler) {
+            SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+            T[] fields = arrayFactory.apply(rowType.getTotalFields());
+            for (int fieldIndex = 0; fieldIndex < fields.length; fieldIndex++) {
+                fields[fieldIndex] =
+                        fieldCompiler.compile(
+                                rowType.getFieldType(fieldIndex), rowType.getFieldName(fieldIndex));
+            }
+            return new CompiledSchema<>(tableSchema, rowType, fields);
+        }
+
+        private static <T> CompiledSchema<T> lookup(
+                CompiledSchema<T>[] cache, TableSchema tableSchema) {
+            if (cache != null) {
+                for (CompiledSchema<T> compiled : cache) {
+                    if (compiled.tableSchema == tableSchema) {
+                        return compiled;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> CompiledSchema<T>[] add(
+                CompiledSchema<T>[] cache, CompiledSchema<T> compiled) {
+            if (cache == null || cache.length >= MAX_CACHED_SCHEMAS) {
+                cache = new CompiledSchema[0];
+            }
+            CompiledSchema<T>[] newCache = Arrays.copyOf(cache, cache.length + 1);
+            newCache[cache.length] = compiled;
+            return newCache;
+        }
+    }
 }
@@ -134,6 +134,71 @@ public interface JdbcDialect extends Serializable {
                 tableIdentifier(database, tableName), columns, placeholders);
     }
 
+    /**
+     * The maximum number of bind parameters a single multi-row insert may carry, see {@link
+     * #getMultiRowInsertIntoStatement}. Returns 0 if the database can't insert several rows with
+     * one {@code VALUES} clause.
+     */
+    default int getMultiRowInsertMaxParameters() {
+        return 0;
+    }
+
+    /**
+     * Constructs the dialects insert statement for {@code rowCount} rows. Unlike {@link
+     * #getInsertIntoStatement} the placeholders are positional, the parameter of field {@code i} in
+     * row {@code r} is {@code r * fieldNames.length + i + 1}.
+     *
+     * <pre>{@code
+     * INSERT INTO table_name (column_name [, ...]) VALUES (?, ...), (?, ...) [, ...]
+     * }</pre>
+     *
+     * @return the dialects multi-row {@code INSERT INTO} statement.
+     */
+    default String getMultiRowInsertIntoStatement(
+            String database, String tableName, String[] fieldNames, int rowCount) {
+        String columns =
+                Arrays.stream(fieldNames)
+                        .map(this::quoteIdentifier)
+                        .collect(Collectors.joining(", "));
+        String row =
+                Arrays.stream(fieldNames)
+                        .map(fieldName -> "?")
+                        .collect(Collectors.joining(", ", "(", ")"));
+        StringBuilder sql =
+                new StringBuilder(
+                        String.format(
+                                "INSERT INTO %s (%s) VALUES ",
+                                tableIdentifier(database, tableName), columns));
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(row);
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Constructs a statement that loads a tab separated stream sent by the client, such as MySQL's
+     * {@code LOAD DATA LOCAL INFILE}. Lines end with {@code \n}, {@code \} escapes tabs, line
+     * breaks and itself, {@code \N} is NULL, text is UTF-8 and binary fields are hex encoded.
+     *
+     * <p>The statement must report fewer affected rows than loaded lines when it skips a line, so
+     * that the caller can fail the batch.
+     *
+     * @param replace whether a row replaces the existing row with the same key instead of being
+     *     skipped
+     * @return the dialects load statement, or empty if the database can't load client streams.
+     */
+    default Optional<String> getLoadDataStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            boolean[] binaryFields,
+            boolean replace) {
+        return Optional.empty();
+    }
+
     /**
      * Constructs the dialects update statement for a single row with the given condition. The
      * returned string will be used as a {@link java.sql.PreparedStatement}. Fields in the statement
@@ -44,6 +44,11 @@ public class KingbaseDialect implements JdbcDialect {
         return new KingbaseTypeMapper();
     }
 
+    @Override
+    public int getMultiRowInsertMaxParameters() {
+        return 32767;
+    }
+
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
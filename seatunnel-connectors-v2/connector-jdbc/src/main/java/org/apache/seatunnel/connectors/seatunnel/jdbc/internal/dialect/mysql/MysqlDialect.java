@@ -108,6 +108,43 @@ public class MysqlDialect implements JdbcDialect {
         return Optional.of(upsertSQL);
     }
 
+    @Override
+    public int getMultiRowInsertMaxParameters() {
+        return 65535;
+    }
+
+    @Override
+    public Optional<String> getLoadDataStatement(
+            String database,
+            String tableName,
+            String[] fieldNames,
+            boolean[] binaryFields,
+            boolean replace) {
+        List<String> columns = new ArrayList<>();
+        List<String> assignments = new ArrayList<>();
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (binaryFields[i]) {
+                columns.add("@v" + i);
+                assignments.add(quoteIdentifier(fieldNames[i]) + " = UNHEX(@v" + i + ")");
+            } else {
+                columns.add(quoteIdentifier(fieldNames[i]));
+            }
+        }
+        // LOCAL loads skip the lines with duplicate keys unless REPLACE is given
+        String loadSQL =
+                String.format(
+                        "LOAD DATA LOCAL INFILE 'seatunnel' %sINTO TABLE %s CHARACTER SET utf8mb4"
+                                + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                                + " LINES TERMINATED BY '\\n' (%s)",
+                        replace ? "REPLACE " : "",
+                        tableIdentifier(database, tableName),
+                        String.join(", ", columns));
+        if (!assignments.isEmpty()) {
+            loadSQL += " SET " + String.join(", ", assignments);
+        }
+        return Optional.of(loadSQL);
+    }
+
     @Override
     public PreparedStatement creatPreparedStatement(
             Connection connection, String queryTemplate, int fetchSize) throws SQLException {
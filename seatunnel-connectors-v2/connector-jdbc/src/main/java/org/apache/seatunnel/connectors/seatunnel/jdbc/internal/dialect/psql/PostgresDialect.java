@@ -139,6 +139,11 @@ public class PostgresDialect implements JdbcDialect {
         }
     }
 
+    @Override
+    public int getMultiRowInsertMaxParameters() {
+        return 32767;
+    }
+
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
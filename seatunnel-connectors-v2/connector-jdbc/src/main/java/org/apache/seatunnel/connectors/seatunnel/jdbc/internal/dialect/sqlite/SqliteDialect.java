@@ -47,6 +47,11 @@ public class SqliteDialect implements JdbcDialect {
         return "`" + identifier + "`";
     }
 
+    @Override
+    public int getMultiRowInsertMaxParameters() {
+        return 999;
+    }
+
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
@@ -71,6 +71,11 @@ public class SqlServerDialect implements JdbcDialect {
         return "ABS(HASHBYTES('MD5', " + quoteIdentifier(fieldName) + ") % " + mod + ")";
     }
 
+    @Override
+    public int getMultiRowInsertMaxParameters() {
+        return 2000;
+    }
+
     @Override
     public Optional<String> getUpsertStatement(
             String database, String tableName, String[] fieldNames, String[] uniqueKeyFields) {
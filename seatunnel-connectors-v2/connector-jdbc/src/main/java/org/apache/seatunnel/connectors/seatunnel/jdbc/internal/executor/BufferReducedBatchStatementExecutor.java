@@ -19,31 +19,47 @@ package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
 
 import org.apache.seatunnel.api.table.type.RowKind;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Set;
 import java.util.function.Function;
 
-@RequiredArgsConstructor
+/**
+ * Reduces the changes of a batch to the latest one per primary key and writes them in the order the
+ * keys were first seen, switching between the upsert and the delete executor as the change kind
+ * flips. The changes are held serialized in a {@link CompactedChangeBuffer}.
+ */
 public class BufferReducedBatchStatementExecutor
         implements JdbcBatchStatementExecutor<SeaTunnelRow> {
     @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor;
     @NonNull private final JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor;
     @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> keyExtractor;
     @NonNull private final Function<SeaTunnelRow, SeaTunnelRow> valueTransform;
+    @NonNull private final CompactedChangeBuffer buffer;
 
-    @NonNull private final LinkedHashMap<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> buffer =
-            new LinkedHashMap<>();
+    /**
+     * @param keyExtractor creates the delete executor row of a buffered row
+     * @param rowType the type of the rows after {@code valueTransform}
+     * @param keyFields the primary key field indexes in {@code rowType}
+     */
+    public BufferReducedBatchStatementExecutor(
+            @NonNull JdbcBatchStatementExecutor<SeaTunnelRow> upsertExecutor,
+            @NonNull JdbcBatchStatementExecutor<SeaTunnelRow> deleteExecutor,
+            @NonNull Function<SeaTunnelRow, SeaTunnelRow> keyExtractor,
+            @NonNull Function<SeaTunnelRow, SeaTunnelRow> valueTransform,
+            @NonNull SeaTunnelRowType rowType,
+            @NonNull int[] keyFields) {
+        this.upsertExecutor = upsertExecutor;
+        this.deleteExecutor = deleteExecutor;
+        this.keyExtractor = keyExtractor;
+        this.valueTransform = valueTransform;
+        this.buffer = new CompactedChangeBuffer(rowType, keyFields);
+    }
 
     @Override
     public void prepareStatements(Connection connection) throws SQLException {
@@ -58,28 +74,25 @@ public class BufferReducedBatchStatementExecutor
             return;
         }
 
-        SeaTunnelRow key = keyExtractor.apply(record);
         boolean changeFlag = changeFlag(record.getRowKind());
-        SeaTunnelRow value = valueTransform.apply(record);
-        buffer.put(key, Pair.of(changeFlag, value));
+        buffer.put(valueTransform.apply(record), changeFlag);
     }
 
     @Override
     public void executeBatch() throws SQLException {
         Boolean preChangeFlag = null;
-        Set<Map.Entry<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>>> entrySet = buffer.entrySet();
-        for (Map.Entry<SeaTunnelRow, Pair<Boolean, SeaTunnelRow>> entry : entrySet) {
-            Boolean currentChangeFlag = entry.getValue().getKey();
+        for (int entry = 0; entry < buffer.size(); entry++) {
+            boolean currentChangeFlag = buffer.changeFlag(entry);
             if (currentChangeFlag) {
                 if (preChangeFlag != null && !preChangeFlag) {
                     deleteExecutor.executeBatch();
                 }
-                upsertExecutor.addToBatch(entry.getValue().getValue());
+                upsertExecutor.addToBatch(buffer.row(entry));
             } else {
                 if (preChangeFlag != null && preChangeFlag) {
                     upsertExecutor.executeBatch();
                 }
-                deleteExecutor.addToBatch(entry.getKey());
+                deleteExecutor.addToBatch(keyExtractor.apply(buffer.row(entry)));
             }
             preChangeFlag = currentChangeFlag;
         }
@@ -99,6 +112,7 @@ public class BufferReducedBatchStatementExecutor
         if (!buffer.isEmpty()) {
             executeBatch();
         }
+        buffer.release();
         upsertExecutor.closeStatements();
         deleteExecutor.closeStatements();
     }
@@ -0,0 +1,610 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Buffers the latest change per primary key in insertion order of the keys, like a {@code
+ * LinkedHashMap<key, change>} but without a key row, value row and map entry per change.
+ *
+ * <p>Each change is serialized into an append-only arena of direct memory chunks as {@code [int key
+ * length][key][byte change flag][byte row kind][value]}, the key being the table id and the primary
+ * key fields, the value all fields. An open-addressing table over the serialized keys maps to the
+ * entries, which remember the hash and the address of the latest change of their key. A buffered
+ * change costs about 30 bytes besides its encoded row; superseded changes stay in the arena until
+ * {@link #clear()}.
+ *
+ * <p>The chunks are direct memory of 1 MiB, or of the size of a larger change, and count against
+ * {@code -XX:MaxDirectMemorySize}. A batch holds as many chunks as its changes need; {@link
+ * #clear()} keeps only the first regular chunk for the next batch, so an idle buffer retains at
+ * most 1 MiB. A sink writing to many tables has one buffer per table.
+ *
+ * <p>Fields of types without a binary encoding ({@code MAP}, {@code ARRAY}, {@code ROW}, ...) are
+ * kept on the heap and referenced by index, they can't be part of the primary key.
+ */
+final class CompactedChangeBuffer {
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final FieldCodec[] valueCodecs;
+    private final FieldCodec[] keyCodecs;
+    private final int[] keyFields;
+    private final Map<String, Integer> tableIds = new HashMap<>();
+    private final List<String> tableIdsByIndex = new ArrayList<>();
+    private final List<Object> heapValues = new ArrayList<>();
+    private final Scratch scratch = new Scratch();
+
+    private final List<ByteBuffer> chunks = new ArrayList<>();
+    private int chunkIndex;
+    private int chunkOffset;
+
+    /** Entry index + 1 by hash slot, 0 is a free slot. */
+    private int[] slots = new int[INITIAL_CAPACITY * 2];
+
+    private long[] addresses = new long[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    CompactedChangeBuffer(SeaTunnelRowType rowType, int[] keyFields) {
+        this.keyFields = keyFields;
+        this.valueCodecs = new FieldCodec[rowType.getTotalFields()];
+        for (int i = 0; i < valueCodecs.length; i++) {
+            valueCodecs[i] = createCodec(rowType.getFieldType(i));
+        }
+        this.keyCodecs = new FieldCodec[keyFields.length];
+        for (int i = 0; i < keyFields.length; i++) {
+            keyCodecs[i] = valueCodecs[keyFields[i]];
+            if (keyCodecs[i] instanceof HeapCodec) {
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unsupported primary key type: " + rowType.getFieldType(keyFields[i]));
+            }
+        }
+    }
+
+    /** Buffers the change, replacing the buffered change of the same key in place. */
+    void put(SeaTunnelRow row, boolean changeFlag) {
+        Scratch out = scratch;
+        out.reset();
+        out.putInt(0);
+        out.putInt(tableIdIndex(row.getTableId()));
+        writeFields(row, keyFields, keyCodecs, out);
+        int keyLength = out.position() - Integer.BYTES;
+        out.putInt(0, keyLength);
+        int hash = hash(out.bytes(), Integer.BYTES, keyLength);
+        out.put(changeFlag ? (byte) 1 : (byte) 0);
+        out.put(row.getRowKind().toByteValue());
+        writeFields(row, null, valueCodecs, out);
+
+        long address = append(out.bytes(), out.position());
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (entry < 0) {
+                addEntry(slot, hash, address);
+                return;
+            }
+            if (hashes[entry] == hash && keyEquals(addresses[entry], out.bytes(), keyLength)) {
+                addresses[entry] = address;
+                return;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Number of arena chunks currently allocated. */
+    int chunkCount() {
+        return chunks.size();
+    }
+
+    /** Whether the change of the entry is an upsert rather than a delete. */
+    boolean changeFlag(int entry) {
+        long address = addresses[entry];
+        ByteBuffer chunk = chunks.get(chunk(address));
+        int offset = offset(address);
+        return chunk.get(offset + Integer.BYTES + chunk.getInt(offset)) == 1;
+    }
+
+    /** The row of the latest change of the entry, entries are numbered by first insertion. */
+    SeaTunnelRow row(int entry) {
+        long address = addresses[entry];
+        Reader in = new Reader(chunks.get(chunk(address)), offset(address));
+        int keyLength = in.getInt();
+        int tableIdIndex = in.chunk.getInt(in.position);
+        in.position += keyLength + 1;
+        RowKind rowKind = RowKind.fromByteValue(in.get());
+
+        Object[] fields = new Object[valueCodecs.length];
+        int nullBitsPosition = in.position;
+        in.position += nullBitsLength(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            if ((in.chunk.get(nullBitsPosition + (i >>> 3)) & (1 << (i & 7))) == 0) {
+                fields[i] = valueCodecs[i].read(in, this);
+            }
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableIdsByIndex.get(tableIdIndex));
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    /** Drops all changes, the first regular chunk is kept for reuse and the others are freed. */
+    void clear() {
+        if (size > 0) {
+            Arrays.fill(slots, 0);
+            size = 0;
+        }
+        heapValues.clear();
+        if (!chunks.isEmpty()) {
+            ByteBuffer first = chunks.get(0);
+            chunks.clear();
+            if (first.capacity() == CHUNK_SIZE) {
+                chunks.add(first);
+            }
+        }
+        chunkIndex = 0;
+        chunkOffset = 0;
+    }
+
+    /** Drops all changes and the arena memory. */
+    void release() {
+        clear();
+        chunks.clear();
+    }
+
+    private void writeFields(
+            SeaTunnelRow row, int[] fieldIndexes, FieldCodec[] codecs, Scratch out) {
+        int nullBitsPosition = out.position();
+        out.skip(nullBitsLength(codecs.length));
+        for (int i = 0; i < codecs.length; i++) {
+            Object value = row.getField(fieldIndexes == null ? i : fieldIndexes[i]);
+            if (value == null) {
+                out.bytes()[nullBitsPosition + (i >>> 3)] |= (byte) (1 << (i & 7));
+            } else {
+                codecs[i].write(value, out, this);
+            }
+        }
+    }
+
+    private int tableIdIndex(String tableId) {
+        Integer index = tableIds.get(tableId);
+        if (index == null) {
+            index = tableIdsByIndex.size();
+            tableIdsByIndex.add(tableId);
+            tableIds.put(tableId, index);
+        }
+        return index;
+    }
+
+    private long append(byte[] record, int length) {
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunkIndex);
+        if (chunk == null || chunkOffset + length > chunk.capacity()) {
+            if (chunk != null) {
+                chunkIndex++;
+            }
+            chunkOffset = 0;
+            if (chunkIndex < chunks.size() && chunks.get(chunkIndex).capacity() >= length) {
+                chunk = chunks.get(chunkIndex);
+            } else {
+                chunk = ByteBuffer.allocateDirect(Math.max(CHUNK_SIZE, length));
+                if (chunkIndex < chunks.size()) {
+                    chunks.set(chunkIndex, chunk);
+                } else {
+                    chunks.add(chunk);
+                }
+            }
+        }
+        ByteBuffer target = chunk.duplicate();
+        target.position(chunkOffset);
+        target.put(record, 0, length);
+        long address = ((long) chunkIndex << 32) | chunkOffset;
+        chunkOffset += length;
+        return address;
+    }
+
+    private boolean keyEquals(long address, byte[] key, int keyLength) {
+        ByteBuffer chunk = chunks.get(chunk(address));
+        int offset = offset(address);
+        if (chunk.getInt(offset) != keyLength) {
+            return false;
+        }
+        for (int i = Integer.BYTES; i < Integer.BYTES + keyLength; i++) {
+            if (chunk.get(offset + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void addEntry(int slot, int hash, long address) {
+        if (size == addresses.length) {
+            addresses = Arrays.copyOf(addresses, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+        }
+        addresses[size] = address;
+        hashes[size] = hash;
+        slots[slot] = ++size;
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        int mask = capacity - 1;
+        for (int entry = 0; entry < size; entry++) {
+            int slot = hashes[entry] & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = entry + 1;
+        }
+    }
+
+    private static int hash(byte[] bytes, int offset, int length) {
+        int h = 1;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        // murmur3 finalizer, linear probing needs the low bits well mixed
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static int nullBitsLength(int fields) {
+        return (fields + 7) >>> 3;
+    }
+
+    private static int chunk(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    private static FieldCodec createCodec(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case STRING:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return new String(in.getBytes(), StandardCharsets.UTF_8);
+                    }
+                };
+            case BOOLEAN:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.put((Boolean) value ? (byte) 1 : (byte) 0);
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return in.get() == 1;
+                    }
+                };
+            case TINYINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.put((Byte) value);
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return in.get();
+                    }
+                };
+            case SMALLINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putShort((Short) value);
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return in.getShort();
+                    }
+                };
+            case INT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putInt((Integer) value);
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return in.getInt();
+                    }
+                };
+            case BIGINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putLong((Long) value);
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return in.getLong();
+                    }
+                };
+            case FLOAT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putInt(Float.floatToIntBits((Float) value));
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return Float.intBitsToFloat(in.getInt());
+                    }
+                };
+            case DOUBLE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putLong(Double.doubleToLongBits((Double) value));
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return Double.longBitsToDouble(in.getLong());
+                    }
+                };
+            case DECIMAL:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        BigDecimal decimal = (BigDecimal) value;
+                        out.putInt(decimal.scale());
+                        out.putBytes(decimal.unscaledValue().toByteArray());
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        int scale = in.getInt();
+                        return new BigDecimal(new BigInteger(in.getBytes()), scale);
+                    }
+                };
+            case DATE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putLong(((LocalDate) value).toEpochDay());
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return LocalDate.ofEpochDay(in.getLong());
+                    }
+                };
+            case TIME:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putLong(((LocalTime) value).toNanoOfDay());
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return LocalTime.ofNanoOfDay(in.getLong());
+                    }
+                };
+            case TIMESTAMP:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        LocalDateTime dateTime = (LocalDateTime) value;
+                        out.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+                        out.putInt(dateTime.getNano());
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        long epochSecond = in.getLong();
+                        return LocalDateTime.ofEpochSecond(
+                                epochSecond, in.getInt(), ZoneOffset.UTC);
+                    }
+                };
+            case BYTES:
+                return new FieldCodec() {
+                    @Override
+                    public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+                        out.putBytes((byte[]) value);
+                    }
+
+                    @Override
+                    public Object read(Reader in, CompactedChangeBuffer buffer) {
+                        return in.getBytes();
+                    }
+                };
+            default:
+                return new HeapCodec();
+        }
+    }
+
+    private interface FieldCodec {
+        void write(Object value, Scratch out, CompactedChangeBuffer buffer);
+
+        Object read(Reader in, CompactedChangeBuffer buffer);
+    }
+
+    /** Keeps the value on the heap and writes its index. */
+    private static class HeapCodec implements FieldCodec {
+        @Override
+        public void write(Object value, Scratch out, CompactedChangeBuffer buffer) {
+            out.putInt(buffer.heapValues.size());
+            buffer.heapValues.add(value);
+        }
+
+        @Override
+        public Object read(Reader in, CompactedChangeBuffer buffer) {
+            return buffer.heapValues.get(in.getInt());
+        }
+    }
+
+    /** Growable heap buffer a change is encoded into before it is copied to the arena. */
+    private static class Scratch {
+        private byte[] bytes = new byte[256];
+        private int position;
+
+        private void reset() {
+            position = 0;
+        }
+
+        private byte[] bytes() {
+            return bytes;
+        }
+
+        private int position() {
+            return position;
+        }
+
+        /** Reserves zeroed bytes. */
+        private void skip(int length) {
+            ensure(length);
+            Arrays.fill(bytes, position, position + length, (byte) 0);
+            position += length;
+        }
+
+        private void put(byte value) {
+            ensure(1);
+            bytes[position++] = value;
+        }
+
+        private void putShort(short value) {
+            ensure(Short.BYTES);
+            bytes[position++] = (byte) (value >>> 8);
+            bytes[position++] = (byte) value;
+        }
+
+        private void putInt(int value) {
+            ensure(Integer.BYTES);
+            putInt(position, value);
+            position += Integer.BYTES;
+        }
+
+        private void putInt(int index, int value) {
+            bytes[index] = (byte) (value >>> 24);
+            bytes[index + 1] = (byte) (value >>> 16);
+            bytes[index + 2] = (byte) (value >>> 8);
+            bytes[index + 3] = (byte) value;
+        }
+
+        private void putLong(long value) {
+            putInt((int) (value >>> 32));
+            putInt((int) value);
+        }
+
+        private void putBytes(byte[] value) {
+            putInt(value.length);
+            ensure(value.length);
+            System.arraycopy(value, 0, bytes, position, value.length);
+            position += value.length;
+        }
+
+        private void ensure(int length) {
+            if (position + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + length));
+            }
+        }
+    }
+
+    /** Sequential reader of a change in an arena chunk. */
+    private static class Reader {
+        private final ByteBuffer chunk;
+        private int position;
+
+        private Reader(ByteBuffer chunk, int position) {
+            this.chunk = chunk;
+            this.position = position;
+        }
+
+        private byte get() {
+            return chunk.get(position++);
+        }
+
+        private short getShort() {
+            short value = chunk.getShort(position);
+            position += Short.BYTES;
+            return value;
+        }
+
+        private int getInt() {
+            int value = chunk.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        private long getLong() {
+            long value = chunk.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        private byte[] getBytes() {
+            byte[] value = new byte[getInt()];
+            ByteBuffer source = chunk.duplicate();
+            source.position(position);
+            source.get(value);
+            position += value.length;
+            return value;
+        }
+    }
+}
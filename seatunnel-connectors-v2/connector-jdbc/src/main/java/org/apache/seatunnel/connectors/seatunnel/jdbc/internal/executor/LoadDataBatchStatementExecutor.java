@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorErrorCode;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Streams a batch to MySQL compatible databases with {@code LOAD DATA LOCAL INFILE}. Rows are
+ * encoded as tab separated text into a reusable in-memory buffer, which the driver sends as the
+ * local file, so a batch costs one round trip and no per-row parameter binding.
+ *
+ * <p>The driver statement must expose {@code setLocalInfileInputStream(InputStream)}, as MySQL
+ * Connector/J and the MariaDB and OceanBase drivers do, and the connection must allow local infile
+ * ({@code allowLoadLocalInfile=true}).
+ *
+ * <p>A {@code LOAD DATA LOCAL} skips the lines it can't insert with a warning instead of failing,
+ * e.g. duplicate keys. A batch of which fewer rows were loaded than sent fails with the warnings of
+ * the statement. With {@code REPLACE} a replaced row counts twice, so such a batch fails on any
+ * warning instead.
+ */
+@Slf4j
+public class LoadDataBatchStatementExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    private static final byte[] NULL = {'\\', 'N'};
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSS");
+    private static final DateTimeFormatter DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final int MAX_REPORTED_WARNINGS = 5;
+
+    private final FieldEncoder[] encoders;
+    private final String loadSql;
+    private final LoadBuffer buffer = new LoadBuffer();
+    private final boolean replace;
+    private int rowCount;
+    private transient Statement statement;
+    private transient Statement driverStatement;
+    private transient Method setLocalInfileInputStream;
+
+    /**
+     * @param sqlFactory creates the load statement given which fields are hex encoded binaries, see
+     *     {@link
+     *     org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect#getLoadDataStatement}
+     * @param replace whether the statement replaces the rows with the same key
+     */
+    public LoadDataBatchStatementExecutor(
+            Function<boolean[], String> sqlFactory, TableSchema tableSchema, boolean replace) {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        this.encoders = new FieldEncoder[rowType.getTotalFields()];
+        boolean[] binaryFields = new boolean[rowType.getTotalFields()];
+        for (int i = 0; i < encoders.length; i++) {
+            SeaTunnelDataType<?> type = rowType.getFieldType(i);
+            encoders[i] = createEncoder(type);
+            binaryFields[i] = type.getSqlType() == SqlType.BYTES;
+        }
+        this.loadSql = sqlFactory.apply(binaryFields);
+        this.replace = replace;
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        statement = connection.createStatement();
+        driverStatement = statement.unwrap(Statement.class);
+        try {
+            setLocalInfileInputStream =
+                    driverStatement
+                            .getClass()
+                            .getMethod("setLocalInfileInputStream", InputStream.class);
+        } catch (NoSuchMethodException e) {
+            throw new JdbcConnectorException(
+                    JdbcConnectorErrorCode.NO_SUPPORT_OPERATION_FAILED,
+                    "unable to stream LOAD DATA LOCAL INFILE with "
+                            + driverStatement.getClass().getName()
+                            + ". Please configure option bulk_insert_mode = NONE.",
+                    e);
+        }
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        for (int i = 0; i < encoders.length; i++) {
+            if (i > 0) {
+                buffer.write('\t');
+            }
+            Object value = record.getField(i);
+            if (value == null) {
+                buffer.write(NULL, 0, NULL.length);
+            } else {
+                encoders[i].encode(value, buffer);
+            }
+        }
+        buffer.write('\n');
+        rowCount++;
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        if (rowCount == 0) {
+            return;
+        }
+        try {
+            setLocalInfileInputStream.invoke(driverStatement, buffer.toInputStream());
+            statement.clearWarnings();
+            statement.execute(loadSql);
+            int loaded = statement.getUpdateCount();
+            if (loaded >= 0 && loaded < rowCount) {
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                        String.format(
+                                "LOAD DATA loaded %d of %d rows, the other rows were skipped: %s",
+                                loaded, rowCount, formatWarnings(getWarnings())));
+            }
+            if (replace) {
+                // a replaced row counts twice, so the count can't reveal the skipped lines
+                List<String> warnings = getWarnings();
+                if (!warnings.isEmpty()) {
+                    throw new JdbcConnectorException(
+                            CommonErrorCodeDeprecated.SQL_OPERATION_FAILED,
+                            String.format(
+                                    "LOAD DATA of %d rows reported warnings, rows may have been"
+                                            + " skipped: %s",
+                                    rowCount, formatWarnings(warnings)));
+                }
+            }
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new JdbcConnectorException(
+                    CommonErrorCodeDeprecated.SQL_OPERATION_FAILED, "Sql command: " + loadSql, e);
+        } finally {
+            buffer.reset();
+            rowCount = 0;
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        buffer.reset();
+        rowCount = 0;
+        if (statement != null) {
+            statement.close();
+            statement = null;
+        }
+    }
+
+    private List<String> getWarnings() {
+        List<String> warnings = new ArrayList<>();
+        try {
+            for (SQLWarning warning = statement.getWarnings();
+                    warning != null && warnings.size() < MAX_REPORTED_WARNINGS;
+                    warning = warning.getNextWarning()) {
+                warnings.add(warning.getMessage());
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to get the warnings of LOAD DATA", e);
+        }
+        return warnings;
+    }
+
+    private static String formatWarnings(List<String> warnings) {
+        return warnings.isEmpty() ? "no warnings" : String.join("; ", warnings);
+    }
+
+    String getLoadSql() {
+        return loadSql;
+    }
+
+    private static FieldEncoder createEncoder(SeaTunnelDataType<?> type) {
+        switch (type.getSqlType()) {
+            case STRING:
+                return (value, out) -> out.writeEscaped((String) value);
+            case BOOLEAN:
+                return (value, out) -> out.write((Boolean) value ? '1' : '0');
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                return (value, out) -> out.writeAscii(value.toString());
+            case DECIMAL:
+                return (value, out) -> out.writeAscii(((BigDecimal) value).toPlainString());
+            case DATE:
+                return (value, out) -> out.writeAscii(((LocalDate) value).toString());
+            case TIME:
+                return (value, out) -> out.writeAscii(TIME_FORMATTER.format((LocalTime) value));
+            case TIMESTAMP:
+                return (value, out) ->
+                        out.writeAscii(DATETIME_FORMATTER.format((LocalDateTime) value));
+            case BYTES:
+                return (value, out) -> out.writeHex((byte[]) value);
+            case NULL:
+                return (value, out) -> out.write(NULL, 0, NULL.length);
+            default:
+                throw new JdbcConnectorException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_DATA_TYPE,
+                        "Unexpected value: " + type);
+        }
+    }
+
+    private interface FieldEncoder {
+        void encode(Object value, LoadBuffer out);
+    }
+
+    /** Unsynchronized growable byte buffer that is handed to the driver without copying. */
+    private static class LoadBuffer {
+        private byte[] buf = new byte[64 * 1024];
+        private int count;
+
+        private void write(int b) {
+            if (count == buf.length) {
+                grow(1);
+            }
+            buf[count++] = (byte) b;
+        }
+
+        private void write(byte[] bytes, int offset, int length) {
+            if (count + length > buf.length) {
+                grow(length);
+            }
+            System.arraycopy(bytes, offset, buf, count, length);
+            count += length;
+        }
+
+        private void grow(int minExtra) {
+            buf = Arrays.copyOf(buf, Math.max(buf.length << 1, count + minExtra));
+        }
+
+        private void reset() {
+            count = 0;
+        }
+
+        private void writeAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                write(value.charAt(i));
+            }
+        }
+
+        /**
+         * Escapes in UTF-8 bytes rather than chars, multi-byte sequences never contain ASCII bytes
+         * so they pass through unchanged.
+         */
+        private void writeEscaped(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            int start = 0;
+            for (int i = 0; i < bytes.length; i++) {
+                byte escaped;
+                switch (bytes[i]) {
+                    case '\\':
+                        escaped = '\\';
+                        break;
+                    case '\t':
+                        escaped = 't';
+                        break;
+                    case '\n':
+                        escaped = 'n';
+                        break;
+                    case '\r':
+                        escaped = 'r';
+                        break;
+                    case 0:
+                        escaped = '0';
+                        break;
+                    default:
+                        continue;
+                }
+                write(bytes, start, i - start);
+                write('\\');
+                write(escaped);
+                start = i + 1;
+            }
+            write(bytes, start, bytes.length - start);
+        }
+
+        private void writeHex(byte[] value) {
+            for (byte b : value) {
+                write(HEX[(b >> 4) & 0x0F]);
+                write(HEX[b & 0x0F]);
+            }
+        }
+
+        private InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Inserts a batch with {@code INSERT ... VALUES (...), (...)} statements carrying up to {@code
+ * maxRowsPerStatement} rows each, instead of one parameter set per row.
+ *
+ * <p>Statements are prepared lazily and cached by row count. Full chunks all share the largest
+ * statement and the remainder is split into powers of two, so at most {@code
+ * log2(maxRowsPerStatement) + 2} statements are ever prepared per connection.
+ */
+public class MultiRowInsertBatchStatementExecutor
+        implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+    private final IntFunction<String> sqlFactory;
+    private final int maxRowsPerStatement;
+    private final TableSchema tableSchema;
+    private final JdbcRowConverter converter;
+    private final int fieldCount;
+    private final List<SeaTunnelRow> rows = new ArrayList<>();
+    private transient Connection connection;
+    private transient Map<Integer, RowsStatement> statements;
+
+    /**
+     * @param sqlFactory creates the insert statement for the given row count, with positional
+     *     placeholders in row-major order
+     */
+    public MultiRowInsertBatchStatementExecutor(
+            IntFunction<String> sqlFactory,
+            int maxRowsPerStatement,
+            TableSchema tableSchema,
+            JdbcRowConverter converter) {
+        this.sqlFactory = sqlFactory;
+        this.maxRowsPerStatement = Math.max(1, maxRowsPerStatement);
+        this.tableSchema = tableSchema;
+        this.converter = converter;
+        this.fieldCount = tableSchema.getFieldNames().length;
+    }
+
+    @Override
+    public void prepareStatements(Connection connection) throws SQLException {
+        closeStatements();
+        this.connection = connection;
+        this.statements = new HashMap<>();
+    }
+
+    @Override
+    public void addToBatch(SeaTunnelRow record) throws SQLException {
+        rows.add(record);
+    }
+
+    @Override
+    public void executeBatch() throws SQLException {
+        Set<RowsStatement> pending = new LinkedHashSet<>();
+        try {
+            int offset = 0;
+            int remaining = rows.size();
+            while (remaining > 0) {
+                int chunk =
+                        remaining >= maxRowsPerStatement
+                                ? maxRowsPerStatement
+                                : Integer.highestOneBit(remaining);
+                RowsStatement statement = statementFor(chunk);
+                for (int i = 0; i < chunk; i++) {
+                    converter.toExternal(tableSchema, rows.get(offset + i), statement.rows[i]);
+                }
+                statement.statement.addBatch();
+                pending.add(statement);
+                offset += chunk;
+                remaining -= chunk;
+            }
+            for (RowsStatement statement : pending) {
+                statement.statement.executeBatch();
+            }
+        } finally {
+            rows.clear();
+            // a failed batch is added again on retry, the chunks not executed must not stay bound
+            for (RowsStatement statement : pending) {
+                statement.statement.clearBatch();
+            }
+        }
+    }
+
+    @Override
+    public void closeStatements() throws SQLException {
+        if (statements != null) {
+            for (RowsStatement statement : statements.values()) {
+                statement.statement.close();
+            }
+            statements = null;
+        }
+    }
+
+    private RowsStatement statementFor(int rowCount) throws SQLException {
+        RowsStatement statement = statements.get(rowCount);
+        if (statement == null) {
+            statement =
+                    new RowsStatement(
+                            connection.prepareStatement(sqlFactory.apply(rowCount)),
+                            rowCount,
+                            fieldCount);
+            statements.put(rowCount, statement);
+        }
+        return statement;
+    }
+
+    /** A prepared statement for a fixed row count with a parameter view of each of its rows. */
+    private static class RowsStatement {
+        private final PreparedStatement statement;
+        private final PreparedStatement[] rows;
+
+        private RowsStatement(PreparedStatement statement, int rowCount, int fieldCount) {
+            this.statement = statement;
+            this.rows = new PreparedStatement[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                int[][] indexMapping = new int[fieldCount][];
+                for (int field = 0; field < fieldCount; field++) {
+                    indexMapping[field] = new int[] {row * fieldCount + field + 1};
+                }
+                rows[row] = new FieldNamedPreparedStatement(statement, indexMapping);
+            }
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
 
+import org.apache.seatunnel.shade.com.google.common.annotations.VisibleForTesting;
+
 import org.apache.seatunnel.api.table.catalog.Column;
 import org.apache.seatunnel.api.table.catalog.ConstraintKey;
 import org.apache.seatunnel.api.table.catalog.PrimaryKey;
@@ -116,15 +118,69 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
     public PreparedStatement generateSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         if (split.getSplitKeyName() == null) {
-            return createSingleSplitStatement(split);
+            return createSingleSplitStatement(split, schema);
         }
         return createSplitStatement(split, schema);
     }
 
+    /**
+     * Whether the split is read in batches of {@link JdbcSourceConfig#getSplitReadBatchSize()}
+     * rows, in the order of its split key, and can be resumed from {@link
+     * JdbcSourceSplit#getResumeKey()}.
+     *
+     * <p>A resumed query only matches keys greater than the resume key, never a NULL key. The
+     * bounds of a split exclude NULL keys too, so only a split without bounds on a nullable split
+     * key can contain such rows; it is read at once instead.
+     *
+     * <p>The reader only stops between rows whose keys differ in Java, while the database compares
+     * the resume key with its own collation. Only integral, decimal and temporal keys are ordered
+     * alike by both, strings may be equal under a case-insensitive or PAD SPACE collation and
+     * floating point keys differ in Java for -0.0 and 0.0.
+     */
+    public boolean isResumable(JdbcSourceSplit split, TableSchema schema) {
+        if (config.getSplitReadBatchSize() <= 0
+                || split.getSplitKeyName() == null
+                || !isComparableSplitKey(split.getSplitKeyType())) {
+            return false;
+        }
+        if (split.getSplitStart() != null || split.getSplitEnd() != null) {
+            return true;
+        }
+        return schema.getColumns().stream()
+                .filter(c -> c.getName().equals(split.getSplitKeyName()))
+                .findAny()
+                .map(c -> !c.isNullable())
+                .orElse(false);
+    }
+
+    private static boolean isComparableSplitKey(SeaTunnelDataType<?> splitKeyType) {
+        if (splitKeyType == null) {
+            return false;
+        }
+        switch (splitKeyType.getSqlType()) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case DECIMAL:
+            case DATE:
+            case TIME:
+            case TIMESTAMP:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     protected abstract PreparedStatement createSplitStatement(
             JdbcSourceSplit split, TableSchema schema) throws SQLException;
 
     protected PreparedStatement createPreparedStatement(String sql) throws SQLException {
+        return createPreparedStatement(sql, null, null);
+    }
+
+    private PreparedStatement createPreparedStatement(
+            String sql, JdbcSourceSplit resumableSplit, TableSchema schema) throws SQLException {
         Connection connection = getOrEstablishConnection();
         // set autoCommit mode only if it was explicitly configured.
         // keep connection default otherwise.
@@ -134,10 +190,47 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
         if (StringUtils.isNotBlank(config.getWhereConditionClause())) {
             sql = String.format("SELECT * FROM (%s) tmp %s", sql, config.getWhereConditionClause());
         }
+        if (resumableSplit != null) {
+            sql = createResumableSplitQuery(sql, resumableSplit, schema);
+        }
         log.debug("Prepared statement: {}", sql);
         return jdbcDialect.creatPreparedStatement(connection, sql, fetchSize);
     }
 
+    /**
+     * Creates the statement of a split query, the caller sets its first {@code splitParameters}
+     * parameters. A resumable split is ordered by its split key and skips the rows up to its resume
+     * key.
+     */
+    protected PreparedStatement createSplitPreparedStatement(
+            String sql, JdbcSourceSplit split, TableSchema schema, int splitParameters)
+            throws SQLException {
+        if (!isResumable(split, schema)) {
+            return createPreparedStatement(sql);
+        }
+        PreparedStatement statement = createPreparedStatement(sql, split, schema);
+        if (split.getResumeKey() != null) {
+            statement.setObject(splitParameters + 1, split.getResumeKey());
+        }
+        return statement;
+    }
+
+    @VisibleForTesting
+    String createResumableSplitQuery(String sql, JdbcSourceSplit split, TableSchema schema) {
+        String splitKey = jdbcDialect.quoteIdentifier(split.getSplitKeyName());
+        Optional<Column> column =
+                schema.getColumns().stream()
+                        .filter(c -> c.getName().equals(split.getSplitKeyName()))
+                        .findAny();
+        if (column.isPresent()) {
+            splitKey = jdbcDialect.convertType(splitKey, column.get().getSourceType());
+        }
+        if (split.getResumeKey() != null) {
+            sql = String.format("SELECT * FROM (%s) st_jdbc_resume WHERE %s > ?", sql, splitKey);
+        }
+        return String.format("%s ORDER BY %s", sql, splitKey);
+    }
+
     protected Connection getOrEstablishConnection() throws SQLException {
         try {
             return connectionProvider.getOrEstablishConnection();
@@ -161,15 +254,15 @@ public abstract class ChunkSplitter implements AutoCloseable, Serializable {
                 null);
     }
 
-    protected PreparedStatement createSingleSplitStatement(JdbcSourceSplit split)
-            throws SQLException {
+    protected PreparedStatement createSingleSplitStatement(
+            JdbcSourceSplit split, TableSchema schema) throws SQLException {
         String splitQuery = split.getSplitQuery();
         if (StringUtils.isEmpty(splitQuery)) {
             splitQuery =
                     String.format(
                             "SELECT * FROM %s", jdbcDialect.tableIdentifier(split.getTablePath()));
         }
-        return createPreparedStatement(splitQuery);
+        return createSplitPreparedStatement(splitQuery, split, schema, 0);
     }
 
     protected Object queryMin(JdbcSourceTable table, String columnName, Object excludedLowerBound)
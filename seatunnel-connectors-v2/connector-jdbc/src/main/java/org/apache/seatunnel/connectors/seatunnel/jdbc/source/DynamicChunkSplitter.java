@@ -98,7 +98,9 @@ public class DynamicChunkSplitter extends ChunkSplitter {
     private PreparedStatement createDynamicSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         String splitQuery = createDynamicSplitQuerySQL(split, schema);
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        PreparedStatement statement =
+                createSplitPreparedStatement(
+                        splitQuery, split, schema, dynamicSplitParameters(split));
         prepareDynamicSplitStatement(statement, split);
         return statement;
     }
@@ -521,6 +523,19 @@ public class DynamicChunkSplitter extends ChunkSplitter {
         }
     }
 
+    private static int dynamicSplitParameters(JdbcSourceSplit split) {
+        boolean isFirstSplit = split.getSplitStart() == null;
+        boolean isLastSplit = split.getSplitEnd() == null;
+        if (isFirstSplit && isLastSplit) {
+            return 0;
+        } else if (isFirstSplit) {
+            return 2;
+        } else if (isLastSplit) {
+            return 1;
+        }
+        return 3;
+    }
+
     private static void prepareDynamicSplitStatement(
             PreparedStatement statement, JdbcSourceSplit split) throws SQLException {
         boolean isFirstSplit = split.getSplitStart() == null;
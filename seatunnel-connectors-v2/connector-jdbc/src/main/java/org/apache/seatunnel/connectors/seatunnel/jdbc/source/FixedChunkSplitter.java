@@ -94,13 +94,13 @@ public class FixedChunkSplitter extends ChunkSplitter {
     protected PreparedStatement createSplitStatement(JdbcSourceSplit split, TableSchema schema)
             throws SQLException {
         if (SqlType.STRING.equals(split.getSplitKeyType().getSqlType())) {
-            return createStringColumnSplitStatement(split);
+            return createStringColumnSplitStatement(split, schema);
         }
         if (split.getSplitStart() == null && split.getSplitEnd() == null) {
-            return createSingleSplitStatement(split);
+            return createSingleSplitStatement(split, schema);
         }
 
-        return createNumberColumnSplitStatement(split);
+        return createNumberColumnSplitStatement(split, schema);
     }
 
     private Collection<JdbcSourceSplit> createStringColumnSplits(
@@ -147,9 +147,10 @@ public class FixedChunkSplitter extends ChunkSplitter {
         return splits;
     }
 
-    private PreparedStatement createStringColumnSplitStatement(JdbcSourceSplit split)
-            throws SQLException {
-        PreparedStatement statement = createPreparedStatement(split.getSplitQuery());
+    private PreparedStatement createStringColumnSplitStatement(
+            JdbcSourceSplit split, TableSchema schema) throws SQLException {
+        PreparedStatement statement =
+                createSplitPreparedStatement(split.getSplitQuery(), split, schema, 1);
         statement.setInt(1, (Integer) split.getSplitStart());
         return statement;
     }
@@ -181,8 +182,8 @@ public class FixedChunkSplitter extends ChunkSplitter {
         return splits;
     }
 
-    private PreparedStatement createNumberColumnSplitStatement(JdbcSourceSplit split)
-            throws SQLException {
+    private PreparedStatement createNumberColumnSplitStatement(
+            JdbcSourceSplit split, TableSchema schema) throws SQLException {
         String splitQuery;
         String splitKeyName = jdbcDialect.quoteIdentifier(split.getSplitKeyName());
         if (StringUtils.isNotBlank(split.getSplitQuery())) {
@@ -198,7 +199,7 @@ public class FixedChunkSplitter extends ChunkSplitter {
                             splitKeyName,
                             splitKeyName);
         }
-        PreparedStatement statement = createPreparedStatement(splitQuery);
+        PreparedStatement statement = createSplitPreparedStatement(splitQuery, split, schema, 2);
 
         Object[] parameterValues = new Object[] {split.getSplitStart(), split.getSplitEnd()};
         for (int i = 0; i < parameterValues.length; i++) {
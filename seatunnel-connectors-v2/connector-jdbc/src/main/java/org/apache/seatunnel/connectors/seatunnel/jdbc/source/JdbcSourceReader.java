@@ -38,12 +38,16 @@ import java.util.concurrent.ConcurrentLinkedDeque;
 public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSplit> {
     private final Context context;
     private final JdbcInputFormat inputFormat;
+    private final int readBatchSize;
     private final Deque<JdbcSourceSplit> splits = new ConcurrentLinkedDeque<>();
+    // the split being read, guarded by the checkpoint lock
+    private JdbcSourceSplit currentSplit;
     private volatile boolean noMoreSplit;
 
     public JdbcSourceReader(
             Context context, JdbcSourceConfig config, Map<TablePath, CatalogTable> tables) {
         this.inputFormat = new JdbcInputFormat(config, tables);
+        this.readBatchSize = config.getSplitReadBatchSize();
         this.context = context;
     }
 
@@ -61,30 +65,65 @@ public class JdbcSourceReader implements SourceReader<SeaTunnelRow, JdbcSourceSp
     @SuppressWarnings("magicnumber")
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         synchronized (output.getCheckpointLock()) {
-            JdbcSourceSplit split = splits.poll();
-            if (null != split) {
-                try {
+            if (currentSplit == null) {
+                JdbcSourceSplit split = splits.poll();
+                if (null != split) {
                     inputFormat.open(split);
-                    while (!inputFormat.reachedEnd()) {
-                        SeaTunnelRow seaTunnelRow = inputFormat.nextRecord();
-                        output.collect(seaTunnelRow);
-                    }
-                } finally {
+                    currentSplit = split;
+                } else if (noMoreSplit && splits.isEmpty()) {
+                    // signal to the source that we have reached the end of the data.
+                    log.info("Closed the bounded jdbc source");
+                    context.signalNoMoreElement();
+                    return;
+                } else {
+                    context.markIdle(1000L);
+                    return;
+                }
+            }
+            // the split is closed as well if reading it fails
+            boolean splitFinished = true;
+            try {
+                splitFinished = readBatch(output);
+            } finally {
+                if (splitFinished) {
                     inputFormat.close();
+                    currentSplit = null;
                 }
-            } else if (noMoreSplit && splits.isEmpty()) {
-                // signal to the source that we have reached the end of the data.
-                log.info("Closed the bounded jdbc source");
-                context.signalNoMoreElement();
-            } else {
-                Thread.sleep(1000L);
             }
         }
     }
 
+    /**
+     * Emits the next batch of rows of the current split, a resumable split releases the checkpoint
+     * lock after each batch, or once the read limits hold the reader back, and remembers where to
+     * continue.
+     *
+     * @return whether the split was read to the end
+     */
+    private boolean readBatch(Collector<SeaTunnelRow> output) throws Exception {
+        boolean resumable = inputFormat.isResumable(currentSplit);
+        int rows = 0;
+        while (!inputFormat.reachedEnd()) {
+            if (resumable
+                    && (rows >= readBatchSize || (rows > 0 && output.isThrottled()))
+                    && !inputFormat.nextRecordHasLastSplitKey()) {
+                currentSplit = currentSplit.withResumeKey(inputFormat.getLastSplitKey());
+                return false;
+            }
+            output.collect(inputFormat.nextRecord());
+            rows++;
+        }
+        return true;
+    }
+
     @Override
     public List<JdbcSourceSplit> snapshotState(long checkpointId) throws Exception {
-        return new ArrayList<>(splits);
+        List<JdbcSourceSplit> state = new ArrayList<>(splits.size() + 1);
+        if (currentSplit != null) {
+            state.add(currentSplit);
+        }
+        state.addAll(splits);
+        return state;
     }
 
     @Override
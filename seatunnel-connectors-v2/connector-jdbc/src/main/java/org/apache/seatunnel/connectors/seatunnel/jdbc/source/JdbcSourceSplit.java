@@ -29,6 +29,9 @@ import lombok.ToString;
 @ToString
 @AllArgsConstructor
 public class JdbcSourceSplit implements SourceSplit {
+    /** The computed UID of the version without resume key, keeps its checkpoints restorable. */
+    private static final long serialVersionUID = -815542654355310611L;
+
     private final TablePath tablePath;
     private final String splitId;
     private final String splitQuery;
@@ -36,6 +39,42 @@ public class JdbcSourceSplit implements SourceSplit {
     private final SeaTunnelDataType splitKeyType;
     private final Object splitStart;
     private final Object splitEnd;
+    /**
+     * The split key of the last row emitted from the split, a restored split continues with the
+     * rows after it. {@code null} if the split was not read yet.
+     */
+    private final Object resumeKey;
+
+    public JdbcSourceSplit(
+            TablePath tablePath,
+            String splitId,
+            String splitQuery,
+            String splitKeyName,
+            SeaTunnelDataType splitKeyType,
+            Object splitStart,
+            Object splitEnd) {
+        this(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                null);
+    }
+
+    public JdbcSourceSplit withResumeKey(Object resumeKey) {
+        return new JdbcSourceSplit(
+                tablePath,
+                splitId,
+                splitQuery,
+                splitKeyName,
+                splitKeyType,
+                splitStart,
+                splitEnd,
+                resumeKey);
+    }
 
     @Override
     public String splitId() {
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal;
+
+import org.apache.seatunnel.connectors.seatunnel.jdbc.config.JdbcConnectionConfig;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.connection.JdbcConnectionProvider;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBatchStatementExecutor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class JdbcOutputFormatTest {
+
+    @Test
+    public void testAsyncFlushOverlapsWithWrites() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor();
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = create(executor, 1);
+        outputFormat.open();
+
+        executor.blockBatches();
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+        // the first batch is executing, the writer fills the second one
+        Assertions.assertTrue(executor.started.await(10, TimeUnit.SECONDS));
+        outputFormat.writeRecord(3);
+        Assertions.assertTrue(executor.executed.isEmpty());
+
+        executor.release.countDown();
+        outputFormat.flush();
+        Assertions.assertEquals(2, executor.executed.size());
+        Assertions.assertEquals(1, executor.executed.get(0).get(0));
+        Assertions.assertEquals(3, executor.executed.get(1).get(0));
+        outputFormat.close();
+    }
+
+    @Test
+    public void testAsyncFlushFailureSurfacesOnNextWrite() throws Exception {
+        RecordingExecutor executor = new RecordingExecutor();
+        JdbcOutputFormat<Integer, RecordingExecutor> outputFormat = create(executor, 2);
+        outputFormat.open();
+
+        executor.fail = true;
+        outputFormat.writeRecord(1);
+        outputFormat.writeRecord(2);
+        JdbcConnectorException exception =
+                Assertions.assertThrows(JdbcConnectorException.class, outputFormat::flush);
+        Assertions.assertTrue(exception.getMessage().contains("Writing records to JDBC failed"));
+        Assertions.assertThrows(JdbcConnectorException.class, () -> outputFormat.writeRecord(3));
+        Assertions.assertThrows(JdbcConnectorException.class, outputFormat::close);
+    }
+
+    private static JdbcOutputFormat<Integer, RecordingExecutor> create(
+            RecordingExecutor executor, int maxInFlightBatches) {
+        JdbcConnectionConfig config =
+                JdbcConnectionConfig.builder()
+                        .url("jdbc:test")
+                        .batchSize(2)
+                        .maxInFlightBatches(maxInFlightBatches)
+                        .build();
+        return new JdbcOutputFormat<>(new NoopConnectionProvider(), config, () -> executor);
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<Integer> {
+
+        private final List<List<Integer>> executed = new ArrayList<>();
+
+        private final List<Integer> batch = new ArrayList<>();
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private CountDownLatch release = new CountDownLatch(0);
+
+        private volatile boolean fail;
+
+        void blockBatches() {
+            release = new CountDownLatch(1);
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(Integer record) {
+            batch.add(record);
+        }
+
+        @Override
+        public void executeBatch() throws SQLException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new SQLException(e);
+            }
+            if (fail) {
+                throw new SQLException("test failure");
+            }
+            synchronized (executed) {
+                executed.add(new ArrayList<>(batch));
+            }
+            batch.clear();
+        }
+
+        @Override
+        public void closeStatements() {}
+    }
+
+    private static class NoopConnectionProvider implements JdbcConnectionProvider {
+
+        @Override
+        public Connection getConnection() {
+            return null;
+        }
+
+        @Override
+        public boolean isConnectionValid() {
+            return true;
+        }
+
+        @Override
+        public Connection getOrEstablishConnection() {
+            return null;
+        }
+
+        @Override
+        public void closeConnection() {}
+
+        @Override
+        public Connection reestablishConnection() {
+            return null;
+        }
+    }
+}
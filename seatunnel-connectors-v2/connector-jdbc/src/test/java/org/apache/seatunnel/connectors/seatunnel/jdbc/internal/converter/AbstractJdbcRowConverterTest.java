@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlJdbcRowConverter;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+public class AbstractJdbcRowConverterTest {
+
+    private static final SeaTunnelDataType<?>[] MIXED_TYPES = {
+        BasicType.STRING_TYPE,
+        BasicType.INT_TYPE,
+        BasicType.LONG_TYPE,
+        BasicType.DOUBLE_TYPE,
+        new DecimalType(20, 4),
+        BasicType.BOOLEAN_TYPE,
+        LocalTimeType.LOCAL_DATE_TYPE,
+        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+        BasicType.SHORT_TYPE,
+        BasicType.FLOAT_TYPE
+    };
+
+    /** A schema of {@code columns} columns cycling through the common column types. */
+    static TableSchema mixedSchema(int columns) {
+        TableSchema.Builder builder = TableSchema.builder();
+        for (int i = 0; i < columns; i++) {
+            builder.column(
+                    PhysicalColumn.of(
+                            "c" + i,
+                            MIXED_TYPES[i % MIXED_TYPES.length],
+                            (Long) null,
+                            true,
+                            null,
+                            null));
+        }
+        return builder.build();
+    }
+
+    /** The values of {@link #mixedSchema}, as SeaTunnel values or as JDBC values. */
+    static Object[] mixedValues(int columns, boolean jdbc) {
+        Object[] values = new Object[columns];
+        for (int i = 0; i < columns; i++) {
+            switch (i % MIXED_TYPES.length) {
+                case 0:
+                    values[i] = "value-" + i;
+                    break;
+                case 1:
+                    values[i] = i;
+                    break;
+                case 2:
+                    values[i] = i * 1000L;
+                    break;
+                case 3:
+                    values[i] = i * 1.5d;
+                    break;
+                case 4:
+                    values[i] = new BigDecimal("12345.6789");
+                    break;
+                case 5:
+                    values[i] = i % 2 == 0;
+                    break;
+                case 6:
+                    LocalDate date = LocalDate.of(2024, 1, 1 + i % 28);
+                    values[i] = jdbc ? java.sql.Date.valueOf(date) : date;
+                    break;
+                case 7:
+                    LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 12, 0, i % 60);
+                    values[i] = jdbc ? java.sql.Timestamp.valueOf(dateTime) : dateTime;
+                    break;
+                case 8:
+                    values[i] = (short) i;
+                    break;
+                default:
+                    values[i] = i * 0.5f;
+            }
+        }
+        return values;
+    }
+
+    /** A result set positioned on one row, every getter returns the value of its column. */
+    static ResultSet resultSetOf(Object[] values) {
+        boolean[] wasNull = new boolean[1];
+        return (ResultSet)
+                Proxy.newProxyInstance(
+                        ResultSet.class.getClassLoader(),
+                        new Class<?>[] {ResultSet.class},
+                        (proxy, method, args) -> {
+                            if ("wasNull".equals(method.getName())) {
+                                return wasNull[0];
+                            }
+                            Object value = values[(Integer) args[0] - 1];
+                            wasNull[0] = value == null;
+                            if (value == null && method.getReturnType().isPrimitive()) {
+                                return method.getReturnType() == boolean.class ? false : 0;
+                            }
+                            return value;
+                        });
+    }
+
+    /** A statement that records the bound parameters into {@code bound}. */
+    static PreparedStatement recordingStatement(Object[] bound) {
+        return (PreparedStatement)
+                Proxy.newProxyInstance(
+                        PreparedStatement.class.getClassLoader(),
+                        new Class<?>[] {PreparedStatement.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().startsWith("set")) {
+                                bound[(Integer) args[0] - 1] =
+                                        "setNull".equals(method.getName()) ? null : args[1];
+                            }
+                            return null;
+                        });
+    }
+
+    @Test
+    public void testToInternal() throws Exception {
+        JdbcRowConverter converter = new MysqlJdbcRowConverter();
+        TableSchema schema = mixedSchema(25);
+        ResultSet rs = resultSetOf(mixedValues(25, true));
+        SeaTunnelRow row = converter.toInternal(rs, schema);
+        Assertions.assertArrayEquals(mixedValues(25, false), row.getFields());
+
+        Object[] jdbcValues = mixedValues(25, true);
+        jdbcValues[3] = null;
+        jdbcValues[6] = null;
+        row = converter.toInternal(resultSetOf(jdbcValues), schema);
+        Assertions.assertNull(row.getField(3));
+        Assertions.assertNull(row.getField(6));
+    }
+
+    @Test
+    public void testToExternal() throws Exception {
+        JdbcRowConverter converter = new MysqlJdbcRowConverter();
+        TableSchema schema = mixedSchema(25);
+        TableSchema keySchema = mixedSchema(3);
+        Object[] bound = new Object[25];
+        PreparedStatement statement = recordingStatement(bound);
+
+        converter.toExternal(schema, new SeaTunnelRow(mixedValues(25, false)), statement);
+        Assertions.assertArrayEquals(mixedValues(25, true), bound);
+
+        // columns are compiled per schema, a converter may alternate between schemas
+        Object[] key = mixedValues(3, false);
+        key[1] = null;
+        converter.toExternal(keySchema, new SeaTunnelRow(key), statement);
+        Assertions.assertEquals("value-0", bound[0]);
+        Assertions.assertNull(bound[1]);
+        Assertions.assertEquals(2000L, bound[2]);
+    }
+
+    @Test
+    public void testUnsupportedTypeOnlyFailsForValues() throws Exception {
+        JdbcRowConverter converter = new MysqlJdbcRowConverter();
+        TableSchema schema =
+                TableSchema.builder()
+                        .column(
+                                PhysicalColumn.of(
+                                        "id", BasicType.INT_TYPE, (Long) null, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "attributes",
+                                        new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE),
+                                        (Long) null,
+                                        true,
+                                        null,
+                                        null))
+                        .build();
+        PreparedStatement statement = recordingStatement(new Object[2]);
+        converter.toExternal(schema, new SeaTunnelRow(new Object[] {1, null}), statement);
+        JdbcConnectorException exception =
+                Assertions.assertThrows(
+                        JdbcConnectorException.class,
+                        () ->
+                                converter.toExternal(
+                                        schema,
+                                        new SeaTunnelRow(new Object[] {1, Collections.emptyMap()}),
+                                        statement));
+        Assertions.assertTrue(exception.getMessage().contains("error field:attributes"));
+    }
+}
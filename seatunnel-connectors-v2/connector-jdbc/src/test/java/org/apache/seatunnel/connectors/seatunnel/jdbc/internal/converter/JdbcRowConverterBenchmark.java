@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter;
+
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlJdbcRowConverter;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.utils.JdbcFieldTypeUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of {@link AbstractJdbcRowConverter} on a row of 50 columns of mixed types: {@code
+ * switchPerField} is the former implementation, which switched on the type of every column of every
+ * row, {@code precompiled} is the converter itself. The JDBC driver is stood in by proxies that
+ * only remember the values.
+ *
+ * <p>Run with {@code java -cp <test classpath>
+ * org.apache.seatunnel.connectors.seatunnel.jdbc.internal.converter.JdbcRowConverterBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcRowConverterBenchmark {
+
+    private static final int COLUMNS = 50;
+
+    private JdbcRowConverter converter;
+    private TableSchema tableSchema;
+    private SeaTunnelRow row;
+    private ResultSet resultSet;
+    private PreparedStatement statement;
+
+    @Setup
+    public void setup() {
+        converter = new MysqlJdbcRowConverter();
+        tableSchema = AbstractJdbcRowConverterTest.mixedSchema(COLUMNS);
+        row = new SeaTunnelRow(AbstractJdbcRowConverterTest.mixedValues(COLUMNS, false));
+        resultSet =
+                AbstractJdbcRowConverterTest.resultSetOf(
+                        AbstractJdbcRowConverterTest.mixedValues(COLUMNS, true));
+        statement = AbstractJdbcRowConverterTest.recordingStatement(new Object[COLUMNS]);
+    }
+
+    @Benchmark
+    public PreparedStatement toExternalPrecompiled() throws SQLException {
+        return converter.toExternal(tableSchema, row, statement);
+    }
+
+    @Benchmark
+    public PreparedStatement toExternalSwitchPerField() throws SQLException {
+        return switchPerFieldToExternal(tableSchema, row, statement);
+    }
+
+    @Benchmark
+    public SeaTunnelRow toInternalPrecompiled() throws SQLException {
+        return converter.toInternal(resultSet, tableSchema);
+    }
+
+    @Benchmark
+    public SeaTunnelRow toInternalSwitchPerField() throws SQLException {
+        return switchPerFieldToInternal(resultSet, tableSchema);
+    }
+
+    /** The former {@code toExternal}, limited to the types of the benchmark. */
+    private static PreparedStatement switchPerFieldToExternal(
+            TableSchema tableSchema, SeaTunnelRow row, PreparedStatement statement)
+            throws SQLException {
+        SeaTunnelRowType rowType = tableSchema.toPhysicalRowDataType();
+        for (int fieldIndex = 0; fieldIndex < rowType.getTotalFields(); fieldIndex++) {
+            SeaTunnelDataType<?> seaTunnelDataType = rowType.getFieldType(fieldIndex);
+            int statementIndex = fieldIndex + 1;
+            Object fieldValue = row.getField(fieldIndex);
+            if (fieldValue == null) {
+                statement.setObject(statementIndex, null);
+                continue;
+            }
+            switch (seaTunnelDataType.getSqlType()) {
+                case STRING:
+                    statement.setString(statementIndex, (String) row.getField(fieldIndex));
+                    break;
+                case BOOLEAN:
+                    statement.setBoolean(statementIndex, (Boolean) row.getField(fieldIndex));
+                    break;
+                case SMALLINT:
+                    statement.setShort(statementIndex, (Short) row.getField(fieldIndex));
+                    break;
+                case INT:
+                    statement.setInt(statementIndex, (Integer) row.getField(fieldIndex));
+                    break;
+                case BIGINT:
+                    statement.setLong(statementIndex, (Long) row.getField(fieldIndex));
+                    break;
+                case FLOAT:
+                    statement.setFloat(statementIndex, (Float) row.getField(fieldIndex));
+                    break;
+                case DOUBLE:
+                    statement.setDouble(statementIndex, (Double) row.getField(fieldIndex));
+                    break;
+                case DECIMAL:
+                    statement.setBigDecimal(statementIndex, (BigDecimal) row.getField(fieldIndex));
+                    break;
+                case DATE:
+                    statement.setDate(
+                            statementIndex, Date.valueOf((LocalDate) row.getField(fieldIndex)));
+                    break;
+                case TIMESTAMP:
+                    statement.setTimestamp(
+                            statementIndex,
+                            Timestamp.valueOf((LocalDateTime) row.getField(fieldIndex)));
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected value: " + seaTunnelDataType);
+            }
+        }
+        return statement;
+    }
+
+    /** The former {@code toInternal}, limited to the types of the benchmark. */
+    private static SeaTunnelRow switchPerFieldToInternal(ResultSet rs, TableSchema tableSchema)
+            throws SQLException {
+        SeaTunnelRowType typeInfo = tableSchema.toPhysicalRowDataType();
+        Object[] fields = new Object[typeInfo.getTotalFields()];
+        for (int fieldIndex = 0; fieldIndex < typeInfo.getTotalFields(); fieldIndex++) {
+            SeaTunnelDataType<?> seaTunnelDataType = typeInfo.getFieldType(fieldIndex);
+            int resultSetIndex = fieldIndex + 1;
+            switch (seaTunnelDataType.getSqlType()) {
+                case STRING:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getString(rs, resultSetIndex);
+                    break;
+                case BOOLEAN:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getBoolean(rs, resultSetIndex);
+                    break;
+                case SMALLINT:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getShort(rs, resultSetIndex);
+                    break;
+                case INT:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getInt(rs, resultSetIndex);
+                    break;
+                case BIGINT:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getLong(rs, resultSetIndex);
+                    break;
+                case FLOAT:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getFloat(rs, resultSetIndex);
+                    break;
+                case DOUBLE:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getDouble(rs, resultSetIndex);
+                    break;
+                case DECIMAL:
+                    fields[fieldIndex] = JdbcFieldTypeUtils.getBigDecimal(rs, resultSetIndex);
+                    break;
+                case DATE:
+                    Date sqlDate = JdbcFieldTypeUtils.getDate(rs, resultSetIndex);
+                    fields[fieldIndex] =
+                            Optional.ofNullable(sqlDate).map(Date::toLocalDate).orElse(null);
+                    break;
+                case TIMESTAMP:
+                    Timestamp sqlTimestamp = JdbcFieldTypeUtils.getTimestamp(rs, resultSetIndex);
+                    fields[fieldIndex] =
+                            Optional.ofNullable(sqlTimestamp)
+                                    .map(Timestamp::toLocalDateTime)
+                                    .orElse(null);
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected value: " + seaTunnelDataType);
+            }
+        }
+        return new SeaTunnelRow(fields);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(JdbcRowConverterBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+public class BufferReducedBatchStatementExecutorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.INT_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testFlushLatestChangesInFirstSeenKeyOrder() throws Exception {
+        List<String> calls = new ArrayList<>();
+        BufferReducedBatchStatementExecutor executor =
+                new BufferReducedBatchStatementExecutor(
+                        new RecordingExecutor("upsert", calls),
+                        new RecordingExecutor("delete", calls),
+                        row -> new SeaTunnelRow(new Object[] {row.getField(0)}),
+                        Function.identity(),
+                        ROW_TYPE,
+                        new int[] {0});
+
+        executor.addToBatch(row(RowKind.INSERT, 1, "a"));
+        executor.addToBatch(row(RowKind.INSERT, 2, "b"));
+        executor.addToBatch(row(RowKind.DELETE, 1, "a"));
+        executor.addToBatch(row(RowKind.INSERT, 3, "c"));
+        executor.addToBatch(row(RowKind.UPDATE_BEFORE, 2, "b"));
+        executor.addToBatch(row(RowKind.UPDATE_AFTER, 2, "b2"));
+        executor.executeBatch();
+
+        Assertions.assertEquals(
+                Arrays.asList(
+                        "delete [1]",
+                        "delete flush",
+                        "upsert [2, b2]",
+                        "upsert [3, c]",
+                        "upsert flush"),
+                calls);
+
+        calls.clear();
+        executor.executeBatch();
+        Assertions.assertTrue(calls.isEmpty());
+    }
+
+    private static SeaTunnelRow row(RowKind rowKind, int id, String name) {
+        SeaTunnelRow row = new SeaTunnelRow(new Object[] {id, name});
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private static class RecordingExecutor implements JdbcBatchStatementExecutor<SeaTunnelRow> {
+        private final String name;
+        private final List<String> calls;
+
+        private RecordingExecutor(String name, List<String> calls) {
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void prepareStatements(Connection connection) {}
+
+        @Override
+        public void addToBatch(SeaTunnelRow record) {
+            calls.add(name + " " + Arrays.toString(record.getFields()));
+        }
+
+        @Override
+        public void executeBatch() {
+            calls.add(name + " flush");
+        }
+
+        @Override
+        public void closeStatements() {}
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+
+public class CompactedChangeBufferTest {
+
+    private static final SeaTunnelRowType ALL_TYPES =
+            new SeaTunnelRowType(
+                    new String[] {
+                        "id", "name", "flag", "tiny", "small", "big", "real", "dbl", "dec", "day",
+                        "time", "ts", "bin", "map", "empty"
+                    },
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.BOOLEAN_TYPE,
+                        BasicType.BYTE_TYPE,
+                        BasicType.SHORT_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.FLOAT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        new DecimalType(20, 4),
+                        LocalTimeType.LOCAL_DATE_TYPE,
+                        LocalTimeType.LOCAL_TIME_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        PrimitiveByteArrayType.INSTANCE,
+                        new MapType<>(BasicType.STRING_TYPE, BasicType.STRING_TYPE),
+                        BasicType.STRING_TYPE
+                    });
+
+    @Test
+    public void testRoundTripAllTypes() {
+        CompactedChangeBuffer buffer = new CompactedChangeBuffer(ALL_TYPES, new int[] {0, 1});
+        SeaTunnelRow row =
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            "中文 key",
+                            true,
+                            (byte) -3,
+                            (short) 300,
+                            Long.MIN_VALUE,
+                            1.5f,
+                            -2.25d,
+                            new BigDecimal("-12345678901234.5678"),
+                            LocalDate.of(1969, 12, 31),
+                            LocalTime.of(23, 59, 59, 999_999_999),
+                            LocalDateTime.of(1900, 1, 1, 0, 0, 0, 1),
+                            new byte[] {0, 1, (byte) 0xFF},
+                            Collections.singletonMap("k", "v"),
+                            null
+                        });
+        row.setTableId("db.t");
+        row.setRowKind(RowKind.UPDATE_AFTER);
+
+        buffer.put(row, true);
+
+        Assertions.assertEquals(1, buffer.size());
+        Assertions.assertTrue(buffer.changeFlag(0));
+        Assertions.assertEquals(row, buffer.row(0));
+    }
+
+    @Test
+    public void testKeepLatestChangeInFirstSeenOrder() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name"},
+                        new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+        CompactedChangeBuffer buffer = new CompactedChangeBuffer(rowType, new int[] {0});
+
+        // enough changes to grow the index several times and to fill several arena chunks
+        int keys = 50_000;
+        for (int round = 0; round < 3; round++) {
+            for (long id = keys - 1; id >= 0; id--) {
+                buffer.put(row(id, "round-" + round + "-" + id), id % 2 == 0);
+            }
+        }
+        // same key values of another table are other keys
+        SeaTunnelRow otherTable = row(0L, "other");
+        otherTable.setTableId("other");
+        buffer.put(otherTable, false);
+
+        Assertions.assertEquals(keys + 1, buffer.size());
+        for (int entry = 0; entry < keys; entry++) {
+            long id = keys - 1 - entry;
+            Assertions.assertEquals(row(id, "round-2-" + id), buffer.row(entry));
+            Assertions.assertEquals(id % 2 == 0, buffer.changeFlag(entry));
+        }
+        Assertions.assertEquals(otherTable, buffer.row(keys));
+        Assertions.assertFalse(buffer.changeFlag(keys));
+        Assertions.assertTrue(buffer.chunkCount() > 1);
+
+        buffer.clear();
+        Assertions.assertTrue(buffer.isEmpty());
+        // only the first chunk outlives the batch
+        Assertions.assertEquals(1, buffer.chunkCount());
+        buffer.put(row(7L, "again"), true);
+        buffer.put(row(7L, "again and again"), true);
+        Assertions.assertEquals(1, buffer.size());
+        Assertions.assertEquals(row(7L, "again and again"), buffer.row(0));
+    }
+
+    @Test
+    public void testClearFreesOversizedChunk() {
+        SeaTunnelRowType rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "bin"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE, PrimitiveByteArrayType.INSTANCE
+                        });
+        CompactedChangeBuffer buffer = new CompactedChangeBuffer(rowType, new int[] {0});
+        SeaTunnelRow large = new SeaTunnelRow(new Object[] {1L, new byte[2 << 20]});
+        buffer.put(large, true);
+        Assertions.assertEquals(1, buffer.chunkCount());
+        Assertions.assertEquals(large, buffer.row(0));
+
+        buffer.clear();
+        Assertions.assertEquals(0, buffer.chunkCount());
+        buffer.put(new SeaTunnelRow(new Object[] {2L, new byte[16]}), true);
+        Assertions.assertEquals(1, buffer.chunkCount());
+    }
+
+    @Test
+    public void testNullKeyFields() {
+        CompactedChangeBuffer buffer = new CompactedChangeBuffer(ALL_TYPES, new int[] {0, 1});
+        buffer.put(new SeaTunnelRow(new Object[15]), true);
+        SeaTunnelRow named = new SeaTunnelRow(new Object[15]);
+        named.setField(1, "");
+        buffer.put(named, true);
+        buffer.put(new SeaTunnelRow(new Object[15]), false);
+
+        Assertions.assertEquals(2, buffer.size());
+        Assertions.assertFalse(buffer.changeFlag(0));
+        Assertions.assertEquals(named, buffer.row(1));
+    }
+
+    @Test
+    public void testRejectKeyWithoutBinaryEncoding() {
+        Assertions.assertThrows(
+                JdbcConnectorException.class,
+                () -> new CompactedChangeBuffer(ALL_TYPES, new int[] {0, 13}));
+    }
+
+    private static SeaTunnelRow row(long id, String name) {
+        return new SeaTunnelRow(new Object[] {id, name});
+    }
+}
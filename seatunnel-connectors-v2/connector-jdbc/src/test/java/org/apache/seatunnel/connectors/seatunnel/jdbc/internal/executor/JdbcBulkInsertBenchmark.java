@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlite.SqliteDialect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of the insert executors on batches of 1000 rows of 6 columns.
+ *
+ * <ul>
+ *   <li>{@code sqliteBatch} and {@code sqliteMultiValues} insert into an in-memory SQLite table
+ *       with {@link SimpleBatchStatementExecutor}, the current executor, and with {@link
+ *       MultiRowInsertBatchStatementExecutor}.
+ *   <li>{@code loadDataEncoding} only measures how fast {@link LoadDataBatchStatementExecutor}
+ *       encodes rows, as LOAD DATA needs a MySQL server. The driver is stood in by a proxy that
+ *       drains the stream.
+ * </ul>
+ *
+ * <p>Run with {@code java -cp <test classpath>
+ * org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor.JdbcBulkInsertBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcBulkInsertBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private final TableSchema tableSchema =
+            TableSchema.builder()
+                    .column(column("id", BasicType.LONG_TYPE))
+                    .column(column("name", BasicType.STRING_TYPE))
+                    .column(column("score", BasicType.DOUBLE_TYPE))
+                    .column(column("amount", new DecimalType(20, 4)))
+                    .column(column("active", BasicType.BOOLEAN_TYPE))
+                    .column(column("created", LocalTimeType.LOCAL_DATE_TIME_TYPE))
+                    .build();
+    private final String[] fieldNames = tableSchema.getFieldNames();
+    private final SeaTunnelRow[] rows = new SeaTunnelRow[ROWS];
+
+    private Connection sqlite;
+    private JdbcBatchStatementExecutor<SeaTunnelRow> sqliteBatch;
+    private JdbcBatchStatementExecutor<SeaTunnelRow> sqliteMultiValues;
+    private JdbcBatchStatementExecutor<SeaTunnelRow> loadData;
+
+    @Setup
+    public void setup() throws SQLException {
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] =
+                    new SeaTunnelRow(
+                            new Object[] {
+                                (long) i,
+                                "name-" + i,
+                                i * 0.5,
+                                new BigDecimal(i).movePointLeft(2),
+                                i % 2 == 0,
+                                LocalDateTime.of(2024, 1, 1, 0, 0).plusSeconds(i)
+                            });
+        }
+
+        sqlite = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = sqlite.createStatement()) {
+            statement.execute(
+                    "CREATE TABLE t (id INTEGER, name TEXT, score REAL, amount NUMERIC,"
+                            + " active BOOLEAN, created TEXT)");
+        }
+        JdbcDialect sqliteDialect = new SqliteDialect();
+        sqliteBatch = simpleExecutor(sqliteDialect);
+        sqliteBatch.prepareStatements(sqlite);
+        sqliteMultiValues =
+                new MultiRowInsertBatchStatementExecutor(
+                        rowCount ->
+                                sqliteDialect.getMultiRowInsertIntoStatement(
+                                        "main", "t", fieldNames, rowCount),
+                        sqliteDialect.getMultiRowInsertMaxParameters() / fieldNames.length,
+                        tableSchema,
+                        sqliteDialect.getRowConverter());
+        sqliteMultiValues.prepareStatements(sqlite);
+
+        JdbcDialect mysqlDialect = new MysqlDialect();
+        loadData =
+                new LoadDataBatchStatementExecutor(
+                        binaryFields ->
+                                mysqlDialect
+                                        .getLoadDataStatement(
+                                                "db", "t", fieldNames, binaryFields, false)
+                                        .get(),
+                        tableSchema,
+                        false);
+        loadData.prepareStatements(drainingConnection());
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = sqlite.createStatement()) {
+            statement.execute("DELETE FROM t");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        sqlite.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void sqliteBatch() throws SQLException {
+        insert(sqliteBatch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void sqliteMultiValues() throws SQLException {
+        insert(sqliteMultiValues);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void loadDataEncoding() throws SQLException {
+        insert(loadData);
+    }
+
+    private void insert(JdbcBatchStatementExecutor<SeaTunnelRow> executor) throws SQLException {
+        for (SeaTunnelRow row : rows) {
+            executor.addToBatch(row);
+        }
+        executor.executeBatch();
+    }
+
+    private JdbcBatchStatementExecutor<SeaTunnelRow> simpleExecutor(JdbcDialect dialect) {
+        return new SimpleBatchStatementExecutor(
+                connection ->
+                        FieldNamedPreparedStatement.prepareStatement(
+                                connection,
+                                dialect.getInsertIntoStatement("main", "t", fieldNames),
+                                fieldNames),
+                tableSchema,
+                dialect.getRowConverter());
+    }
+
+    private static PhysicalColumn column(String name, SeaTunnelDataType<?> type) {
+        return PhysicalColumn.of(name, type, (Long) null, true, null, null);
+    }
+
+    private static Connection drainingConnection() {
+        ClassLoader classLoader = JdbcBulkInsertBenchmark.class.getClassLoader();
+        Statement statement =
+                (Statement)
+                        Proxy.newProxyInstance(
+                                classLoader,
+                                new Class[] {
+                                    LoadDataBatchStatementExecutorTest.LocalInfileStatement.class
+                                },
+                                (proxy, method, args) -> {
+                                    switch (method.getName()) {
+                                        case "unwrap":
+                                            return proxy;
+                                        case "execute":
+                                            return false;
+                                        case "getUpdateCount":
+                                            return ROWS;
+                                        case "setLocalInfileInputStream":
+                                            ((InputStream) args[0]).skip(Long.MAX_VALUE);
+                                            return null;
+                                        default:
+                                            return null;
+                                    }
+                                });
+        return (Connection)
+                Proxy.newProxyInstance(
+                        classLoader,
+                        new Class[] {Connection.class},
+                        (proxy, method, args) -> statement);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(JdbcBulkInsertBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
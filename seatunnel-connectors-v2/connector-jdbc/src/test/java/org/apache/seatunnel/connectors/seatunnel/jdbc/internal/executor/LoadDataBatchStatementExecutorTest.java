@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.PrimitiveByteArrayType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.exception.JdbcConnectorException;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.mysql.MysqlDialect;
+
+import org.apache.commons.io.IOUtils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LoadDataBatchStatementExecutorTest {
+
+    private static final SQLWarning DUPLICATE_KEY =
+            new SQLWarning("Duplicate entry '1' for key 'PRIMARY'");
+    private static final SQLWarning INVALID_VALUE =
+            new SQLWarning("Incorrect integer value: 'x' for column 'id' at row 2");
+
+    private final JdbcDialect dialect = new MysqlDialect();
+    private final TableSchema tableSchema =
+            TableSchema.builder()
+                    .column(
+                            PhysicalColumn.of(
+                                    "id", BasicType.INT_TYPE, (Long) null, false, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "name", BasicType.STRING_TYPE, (Long) null, true, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "data",
+                                    PrimitiveByteArrayType.INSTANCE,
+                                    (Long) null,
+                                    true,
+                                    null,
+                                    null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "ts",
+                                    LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                    (Long) null,
+                                    true,
+                                    null,
+                                    null))
+                    .build();
+
+    /** The method MySQL Connector/J and the MariaDB driver expose on their statements. */
+    public interface LocalInfileStatement extends Statement {
+        void setLocalInfileInputStream(InputStream stream);
+    }
+
+    @Test
+    public void testStreamBatchAsTabSeparatedText() throws SQLException {
+        List<String> executed = new ArrayList<>();
+        List<String> streams = new ArrayList<>();
+        LoadDataBatchStatementExecutor executor = createExecutor(false);
+        executor.prepareStatements(connection(executed, streams, 2, null));
+
+        executor.addToBatch(
+                new SeaTunnelRow(
+                        new Object[] {
+                            1,
+                            "tab\there\nnew line \\ 中文",
+                            new byte[] {0x0A, (byte) 0xFF},
+                            LocalDateTime.of(2024, 1, 2, 3, 4)
+                        }));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {2, null, null, null}));
+        executor.executeBatch();
+        // an empty batch doesn't reach the database
+        executor.executeBatch();
+
+        Assertions.assertEquals(
+                "LOAD DATA LOCAL INFILE 'seatunnel' INTO TABLE `db`.`t` CHARACTER SET utf8mb4"
+                        + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                        + " LINES TERMINATED BY '\\n' (`id`, `name`, @v2, `ts`)"
+                        + " SET `data` = UNHEX(@v2)",
+                executor.getLoadSql());
+        Assertions.assertEquals(1, executed.size());
+        Assertions.assertEquals(executor.getLoadSql(), executed.get(0));
+        Assertions.assertEquals(
+                "1\ttab\\there\\nnew line \\\\ 中文\t0AFF\t2024-01-02 03:04:00.000000\n"
+                        + "2\t\\N\t\\N\t\\N\n",
+                streams.get(0));
+    }
+
+    @Test
+    public void testReplaceRowsOfUpsert() {
+        Assertions.assertEquals(
+                "LOAD DATA LOCAL INFILE 'seatunnel' REPLACE INTO TABLE `db`.`t` CHARACTER SET utf8mb4"
+                        + " FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\'"
+                        + " LINES TERMINATED BY '\\n' (`id`, `name`, @v2, `ts`)"
+                        + " SET `data` = UNHEX(@v2)",
+                createExecutor(true).getLoadSql());
+    }
+
+    @Test
+    public void testFailBatchWithSkippedRows() throws SQLException {
+        LoadDataBatchStatementExecutor executor = createExecutor(false);
+        executor.prepareStatements(
+                connection(new ArrayList<>(), new ArrayList<>(), 1, DUPLICATE_KEY));
+
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1, "a", null, null}));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1, "b", null, null}));
+        JdbcConnectorException exception =
+                Assertions.assertThrows(JdbcConnectorException.class, executor::executeBatch);
+        Assertions.assertTrue(
+                exception.getMessage().contains("Duplicate entry '1' for key 'PRIMARY'"),
+                exception.getMessage());
+    }
+
+    @Test
+    public void testFailReplaceWithWarnings() throws SQLException {
+        LoadDataBatchStatementExecutor executor = createExecutor(true);
+        executor.prepareStatements(connection(new ArrayList<>(), new ArrayList<>(), 3, null));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1, "a", null, null}));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {2, "b", null, null}));
+        // one row replaced, counting twice
+        executor.executeBatch();
+
+        executor.prepareStatements(
+                connection(new ArrayList<>(), new ArrayList<>(), 2, INVALID_VALUE));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {1, "a", null, null}));
+        executor.addToBatch(new SeaTunnelRow(new Object[] {2, "b", null, null}));
+        // one replaced row hides the skipped one
+        Assertions.assertThrows(JdbcConnectorException.class, executor::executeBatch);
+    }
+
+    @Test
+    public void testRejectDriverWithoutLocalInfileStream() {
+        LoadDataBatchStatementExecutor executor = createExecutor(false);
+        Connection connection =
+                (Connection)
+                        Proxy.newProxyInstance(
+                                getClass().getClassLoader(),
+                                new Class[] {Connection.class},
+                                (proxy, method, args) ->
+                                        "createStatement".equals(method.getName())
+                                                ? plainStatement()
+                                                : null);
+        Assertions.assertThrows(
+                JdbcConnectorException.class, () -> executor.prepareStatements(connection));
+    }
+
+    private LoadDataBatchStatementExecutor createExecutor(boolean replace) {
+        return new LoadDataBatchStatementExecutor(
+                binaryFields ->
+                        dialect.getLoadDataStatement(
+                                        "db",
+                                        "t",
+                                        tableSchema.getFieldNames(),
+                                        binaryFields,
+                                        replace)
+                                .get(),
+                tableSchema,
+                replace);
+    }
+
+    private static Connection connection(
+            List<String> executed, List<String> streams, int updateCount, SQLWarning warning) {
+        InputStream[] stream = new InputStream[1];
+        Statement statement =
+                (Statement)
+                        Proxy.newProxyInstance(
+                                LoadDataBatchStatementExecutorTest.class.getClassLoader(),
+                                new Class[] {LocalInfileStatement.class},
+                                (proxy, method, args) -> {
+                                    switch (method.getName()) {
+                                        case "unwrap":
+                                            return proxy;
+                                        case "setLocalInfileInputStream":
+                                            stream[0] = (InputStream) args[0];
+                                            return null;
+                                        case "execute":
+                                            executed.add((String) args[0]);
+                                            streams.add(
+                                                    IOUtils.toString(
+                                                            stream[0], StandardCharsets.UTF_8));
+                                            return false;
+                                        case "getUpdateCount":
+                                            return updateCount;
+                                        case "getWarnings":
+                                            return warning;
+                                        default:
+                                            return null;
+                                    }
+                                });
+        return (Connection)
+                Proxy.newProxyInstance(
+                        LoadDataBatchStatementExecutorTest.class.getClassLoader(),
+                        new Class[] {Connection.class},
+                        (proxy, method, args) ->
+                                "createStatement".equals(method.getName()) ? statement : null);
+    }
+
+    private static Statement plainStatement() {
+        return (Statement)
+                Proxy.newProxyInstance(
+                        LoadDataBatchStatementExecutorTest.class.getClassLoader(),
+                        new Class[] {Statement.class},
+                        (proxy, method, args) -> "unwrap".equals(method.getName()) ? proxy : null);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.internal.executor;
+
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.JdbcDialect;
+import org.apache.seatunnel.connectors.seatunnel.jdbc.internal.dialect.sqlite.SqliteDialect;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class MultiRowInsertBatchStatementExecutorTest {
+
+    private static final String[] FIELDS = {"id", "name"};
+
+    private final JdbcDialect dialect = new SqliteDialect();
+    private final TableSchema tableSchema =
+            TableSchema.builder()
+                    .column(
+                            PhysicalColumn.of(
+                                    "id", BasicType.INT_TYPE, (Long) null, false, null, null))
+                    .column(
+                            PhysicalColumn.of(
+                                    "name", BasicType.STRING_TYPE, (Long) null, true, null, null))
+                    .build();
+    private Connection connection;
+
+    @BeforeEach
+    public void open() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:sqlite::memory:");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t (id INTEGER, name TEXT)");
+        }
+    }
+
+    @AfterEach
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    @Test
+    public void testMultiRowInsertStatement() {
+        Assertions.assertEquals(
+                "INSERT INTO main.`t` (`id`, `name`) VALUES (?, ?), (?, ?), (?, ?)",
+                dialect.getMultiRowInsertIntoStatement("main", "t", FIELDS, 3));
+    }
+
+    @Test
+    public void testInsertBatchesOfAnySize() throws SQLException {
+        MultiRowInsertBatchStatementExecutor executor = createExecutor();
+        executor.prepareStatements(connection);
+
+        // 37 rows run as 4 x 8 + 4 + 1, then 3 rows as 2 + 1 on the cached statements
+        for (int i = 0; i < 37; i++) {
+            executor.addToBatch(new SeaTunnelRow(new Object[] {i, i % 5 == 0 ? null : "n" + i}));
+        }
+        executor.executeBatch();
+        for (int i = 37; i < 40; i++) {
+            executor.addToBatch(new SeaTunnelRow(new Object[] {i, "n" + i}));
+        }
+        executor.executeBatch();
+        executor.executeBatch();
+        executor.closeStatements();
+
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT id, name FROM t ORDER BY id")) {
+            for (int i = 0; i < 40; i++) {
+                Assertions.assertTrue(rs.next());
+                Assertions.assertEquals(i, rs.getInt(1));
+                Assertions.assertEquals(i % 5 == 0 && i < 37 ? null : "n" + i, rs.getString(2));
+            }
+            Assertions.assertFalse(rs.next());
+        }
+    }
+
+    @Test
+    public void testRetryFailedBatch() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE gate (open INTEGER)");
+            statement.execute("INSERT INTO gate VALUES (0)");
+            statement.execute(
+                    "CREATE TRIGGER closed BEFORE INSERT ON t"
+                            + " WHEN NEW.id = 0 AND (SELECT open FROM gate) = 0"
+                            + " BEGIN SELECT RAISE(ABORT, 'closed'); END");
+        }
+        MultiRowInsertBatchStatementExecutor executor = createExecutor();
+        executor.prepareStatements(connection);
+
+        // 9 rows run as 8 + 1, the first statement fails before the second executes
+        for (int i = 0; i < 9; i++) {
+            executor.addToBatch(new SeaTunnelRow(new Object[] {i, "n" + i}));
+        }
+        Assertions.assertThrows(SQLException.class, executor::executeBatch);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE gate SET open = 1");
+        }
+        for (int i = 0; i < 9; i++) {
+            executor.addToBatch(new SeaTunnelRow(new Object[] {i, "n" + i}));
+        }
+        executor.executeBatch();
+        executor.closeStatements();
+
+        try (Statement statement = connection.createStatement();
+                ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM t")) {
+            Assertions.assertTrue(rs.next());
+            Assertions.assertEquals(9, rs.getInt(1));
+        }
+    }
+
+    private MultiRowInsertBatchStatementExecutor createExecutor() {
+        return new MultiRowInsertBatchStatementExecutor(
+                rowCount -> dialect.getMultiRowInsertIntoStatement("main", "t", FIELDS, rowCount),
+                8,
+                tableSchema,
+                dialect.getRowConverter());
+    }
+}
@@ -112,6 +112,145 @@ public class DynamicChunkSplitterTest {
                 splitQuerySQL);
     }
 
+    @Test
+    public void testPostgresGenerateResumableSplitQuerySQL() {
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url("jdbc:postgresql://localhost:5432/test")
+                                        .driverName("org.postgresql.Driver")
+                                        .build())
+                        .splitReadBatchSize(1024)
+                        .build();
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .sourceType("int4")
+                                                .dataType(BasicType.INT_TYPE)
+                                                .build()))
+                        .build();
+
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        1,
+                        10);
+        assertTrue(splitter.isResumable(split, tableSchema));
+        String splitQuerySQL = splitter.createDynamicSplitQuerySQL(split, tableSchema);
+        Assertions.assertEquals(
+                "SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\" >= ? AND NOT (\"id\" = ?) AND \"id\" <= ? ORDER BY \"id\"",
+                splitter.createResumableSplitQuery(splitQuerySQL, split, tableSchema));
+
+        split = split.withResumeKey(5);
+        Assertions.assertEquals(
+                "SELECT * FROM (SELECT * FROM \"db1\".\"schema1\".\"table1\" WHERE \"id\" >= ? AND NOT (\"id\" = ?) AND \"id\" <= ?) st_jdbc_resume WHERE \"id\" > ? ORDER BY \"id\"",
+                splitter.createResumableSplitQuery(splitQuerySQL, split, tableSchema));
+
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        null,
+                        null,
+                        null,
+                        null);
+        Assertions.assertFalse(splitter.isResumable(split, tableSchema));
+
+        // a split without bounds is only resumable if its key can't be NULL
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        null,
+                        null);
+        assertTrue(splitter.isResumable(split, tableSchema));
+        TableSchema nullableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("id")
+                                                .sourceType("int4")
+                                                .dataType(BasicType.INT_TYPE)
+                                                .nullable(true)
+                                                .build()))
+                        .build();
+        Assertions.assertFalse(splitter.isResumable(split, nullableSchema));
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "schema1", "table1"),
+                        "split1",
+                        null,
+                        "id",
+                        BasicType.INT_TYPE,
+                        null,
+                        10);
+        assertTrue(splitter.isResumable(split, nullableSchema));
+    }
+
+    @Test
+    public void testStringSplitKeyIsNotResumable() {
+        JdbcSourceConfig config =
+                JdbcSourceConfig.builder()
+                        .jdbcConnectionConfig(
+                                JdbcConnectionConfig.builder()
+                                        .url("jdbc:mysql://localhost:3306/test")
+                                        .driverName("com.mysql.cj.jdbc.Driver")
+                                        .build())
+                        .splitReadBatchSize(1024)
+                        .build();
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .columns(
+                                Arrays.asList(
+                                        PhysicalColumn.builder()
+                                                .name("code")
+                                                .sourceType("varchar(16)")
+                                                .dataType(BasicType.STRING_TYPE)
+                                                .build()))
+                        .build();
+        DynamicChunkSplitter splitter = new DynamicChunkSplitter(config);
+
+        // 'a' and 'A' differ in Java but are equal under a case-insensitive collation, a split
+        // resumed after 'a' with "code > ?" would skip the rows with 'A'
+        JdbcSourceSplit split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "table1"),
+                        "split1",
+                        null,
+                        "code",
+                        BasicType.STRING_TYPE,
+                        "a",
+                        "A");
+        Assertions.assertFalse(splitter.isResumable(split, tableSchema));
+        Assertions.assertFalse(splitter.isResumable(split.withResumeKey("a"), tableSchema));
+
+        split =
+                new JdbcSourceSplit(
+                        TablePath.of("db1", "table1"),
+                        "split1",
+                        null,
+                        "amount",
+                        BasicType.DOUBLE_TYPE,
+                        -1.0d,
+                        1.0d);
+        Assertions.assertFalse(splitter.isResumable(split, tableSchema));
+    }
+
     @Test
     public void testEfficientShardingThroughSampling() throws NoSuchMethodException {
         TablePath tablePath = new TablePath("db", "xe", "table");
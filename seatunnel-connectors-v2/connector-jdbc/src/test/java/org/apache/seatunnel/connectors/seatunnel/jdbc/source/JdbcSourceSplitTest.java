@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.connectors.seatunnel.jdbc.source;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ObjectInputStream;
+import java.util.Base64;
+
+public class JdbcSourceSplitTest {
+
+    /** A split on key "id" from 1 to 10, serialized by the version before resume keys. */
+    private static final String PREVIOUS_VERSION_SPLIT =
+            "rO0ABXNyAEVvcmcuYXBhY2hlLnNlYXR1bm5lbC5jb25uZWN0b3JzLnNlYXR1bm5l"
+                    + "bC5qZGJjLnNvdXJjZS5KZGJjU291cmNlU3BsaXT0rpxG2/j37QIAB0wACHNwbGl0"
+                    + "RW5kdAASTGphdmEvbGFuZy9PYmplY3Q7TAAHc3BsaXRJZHQAEkxqYXZhL2xhbmcv"
+                    + "U3RyaW5nO0wADHNwbGl0S2V5TmFtZXEAfgACTAAMc3BsaXRLZXlUeXBldAA3TG9y"
+                    + "Zy9hcGFjaGUvc2VhdHVubmVsL2FwaS90YWJsZS90eXBlL1NlYVR1bm5lbERhdGFU"
+                    + "eXBlO0wACnNwbGl0UXVlcnlxAH4AAkwACnNwbGl0U3RhcnRxAH4AAUwACXRhYmxl"
+                    + "UGF0aHQAMkxvcmcvYXBhY2hlL3NlYXR1bm5lbC9hcGkvdGFibGUvY2F0YWxvZy9U"
+                    + "YWJsZVBhdGg7eHBzcgARamF2YS5sYW5nLkludGVnZXIS4qCk94GHOAIAAUkABXZh"
+                    + "bHVleHIAEGphdmEubGFuZy5OdW1iZXKGrJUdC5TgiwIAAHhwAAAACnQAB3NwbGl0"
+                    + "LTF0AAJpZHB0AA9zZWxlY3QgKiBmcm9tIHRzcQB+AAYAAAABcA==";
+
+    @Test
+    public void testRestoreSplitOfPreviousVersion() throws Exception {
+        JdbcSourceSplit split;
+        try (ObjectInputStream in =
+                new ObjectInputStream(
+                        new ByteArrayInputStream(
+                                Base64.getDecoder().decode(PREVIOUS_VERSION_SPLIT)))) {
+            split = (JdbcSourceSplit) in.readObject();
+        }
+        Assertions.assertEquals("split-1", split.splitId());
+        Assertions.assertEquals("select * from t", split.getSplitQuery());
+        Assertions.assertEquals("id", split.getSplitKeyName());
+        Assertions.assertEquals(1, split.getSplitStart());
+        Assertions.assertEquals(10, split.getSplitEnd());
+        Assertions.assertNull(split.getResumeKey());
+    }
+}
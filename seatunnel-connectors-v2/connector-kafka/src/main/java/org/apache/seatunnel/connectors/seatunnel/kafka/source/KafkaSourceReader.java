@@ -100,7 +100,7 @@ public class KafkaSourceReader implements SourceReader<SeaTunnelRow, KafkaSource
     @Override
     public void pollNext(Collector<SeaTunnelRow> output) throws Exception {
         if (!running) {
-            Thread.sleep(THREAD_WAIT_TIME);
+            context.markIdle(THREAD_WAIT_TIME);
             return;
         }
 
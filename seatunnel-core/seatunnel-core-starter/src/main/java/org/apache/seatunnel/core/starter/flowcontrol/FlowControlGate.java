@@ -30,6 +30,8 @@ public class FlowControlGate {
     private final Optional<RateLimiter> bytesRateLimiter;
     private final Optional<RateLimiter> countRateLimiter;
 
+    private boolean throttled;
+
     private FlowControlGate(FlowControlStrategy flowControlStrategy) {
         final int bytesPerSecond = flowControlStrategy.getBytesPerSecond();
         final int countPerSecond = flowControlStrategy.getCountPerSecond();
@@ -44,8 +46,25 @@ public class FlowControlGate {
     }
 
     public void audit(SeaTunnelRow row) {
-        bytesRateLimiter.ifPresent(rateLimiter -> rateLimiter.acquire(row.getBytesSize()));
-        countRateLimiter.ifPresent(RateLimiter::acquire);
+        audit(bytesRateLimiter.isPresent() ? row.getBytesSize() : 0);
+    }
+
+    /** Audits a row whose size in bytes is already known to the caller. */
+    public void audit(int bytesSize) {
+        // no capturing lambda, this is called for every row
+        double waitedSeconds = 0;
+        if (bytesRateLimiter.isPresent()) {
+            waitedSeconds += bytesRateLimiter.get().acquire(Math.max(1, bytesSize));
+        }
+        if (countRateLimiter.isPresent()) {
+            waitedSeconds += countRateLimiter.get().acquire();
+        }
+        throttled = waitedSeconds > 0;
+    }
+
+    /** Whether the last row had to wait for the limits, the next one then usually waits too. */
+    public boolean isThrottled() {
+        return throttled;
     }
 
     public static FlowControlGate create(FlowControlStrategy flowControlStrategy) {
@@ -78,6 +78,23 @@ public class FlowControlGateTest {
         Assertions.assertTrue(end - start > useTime * 0.8 && end - start < useTime * 1.2);
     }
 
+    @Test
+    public void testThrottled() {
+        FlowControlGate flowControlGate = FlowControlGate.create(FlowControlStrategy.ofCount(10));
+        flowControlGate.audit(rowSize);
+        Assertions.assertFalse(flowControlGate.isThrottled());
+        flowControlGate.audit(rowSize);
+        Assertions.assertTrue(flowControlGate.isThrottled());
+
+        FlowControlGate unlimited =
+                FlowControlGate.create(
+                        FlowControlStrategy.of(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        for (int i = 0; i < 100; i++) {
+            unlimited.audit(rowSize);
+        }
+        Assertions.assertFalse(unlimited.isThrottled());
+    }
+
     /** return row list with size, each row size is 181 */
     private List<SeaTunnelRow> getRows(int size) {
         Map<String, Object> map = new HashMap<>();
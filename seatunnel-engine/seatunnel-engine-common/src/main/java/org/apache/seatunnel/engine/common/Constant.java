@@ -55,11 +55,12 @@ public class Constant {
 
     public static final String IMAP_CHECKPOINT_ID = "engine_checkpoint-id-map";
 
-    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningJobMetrics";
-
-    public static final Long IMAP_RUNNING_JOB_METRICS_KEY = 1L;
+    /** The latest metrics of each running task, keyed by the location of the task. */
+    public static final String IMAP_RUNNING_JOB_METRICS = "engine_runningTaskMetrics";
 
     public static final String IMAP_CONNECTOR_JAR_REF_COUNTERS = "engine_connectorJarRefCounters";
 
+    public static final String IMAP_SHUFFLE_ENDPOINTS = "engine_shuffleEndpoints";
+
     public static final String PROP_FILE = "zeta.version.properties";
 }
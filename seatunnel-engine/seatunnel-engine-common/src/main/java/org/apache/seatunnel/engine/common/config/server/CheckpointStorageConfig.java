@@ -30,6 +30,8 @@ public class CheckpointStorageConfig {
     private int maxRetainedCheckpoints =
             ServerConfigOptions.CHECKPOINT_STORAGE_MAX_RETAINED.defaultValue();
 
+    private boolean incremental = ServerConfigOptions.CHECKPOINT_STORAGE_INCREMENTAL.defaultValue();
+
     /** Storage plugin instance configuration */
     private Map<String, String> storagePluginConfig = new HashMap<>();
 }
@@ -103,6 +103,13 @@ public class ServerConfigOptions {
                     .defaultValue(20)
                     .withDescription("The maximum number of retained checkpoints.");
 
+    public static final Option<Boolean> CHECKPOINT_STORAGE_INCREMENTAL =
+            Options.key("incremental")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to store only the state chunks that changed since the previous checkpoints.");
+
     public static final Option<QueueType> QUEUE_TYPE =
             Options.key("queue-type")
                     .type(new TypeReference<QueueType>() {})
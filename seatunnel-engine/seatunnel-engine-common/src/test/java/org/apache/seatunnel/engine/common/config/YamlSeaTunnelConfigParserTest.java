@@ -62,6 +62,8 @@ public class YamlSeaTunnelConfigParserTest {
                         .getCheckpointConfig()
                         .getStorage()
                         .getMaxRetainedCheckpoints());
+        Assertions.assertTrue(
+                config.getEngineConfig().getCheckpointConfig().getStorage().isIncremental());
         Assertions.assertEquals(
                 "file:///",
                 config.getEngineConfig()
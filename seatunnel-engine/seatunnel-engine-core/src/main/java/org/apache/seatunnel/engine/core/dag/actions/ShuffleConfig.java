@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.env.ShuffleTransportType;
+
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
@@ -36,6 +38,7 @@ public class ShuffleConfig implements Config {
     @Builder.Default private int batchSize = DEFAULT_BATCH_SIZE;
     @Builder.Default private long batchFlushInterval = DEFAULT_BATCH_FLUSH_INTERVAL;
     private ShuffleStrategy shuffleStrategy;
+    @Builder.Default private ShuffleTransportType transport = ShuffleTransportType.IQUEUE;
 
     @Tolerate
     public ShuffleConfig() {}
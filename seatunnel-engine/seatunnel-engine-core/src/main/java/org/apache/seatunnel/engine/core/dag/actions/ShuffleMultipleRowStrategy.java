@@ -22,86 +22,92 @@ import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
-import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
 @ToString
 public class ShuffleMultipleRowStrategy extends ShuffleStrategy {
+    /** The channel of each table, read concurrently by every task sharing this strategy. */
+    @Getter(value = AccessLevel.PRIVATE, lazy = true)
+    @ToString.Exclude
+    private final Map<String, Integer> tableChannels = indexTableChannels();
+
+    @Setter(AccessLevel.NONE)
     private List<CatalogTable> catalogTables;
+
     private String targetTableId;
 
     @Tolerate
     public ShuffleMultipleRowStrategy() {}
 
+    protected ShuffleMultipleRowStrategy(ShuffleMultipleRowStrategyBuilder<?, ?> b) {
+        super(b);
+        this.catalogTables = b.catalogTables;
+        this.targetTableId = b.targetTableId;
+        // built once here, so that it is also serialized with the strategy
+        getTableChannels();
+    }
+
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
-        Map<String, IQueue<Record<?>>> shuffleMap = new HashMap<>();
-        for (CatalogTable entry : catalogTables) {
-            String tableId = entry.getTableId().toTablePath().toString();
-            String queueName = generateQueueName(pipelineId, inputIndex, tableId);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
+    public String[] getOutputQueueNames(int pipelineId, int inputIndex) {
+        String[] queueNames = new String[catalogTables.size()];
+        for (int i = 0; i < queueNames.length; i++) {
+            String tableId = catalogTables.get(i).getTableId().toTablePath().toString();
+            queueNames[i] = generateQueueName(pipelineId, inputIndex, tableId);
         }
-
-        log.info(
-                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                inputIndex,
-                shuffleMap.keySet());
-
-        return shuffleMap;
+        return queueNames;
     }
 
     @Override
-    public String createShuffleKey(Record<?> record, int pipelineId, int inputIndex) {
-        String tableId;
-        if (record.getData() instanceof SeaTunnelRow) {
-            tableId = ((SeaTunnelRow) record.getData()).getTableId();
-        } else if (record.getData() instanceof SchemaChangeEvent) {
-            tableId = ((SchemaChangeEvent) record.getData()).tablePath().toString();
-        } else {
-            throw new UnsupportedOperationException("Unsupported record: " + record);
+    public String[] getInputQueueNames(int pipelineId, int targetIndex) {
+        Objects.requireNonNull(targetTableId);
+        String[] queueNames = new String[getInputPartitions()];
+        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetTableId);
         }
-        return generateQueueName(pipelineId, inputIndex, tableId);
+        return queueNames;
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
-        IQueue<Record<?>>[] queues = new IQueue[getInputPartitions()];
-        for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
-            Objects.requireNonNull(targetTableId);
-            String queueName = generateQueueName(pipelineId, inputIndex, targetTableId);
-            queues[inputIndex] = getIQueue(hazelcast, queueName);
+    public int getShuffleChannel(Record<?> record) {
+        String tableId = getTableId(record);
+        Integer channel = getTableChannels().get(tableId);
+        if (channel == null) {
+            throw new UnsupportedOperationException("Unsupported table: " + tableId);
         }
+        return channel;
+    }
 
-        log.info(
-                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                targetIndex,
-                Stream.of(queues).map(e -> e.getName()).collect(Collectors.toList()));
+    private Map<String, Integer> indexTableChannels() {
+        Map<String, Integer> channels = new HashMap<>();
+        if (catalogTables != null) {
+            for (int i = 0; i < catalogTables.size(); i++) {
+                channels.put(catalogTables.get(i).getTableId().toTablePath().toString(), i);
+            }
+        }
+        return Collections.unmodifiableMap(channels);
+    }
 
-        return queues;
+    private static String getTableId(Record<?> record) {
+        if (record.getData() instanceof SeaTunnelRow) {
+            return ((SeaTunnelRow) record.getData()).getTableId();
+        } else if (record.getData() instanceof SchemaChangeEvent) {
+            return ((SchemaChangeEvent) record.getData()).tablePath().toString();
+        }
+        throw new UnsupportedOperationException("Unsupported record: " + record);
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, String tableId) {
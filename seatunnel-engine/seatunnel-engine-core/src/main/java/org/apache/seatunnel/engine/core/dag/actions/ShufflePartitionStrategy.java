@@ -17,95 +17,62 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 
-import com.hazelcast.collection.IQueue;
-import com.hazelcast.core.HazelcastInstance;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
-import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import static org.apache.seatunnel.shade.com.google.common.base.Preconditions.checkArgument;
 
-@Slf4j
 @SuperBuilder
 @Getter
 @Setter
 @ToString
 public class ShufflePartitionStrategy extends ShuffleStrategy {
-    private final Map<Integer, String[]> inputQueueMapping = new HashMap<>();
     private int targetPartitions;
 
+    /** The tables of the shuffled rows, lets the shuffle write them with their schema. */
+    private List<CatalogTable> catalogTables;
+
     @Tolerate
     public ShufflePartitionStrategy() {}
 
     @Override
-    public Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
-        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
-        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
-        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
-            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
-            // clear old data when job restore
-            queue.clear();
-            shuffleMap.put(queueName, queue);
-        }
-
-        log.info(
-                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                inputIndex,
-                shuffleMap.keySet());
-
-        return shuffleMap;
+    public List<CatalogTable> getCatalogTables() {
+        return catalogTables == null ? Collections.emptyList() : catalogTables;
     }
 
     @Override
-    public String createShuffleKey(Record<?> record, int pipelineId, int inputIndex) {
-        String[] inputQueueNames =
-                inputQueueMapping.computeIfAbsent(
-                        inputIndex,
-                        key -> {
-                            String[] queueNames = new String[targetPartitions];
-                            for (int targetIndex = 0;
-                                    targetIndex < targetPartitions;
-                                    targetIndex++) {
-                                queueNames[targetIndex] =
-                                        generateQueueName(pipelineId, key, targetIndex);
-                            }
-                            return queueNames;
-                        });
-        return inputQueueNames[ThreadLocalRandom.current().nextInt(targetPartitions)];
+    public String[] getOutputQueueNames(int pipelineId, int inputIndex) {
+        checkArgument(inputIndex >= 0 && inputIndex < getInputPartitions());
+        String[] queueNames = new String[targetPartitions];
+        for (int targetIndex = 0; targetIndex < targetPartitions; targetIndex++) {
+            queueNames[targetIndex] = generateQueueName(pipelineId, inputIndex, targetIndex);
+        }
+        return queueNames;
     }
 
     @Override
-    public IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+    public String[] getInputQueueNames(int pipelineId, int targetIndex) {
         checkArgument(targetIndex >= 0 && targetIndex < targetPartitions);
-        IQueue<Record<?>>[] shuffles = new IQueue[getInputPartitions()];
+        String[] queueNames = new String[getInputPartitions()];
         for (int inputIndex = 0; inputIndex < getInputPartitions(); inputIndex++) {
-            String queueName = generateQueueName(pipelineId, inputIndex, targetIndex);
-            shuffles[inputIndex] = getIQueue(hazelcast, queueName);
+            queueNames[inputIndex] = generateQueueName(pipelineId, inputIndex, targetIndex);
         }
+        return queueNames;
+    }
 
-        log.info(
-                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
-                pipelineId,
-                targetIndex,
-                Stream.of(shuffles).map(e -> e.getName()).collect(Collectors.toList()));
-
-        return shuffles;
+    @Override
+    public int getShuffleChannel(Record<?> record) {
+        return ThreadLocalRandom.current().nextInt(targetPartitions);
     }
 
     private String generateQueueName(int pipelineId, int inputIndex, int targetIndex) {
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.core.dag.actions;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 
 import com.hazelcast.collection.IQueue;
@@ -28,10 +29,16 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.SuperBuilder;
 import lombok.experimental.Tolerate;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @SuperBuilder(toBuilder = true)
 @Getter
 @Setter
@@ -51,13 +58,61 @@ public abstract class ShuffleStrategy implements Serializable {
     @Tolerate
     public ShuffleStrategy() {}
 
-    public abstract Map<String, IQueue<Record<?>>> createShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int inputIndex);
+    /** The tables of the rows sent through the shuffle, in a stable order, empty if unknown. */
+    public List<CatalogTable> getCatalogTables() {
+        return Collections.emptyList();
+    }
+
+    /** Names of the shuffle queues written by the upstream task {@code inputIndex}. */
+    public abstract String[] getOutputQueueNames(int pipelineId, int inputIndex);
+
+    /**
+     * Names of the shuffle queues read by the downstream task {@code targetIndex}, one for each
+     * upstream task.
+     */
+    public abstract String[] getInputQueueNames(int pipelineId, int targetIndex);
+
+    public Map<String, IQueue<Record<?>>> createShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int inputIndex) {
+        Map<String, IQueue<Record<?>>> shuffleMap = new LinkedHashMap<>();
+        for (String queueName : getOutputQueueNames(pipelineId, inputIndex)) {
+            IQueue<Record<?>> queue = getIQueue(hazelcast, queueName);
+            // clear old data when job restore
+            queue.clear();
+            shuffleMap.put(queueName, queue);
+        }
+
+        log.info(
+                "pipeline[{}] / reader[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                inputIndex,
+                shuffleMap.keySet());
 
-    public abstract String createShuffleKey(Record<?> record, int pipelineId, int inputIndex);
+        return shuffleMap;
+    }
+
+    /**
+     * The index of the queue {@code record} is sent to, in the order of {@link
+     * #getOutputQueueNames}.
+     */
+    public abstract int getShuffleChannel(Record<?> record);
+
+    public IQueue<Record<?>>[] getShuffles(
+            HazelcastInstance hazelcast, int pipelineId, int targetIndex) {
+        String[] queueNames = getInputQueueNames(pipelineId, targetIndex);
+        IQueue<Record<?>>[] shuffles = new IQueue[queueNames.length];
+        for (int inputIndex = 0; inputIndex < queueNames.length; inputIndex++) {
+            shuffles[inputIndex] = getIQueue(hazelcast, queueNames[inputIndex]);
+        }
 
-    public abstract IQueue<Record<?>>[] getShuffles(
-            HazelcastInstance hazelcast, int pipelineId, int targetIndex);
+        log.info(
+                "pipeline[{}] / writer[{}] assigned shuffle queue list: {}",
+                pipelineId,
+                targetIndex,
+                Arrays.asList(queueNames));
+
+        return shuffles;
+    }
 
     protected IQueue<Record<?>> getIQueue(HazelcastInstance hazelcast, String queueName) {
         QueueConfig targetQueueConfig = hazelcast.getConfig().getQueueConfig(queueName);
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.core.dag.actions;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class ShuffleStrategyTest {
+
+    @Test
+    public void testMultipleRowChannelOfTable() {
+        ShuffleStrategy strategy =
+                ShuffleMultipleRowStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(2)
+                        .catalogTables(
+                                Arrays.asList(
+                                        catalogTable("db.t1"),
+                                        catalogTable("db.t2"),
+                                        catalogTable("db.t3")))
+                        .build();
+        String[] queueNames = strategy.getOutputQueueNames(1, 1);
+
+        for (String tableId : new String[] {"db.t3", "db.t1", "db.t2"}) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {1});
+            row.setTableId(tableId);
+            int channel = strategy.getShuffleChannel(new Record<>(row));
+            Assertions.assertTrue(queueNames[channel].endsWith("_" + tableId), queueNames[channel]);
+        }
+
+        SeaTunnelRow unknown = new SeaTunnelRow(new Object[] {1});
+        unknown.setTableId("db.t4");
+        Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> strategy.getShuffleChannel(new Record<>(unknown)));
+    }
+
+    @Test
+    public void testPartitionChannelInRange() {
+        ShuffleStrategy strategy =
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(2)
+                        .targetPartitions(3)
+                        .build();
+        Record<?> record = new Record<>(new SeaTunnelRow(new Object[] {1}));
+        for (int i = 0; i < 100; i++) {
+            int channel = strategy.getShuffleChannel(record);
+            Assertions.assertTrue(channel >= 0 && channel < 3);
+        }
+    }
+
+    private static CatalogTable catalogTable(String tableId) {
+        String[] names = tableId.split("\\.");
+        return CatalogTable.of(
+                TableIdentifier.of("test", names[0], names[1]),
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 0, true, null, null))
+                        .build(),
+                Collections.emptyMap(),
+                Collections.emptyList(),
+                null);
+    }
+}
@@ -70,8 +70,8 @@ import com.hazelcast.spi.impl.NodeEngineImpl;
 import lombok.NonNull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -149,7 +149,7 @@ public class CoordinatorService {
      */
     private IMap<PipelineLocation, Map<TaskGroupLocation, SlotProfile>> ownedSlotProfilesIMap;
 
-    private IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
+    private IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap;
 
     /** If this node is a master node */
     private volatile boolean isActive = false;
@@ -224,6 +224,10 @@ public class CoordinatorService {
         return runningJobMasterMap.get(jobId);
     }
 
+    public Collection<JobMaster> getRunningJobMasters() {
+        return Collections.unmodifiableCollection(runningJobMasterMap.values());
+    }
+
     public EventProcessor getEventProcessor() {
         return eventProcessor;
     }
@@ -43,6 +43,7 @@ import org.apache.seatunnel.engine.server.execution.TaskGroup;
 import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.execution.TaskReadiness;
 import org.apache.seatunnel.engine.server.execution.TaskTracker;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.service.jar.ServerConnectorPackageClient;
@@ -79,6 +80,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -95,6 +97,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -139,12 +142,19 @@ public class TaskExecutionService implements DynamicMetricsProvider {
     private final ConcurrentMap<TaskGroupLocation, Map<String, CompletableFuture<?>>>
             taskAsyncFunctionFuture = new ConcurrentHashMap<>();
 
+    // fingerprints of the task metrics last written to the metrics IMap, used to skip the
+    // unchanged ones
+    private final Map<TaskLocation, Long> publishedMetricsFingerprints = new ConcurrentHashMap<>();
+
     private final ConcurrentMap<TaskGroupLocation, CompletableFuture<Void>> cancellationFutures =
             new ConcurrentHashMap<>();
     private final SeaTunnelConfig seaTunnelConfig;
 
     private final ScheduledExecutorService scheduledExecutorService;
 
+    // resumes parked idle tasks once their idle timeout passes
+    private final ScheduledThreadPoolExecutor idleTaskScheduler;
+
     private final ServerConnectorPackageClient serverConnectorPackageClient;
 
     private final BlockingQueue<Event> eventBuffer;
@@ -173,6 +183,15 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 seaTunnelConfig.getEngineConfig().getJobMetricsBackupInterval(),
                 TimeUnit.SECONDS);
 
+        idleTaskScheduler =
+                new ScheduledThreadPoolExecutor(
+                        1,
+                        new ThreadFactoryBuilder()
+                                .setNameFormat("hz." + hzInstanceName + ".idle-task-scheduler-%d")
+                                .setDaemon(true)
+                                .build());
+        idleTaskScheduler.setRemoveOnCancelPolicy(true);
+
         serverConnectorPackageClient =
                 new ServerConnectorPackageClient(nodeEngine, seaTunnelConfig);
 
@@ -222,6 +241,7 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         isRunning = false;
         executorService.shutdownNow();
         scheduledExecutorService.shutdown();
+        idleTaskScheduler.shutdownNow();
         eventForwardService.shutdownNow();
     }
 
@@ -547,6 +567,16 @@ public class TaskExecutionService implements DynamicMetricsProvider {
         finishedExecutionContexts.remove(taskGroupLocation);
     }
 
+    /**
+     * Returns the contexts of the running task groups and of the finished, not yet cleaned ones.
+     */
+    public Map<TaskGroupLocation, TaskGroupContext> getAllExecutionContexts() {
+        Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
+        contextMap.putAll(finishedExecutionContexts);
+        contextMap.putAll(executionContexts);
+        return contextMap;
+    }
+
     @Override
     public void provideDynamicMetrics(
             MetricDescriptor descriptor, MetricsCollectionContext context) {
@@ -599,12 +629,14 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             nodeEngine.getNode().getState()));
             return;
         }
-        IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap =
+        IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap =
                 nodeEngine.getHazelcastInstance().getMap(Constant.IMAP_RUNNING_JOB_METRICS);
+        Set<TaskLocation> localTasks = new HashSet<>();
+        Map<TaskLocation, SeaTunnelMetricsContext> changedMetrics = new HashMap<>();
+        Map<TaskLocation, Long> changedFingerprints = new HashMap<>();
         Map<TaskGroupLocation, TaskGroupContext> contextMap = new HashMap<>();
         contextMap.putAll(finishedExecutionContexts);
         contextMap.putAll(executionContexts);
-        HashMap<TaskLocation, SeaTunnelMetricsContext> localMap = new HashMap<>();
         contextMap.forEach(
                 (taskGroupLocation, taskGroupContext) -> {
                     taskGroupContext
@@ -615,36 +647,35 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                                         // MetricsContext only exists in SeaTunnelTask
                                         if (task instanceof SeaTunnelTask) {
                                             SeaTunnelTask seaTunnelTask = (SeaTunnelTask) task;
-                                            if (null != seaTunnelTask.getMetricsContext()) {
-                                                localMap.put(
-                                                        seaTunnelTask.getTaskLocation(),
-                                                        seaTunnelTask.getMetricsContext());
+                                            SeaTunnelMetricsContext metricsContext =
+                                                    seaTunnelTask.getMetricsContext();
+                                            if (null == metricsContext) {
+                                                return;
+                                            }
+                                            TaskLocation taskLocation =
+                                                    seaTunnelTask.getTaskLocation();
+                                            localTasks.add(taskLocation);
+                                            long fingerprint = metricsContext.fingerprint();
+                                            Long published =
+                                                    publishedMetricsFingerprints.get(taskLocation);
+                                            if (published == null || published != fingerprint) {
+                                                changedMetrics.put(taskLocation, metricsContext);
+                                                changedFingerprints.put(taskLocation, fingerprint);
                                             }
                                         }
                                     });
                 });
-        if (localMap.size() > 0) {
+        publishedMetricsFingerprints.keySet().retainAll(localTasks);
+        if (!changedMetrics.isEmpty()) {
+            // every task owns its own entry, so only the changed entries are written and no lock
+            // is needed
             try {
-                if (!metricsImap.tryLock(
-                        Constant.IMAP_RUNNING_JOB_METRICS_KEY, 5, TimeUnit.SECONDS)) {
-                    logger.warning("try lock failed in update metrics");
-                    return;
-                }
-                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                        metricsImap.computeIfAbsent(
-                                Constant.IMAP_RUNNING_JOB_METRICS_KEY, k -> new HashMap<>());
-                centralMap.putAll(localMap);
-                metricsImap.put(Constant.IMAP_RUNNING_JOB_METRICS_KEY, centralMap);
+                metricsImap.setAll(changedMetrics);
+                publishedMetricsFingerprints.putAll(changedFingerprints);
             } catch (Exception e) {
                 logger.warning(
                         "The Imap acquisition failed due to the hazelcast node being offline or restarted, and will be retried next time",
                         e);
-            } finally {
-                try {
-                    metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                } catch (Throwable e) {
-                    logger.warning("unlock imap failed in update metrics", e);
-                }
             }
         }
         this.printTaskExecutionRuntimeInfo();
@@ -705,6 +736,9 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                 t.init();
                 do {
                     result = t.call();
+                    if (!result.isDone() && t.getReadiness() != null) {
+                        t.getReadiness().await();
+                    }
                 } while (!result.isDone()
                         && isRunning
                         && !taskGroupExecutionTracker.executionCompletedExceptionally());
@@ -842,9 +876,17 @@ public class TaskExecutionService implements DynamicMetricsProvider {
                             break;
                         }
                     } else {
-                        // Task is not completed. Put task to the end of the queue
+                        // Task is not completed. Put task to the end of the queue, unless it is
+                        // idle, then it is put back once it is ready again.
                         // If the current work has an exclusive tracker, it will not be put back
-                        if (null == exclusiveTaskTracker.get()) {
+                        TaskReadiness readiness = taskTracker.task.getReadiness();
+                        if (null != exclusiveTaskTracker.get()) {
+                            if (readiness != null) {
+                                readiness.await();
+                            }
+                        } else if (readiness == null
+                                || !readiness.park(
+                                        () -> taskqueue.offer(taskTracker), idleTaskScheduler)) {
                             taskqueue.offer(taskTracker);
                         }
                     }
@@ -925,6 +967,11 @@ public class TaskExecutionService implements DynamicMetricsProvider {
             try {
                 blockingFutures.forEach(f -> f.cancel(true));
                 currRunningTaskFuture.values().forEach(f -> f.cancel(true));
+                // resume parked tasks, so the workers see the cancellation
+                taskGroup.getTasks().stream()
+                        .map(Task::getReadiness)
+                        .filter(Objects::nonNull)
+                        .forEach(TaskReadiness::signal);
             } catch (CancellationException ignore) {
                 // ignore
             }
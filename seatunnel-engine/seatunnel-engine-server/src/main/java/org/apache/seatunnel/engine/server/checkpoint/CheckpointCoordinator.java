@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.checkpoint;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.common.utils.ExceptionUtils;
 import org.apache.seatunnel.common.utils.RetryUtils;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -39,6 +41,7 @@ import org.apache.seatunnel.engine.server.checkpoint.operation.NotifyTaskStartOp
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskReportStatusOperation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 
@@ -88,6 +91,9 @@ import static org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTask
 public class CheckpointCoordinator {
     private static final Logger LOG = LoggerFactory.getLogger(CheckpointCoordinator.class);
 
+    /** The max number of completed checkpoints being persisted to the storage at the same time. */
+    private static final int MAX_PERSISTING_CHECKPOINTS = 2;
+
     private final long jobId;
 
     private final int pipelineId;
@@ -100,6 +106,8 @@ public class CheckpointCoordinator {
 
     private final transient Serializer serializer;
 
+    private final IncrementalCheckpointStore incrementalCheckpointStore;
+
     /**
      * All tasks in this pipeline. <br>
      * key: the task id; <br>
@@ -128,6 +136,17 @@ public class CheckpointCoordinator {
 
     private final AtomicInteger pendingCounter = new AtomicInteger(0);
 
+    private final AtomicInteger persistingCounter = new AtomicInteger(0);
+
+    /**
+     * Completed checkpoints are persisted one after another on this chain, so they become durable
+     * and are notified in the order they completed.
+     */
+    private CompletableFuture<Void> persistFuture = CompletableFuture.completedFuture(null);
+
+    /** Increased on every clean up, persisted checkpoints of an older epoch are not adopted. */
+    private final AtomicLong coordinatorEpoch = new AtomicLong(0);
+
     private final AtomicBoolean schemaChanging = new AtomicBoolean(false);
 
     private final Object lock = new Object();
@@ -151,6 +170,14 @@ public class CheckpointCoordinator {
 
     private final String checkpointStateImapKey;
 
+    @Getter private final SeaTunnelMetricsContext metricsContext;
+
+    private final Histogram checkpointDuration;
+
+    private final Histogram checkpointAckDuration;
+
+    private final Histogram checkpointPersistDuration;
+
     @SneakyThrows
     public CheckpointCoordinator(
             CheckpointManager manager,
@@ -188,12 +215,19 @@ public class CheckpointCoordinator {
                         });
         ((ScheduledThreadPoolExecutor) this.scheduler).setRemoveOnCancelPolicy(true);
         this.serializer = new ProtoStuffSerializer();
+        this.incrementalCheckpointStore =
+                new IncrementalCheckpointStore(checkpointStorage, serializer);
         this.pipelineTasks = getPipelineTasks(plan.getPipelineSubtasks());
         this.pipelineTaskStatus = new ConcurrentHashMap<>();
         this.checkpointIdCounter = checkpointIdCounter;
         this.readyToCloseStartingTask = new CopyOnWriteArraySet<>();
         this.readyToCloseIdleTask = new CopyOnWriteArraySet<>();
         this.closedIdleTask = new CopyOnWriteArraySet<>();
+        this.metricsContext = new SeaTunnelMetricsContext();
+        this.checkpointDuration = metricsContext.histogram(MetricNames.CHECKPOINT_DURATION);
+        this.checkpointAckDuration = metricsContext.histogram(MetricNames.CHECKPOINT_ACK_DURATION);
+        this.checkpointPersistDuration =
+                metricsContext.histogram(MetricNames.CHECKPOINT_PERSIST_DURATION);
 
         LOG.info(
                 "Create CheckpointCoordinator for job({}@{}) with plan({})",
@@ -201,8 +235,7 @@ public class CheckpointCoordinator {
                 jobId,
                 plan);
         if (pipelineState != null) {
-            this.latestCompletedCheckpoint =
-                    serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+            this.latestCompletedCheckpoint = incrementalCheckpointStore.restore(pipelineState);
             this.latestCompletedCheckpoint.setRestored(true);
             LOG.info(
                     "Restore job({}@{}) with checkpoint({}), data: {}",
@@ -516,6 +549,14 @@ public class CheckpointCoordinator {
                 return;
             }
 
+            if (persistingCounter.get() >= MAX_PERSISTING_CHECKPOINTS) {
+                scheduleTriggerPendingCheckpoint(checkpointType, 500L);
+                LOG.debug(
+                        "skip trigger checkpoint because there are {} checkpoints being persisted.",
+                        persistingCounter.get());
+                return;
+            }
+
             CompletableFuture<PendingCheckpoint> pendingCheckpoint =
                     createPendingCheckpoint(currentTimestamp, checkpointType);
             startTriggerPendingCheckpoint(pendingCheckpoint);
@@ -550,8 +591,8 @@ public class CheckpointCoordinator {
                     CheckpointCloseReason.TASK_NOT_ALL_READY_WHEN_SAVEPOINT);
         }
         if (savepointPendingCheckpoint != null
-                && !savepointPendingCheckpoint.getCompletableFuture().isDone()) {
-            return savepointPendingCheckpoint.getCompletableFuture();
+                && !savepointPendingCheckpoint.getDurableFuture().isDone()) {
+            return savepointPendingCheckpoint.getDurableFuture();
         }
         CompletableFuture<PendingCheckpoint> savepoint;
         synchronized (lock) {
@@ -570,7 +611,7 @@ public class CheckpointCoordinator {
                 String.format(
                         "The save point checkpointId is %s",
                         savepointPendingCheckpoint.getCheckpointId()));
-        return savepointPendingCheckpoint.getCompletableFuture();
+        return savepointPendingCheckpoint.getDurableFuture();
     }
 
     private PassiveCompletableFuture<CompletedCheckpoint> completableFutureWithError(
@@ -770,6 +811,7 @@ public class CheckpointCoordinator {
     protected void cleanPendingCheckpoint(CheckpointCloseReason closedReason) {
         shutdown = true;
         isAllTaskReady = false;
+        coordinatorEpoch.incrementAndGet();
         synchronized (lock) {
             LOG.info("start clean pending checkpoint cause {}", closedReason.message());
             if (!pendingCheckpoints.isEmpty()) {
@@ -829,6 +871,11 @@ public class CheckpointCoordinator {
         }
     }
 
+    /**
+     * Records the completion of a fully acknowledged checkpoint and hands it over to be persisted
+     * in the background. The checkpoint only becomes the latest completed checkpoint and is only
+     * notified to the tasks once it is durable, see {@link #persistCompletedCheckpoint}.
+     */
     public synchronized void completePendingCheckpoint(CompletedCheckpoint completedCheckpoint) {
         LOG.debug(
                 "pending checkpoint({}/{}@{}) completed! cost: {}, trigger: {}, completed: {}",
@@ -840,9 +887,107 @@ public class CheckpointCoordinator {
                 completedCheckpoint.getCheckpointTimestamp(),
                 completedCheckpoint.getCompletedTimestamp());
         final long checkpointId = completedCheckpoint.getCheckpointId();
-        completedCheckpointIds.addLast(String.valueOf(completedCheckpoint.getCheckpointId()));
+        final PendingCheckpoint pendingCheckpoint = pendingCheckpoints.remove(checkpointId);
+        if (pendingCheckpoint == null) {
+            LOG.info("skip already cleaned checkpoint " + checkpointId);
+            return;
+        }
+        pendingCheckpoint.abortCheckpointTimeoutFutureWhenIsCompleted();
+        checkpointAckDuration.update(
+                completedCheckpoint.getCompletedTimestamp()
+                        - completedCheckpoint.getCheckpointTimestamp());
+        final long epoch = coordinatorEpoch.get();
+        persistingCounter.incrementAndGet();
+        if (completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+            // the next general checkpoint can be triggered while this one is being persisted,
+            // the other types still block it until they are durable and notified.
+            pendingCounter.decrementAndGet();
+        }
+        persistFuture =
+                persistFuture.thenRunAsync(
+                        () -> {
+                            try {
+                                persistCompletedCheckpoint(
+                                        pendingCheckpoint, completedCheckpoint, epoch);
+                            } catch (Throwable e) {
+                                pendingCheckpoint.abortCheckpoint(
+                                        CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR, e);
+                                handleCoordinatorError(
+                                        "complete checkpoint failed",
+                                        e,
+                                        CheckpointCloseReason.CHECKPOINT_INSIDE_ERROR);
+                            } finally {
+                                persistingCounter.decrementAndGet();
+                            }
+                        },
+                        executorService);
+    }
+
+    private void persistCompletedCheckpoint(
+            PendingCheckpoint pendingCheckpoint,
+            CompletedCheckpoint completedCheckpoint,
+            long epoch) {
+        if (epoch != coordinatorEpoch.get()) {
+            LOG.info(
+                    "skip persist checkpoint({}/{}@{}) because the coordinator was cleaned.",
+                    completedCheckpoint.getCheckpointId(),
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            pendingCheckpoint.abortCheckpoint(
+                    CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET, null);
+            return;
+        }
+        storeCompletedCheckpoint(completedCheckpoint);
+        synchronized (this) {
+            if (epoch != coordinatorEpoch.get()) {
+                LOG.info(
+                        "skip notify checkpoint({}/{}@{}) because the coordinator was cleaned.",
+                        completedCheckpoint.getCheckpointId(),
+                        completedCheckpoint.getPipelineId(),
+                        completedCheckpoint.getJobId());
+                pendingCheckpoint.abortCheckpoint(
+                        CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET, null);
+                return;
+            }
+            long now = System.currentTimeMillis();
+            checkpointPersistDuration.update(now - completedCheckpoint.getCompletedTimestamp());
+            checkpointDuration.update(now - completedCheckpoint.getCheckpointTimestamp());
+            LOG.info(
+                    "pending checkpoint({}/{}@{}) notify finished!",
+                    completedCheckpoint.getCheckpointId(),
+                    completedCheckpoint.getPipelineId(),
+                    completedCheckpoint.getJobId());
+            latestCompletedCheckpoint = completedCheckpoint;
+            notifyCompleted(completedCheckpoint);
+            if (!completedCheckpoint.getCheckpointType().isGeneralCheckpoint()) {
+                pendingCounter.decrementAndGet();
+            }
+            pendingCheckpoint.completeDurable(completedCheckpoint);
+            if (isCompleted()) {
+                cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
+                if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
+                    updateStatus(CheckpointCoordinatorStatus.SUSPEND);
+                    checkpointCoordinatorFuture.complete(
+                            new CheckpointCoordinatorState(
+                                    CheckpointCoordinatorStatus.SUSPEND, null));
+                } else {
+                    updateStatus(CheckpointCoordinatorStatus.FINISHED);
+                    checkpointCoordinatorFuture.complete(
+                            new CheckpointCoordinatorState(
+                                    CheckpointCoordinatorStatus.FINISHED, null));
+                }
+            }
+        }
+    }
+
+    private void storeCompletedCheckpoint(CompletedCheckpoint completedCheckpoint) {
+        final long checkpointId = completedCheckpoint.getCheckpointId();
+        completedCheckpointIds.addLast(String.valueOf(checkpointId));
         try {
-            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
+            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()
+                    && coordinatorConfig.getStorage().isIncremental()) {
+                incrementalCheckpointStore.store(completedCheckpoint);
+            } else if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
                 byte[] states = serializer.serialize(completedCheckpoint);
                 checkpointStorage.storeCheckPoint(
                         PipelineState.builder()
@@ -852,6 +997,16 @@ public class CheckpointCoordinator {
                                 .states(states)
                                 .build());
             }
+            if (completedCheckpoint.getCheckpointType().notCompletedCheckpoint()) {
+                // the restored checkpoint is subsumed by the first stored checkpoint
+                List<String> restoredCheckpointIds = incrementalCheckpointStore.releaseRestored();
+                if (!restoredCheckpointIds.isEmpty()) {
+                    checkpointStorage.deleteCheckpoint(
+                            String.valueOf(completedCheckpoint.getJobId()),
+                            String.valueOf(completedCheckpoint.getPipelineId()),
+                            restoredCheckpointIds);
+                }
+            }
             if (completedCheckpointIds.size()
                                     % coordinatorConfig.getStorage().getMaxRetainedCheckpoints()
                             == 0
@@ -864,6 +1019,11 @@ public class CheckpointCoordinator {
                         i++) {
                     needDeleteCheckpointId.add(completedCheckpointIds.removeFirst());
                 }
+                if (coordinatorConfig.getStorage().isIncremental()) {
+                    // the chunks of released checkpoints may still be used by retained ones
+                    needDeleteCheckpointId =
+                            incrementalCheckpointStore.release(needDeleteCheckpointId);
+                }
                 checkpointStorage.deleteCheckpoint(
                         String.valueOf(completedCheckpoint.getJobId()),
                         String.valueOf(completedCheckpoint.getPipelineId()),
@@ -873,27 +1033,6 @@ public class CheckpointCoordinator {
             LOG.error("store checkpoint states failed.", e);
             sneakyThrow(e);
         }
-        LOG.info(
-                "pending checkpoint({}/{}@{}) notify finished!",
-                completedCheckpoint.getCheckpointId(),
-                completedCheckpoint.getPipelineId(),
-                completedCheckpoint.getJobId());
-        latestCompletedCheckpoint = completedCheckpoint;
-        notifyCompleted(completedCheckpoint);
-        pendingCheckpoints.remove(checkpointId).abortCheckpointTimeoutFutureWhenIsCompleted();
-        pendingCounter.decrementAndGet();
-        if (isCompleted()) {
-            cleanPendingCheckpoint(CheckpointCloseReason.CHECKPOINT_COORDINATOR_COMPLETED);
-            if (latestCompletedCheckpoint.getCheckpointType().isSavepoint()) {
-                updateStatus(CheckpointCoordinatorStatus.SUSPEND);
-                checkpointCoordinatorFuture.complete(
-                        new CheckpointCoordinatorState(CheckpointCoordinatorStatus.SUSPEND, null));
-            } else {
-                updateStatus(CheckpointCoordinatorStatus.FINISHED);
-                checkpointCoordinatorFuture.complete(
-                        new CheckpointCoordinatorState(CheckpointCoordinatorStatus.FINISHED, null));
-            }
-        }
     }
 
     public InvocationFuture<?>[] notifyCheckpointCompleted(CompletedCheckpoint checkpoint) {
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.checkpoint;
 
+import org.apache.seatunnel.api.common.metrics.MetricTags;
+import org.apache.seatunnel.api.common.metrics.RawJobMetrics;
 import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
 import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorageFactory;
@@ -40,18 +42,23 @@ import org.apache.seatunnel.engine.server.dag.physical.SubPlan;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
 import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.metrics.MasterMetricsCollector;
 import org.apache.seatunnel.engine.server.task.SourceSplitEnumeratorTask;
 import org.apache.seatunnel.engine.server.task.operation.TaskOperation;
 import org.apache.seatunnel.engine.server.task.statemachine.SeaTunnelTaskState;
 import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.impl.DefaultMetricDescriptorSupplier;
 import com.hazelcast.map.IMap;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.operationservice.impl.InvocationFuture;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -184,6 +191,11 @@ public class CheckpointManager {
         getCheckpointCoordinator(taskLocation).reportCheckpointErrorFromTask(errorMsg);
     }
 
+    /** Returns the checkpoint coordinators of the job, by pipeline id. */
+    public Map<Integer, CheckpointCoordinator> getCheckpointCoordinators() {
+        return Collections.unmodifiableMap(coordinatorMap);
+    }
+
     @VisibleForTesting
     public CheckpointCoordinator getCheckpointCoordinator(int pipelineId) {
         CheckpointCoordinator coordinator = coordinatorMap.get(pipelineId);
@@ -194,6 +206,25 @@ public class CheckpointManager {
         return coordinator;
     }
 
+    /** Collects the metrics of the checkpoint coordinators of the given pipelines. */
+    public RawJobMetrics getCheckpointMetrics(Collection<Integer> pipelineIds) {
+        MasterMetricsCollector collector = new MasterMetricsCollector(nodeEngine.getLocalMember());
+        for (Integer pipelineId : pipelineIds) {
+            CheckpointCoordinator coordinator = coordinatorMap.get(pipelineId);
+            if (coordinator == null) {
+                continue;
+            }
+            MetricDescriptor descriptor =
+                    DefaultMetricDescriptorSupplier.DEFAULT_DESCRIPTOR_SUPPLIER
+                            .get()
+                            .withTag(MetricTags.SERVICE, this.getClass().getSimpleName())
+                            .withTag(MetricTags.JOB_ID, String.valueOf(jobId))
+                            .withTag(MetricTags.PIPELINE_ID, String.valueOf(pipelineId));
+            coordinator.getMetricsContext().provideDynamicMetrics(descriptor, collector);
+        }
+        return collector.getMetrics();
+    }
+
     /**
      * Called by the {@link Task}. <br>
      * used by Task to report the {@link SeaTunnelTaskState} of the state machine.
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The form in which the {@link IncrementalCheckpointStore} persists a {@link CompletedCheckpoint}.
+ * The states of the subtasks are split into content defined chunks, and only the chunks which are
+ * not held by a retained checkpoint yet are written with this checkpoint.
+ */
+@Getter
+@AllArgsConstructor
+public class IncrementalCheckpointState implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The checkpoint without its action states. */
+    private final CompletedCheckpoint checkpoint;
+
+    private final List<ChunkedActionState> actionStates;
+
+    /** The chunks written with this checkpoint, key is the hash of the chunk. */
+    private final Map<String, byte[]> chunks;
+
+    /** The checkpoints holding the chunks used by this checkpoint, key is the hash of the chunk. */
+    private final Map<String, Long> chunkLocations;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkedActionState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final ActionStateKey stateKey;
+
+        private final int parallelism;
+
+        /** The reported subtask states, including the coordinator state. */
+        private final List<ChunkedSubtaskState> subtaskStates;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkedSubtaskState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int index;
+
+        private final List<ChunkedState> states;
+    }
+
+    /**
+     * A single state of a subtask, either inlined when it is too small to be chunked, or the hashes
+     * of its chunks. Both are null if the state itself was null.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkedState implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] data;
+
+        private final List<String> chunks;
+    }
+}
@@ -0,0 +1,397 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
+import org.apache.seatunnel.engine.serializer.api.Serializer;
+import org.apache.seatunnel.engine.server.checkpoint.IncrementalCheckpointState.ChunkedActionState;
+import org.apache.seatunnel.engine.server.checkpoint.IncrementalCheckpointState.ChunkedState;
+import org.apache.seatunnel.engine.server.checkpoint.IncrementalCheckpointState.ChunkedSubtaskState;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Persists {@link CompletedCheckpoint}s incrementally.
+ *
+ * <p>Every state of a subtask is split into content defined chunks, so an insertion or removal only
+ * changes the chunks around it. A chunk already held by a retained checkpoint is stored as a
+ * reference to that checkpoint, only new chunks are written with the checkpoint itself. The
+ * checkpoint files are reference counted: a released checkpoint is only deleted once no retained
+ * checkpoint uses any of its chunks anymore.
+ */
+public class IncrementalCheckpointStore {
+    private static final Logger LOG = LoggerFactory.getLogger(IncrementalCheckpointStore.class);
+
+    /**
+     * Prefix of incremental checkpoints. A protostuff serialized {@link CompletedCheckpoint} never
+     * starts with it, so checkpoints written in both modes can be restored.
+     */
+    private static final byte[] MAGIC = {'S', 'T', 'I', 'C'};
+
+    @VisibleForTesting static final int MIN_CHUNK_SIZE = 16 * 1024;
+
+    @VisibleForTesting static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+    /** 16 bits of the gear hash, the chunks are 64KB larger than the minimum on average. */
+    private static final long CUT_MASK = 0xFFFF_0000_0000_0000L;
+
+    private static final long[] GEAR = new long[256];
+
+    static {
+        Random random = new Random(0x5EA7_7E11L);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private final CheckpointStorage checkpointStorage;
+
+    private final Serializer serializer;
+
+    /** The checkpoint holding each stored chunk, key is the hash of the chunk. */
+    private final Map<String, Long> chunkIndex = new HashMap<>();
+
+    /** The number of checkpoints using the chunks of a checkpoint, key is the checkpoint id. */
+    private final Map<Long, Integer> fileReferences = new HashMap<>();
+
+    /** The checkpoints whose chunks are used by a checkpoint, key is the checkpoint id. */
+    private final Map<Long, Set<Long>> usedFiles = new HashMap<>();
+
+    /** The restored incremental checkpoint, retained until a new checkpoint completes. */
+    private Long restoredCheckpointId;
+
+    public IncrementalCheckpointStore(CheckpointStorage checkpointStorage, Serializer serializer) {
+        this.checkpointStorage = checkpointStorage;
+        this.serializer = serializer;
+    }
+
+    public static boolean isIncremental(byte[] states) {
+        return states.length >= MAGIC.length
+                && Arrays.equals(Arrays.copyOf(states, MAGIC.length), MAGIC);
+    }
+
+    public synchronized void store(CompletedCheckpoint checkpoint)
+            throws IOException, CheckpointStorageException {
+        final long checkpointId = checkpoint.getCheckpointId();
+        Map<String, byte[]> chunks = new HashMap<>();
+        Map<String, Long> chunkLocations = new HashMap<>();
+        List<ChunkedActionState> actionStates = new ArrayList<>();
+        for (ActionState actionState : checkpoint.getTaskStates().values()) {
+            List<ChunkedSubtaskState> subtaskStates = new ArrayList<>();
+            if (actionState.getCoordinatorState() != null) {
+                subtaskStates.add(
+                        toChunkedSubtaskState(
+                                actionState.getCoordinatorState(),
+                                checkpointId,
+                                chunks,
+                                chunkLocations));
+            }
+            for (ActionSubtaskState subtaskState : actionState.getSubtaskStates()) {
+                if (subtaskState != null) {
+                    subtaskStates.add(
+                            toChunkedSubtaskState(
+                                    subtaskState, checkpointId, chunks, chunkLocations));
+                }
+            }
+            actionStates.add(
+                    new ChunkedActionState(
+                            actionState.getStateKey(),
+                            actionState.getParallelism(),
+                            subtaskStates));
+        }
+        IncrementalCheckpointState state =
+                new IncrementalCheckpointState(
+                        withoutTaskStates(checkpoint), actionStates, chunks, chunkLocations);
+        checkpointStorage.storeCheckPoint(
+                PipelineState.builder()
+                        .checkpointId(checkpointId)
+                        .jobId(String.valueOf(checkpoint.getJobId()))
+                        .pipelineId(checkpoint.getPipelineId())
+                        .states(withMagic(serializer.serialize(state)))
+                        .build());
+        // the chunks can only be referenced by the next checkpoints once they are durable
+        chunks.keySet().forEach(hash -> chunkIndex.put(hash, checkpointId));
+        retain(checkpointId, chunkLocations);
+        LOG.info(
+                "stored incremental checkpoint({}/{}@{}) with {} new chunks, {} chunks in total.",
+                checkpointId,
+                checkpoint.getPipelineId(),
+                checkpoint.getJobId(),
+                chunks.size(),
+                chunkLocations.size());
+    }
+
+    /** Restores a checkpoint written in either incremental or full mode. */
+    public synchronized CompletedCheckpoint restore(PipelineState pipelineState)
+            throws IOException, CheckpointStorageException {
+        if (!isIncremental(pipelineState.getStates())) {
+            return serializer.deserialize(pipelineState.getStates(), CompletedCheckpoint.class);
+        }
+        IncrementalCheckpointState state = readState(pipelineState);
+        final long checkpointId = pipelineState.getCheckpointId();
+        Map<Long, Map<String, byte[]>> files = new HashMap<>();
+        files.put(checkpointId, state.getChunks());
+        for (Long file : new HashSet<>(state.getChunkLocations().values())) {
+            if (!files.containsKey(file)) {
+                PipelineState referenced =
+                        checkpointStorage.getCheckpoint(
+                                pipelineState.getJobId(),
+                                String.valueOf(pipelineState.getPipelineId()),
+                                String.valueOf(file));
+                files.put(file, readState(referenced).getChunks());
+            }
+        }
+
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        for (ChunkedActionState chunkedActionState : state.getActionStates()) {
+            ActionState actionState =
+                    new ActionState(
+                            chunkedActionState.getStateKey(), chunkedActionState.getParallelism());
+            for (ChunkedSubtaskState subtaskState : chunkedActionState.getSubtaskStates()) {
+                List<byte[]> states = new ArrayList<>();
+                for (ChunkedState chunkedState : subtaskState.getStates()) {
+                    states.add(toState(chunkedState, state.getChunkLocations(), files));
+                }
+                actionState.reportState(
+                        subtaskState.getIndex(),
+                        new ActionSubtaskState(
+                                chunkedActionState.getStateKey(), subtaskState.getIndex(), states));
+            }
+            taskStates.put(chunkedActionState.getStateKey(), actionState);
+        }
+        CompletedCheckpoint checkpoint = state.getCheckpoint();
+        // the next checkpoints may reference the chunks of the restored checkpoint, it is
+        // released by releaseRestored once a new checkpoint completed
+        state.getChunkLocations().forEach(chunkIndex::put);
+        retain(checkpointId, state.getChunkLocations());
+        restoredCheckpointId = checkpointId;
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpoint.getCheckpointId(),
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                taskStates,
+                checkpoint.getTaskStatistics());
+    }
+
+    /**
+     * Releases the given checkpoints.
+     *
+     * @return the checkpoints which are not used by any retained checkpoint and can be deleted
+     */
+    public synchronized List<String> release(List<String> checkpointIds) {
+        List<String> deletable = new ArrayList<>();
+        for (String checkpointId : checkpointIds) {
+            Set<Long> files = usedFiles.remove(Long.parseLong(checkpointId));
+            if (files == null) {
+                // never stored by this store, e.g. the completed point
+                deletable.add(checkpointId);
+                continue;
+            }
+            for (Long file : files) {
+                int references = fileReferences.merge(file, -1, Integer::sum);
+                if (references > 0) {
+                    continue;
+                }
+                fileReferences.remove(file);
+                chunkIndex.values().removeIf(file::equals);
+                deletable.add(String.valueOf(file));
+            }
+        }
+        return deletable;
+    }
+
+    /**
+     * Releases the restored checkpoint, called once the first checkpoint after the restore
+     * completed, which subsumes it.
+     *
+     * @return the checkpoints which are not used by any retained checkpoint and can be deleted
+     */
+    public synchronized List<String> releaseRestored() {
+        if (restoredCheckpointId == null) {
+            return Collections.emptyList();
+        }
+        List<String> deletable =
+                release(Collections.singletonList(String.valueOf(restoredCheckpointId)));
+        restoredCheckpointId = null;
+        return deletable;
+    }
+
+    private void retain(long checkpointId, Map<String, Long> chunkLocations) {
+        Set<Long> files = new HashSet<>(chunkLocations.values());
+        files.add(checkpointId);
+        files.forEach(file -> fileReferences.merge(file, 1, Integer::sum));
+        usedFiles.put(checkpointId, files);
+    }
+
+    private ChunkedSubtaskState toChunkedSubtaskState(
+            ActionSubtaskState subtaskState,
+            long checkpointId,
+            Map<String, byte[]> chunks,
+            Map<String, Long> chunkLocations) {
+        List<ChunkedState> states = new ArrayList<>(subtaskState.getState().size());
+        for (byte[] data : subtaskState.getState()) {
+            if (data == null) {
+                states.add(new ChunkedState(null, null));
+            } else if (data.length < MIN_CHUNK_SIZE) {
+                states.add(new ChunkedState(data, null));
+            } else {
+                List<String> hashes = new ArrayList<>();
+                int start = 0;
+                for (int end : cutPoints(data)) {
+                    final int chunkStart = start;
+                    String hash = hash(data, chunkStart, end);
+                    Long location = chunkIndex.get(hash);
+                    if (location == null) {
+                        location = checkpointId;
+                        chunks.computeIfAbsent(
+                                hash, ignored -> Arrays.copyOfRange(data, chunkStart, end));
+                    }
+                    chunkLocations.put(hash, location);
+                    hashes.add(hash);
+                    start = end;
+                }
+                states.add(new ChunkedState(null, hashes));
+            }
+        }
+        return new ChunkedSubtaskState(subtaskState.getIndex(), states);
+    }
+
+    private static byte[] toState(
+            ChunkedState chunkedState,
+            Map<String, Long> chunkLocations,
+            Map<Long, Map<String, byte[]>> files) {
+        if (chunkedState.getChunks() == null) {
+            return chunkedState.getData();
+        }
+        List<byte[]> chunks = new ArrayList<>(chunkedState.getChunks().size());
+        int length = 0;
+        for (String hash : chunkedState.getChunks()) {
+            byte[] chunk = files.get(chunkLocations.get(hash)).get(hash);
+            if (chunk == null) {
+                throw new IllegalStateException(
+                        String.format(
+                                "chunk %s is missing in checkpoint %s",
+                                hash, chunkLocations.get(hash)));
+            }
+            chunks.add(chunk);
+            length += chunk.length;
+        }
+        byte[] data = new byte[length];
+        int offset = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, data, offset, chunk.length);
+            offset += chunk.length;
+        }
+        return data;
+    }
+
+    /** Returns the end offsets of the content defined chunks of the data. */
+    @VisibleForTesting
+    static List<Integer> cutPoints(byte[] data) {
+        if (data.length <= MIN_CHUNK_SIZE) {
+            return Collections.singletonList(data.length);
+        }
+        List<Integer> cutPoints = new ArrayList<>();
+        int start = 0;
+        while (start < data.length) {
+            start = nextCutPoint(data, start);
+            cutPoints.add(start);
+        }
+        return cutPoints;
+    }
+
+    private static int nextCutPoint(byte[] data, int start) {
+        int remaining = data.length - start;
+        if (remaining <= MIN_CHUNK_SIZE) {
+            return data.length;
+        }
+        int limit = start + Math.min(remaining, MAX_CHUNK_SIZE);
+        long hash = 0;
+        for (int i = start + MIN_CHUNK_SIZE; i < limit; i++) {
+            hash = (hash << 1) + GEAR[data[i] & 0xFF];
+            if ((hash & CUT_MASK) == 0) {
+                return i + 1;
+            }
+        }
+        return limit;
+    }
+
+    private static String hash(byte[] data, int start, int end) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(data, start, end - start);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IncrementalCheckpointState readState(PipelineState pipelineState) throws IOException {
+        byte[] states = pipelineState.getStates();
+        if (!isIncremental(states)) {
+            throw new IllegalStateException(
+                    String.format(
+                            "checkpoint %s is not an incremental checkpoint",
+                            pipelineState.getCheckpointId()));
+        }
+        return serializer.deserialize(
+                Arrays.copyOfRange(states, MAGIC.length, states.length),
+                IncrementalCheckpointState.class);
+    }
+
+    private static byte[] withMagic(byte[] payload) {
+        byte[] states = new byte[MAGIC.length + payload.length];
+        System.arraycopy(MAGIC, 0, states, 0, MAGIC.length);
+        System.arraycopy(payload, 0, states, MAGIC.length, payload.length);
+        return states;
+    }
+
+    private static CompletedCheckpoint withoutTaskStates(CompletedCheckpoint checkpoint) {
+        return new CompletedCheckpoint(
+                checkpoint.getJobId(),
+                checkpoint.getPipelineId(),
+                checkpoint.getCheckpointId(),
+                checkpoint.getCheckpointTimestamp(),
+                checkpoint.getCheckpointType(),
+                checkpoint.getCompletedTimestamp(),
+                new HashMap<>(),
+                checkpoint.getTaskStatistics());
+    }
+}
@@ -57,6 +57,8 @@ public class PendingCheckpoint implements Checkpoint {
 
     private final CompletableFuture<CompletedCheckpoint> completableFuture;
 
+    private final CompletableFuture<CompletedCheckpoint> durableFuture;
+
     @Getter private CheckpointException failureCause;
 
     @Setter ScheduledFuture<?> checkpointTimeOutFuture;
@@ -79,6 +81,7 @@ public class PendingCheckpoint implements Checkpoint {
         this.taskStatistics = taskStatistics;
         this.actionStates = actionStates;
         this.completableFuture = new CompletableFuture<>();
+        this.durableFuture = new CompletableFuture<>();
     }
 
     @Override
@@ -118,6 +121,18 @@ public class PendingCheckpoint implements Checkpoint {
         return new PassiveCompletableFuture<>(completableFuture);
     }
 
+    /**
+     * Completes once the checkpoint has been persisted to the checkpoint storage and notified to
+     * the tasks, while {@link #getCompletableFuture()} completes as soon as all tasks acked.
+     */
+    public PassiveCompletableFuture<CompletedCheckpoint> getDurableFuture() {
+        return new PassiveCompletableFuture<>(durableFuture);
+    }
+
+    protected void completeDurable(CompletedCheckpoint completedCheckpoint) {
+        durableFuture.complete(completedCheckpoint);
+    }
+
     public void acknowledgeTask(
             TaskLocation taskLocation,
             List<ActionSubtaskState> states,
@@ -172,9 +187,11 @@ public class PendingCheckpoint implements Checkpoint {
         if (closedReason.equals(CheckpointCloseReason.CHECKPOINT_COORDINATOR_RESET)
                 || closedReason.equals(CheckpointCloseReason.PIPELINE_END)) {
             completableFuture.complete(null);
+            durableFuture.complete(null);
         } else {
             this.failureCause = new CheckpointException(closedReason, cause);
             completableFuture.completeExceptionally(failureCause);
+            durableFuture.completeExceptionally(failureCause);
         }
     }
 
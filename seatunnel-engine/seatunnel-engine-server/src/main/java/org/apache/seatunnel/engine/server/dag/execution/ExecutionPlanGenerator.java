@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.engine.server.dag.execution;
 
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
@@ -260,7 +262,15 @@ public class ExecutionPlanGenerator {
                                                 * 3))
                         .build();
         ShuffleConfig shuffleConfig =
-                ShuffleConfig.builder().shuffleStrategy(shuffleStrategy).build();
+                ShuffleConfig.builder()
+                        .shuffleStrategy(shuffleStrategy)
+                        .transport(
+                                ReadonlyConfig.fromMap(
+                                                jobImmutableInformation
+                                                        .getJobConfig()
+                                                        .getEnvOptions())
+                                        .get(EnvCommonOptions.SHUFFLE_TRANSPORT))
+                        .build();
 
         long shuffleVertexId = idGenerator.getNextId();
         String shuffleActionName = String.format("Shuffle [%s]", sourceAction.getName());
@@ -55,6 +55,11 @@ public interface Task
 
     default void triggerBarrier(Barrier barrier) throws Exception {}
 
+    /** The readiness of this task, {@code null} if the task is always ready to be called. */
+    default TaskReadiness getReadiness() {
+        return null;
+    }
+
     @Override
     default void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {}
 
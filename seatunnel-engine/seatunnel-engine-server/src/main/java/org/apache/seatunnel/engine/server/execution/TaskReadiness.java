@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks whether a {@link Task} has work to do. A task that found nothing to do marks itself idle
+ * with {@link #idle(long)}, the engine then stops calling it until {@link #signal()} is called, by
+ * the task's own sources or by the engine when a split, event or barrier arrives, or the idle
+ * timeout passes.
+ *
+ * <p>Cooperative workers {@link #park} an idle task instead of putting it back into the shared
+ * queue, blocking workers {@link #await} it.
+ */
+public class TaskReadiness {
+
+    private final Object lock = new Object();
+
+    // written under lock, 0 while the task is ready
+    private volatile long idleDeadline;
+    // guarded by lock
+    private Runnable resumeCallback;
+    private ScheduledFuture<?> idleTimeout;
+
+    /** Marks the task idle for at most {@code timeoutMillis}. */
+    public void idle(long timeoutMillis) {
+        synchronized (lock) {
+            idleDeadline = System.currentTimeMillis() + Math.max(1, timeoutMillis);
+        }
+    }
+
+    /** Marks the task ready without resuming a parked task, the caller is running it. */
+    public void clear() {
+        synchronized (lock) {
+            idleDeadline = 0;
+        }
+    }
+
+    public boolean isIdle() {
+        return idleDeadline != 0;
+    }
+
+    /** Marks the task ready, resuming it if it is parked. */
+    public void signal() {
+        Runnable resume;
+        synchronized (lock) {
+            idleDeadline = 0;
+            resume = resumeCallback;
+            resumeCallback = null;
+            if (idleTimeout != null) {
+                idleTimeout.cancel(false);
+                idleTimeout = null;
+            }
+            lock.notifyAll();
+        }
+        if (resume != null) {
+            resume.run();
+        }
+    }
+
+    /**
+     * Parks an idle task, {@code resume} runs once it is ready again.
+     *
+     * @return false if the task is ready, the caller has to reschedule it itself
+     */
+    public boolean park(Runnable resume, ScheduledExecutorService scheduler) {
+        synchronized (lock) {
+            if (idleDeadline == 0) {
+                return false;
+            }
+            long delay = idleDeadline - System.currentTimeMillis();
+            if (delay <= 0) {
+                idleDeadline = 0;
+                return false;
+            }
+            resumeCallback = resume;
+            idleTimeout = scheduler.schedule(this::signal, delay, TimeUnit.MILLISECONDS);
+            return true;
+        }
+    }
+
+    /** Blocks the calling thread while the task is idle. */
+    public void await() throws InterruptedException {
+        synchronized (lock) {
+            while (idleDeadline != 0) {
+                long delay = idleDeadline - System.currentTimeMillis();
+                if (delay <= 0) {
+                    idleDeadline = 0;
+                    return;
+                }
+                lock.wait(delay);
+            }
+        }
+    }
+}
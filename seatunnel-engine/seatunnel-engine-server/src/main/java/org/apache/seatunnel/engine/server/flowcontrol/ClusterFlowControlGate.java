@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.flowcontrol;
+
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Enforces the read limits of a job on one of its readers, with tokens leased from the {@link
+ * JobFlowController} on the master.
+ *
+ * <p>Tokens are leased in batches and spent from plain fields. The next batch is requested
+ * asynchronously when half of the current one is spent, so a row only waits for the master when the
+ * job is at its limit. When the master does not answer within the lease timeout, the reader falls
+ * back to a local gate with its share of the limits until the master answers again. Not thread
+ * safe, only the reader thread calls it.
+ *
+ * <p>{@link #isThrottled()} tells a reader holding the checkpoint lock that its next row would wait
+ * for tokens, so that it can end its poll early and wait with {@link #awaitCredit()} without the
+ * lock.
+ */
+public class ClusterFlowControlGate {
+
+    /** A lease covers about this fraction of a second of the job limit. */
+    private static final int LEASES_PER_SECOND = 10;
+
+    private static final long LEASE_TIMEOUT_MILLIS = 1000;
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /** Talks to the job master on behalf of the gate. */
+    public interface TokenLessor {
+
+        CompletableFuture<FlowControlLease> lease(long rows, long bytes);
+
+        void release(long unusedRows, long unusedBytes);
+    }
+
+    private final TokenLessor lessor;
+
+    private final FlowControlGate fallbackGate;
+
+    private final long leaseTimeoutNanos;
+
+    private final boolean limitRows;
+
+    private final boolean limitBytes;
+
+    private final long rowBatch;
+
+    private final long byteBatch;
+
+    private long rowCredit;
+
+    private long byteCredit;
+
+    private boolean leased;
+
+    /** The lease requested last, null when none is in flight. */
+    private CompletableFuture<FlowControlLease> pendingLease;
+
+    /** The master asked not to lease again before this time. */
+    private long retryAtNanos;
+
+    /** Set while the master does not answer, the rows are then limited by the fallback gate. */
+    private boolean fallback;
+
+    /**
+     * @param strategy the limits of the job
+     * @param readers the parallelism of the source, the fallback gate limits the reader to its
+     *     share of the job limits
+     * @param lessor leases the tokens from the job master
+     */
+    public ClusterFlowControlGate(FlowControlStrategy strategy, int readers, TokenLessor lessor) {
+        this(strategy, readers, lessor, LEASE_TIMEOUT_MILLIS);
+    }
+
+    @VisibleForTesting
+    ClusterFlowControlGate(
+            FlowControlStrategy strategy,
+            int readers,
+            TokenLessor lessor,
+            long leaseTimeoutMillis) {
+        this.lessor = lessor;
+        this.leaseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(leaseTimeoutMillis);
+        this.limitRows = strategy.getCountPerSecond() != UNLIMITED;
+        this.limitBytes = strategy.getBytesPerSecond() != UNLIMITED;
+        this.rowBatch = Math.max(1, strategy.getCountPerSecond() / LEASES_PER_SECOND);
+        this.byteBatch = Math.max(1, strategy.getBytesPerSecond() / LEASES_PER_SECOND);
+        this.fallbackGate =
+                FlowControlGate.create(
+                        FlowControlStrategy.of(
+                                share(strategy.getBytesPerSecond(), readers),
+                                share(strategy.getCountPerSecond(), readers)));
+    }
+
+    private static int share(int limit, int readers) {
+        return limit == UNLIMITED ? UNLIMITED : Math.max(1, limit / Math.max(1, readers));
+    }
+
+    /** Spends the tokens of a row, blocks until the job grants enough of them. */
+    public void audit(int bytesSize) {
+        if (pendingLease != null && pendingLease.isDone()) {
+            completeLease();
+        }
+        if (fallback) {
+            if (pendingLease == null && System.nanoTime() >= retryAtNanos) {
+                requestLease();
+            }
+            fallbackGate.audit(bytesSize);
+            return;
+        }
+        if (limitRows) {
+            rowCredit--;
+        }
+        if (limitBytes) {
+            byteCredit -= bytesSize;
+        }
+        if (pendingLease == null && isLow() && System.nanoTime() >= retryAtNanos) {
+            requestLease();
+        }
+        if (lacksCredit(0) && !awaitLease(0)) {
+            // the master does not answer, limit the reader on its own meanwhile
+            fallbackGate.audit(bytesSize);
+        }
+    }
+
+    /** Whether the next row would wait for tokens. */
+    public boolean isThrottled() {
+        return fallback ? fallbackGate.isThrottled() : lacksCredit(1);
+    }
+
+    /**
+     * Blocks until the job granted tokens for the next row, or the master did not answer within the
+     * lease timeout. Lets a reader wait for the tokens without holding the checkpoint lock.
+     */
+    public void awaitCredit() {
+        if (pendingLease != null && pendingLease.isDone()) {
+            completeLease();
+        }
+        if (!fallback && lacksCredit(1)) {
+            awaitLease(1);
+        }
+    }
+
+    private boolean lacksCredit(long credit) {
+        return (limitRows && rowCredit < credit) || (limitBytes && byteCredit < credit);
+    }
+
+    private boolean isLow() {
+        return (limitRows && rowCredit < rowBatch / 2)
+                || (limitBytes && byteCredit < byteBatch / 2);
+    }
+
+    private void requestLease() {
+        // pay off the debt of the last rows and take a batch ahead
+        pendingLease =
+                lessor.lease(
+                        limitRows ? rowBatch + Math.max(0, -rowCredit) : 0,
+                        limitBytes ? byteBatch + Math.max(0, -byteCredit) : 0);
+    }
+
+    /**
+     * Waits for leases until the credit reaches the given value.
+     *
+     * @return false if the reader fell back to its local gate meanwhile
+     */
+    private boolean awaitLease(long credit) {
+        while (lacksCredit(credit)) {
+            if (pendingLease == null) {
+                long retryInNanos = retryAtNanos - System.nanoTime();
+                if (retryInNanos > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(retryInNanos);
+                    } catch (InterruptedException e) {
+                        // the task is being cancelled, let the row pass
+                        Thread.currentThread().interrupt();
+                        return true;
+                    }
+                }
+                requestLease();
+            }
+            try {
+                pendingLease.get(leaseTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return true;
+            } catch (TimeoutException | ExecutionException e) {
+                // handled below
+            }
+            if (!pendingLease.isDone() || !completeLease()) {
+                fallback = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the tokens of the completed pending lease.
+     *
+     * @return false if the lease failed
+     */
+    private boolean completeLease() {
+        CompletableFuture<FlowControlLease> lease = pendingLease;
+        pendingLease = null;
+        long now = System.nanoTime();
+        if (lease.isCompletedExceptionally()) {
+            fallback = true;
+            retryAtNanos = now + leaseTimeoutNanos;
+            return false;
+        }
+        FlowControlLease granted = lease.join();
+        if (fallback) {
+            // the rows of the fallback period were paid to the fallback gate
+            fallback = false;
+            rowCredit = Math.max(0, rowCredit);
+            byteCredit = Math.max(0, byteCredit);
+        }
+        leased = true;
+        rowCredit += granted.getRows();
+        byteCredit += granted.getBytes();
+        retryAtNanos = now + TimeUnit.MILLISECONDS.toNanos(granted.getRetryAfterMillis());
+        return true;
+    }
+
+    /**
+     * Gives back the credit left when the reader goes idle or closes, so that the busy readers of
+     * the job can use it. Only calls the master once per idle period.
+     */
+    public void release() {
+        if (pendingLease != null && pendingLease.isDone()) {
+            completeLease();
+        }
+        if (!leased) {
+            return;
+        }
+        lessor.release(Math.max(0, rowCredit), Math.max(0, byteCredit));
+        rowCredit = Math.min(0, rowCredit);
+        byteCredit = Math.min(0, byteCredit);
+        leased = false;
+    }
+
+    @VisibleForTesting
+    boolean isFallback() {
+        return fallback;
+    }
+}
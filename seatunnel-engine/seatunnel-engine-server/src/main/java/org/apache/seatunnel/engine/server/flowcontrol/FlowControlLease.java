@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.flowcontrol;
+
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+
+/** The tokens granted to a reader by the {@link JobFlowController}. */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FlowControlLease implements IdentifiedDataSerializable {
+
+    private long rows;
+
+    private long bytes;
+
+    /** How long to wait before asking again when less than requested was granted. */
+    private long retryAfterMillis;
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.FLOW_CONTROL_LEASE_TYPE;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeLong(rows);
+        out.writeLong(bytes);
+        out.writeLong(retryAfterMillis);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        rows = in.readLong();
+        bytes = in.readLong();
+        retryAfterMillis = in.readLong();
+    }
+}
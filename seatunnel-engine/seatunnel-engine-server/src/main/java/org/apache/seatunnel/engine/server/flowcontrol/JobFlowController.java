@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.flowcontrol;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
+import org.apache.seatunnel.api.env.ReadLimitScope;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import java.util.Map;
+
+/**
+ * The read limits shared by all readers of a job, see {@link ReadLimitScope#JOB}. Held by the job
+ * master, readers lease tokens from it through {@link ClusterFlowControlGate}.
+ */
+public class JobFlowController {
+
+    private static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final TokenBucket rows;
+
+    private final TokenBucket bytes;
+
+    public JobFlowController(FlowControlStrategy strategy, long nowNanos) {
+        this.rows =
+                strategy.getCountPerSecond() == UNLIMITED
+                        ? null
+                        : new TokenBucket(strategy.getCountPerSecond(), nowNanos);
+        this.bytes =
+                strategy.getBytesPerSecond() == UNLIMITED
+                        ? null
+                        : new TokenBucket(strategy.getBytesPerSecond(), nowNanos);
+    }
+
+    /** Returns the controller of a job, or null when its readers are limited one by one. */
+    public static JobFlowController create(Map<String, Object> envOptions, long nowNanos) {
+        if (envOptions == null
+                || ReadonlyConfig.fromMap(envOptions).get(EnvCommonOptions.READ_LIMIT_SCOPE)
+                        != ReadLimitScope.JOB) {
+            return null;
+        }
+        FlowControlStrategy strategy = FlowControlStrategy.fromMap(envOptions);
+        if (strategy.getCountPerSecond() == UNLIMITED
+                && strategy.getBytesPerSecond() == UNLIMITED) {
+            return null;
+        }
+        return new JobFlowController(strategy, nowNanos);
+    }
+
+    /**
+     * Leases tokens to a reader. Less than requested is granted when the job is at its limit, the
+     * reader should ask again after {@link FlowControlLease#getRetryAfterMillis()}.
+     */
+    public FlowControlLease lease(
+            TaskLocation reader, long requestedRows, long requestedBytes, long nowNanos) {
+        long grantedRows = 0;
+        long grantedBytes = 0;
+        long retryAfterMillis = 0;
+        if (rows != null && requestedRows > 0) {
+            grantedRows = rows.lease(reader, requestedRows, nowNanos);
+            if (grantedRows < requestedRows) {
+                retryAfterMillis = rows.retryAfterMillis(requestedRows - grantedRows, nowNanos);
+            }
+        }
+        if (bytes != null && requestedBytes > 0) {
+            grantedBytes = bytes.lease(reader, requestedBytes, nowNanos);
+            if (grantedBytes < requestedBytes) {
+                retryAfterMillis =
+                        Math.max(
+                                retryAfterMillis,
+                                bytes.retryAfterMillis(requestedBytes - grantedBytes, nowNanos));
+            }
+        }
+        return new FlowControlLease(grantedRows, grantedBytes, retryAfterMillis);
+    }
+
+    /** Takes back the unused tokens of an idle reader, its share goes to the busy readers. */
+    public void release(TaskLocation reader, long unusedRows, long unusedBytes, long nowNanos) {
+        if (rows != null) {
+            rows.giveBack(reader, unusedRows, nowNanos);
+        }
+        if (bytes != null) {
+            bytes.giveBack(reader, unusedBytes, nowNanos);
+        }
+    }
+}
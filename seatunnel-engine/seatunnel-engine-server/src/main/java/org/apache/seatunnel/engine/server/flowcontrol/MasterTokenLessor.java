@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.flowcontrol;
+
+import org.apache.seatunnel.engine.server.execution.TaskExecutionContext;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.task.operation.source.FlowControlLeaseOperation;
+
+import java.util.concurrent.CompletableFuture;
+
+/** Leases the tokens of a reader from its job master. */
+public class MasterTokenLessor implements ClusterFlowControlGate.TokenLessor {
+
+    private final TaskExecutionContext executionContext;
+
+    private final TaskLocation taskLocation;
+
+    public MasterTokenLessor(TaskExecutionContext executionContext, TaskLocation taskLocation) {
+        this.executionContext = executionContext;
+        this.taskLocation = taskLocation;
+    }
+
+    @Override
+    public CompletableFuture<FlowControlLease> lease(long rows, long bytes) {
+        return executionContext.sendToMaster(
+                new FlowControlLeaseOperation(taskLocation, rows, bytes, false));
+    }
+
+    @Override
+    public void release(long unusedRows, long unusedBytes) {
+        // nobody waits for the tokens given back, a lost release only expires the reader later
+        executionContext.sendToMaster(
+                new FlowControlLeaseOperation(taskLocation, unusedRows, unusedBytes, true));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.flowcontrol;
+
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket shared by all readers of a job, lives on the master node.
+ *
+ * <p>Readers lease tokens in batches and return what they did not use when they go idle. A lease is
+ * capped at the fair share of the bucket among the readers that leased recently, so an idle reader
+ * stops taking part and its share moves to the busy ones.
+ */
+public class TokenBucket {
+
+    /** Readers that did not lease for this long are no longer counted for the fair share. */
+    static final long IDLE_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long MAX_RETRY_AFTER_MILLIS = 1000;
+
+    private final long tokensPerSecond;
+
+    private final long capacity;
+
+    private double tokens;
+
+    private long lastRefillNanos;
+
+    private final Map<TaskLocation, Long> lastLeaseNanos = new HashMap<>();
+
+    public TokenBucket(long tokensPerSecond, long nowNanos) {
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("tokensPerSecond must be positive");
+        }
+        this.tokensPerSecond = tokensPerSecond;
+        // half a second of burst, the leases held by the readers come on top of it
+        this.capacity = Math.max(1, tokensPerSecond / 2);
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Leases up to {@code requested} tokens to a reader.
+     *
+     * @return the number of granted tokens, zero if the bucket is empty for now
+     */
+    public synchronized long lease(TaskLocation reader, long requested, long nowNanos) {
+        if (requested <= 0) {
+            return 0;
+        }
+        refill(nowNanos);
+        lastLeaseNanos.put(reader, nowNanos);
+        long granted = Math.min(Math.min(requested, fairShare(nowNanos)), (long) tokens);
+        tokens -= granted;
+        return granted;
+    }
+
+    /** Gives back tokens a reader leased but did not use, the reader counts as idle afterwards. */
+    public synchronized void giveBack(TaskLocation reader, long unused, long nowNanos) {
+        refill(nowNanos);
+        lastLeaseNanos.remove(reader);
+        if (unused > 0) {
+            tokens = Math.min(capacity, tokens + unused);
+        }
+    }
+
+    /** Returns how long a reader should wait before it asks again for {@code requested} tokens. */
+    public synchronized long retryAfterMillis(long requested, long nowNanos) {
+        refill(nowNanos);
+        double missing = Math.min(requested, fairShare(nowNanos)) - tokens;
+        if (missing <= 0) {
+            return 0;
+        }
+        long millis = (long) Math.ceil(missing * 1000 / tokensPerSecond);
+        return Math.max(1, Math.min(MAX_RETRY_AFTER_MILLIS, millis));
+    }
+
+    private long fairShare(long nowNanos) {
+        int active = 0;
+        Iterator<Long> iterator = lastLeaseNanos.values().iterator();
+        while (iterator.hasNext()) {
+            if (nowNanos - iterator.next() > IDLE_TIMEOUT_NANOS) {
+                iterator.remove();
+            } else {
+                active++;
+            }
+        }
+        return Math.max(1, capacity / Math.max(1, active));
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            tokens = Math.min(capacity, tokens + (double) elapsed * tokensPerSecond / 1e9);
+            lastRefillNanos = nowNanos;
+        }
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    synchronized int activeReaders(long nowNanos) {
+        fairShare(nowNanos);
+        return lastLeaseNanos.size();
+    }
+}
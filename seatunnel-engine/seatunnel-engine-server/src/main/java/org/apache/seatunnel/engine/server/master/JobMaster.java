@@ -62,6 +62,7 @@ import org.apache.seatunnel.engine.server.dag.physical.SubPlan;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.flowcontrol.JobFlowController;
 import org.apache.seatunnel.engine.server.metrics.JobMetricsUtil;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.resourcemanager.ResourceManager;
@@ -151,13 +152,16 @@ public class JobMaster {
 
     private final IMap<Long, JobInfo> runningJobInfoIMap;
 
-    private final IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap;
+    private final IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap;
 
     /** If the job or pipeline cancel by user, needRestore will be false */
     @Getter private volatile boolean needRestore = true;
 
     private CheckpointConfig jobCheckpointConfig;
 
+    /** The read limits shared by the readers of the job, null unless configured. */
+    @Getter private JobFlowController flowController;
+
     public String getErrorMessage() {
         return errorMessage;
     }
@@ -174,7 +178,7 @@ public class JobMaster {
             @NonNull IMap runningJobStateTimestampsIMap,
             @NonNull IMap ownedSlotProfilesIMap,
             @NonNull IMap<Long, JobInfo> runningJobInfoIMap,
-            @NonNull IMap<Long, HashMap<TaskLocation, SeaTunnelMetricsContext>> metricsImap,
+            @NonNull IMap<TaskLocation, SeaTunnelMetricsContext> metricsImap,
             EngineConfig engineConfig,
             SeaTunnelServer seaTunnelServer) {
         this.jobImmutableInformationData = jobImmutableInformationData;
@@ -202,6 +206,9 @@ public class JobMaster {
         jobCheckpointConfig =
                 createJobCheckpointConfig(
                         engineConfig.getCheckpointConfig(), jobImmutableInformation.getJobConfig());
+        flowController =
+                JobFlowController.create(
+                        jobImmutableInformation.getJobConfig().getEnvOptions(), System.nanoTime());
 
         LOGGER.info(
                 String.format(
@@ -307,6 +314,8 @@ public class JobMaster {
                 defaultCheckpointConfig.getStorage().getStoragePluginConfig());
         jobCheckpointStorageConfig.setMaxRetainedCheckpoints(
                 defaultCheckpointConfig.getStorage().getMaxRetainedCheckpoints());
+        jobCheckpointStorageConfig.setIncremental(
+                defaultCheckpointConfig.getStorage().isIncremental());
         jobCheckpointConfig.setStorage(jobCheckpointStorageConfig);
 
         if (jobEnv.containsKey(EnvCommonOptions.CHECKPOINT_INTERVAL.key())) {
@@ -579,11 +588,13 @@ public class JobMaster {
     public List<RawJobMetrics> getCurrJobMetrics() {
 
         Map<TaskGroupLocation, Address> taskGroupLocationSlotProfileMap = new HashMap<>();
+        List<Integer> pipelineIds = new ArrayList<>();
 
         ownedSlotProfilesIMap.forEach(
                 (pipelineLocation, map) -> {
                     if (pipelineLocation.getJobId()
                             == this.getJobImmutableInformation().getJobId()) {
+                        pipelineIds.add(pipelineLocation.getPipelineId());
                         map.forEach(
                                 (taskGroupLocation, slotProfile) -> {
                                     if (taskGroupLocation.getJobId()
@@ -594,7 +605,9 @@ public class JobMaster {
                                 });
                     }
                 });
-        return getCurrJobMetrics(taskGroupLocationSlotProfileMap);
+        List<RawJobMetrics> metrics = getCurrJobMetrics(taskGroupLocationSlotProfileMap);
+        metrics.add(checkpointManager.getCheckpointMetrics(pipelineIds));
+        return metrics;
     }
 
     public List<RawJobMetrics> getCurrJobMetrics(List<PipelineLocation> pipelineLocations) {
@@ -613,7 +626,13 @@ public class JobMaster {
                                 });
                     }
                 });
-        return getCurrJobMetrics(taskGroupLocationSlotProfileMap);
+        List<RawJobMetrics> metrics = getCurrJobMetrics(taskGroupLocationSlotProfileMap);
+        metrics.add(
+                checkpointManager.getCheckpointMetrics(
+                        pipelineLocations.stream()
+                                .map(PipelineLocation::getPipelineId)
+                                .collect(Collectors.toList())));
+        return metrics;
     }
 
     public List<RawJobMetrics> getCurrJobMetrics(
@@ -674,27 +693,14 @@ public class JobMaster {
         if ((pipelineStatus.equals(PipelineStatus.FINISHED)
                         && !checkpointManager.isPipelineSavePointEnd(pipelineLocation))
                 || pipelineStatus.equals(PipelineStatus.CANCELED)) {
-            try {
-                metricsImap.lock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                HashMap<TaskLocation, SeaTunnelMetricsContext> centralMap =
-                        metricsImap.get(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-                if (centralMap != null) {
-                    List<TaskLocation> collect =
-                            centralMap.keySet().stream()
-                                    .filter(
-                                            taskLocation -> {
-                                                return taskLocation
-                                                        .getTaskGroupLocation()
-                                                        .getPipelineLocation()
-                                                        .equals(pipelineLocation);
-                                            })
-                                    .collect(Collectors.toList());
-                    collect.forEach(centralMap::remove);
-                    metricsImap.put(Constant.IMAP_RUNNING_JOB_METRICS_KEY, centralMap);
-                }
-            } finally {
-                metricsImap.unlock(Constant.IMAP_RUNNING_JOB_METRICS_KEY);
-            }
+            // every task owns its own entry, so no lock is needed to remove them, and the
+            // predicate runs on the partition owners instead of fetching all keys of the cluster
+            metricsImap.removeAll(
+                    entry ->
+                            entry.getKey()
+                                    .getTaskGroupLocation()
+                                    .getPipelineLocation()
+                                    .equals(pipelineLocation));
         }
     }
 
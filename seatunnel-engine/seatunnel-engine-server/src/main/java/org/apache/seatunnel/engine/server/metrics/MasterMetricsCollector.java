@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.RawJobMetrics;
+
+import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
+import com.hazelcast.internal.metrics.ProbeLevel;
+import com.hazelcast.internal.metrics.ProbeUnit;
+import com.hazelcast.internal.metrics.impl.MetricsCompressor;
+
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+/**
+ * Collects the metrics provided by the master side services of a job (e.g. the checkpoint
+ * coordinators), which are not registered in any {@link
+ * com.hazelcast.internal.metrics.MetricsRegistry}.
+ */
+public class MasterMetricsCollector implements MetricsCollectionContext {
+
+    private final MetricsCompressor compressor;
+    private final UnaryOperator<MetricDescriptor> addPrefixFn;
+
+    public MasterMetricsCollector(Member member) {
+        Objects.requireNonNull(member, "member");
+        this.addPrefixFn = JobMetricsUtil.addMemberPrefixFn(member);
+        this.compressor = new MetricsCompressor();
+    }
+
+    @Override
+    public void collect(MetricDescriptor descriptor, Object source) {
+        throw new UnsupportedOperationException("Collecting probe sources is not supported");
+    }
+
+    @Override
+    public void collect(
+            MetricDescriptor descriptor,
+            String name,
+            ProbeLevel level,
+            ProbeUnit unit,
+            long value) {
+        collect(descriptor.withMetric(name).withUnit(unit), value);
+    }
+
+    @Override
+    public void collect(
+            MetricDescriptor descriptor,
+            String name,
+            ProbeLevel level,
+            ProbeUnit unit,
+            double value) {
+        collect(descriptor.withMetric(name).withUnit(unit), value);
+    }
+
+    @Override
+    public void collect(MetricDescriptor descriptor, long value) {
+        compressor.addLong(addPrefixFn.apply(descriptor), value);
+    }
+
+    @Override
+    public void collect(MetricDescriptor descriptor, double value) {
+        compressor.addDouble(addPrefixFn.apply(descriptor), value);
+    }
+
+    public RawJobMetrics getMetrics() {
+        return RawJobMetrics.of(compressor.getBlobAndReset());
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.Metric;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeQPSMeter;
+import org.apache.seatunnel.api.common.metrics.Unit;
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointCoordinator;
+import org.apache.seatunnel.engine.server.checkpoint.CheckpointManager;
+import org.apache.seatunnel.engine.server.execution.Task;
+import org.apache.seatunnel.engine.server.execution.TaskGroup;
+import org.apache.seatunnel.engine.server.execution.TaskGroupContext;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.task.group.AbstractTaskGroupWithIntermediateQueue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Renders the metrics of a node in the OpenMetrics text format, to be scraped by Prometheus.
+ *
+ * <p>The metrics are only read while rendering, so nothing is computed for them when the node is
+ * not scraped. Counters are exposed as counters, meters as gauges of their recent rate, histograms
+ * as summaries in seconds, and the fill level of the intermediate queues as gauges.
+ */
+public class OpenMetricsExporter {
+
+    public static final String CONTENT_TYPE =
+            "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    private static final String PREFIX = "seatunnel_";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final Map<String, MetricFamily> families = new TreeMap<>();
+
+    /**
+     * Renders the metrics of the tasks running on the node of the server and, if it is the master,
+     * of the checkpoint coordinators of the running jobs.
+     */
+    public static String export(SeaTunnelServer server) {
+        OpenMetricsExporter exporter = new OpenMetricsExporter();
+        exporter.addTaskGroups(server.getTaskExecutionService().getAllExecutionContexts());
+        if (server.isMasterNode()) {
+            exporter.addJobMasters(server.getCoordinatorService().getRunningJobMasters());
+        }
+        return exporter.render();
+    }
+
+    void addTaskGroups(Map<TaskGroupLocation, TaskGroupContext> contexts) {
+        contexts.forEach(
+                (location, context) -> {
+                    Map<String, String> groupLabels = new LinkedHashMap<>();
+                    groupLabels.put("job_id", String.valueOf(location.getJobId()));
+                    groupLabels.put("pipeline_id", String.valueOf(location.getPipelineId()));
+                    groupLabels.put("task_group_id", String.valueOf(location.getTaskGroupId()));
+                    TaskGroup taskGroup = context.getTaskGroup();
+                    for (Task task : taskGroup.getTasks()) {
+                        if (task.getMetricsContext() instanceof SeaTunnelMetricsContext) {
+                            Map<String, String> labels = new LinkedHashMap<>(groupLabels);
+                            labels.put("task_id", String.valueOf(task.getTaskID()));
+                            labels.put("task_name", task.getClass().getSimpleName());
+                            addMetrics(labels, (SeaTunnelMetricsContext) task.getMetricsContext());
+                        }
+                    }
+                    if (taskGroup instanceof AbstractTaskGroupWithIntermediateQueue) {
+                        addQueues(groupLabels, (AbstractTaskGroupWithIntermediateQueue) taskGroup);
+                    }
+                });
+    }
+
+    void addJobMasters(Collection<JobMaster> jobMasters) {
+        for (JobMaster jobMaster : jobMasters) {
+            CheckpointManager checkpointManager = jobMaster.getCheckpointManager();
+            if (checkpointManager == null) {
+                continue;
+            }
+            long jobId = jobMaster.getJobImmutableInformation().getJobId();
+            for (Map.Entry<Integer, CheckpointCoordinator> entry :
+                    checkpointManager.getCheckpointCoordinators().entrySet()) {
+                Map<String, String> labels = new LinkedHashMap<>();
+                labels.put("job_id", String.valueOf(jobId));
+                labels.put("pipeline_id", String.valueOf(entry.getKey()));
+                addMetrics(labels, entry.getValue().getMetricsContext());
+            }
+        }
+    }
+
+    void addMetrics(Map<String, String> labels, SeaTunnelMetricsContext metricsContext) {
+        metricsContext
+                .getMetrics()
+                .forEach(
+                        (name, metric) -> {
+                            Map<String, String> metricLabels = labels;
+                            String metricName = name;
+                            // per table metrics are named like "SinkWriteCount#db.table"
+                            int tableIndex = name.indexOf('#');
+                            if (tableIndex > 0) {
+                                metricLabels = new LinkedHashMap<>(labels);
+                                metricLabels.put("table", name.substring(tableIndex + 1));
+                                metricName = name.substring(0, tableIndex);
+                            }
+                            addMetric(metricName, metricLabels, metric);
+                        });
+    }
+
+    private void addMetric(String name, Map<String, String> labels, Metric metric) {
+        String familyName = PREFIX + toSnakeCase(name);
+        if (metric instanceof Counter) {
+            family(familyName, "counter")
+                    .add(familyName + "_total", labels, ((Counter) metric).getCount());
+        } else if (metric instanceof Meter) {
+            Meter meter = (Meter) metric;
+            double rate =
+                    meter instanceof ThreadSafeQPSMeter
+                            ? ((ThreadSafeQPSMeter) meter).getWindowedRate()
+                            : meter.getRate();
+            family(familyName, "gauge").add(familyName, labels, rate);
+        } else if (metric instanceof Histogram) {
+            addHistogram(familyName, labels, (Histogram) metric);
+        }
+    }
+
+    private void addHistogram(String familyName, Map<String, String> labels, Histogram histogram) {
+        double scale = secondsPerUnit(histogram.unit());
+        String name = Double.isNaN(scale) ? familyName : familyName + "_seconds";
+        double factor = Double.isNaN(scale) ? 1 : scale;
+        MetricFamily family = family(name, "summary");
+        for (double quantile : QUANTILES) {
+            Map<String, String> quantileLabels = new LinkedHashMap<>(labels);
+            quantileLabels.put("quantile", String.valueOf(quantile));
+            family.add(name, quantileLabels, histogram.getQuantile(quantile) * factor);
+        }
+        family.add(name + "_count", labels, histogram.getCount());
+        family.add(name + "_sum", labels, histogram.getSum() * factor);
+    }
+
+    private void addQueues(
+            Map<String, String> groupLabels, AbstractTaskGroupWithIntermediateQueue taskGroup) {
+        int capacity = taskGroup.getQueueCapacity();
+        taskGroup
+                .getQueueSizes()
+                .forEach(
+                        (queueId, size) -> {
+                            Map<String, String> labels = new LinkedHashMap<>(groupLabels);
+                            labels.put("queue_id", String.valueOf(queueId));
+                            String sizeName = PREFIX + "intermediate_queue_size";
+                            family(sizeName, "gauge").add(sizeName, labels, size);
+                            String occupancyName = PREFIX + "intermediate_queue_occupancy";
+                            family(occupancyName, "gauge")
+                                    .add(occupancyName, labels, (double) size / capacity);
+                        });
+    }
+
+    private MetricFamily family(String name, String type) {
+        return families.computeIfAbsent(name, n -> new MetricFamily(type));
+    }
+
+    String render() {
+        StringBuilder builder = new StringBuilder();
+        families.forEach(
+                (name, family) -> {
+                    builder.append("# TYPE ")
+                            .append(name)
+                            .append(' ')
+                            .append(family.type)
+                            .append('\n');
+                    family.samples.forEach(sample -> builder.append(sample).append('\n'));
+                });
+        builder.append("# EOF\n");
+        return builder.toString();
+    }
+
+    private static double secondsPerUnit(Unit unit) {
+        switch (unit) {
+            case NS:
+                return 1e-9;
+            case MS:
+                return 1e-3;
+            default:
+                return Double.NaN;
+        }
+    }
+
+    static String toSnakeCase(String name) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                char previous = name.charAt(i - 1);
+                boolean nextIsLower =
+                        i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1));
+                if (Character.isLowerCase(previous)
+                        || Character.isDigit(previous)
+                        || (Character.isUpperCase(previous) && nextIsLower)) {
+                    builder.append('_');
+                }
+            }
+            builder.append(Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : '_');
+        }
+        return builder.toString();
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        return Double.toString(value);
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static class MetricFamily {
+
+        private final String type;
+
+        private final List<String> samples = new ArrayList<>();
+
+        private MetricFamily(String type) {
+            this.type = type;
+        }
+
+        private void add(String name, Map<String, String> labels, long value) {
+            samples.add(sampleName(name, labels) + ' ' + value);
+        }
+
+        private void add(String name, Map<String, String> labels, double value) {
+            samples.add(sampleName(name, labels) + ' ' + formatValue(value));
+        }
+
+        private static String sampleName(String name, Map<String, String> labels) {
+            if (labels.isEmpty()) {
+                return name;
+            }
+            StringBuilder builder = new StringBuilder(name).append('{');
+            labels.forEach(
+                    (key, value) ->
+                            builder.append(key).append("=\"").append(escape(value)).append("\","));
+            builder.setLength(builder.length() - 1);
+            return builder.append('}').toString();
+        }
+    }
+}
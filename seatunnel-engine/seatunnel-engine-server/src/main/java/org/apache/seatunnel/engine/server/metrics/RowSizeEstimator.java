@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+/**
+ * Estimates the byte size of rows from a sample of them, so that the byte metrics do not walk every
+ * field of every row.
+ *
+ * <p>The first row and then every n-th row are measured; the other rows are accounted with the
+ * moving average of the measured ones. Not thread safe.
+ */
+public class RowSizeEstimator {
+
+    public static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private final long sampleMask;
+
+    private long rows;
+
+    private boolean sampled;
+
+    private double estimate;
+
+    public RowSizeEstimator() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /** @param sampleInterval measure one of this many rows, must be a power of two */
+    public RowSizeEstimator(int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("sampleInterval must be a power of two");
+        }
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    /**
+     * Returns whether the next row must be measured and passed to {@link #update(int)}, otherwise
+     * {@link #estimate()} is its size.
+     */
+    public boolean sample() {
+        return (rows++ & sampleMask) == 0;
+    }
+
+    /** Records the measured size of a row and returns it. */
+    public int update(int size) {
+        // a moving average follows the rows when their size drifts, e.g. after a schema change
+        estimate = sampled ? estimate + (size - estimate) / 8 : size;
+        sampled = true;
+        return size;
+    }
+
+    public int estimate() {
+        return (int) Math.round(estimate);
+    }
+}
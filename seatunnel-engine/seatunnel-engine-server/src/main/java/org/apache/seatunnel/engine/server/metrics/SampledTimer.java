@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Histogram;
+
+/**
+ * Times every n-th call of an operation into a {@link Histogram} in nanoseconds.
+ *
+ * <p>Used to track per-record latencies on the hot path of a task: the calls which are not sampled
+ * only cost a counter increment. Not thread safe, each timer must be owned by a single thread.
+ */
+public class SampledTimer {
+
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+
+    private final Histogram histogram;
+
+    private final long sampleMask;
+
+    private long calls;
+
+    private boolean timing;
+
+    private long startNanos;
+
+    public SampledTimer(Histogram histogram) {
+        this(histogram, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * @param histogram the histogram to record the sampled durations to
+     * @param sampleInterval time one of this many calls, must be a power of two
+     */
+    public SampledTimer(Histogram histogram, int sampleInterval) {
+        if (sampleInterval <= 0 || Integer.bitCount(sampleInterval) != 1) {
+            throw new IllegalArgumentException("sampleInterval must be a power of two");
+        }
+        this.histogram = histogram;
+        this.sampleMask = sampleInterval - 1;
+    }
+
+    /** Marks the start of a call, which is timed if it is sampled. */
+    public void start() {
+        if ((calls++ & sampleMask) == 0) {
+            timing = true;
+            startNanos = System.nanoTime();
+        }
+    }
+
+    /** Marks the end of the call started last, and records its duration if it is sampled. */
+    public void stop() {
+        if (timing) {
+            timing = false;
+            histogram.update(System.nanoTime() - startNanos);
+        }
+    }
+}
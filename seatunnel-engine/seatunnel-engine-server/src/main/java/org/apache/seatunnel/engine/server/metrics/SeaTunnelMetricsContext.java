@@ -19,7 +19,9 @@ package org.apache.seatunnel.engine.server.metrics;
 
 import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
 import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.Histogram;
 import org.apache.seatunnel.api.common.metrics.Meter;
+import org.apache.seatunnel.api.common.metrics.Metric;
 import org.apache.seatunnel.api.common.metrics.Unit;
 import org.apache.seatunnel.common.utils.SeaTunnelException;
 
@@ -30,10 +32,43 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.metrics.ProbeUnit;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collections;
+import java.util.Map;
+
 @Slf4j
 public class SeaTunnelMetricsContext extends AbstractMetricsContext
         implements DynamicMetricsProvider {
 
+    /** Returns a read-only view of the registered metrics, by name. */
+    public Map<String, Metric> getMetrics() {
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    /**
+     * Returns a hash of the current metric values, which changes whenever a metric is updated with
+     * a high probability. Used to skip publishing unchanged metrics.
+     */
+    public long fingerprint() {
+        long fingerprint = metrics.size();
+        for (Map.Entry<String, Metric> entry : metrics.entrySet()) {
+            Metric metric = entry.getValue();
+            long value;
+            if (metric instanceof Counter) {
+                value = ((Counter) metric).getCount();
+            } else if (metric instanceof Meter) {
+                value = ((Meter) metric).getCount();
+            } else if (metric instanceof Histogram) {
+                Histogram histogram = (Histogram) metric;
+                value = 31 * histogram.getCount() + histogram.getSum();
+            } else {
+                value = 0;
+            }
+            // summing keeps the result independent of the iteration order
+            fingerprint += entry.getKey().hashCode() * 0x9E3779B97F4A7C15L ^ value * 31;
+        }
+        return fingerprint;
+    }
+
     @Override
     public void provideDynamicMetrics(MetricDescriptor tagger, MetricsCollectionContext context) {
         metrics.forEach(
@@ -52,6 +87,8 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                                 ProbeLevel.INFO,
                                 toProbeUnit(metric.unit()),
                                 ((Meter) metric).getRate());
+                    } else if (metric instanceof Histogram) {
+                        provideHistogram(tagger, context, name, (Histogram) metric);
                     } else {
                         throw new SeaTunnelException(
                                 "The value of Metric does not support "
@@ -61,6 +98,29 @@ public class SeaTunnelMetricsContext extends AbstractMetricsContext
                 });
     }
 
+    private void provideHistogram(
+            MetricDescriptor tagger,
+            MetricsCollectionContext context,
+            String name,
+            Histogram histogram) {
+        ProbeUnit unit = toProbeUnit(histogram.unit());
+        context.collect(
+                tagger.copy(),
+                name + "Count",
+                ProbeLevel.INFO,
+                ProbeUnit.COUNT,
+                histogram.getCount());
+        context.collect(tagger.copy(), name + "Min", ProbeLevel.INFO, unit, histogram.getMin());
+        context.collect(tagger.copy(), name + "Max", ProbeLevel.INFO, unit, histogram.getMax());
+        context.collect(tagger.copy(), name + "Mean", ProbeLevel.INFO, unit, histogram.getMean());
+        context.collect(
+                tagger.copy(), name + "P50", ProbeLevel.INFO, unit, histogram.getQuantile(0.5));
+        context.collect(
+                tagger.copy(), name + "P95", ProbeLevel.INFO, unit, histogram.getQuantile(0.95));
+        context.collect(
+                tagger.copy(), name + "P99", ProbeLevel.INFO, unit, histogram.getQuantile(0.99));
+    }
+
     private ProbeUnit toProbeUnit(Unit unit) {
         return ProbeUnit.valueOf(unit.name());
     }
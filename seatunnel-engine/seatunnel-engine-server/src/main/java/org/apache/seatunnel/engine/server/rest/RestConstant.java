@@ -60,4 +60,6 @@ public class RestConstant {
             "/hazelcast/rest/maps/system-monitoring-information";
 
     public static final String STOP_JOB_URL = "/hazelcast/rest/maps/stop-job";
+
+    public static final String OPEN_METRICS = "/hazelcast/rest/maps/openmetrics";
 }
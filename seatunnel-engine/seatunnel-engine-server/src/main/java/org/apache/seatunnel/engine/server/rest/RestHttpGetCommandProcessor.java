@@ -37,6 +37,7 @@ import org.apache.seatunnel.engine.core.job.JobStatus;
 import org.apache.seatunnel.engine.server.SeaTunnelServer;
 import org.apache.seatunnel.engine.server.log.Log4j2HttpGetCommandProcessor;
 import org.apache.seatunnel.engine.server.master.JobHistoryService.JobState;
+import org.apache.seatunnel.engine.server.metrics.OpenMetricsExporter;
 import org.apache.seatunnel.engine.server.operation.GetClusterHealthMetricsOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobMetricsOperation;
 import org.apache.seatunnel.engine.server.operation.GetJobStatusOperation;
@@ -50,6 +51,7 @@ import com.hazelcast.cluster.Member;
 import com.hazelcast.internal.ascii.TextCommandService;
 import com.hazelcast.internal.ascii.rest.HttpCommandProcessor;
 import com.hazelcast.internal.ascii.rest.HttpGetCommand;
+import com.hazelcast.internal.ascii.rest.HttpStatusCode;
 import com.hazelcast.internal.json.JsonArray;
 import com.hazelcast.internal.json.JsonObject;
 import com.hazelcast.internal.json.JsonValue;
@@ -73,6 +75,7 @@ import java.util.stream.StreamSupport;
 import static com.hazelcast.internal.ascii.rest.HttpStatusCode.SC_500;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.FINISHED_JOBS_INFO;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.JOB_INFO_URL;
+import static org.apache.seatunnel.engine.server.rest.RestConstant.OPEN_METRICS;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.OVERVIEW;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.RUNNING_JOBS_URL;
 import static org.apache.seatunnel.engine.server.rest.RestConstant.RUNNING_JOB_URL;
@@ -117,6 +120,8 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
                 getRunningThread(httpGetCommand);
             } else if (uri.startsWith(OVERVIEW)) {
                 overView(httpGetCommand, uri);
+            } else if (uri.startsWith(OPEN_METRICS)) {
+                handleOpenMetrics(httpGetCommand);
             } else {
                 original.handle(httpGetCommand);
             }
@@ -176,6 +181,14 @@ public class RestHttpGetCommandProcessor extends HttpCommandProcessor<HttpGetCom
                 JsonUtil.toJsonObject(JsonUtils.toMap(JsonUtils.toJsonString(overviewInfo))));
     }
 
+    private void handleOpenMetrics(HttpGetCommand command) {
+        String metrics = OpenMetricsExporter.export(getSeaTunnelServer(false));
+        command.setResponse(
+                HttpStatusCode.SC_200,
+                StringUtil.stringToBytes(OpenMetricsExporter.CONTENT_TYPE),
+                StringUtil.stringToBytes(metrics));
+    }
+
     private void getSystemMonitoringInformation(HttpGetCommand command) {
         Cluster cluster = textCommandService.getNode().hazelcastInstance.getCluster();
         nodeEngine = textCommandService.getNode().hazelcastInstance.node.nodeEngine;
@@ -33,7 +33,9 @@ import java.io.UnsupportedEncodingException;
 public class RecordSerializer implements StreamSerializer<Record> {
     enum RecordDataType {
         CHECKPOINT_BARRIER,
-        SEATUNNEL_ROW;
+        SEATUNNEL_ROW,
+        // a row already encoded by the SeaTunnelRowCodec of a shuffle edge
+        SEATUNNEL_ROW_BINARY;
     }
 
     @Override
@@ -56,6 +58,9 @@ public class RecordSerializer implements StreamSerializer<Record> {
             for (Object field : row.getFields()) {
                 out.writeObject(field);
             }
+        } else if (data instanceof byte[]) {
+            out.writeByte(RecordDataType.SEATUNNEL_ROW_BINARY.ordinal());
+            out.writeByteArray((byte[]) data);
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported serialize class: " + data.getClass());
@@ -85,6 +90,8 @@ public class RecordSerializer implements StreamSerializer<Record> {
                 row.setField(i, in.readObject());
             }
             data = row;
+        } else if (dataType == RecordDataType.SEATUNNEL_ROW_BINARY.ordinal()) {
+            data = in.readByteArray();
         } else {
             throw new UnsupportedEncodingException(
                     "Unsupported deserialize data type: " + dataType);
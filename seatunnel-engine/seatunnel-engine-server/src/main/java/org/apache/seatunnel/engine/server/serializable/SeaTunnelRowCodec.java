@@ -0,0 +1,349 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.SerializationServiceSupport;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schema aware binary codec for the {@link SeaTunnelRow}s of a shuffle edge. A row is written as
+ *
+ * <pre>
+ * table index (varint, 0 means the table id follows as a string)
+ * row kind (byte)
+ * arity (varint)
+ * null bitmap ((arity + 7) / 8 bytes)
+ * non null fields
+ * </pre>
+ *
+ * <p>The table index refers to the catalog tables of the edge, which both sides of the shuffle know
+ * in the same order. Fields of BOOLEAN, TINYINT, SMALLINT, INT, BIGINT, FLOAT and DOUBLE type are
+ * written at fixed width, STRING fields as length prefixed UTF-8, and all other fields with the
+ * generic Hazelcast serialization. Rows of unknown tables, or with values not matching the declared
+ * schema, are written with the generic serialization for every field. The values of the fixed width
+ * and STRING fields are checked against their declared class before a row is written, so a row is
+ * never written twice.
+ *
+ * <p>Shuffle edges without catalog tables do not need a codec, their rows are sent as they are.
+ *
+ * <p>Instances are not thread safe, the output buffer is reused across rows.
+ */
+public class SeaTunnelRowCodec {
+
+    private final InternalSerializationService serializationService;
+    private final Map<String, Integer> tableIndexes = new HashMap<>();
+    private final String[] tableIds;
+    private final FieldCodec[][] tableFieldCodecs;
+    /** The exact class of the values of each typed field, {@code null} for generic fields. */
+    private final Class<?>[][] tableFieldClasses;
+    private final BufferObjectDataOutput output;
+
+    public SeaTunnelRowCodec(
+            HazelcastInstance hazelcastInstance, List<CatalogTable> catalogTables) {
+        this(
+                (InternalSerializationService)
+                        ((SerializationServiceSupport) hazelcastInstance).getSerializationService(),
+                catalogTables);
+    }
+
+    public SeaTunnelRowCodec(
+            InternalSerializationService serializationService, List<CatalogTable> catalogTables) {
+        this.serializationService = serializationService;
+        int size = catalogTables == null ? 0 : catalogTables.size();
+        this.tableIds = new String[size];
+        this.tableFieldCodecs = new FieldCodec[size][];
+        this.tableFieldClasses = new Class<?>[size][];
+        for (int i = 0; i < size; i++) {
+            CatalogTable catalogTable = catalogTables.get(i);
+            tableIds[i] = catalogTable.getTableId().toTablePath().toString();
+            tableIndexes.putIfAbsent(tableIds[i], i);
+            SeaTunnelRowType rowType = catalogTable.getSeaTunnelRowType();
+            FieldCodec[] fieldCodecs = new FieldCodec[rowType.getTotalFields()];
+            Class<?>[] fieldClasses = new Class<?>[fieldCodecs.length];
+            for (int j = 0; j < fieldCodecs.length; j++) {
+                fieldCodecs[j] = createFieldCodec(rowType.getFieldType(j));
+                fieldClasses[j] = fieldClass(rowType.getFieldType(j));
+            }
+            tableFieldCodecs[i] = fieldCodecs;
+            tableFieldClasses[i] = fieldClasses;
+        }
+        this.output = serializationService.createObjectDataOutput();
+    }
+
+    public byte[] encode(SeaTunnelRow row) throws IOException {
+        output.clear();
+        Integer tableIndex = row.getTableId() == null ? null : tableIndexes.get(row.getTableId());
+        if (tableIndex != null && matches(row.getFields(), tableFieldClasses[tableIndex])) {
+            writeRow(row, tableIndex + 1, tableFieldCodecs[tableIndex]);
+        } else {
+            writeRow(row, 0, null);
+        }
+        return output.toByteArray();
+    }
+
+    public SeaTunnelRow decode(byte[] bytes) throws IOException {
+        BufferObjectDataInput input = serializationService.createObjectDataInput(bytes);
+        int tableRef = readVarInt(input);
+        String tableId;
+        FieldCodec[] fieldCodecs;
+        if (tableRef == 0) {
+            tableId = input.readString();
+            fieldCodecs = null;
+        } else {
+            tableId = tableIds[tableRef - 1];
+            fieldCodecs = tableFieldCodecs[tableRef - 1];
+        }
+        RowKind rowKind = RowKind.fromByteValue(input.readByte());
+        int arity = readVarInt(input);
+        byte[] nullBitmap = new byte[(arity + 7) >>> 3];
+        input.readFully(nullBitmap);
+
+        Object[] fields = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            if ((nullBitmap[i >>> 3] & (1 << (i & 7))) != 0) {
+                continue;
+            }
+            fields[i] = fieldCodecs == null ? input.readObject() : fieldCodecs[i].read(input);
+        }
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        row.setRowKind(rowKind);
+        return row;
+    }
+
+    private void writeRow(SeaTunnelRow row, int tableRef, FieldCodec[] fieldCodecs)
+            throws IOException {
+        writeVarInt(output, tableRef);
+        if (tableRef == 0) {
+            output.writeString(row.getTableId());
+        }
+        output.writeByte(row.getRowKind().toByteValue());
+        Object[] fields = row.getFields();
+        writeVarInt(output, fields.length);
+
+        byte[] nullBitmap = new byte[(fields.length + 7) >>> 3];
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                nullBitmap[i >>> 3] |= (byte) (1 << (i & 7));
+            }
+        }
+        output.write(nullBitmap);
+
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] == null) {
+                continue;
+            }
+            if (fieldCodecs == null) {
+                output.writeObject(fields[i]);
+            } else {
+                fieldCodecs[i].write(output, fields[i]);
+            }
+        }
+    }
+
+    private static boolean matches(Object[] fields, Class<?>[] fieldClasses) {
+        if (fields.length != fieldClasses.length) {
+            return false;
+        }
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null
+                    && fieldClasses[i] != null
+                    && fields[i].getClass() != fieldClasses[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> fieldClass(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return Boolean.class;
+            case TINYINT:
+                return Byte.class;
+            case SMALLINT:
+                return Short.class;
+            case INT:
+                return Integer.class;
+            case BIGINT:
+                return Long.class;
+            case FLOAT:
+                return Float.class;
+            case DOUBLE:
+                return Double.class;
+            case STRING:
+                return String.class;
+            default:
+                return null;
+        }
+    }
+
+    private static void writeVarInt(ObjectDataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(ObjectDataInput in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static FieldCodec createFieldCodec(SeaTunnelDataType<?> dataType) {
+        switch (dataType.getSqlType()) {
+            case BOOLEAN:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeBoolean((Boolean) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readBoolean();
+                    }
+                };
+            case TINYINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeByte((Byte) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readByte();
+                    }
+                };
+            case SMALLINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeShort((Short) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readShort();
+                    }
+                };
+            case INT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeInt((Integer) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readInt();
+                    }
+                };
+            case BIGINT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeLong((Long) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readLong();
+                    }
+                };
+            case FLOAT:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeFloat((Float) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readFloat();
+                    }
+                };
+            case DOUBLE:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeDouble((Double) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readDouble();
+                    }
+                };
+            case STRING:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeString((String) value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readString();
+                    }
+                };
+            default:
+                return new FieldCodec() {
+                    @Override
+                    public void write(ObjectDataOutput out, Object value) throws IOException {
+                        out.writeObject(value);
+                    }
+
+                    @Override
+                    public Object read(ObjectDataInput in) throws IOException {
+                        return in.readObject();
+                    }
+                };
+        }
+    }
+
+    private interface FieldCodec {
+        void write(ObjectDataOutput out, Object value) throws IOException;
+
+        Object read(ObjectDataInput in) throws IOException;
+    }
+}
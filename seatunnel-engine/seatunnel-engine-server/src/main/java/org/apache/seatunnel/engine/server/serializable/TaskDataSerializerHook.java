@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server.serializable;
 import org.apache.seatunnel.engine.common.serializeable.SeaTunnelFactoryIdConstant;
 import org.apache.seatunnel.engine.server.event.JobEventReportOperation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.flowcontrol.FlowControlLease;
 import org.apache.seatunnel.engine.server.task.Progress;
 import org.apache.seatunnel.engine.server.task.TaskGroupImmutableInformation;
 import org.apache.seatunnel.engine.server.task.operation.CancelTaskOperation;
@@ -38,12 +39,15 @@ import org.apache.seatunnel.engine.server.task.operation.sink.SinkPrepareCommitO
 import org.apache.seatunnel.engine.server.task.operation.sink.SinkRegisterOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.AssignSplitOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.CloseIdleReaderOperation;
+import org.apache.seatunnel.engine.server.task.operation.source.FlowControlLeaseOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.LastCheckpointNotifyOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.RequestSplitOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.RestoredSplitOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.SourceNoMoreElementOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.SourceReaderEventOperation;
 import org.apache.seatunnel.engine.server.task.operation.source.SourceRegisterOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleCreditOperation;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleFrameOperation;
 
 import com.hazelcast.internal.serialization.DataSerializerHook;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
@@ -104,6 +108,14 @@ public class TaskDataSerializerHook implements DataSerializerHook {
 
     public static final int CLOSE_READER_OPERATION = 26;
 
+    public static final int FLOW_CONTROL_LEASE_OPERATION = 27;
+
+    public static final int FLOW_CONTROL_LEASE_TYPE = 28;
+
+    public static final int SHUFFLE_FRAME_OPERATION = 29;
+
+    public static final int SHUFFLE_CREDIT_OPERATION = 30;
+
     public static final int FACTORY_ID =
             FactoryIdHelper.getFactoryId(
                     SeaTunnelFactoryIdConstant.SEATUNNEL_TASK_DATA_SERIALIZER_FACTORY,
@@ -176,6 +188,14 @@ public class TaskDataSerializerHook implements DataSerializerHook {
                     return new JobEventReportOperation();
                 case CLOSE_READER_OPERATION:
                     return new CloseIdleReaderOperation();
+                case FLOW_CONTROL_LEASE_OPERATION:
+                    return new FlowControlLeaseOperation();
+                case FLOW_CONTROL_LEASE_TYPE:
+                    return new FlowControlLease();
+                case SHUFFLE_FRAME_OPERATION:
+                    return new ShuffleFrameOperation();
+                case SHUFFLE_CREDIT_OPERATION:
+                    return new ShuffleCreditOperation();
                 default:
                     throw new IllegalArgumentException("Unknown type id " + typeId);
             }
@@ -33,6 +33,8 @@ import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlGate;
 import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
 import org.apache.seatunnel.engine.common.exception.SeaTunnelEngineException;
+import org.apache.seatunnel.engine.server.flowcontrol.ClusterFlowControlGate;
+import org.apache.seatunnel.engine.server.metrics.RowSizeEstimator;
 import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
 
 import org.apache.commons.collections4.CollectionUtils;
@@ -66,10 +68,26 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
 
     private final AtomicBoolean schemaChangeAfterCheckpointSignal = new AtomicBoolean(false);
 
+    /**
+     * Rows are accounted in plain fields owned by the reader thread, which calls {@link
+     * #collect(Object)} and {@link #flushMetrics()}, and are only added to the shared metrics by
+     * {@link #flushMetrics()}, at the latest after this many rows.
+     */
+    private static final int FLUSH_THRESHOLD = 1024;
+
     private final Counter sourceReceivedCount;
 
     private final Map<String, Counter> sourceReceivedCountPerTable = new ConcurrentHashMap<>();
 
+    // keyed by the table id of the rows, resolved to the full table name only once per table
+    private final Map<String, TableAccount> tableAccounts = new HashMap<>();
+
+    private TableAccount lastTableAccount;
+
+    private long pendingCount;
+
+    private long pendingBytes;
+
     private final Meter sourceReceivedQPS;
     private final Counter sourceReceivedBytes;
 
@@ -82,11 +100,32 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
     private SeaTunnelDataType rowType;
     private FlowControlGate flowControlGate;
 
+    /** Set when the read limits are shared by all readers of the job. */
+    private final ClusterFlowControlGate clusterFlowControlGate;
+
+    public SeaTunnelSourceCollector(
+            Object checkpointLock,
+            List<OneInputFlowLifeCycle<Record<?>>> outputs,
+            MetricsContext metricsContext,
+            FlowControlStrategy flowControlStrategy,
+            SeaTunnelDataType rowType,
+            List<TablePath> tablePaths) {
+        this(
+                checkpointLock,
+                outputs,
+                metricsContext,
+                flowControlStrategy,
+                null,
+                rowType,
+                tablePaths);
+    }
+
     public SeaTunnelSourceCollector(
             Object checkpointLock,
             List<OneInputFlowLifeCycle<Record<?>>> outputs,
             MetricsContext metricsContext,
             FlowControlStrategy flowControlStrategy,
+            ClusterFlowControlGate clusterFlowControlGate,
             SeaTunnelDataType rowType,
             List<TablePath> tablePaths) {
         this.checkpointLock = checkpointLock;
@@ -111,47 +150,117 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         sourceReceivedBytes = metricsContext.counter(SOURCE_RECEIVED_BYTES);
         sourceReceivedBytesPerSeconds = metricsContext.meter(SOURCE_RECEIVED_BYTES_PER_SECONDS);
         flowControlGate = FlowControlGate.create(flowControlStrategy);
+        this.clusterFlowControlGate = clusterFlowControlGate;
     }
 
     @Override
     public void collect(T row) {
         try {
             if (row instanceof SeaTunnelRow) {
-                String tableId = ((SeaTunnelRow) row).getTableId();
-                int size;
-                if (rowType instanceof SeaTunnelRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize((SeaTunnelRowType) rowType);
-                } else if (rowType instanceof MultipleRowType) {
-                    size = ((SeaTunnelRow) row).getBytesSize(rowTypeMap.get(tableId));
+                SeaTunnelRow seaTunnelRow = (SeaTunnelRow) row;
+                TableAccount tableAccount = getTableAccount(seaTunnelRow.getTableId());
+                RowSizeEstimator sizeEstimator = tableAccount.sizeEstimator;
+                int rowBytes =
+                        sizeEstimator.sample()
+                                ? sizeEstimator.update(
+                                        seaTunnelRow.getBytesSize(
+                                                getRowType(seaTunnelRow.getTableId())))
+                                : sizeEstimator.estimate();
+                pendingBytes += rowBytes;
+                if (clusterFlowControlGate != null) {
+                    clusterFlowControlGate.audit(rowBytes);
                 } else {
-                    throw new SeaTunnelEngineException(
-                            "Unsupported row type: " + rowType.getClass().getName());
-                }
-                sourceReceivedBytes.inc(size);
-                sourceReceivedBytesPerSeconds.markEvent(size);
-                flowControlGate.audit((SeaTunnelRow) row);
-                if (StringUtils.isNotEmpty(tableId)) {
-                    String tableName = getFullName(TablePath.of(tableId));
-                    Counter sourceTableCounter = sourceReceivedCountPerTable.get(tableName);
-                    if (Objects.nonNull(sourceTableCounter)) {
-                        sourceTableCounter.inc();
-                    } else {
-                        Counter counter =
-                                metricsContext.counter(SOURCE_RECEIVED_COUNT + "#" + tableName);
-                        counter.inc();
-                        sourceReceivedCountPerTable.put(tableName, counter);
-                    }
+                    flowControlGate.audit(rowBytes);
                 }
+                tableAccount.pendingCount++;
             }
             sendRecordToNext(new Record<>(row));
             emptyThisPollNext = false;
-            sourceReceivedCount.inc();
-            sourceReceivedQPS.markEvent();
+            if (++pendingCount >= FLUSH_THRESHOLD) {
+                flushMetrics();
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /** Adds the rows accounted since the last call to the metrics. */
+    public void flushMetrics() {
+        if (pendingCount == 0) {
+            return;
+        }
+        sourceReceivedCount.inc(pendingCount);
+        sourceReceivedQPS.markEvent(pendingCount);
+        sourceReceivedBytes.inc(pendingBytes);
+        sourceReceivedBytesPerSeconds.markEvent(pendingBytes);
+        for (TableAccount tableAccount : tableAccounts.values()) {
+            if (tableAccount.pendingCount > 0 && tableAccount.counter != null) {
+                tableAccount.counter.inc(tableAccount.pendingCount);
+            }
+            tableAccount.pendingCount = 0;
+        }
+        pendingCount = 0;
+        pendingBytes = 0;
+    }
+
+    @Override
+    public boolean isThrottled() {
+        return clusterFlowControlGate != null
+                ? clusterFlowControlGate.isThrottled()
+                : flowControlGate.isThrottled();
+    }
+
+    /**
+     * Waits for the tokens of the next row of a reader that ended its poll early because it was
+     * {@link #isThrottled() throttled}. Called by the reader thread after {@link
+     * org.apache.seatunnel.api.source.SourceReader#pollNext}, without the checkpoint lock, so that
+     * barriers are not delayed while the reader waits.
+     */
+    public void awaitFlowControl() {
+        if (clusterFlowControlGate != null) {
+            clusterFlowControlGate.awaitCredit();
+        }
+    }
+
+    /** Gives back the unused read limit tokens of the job, called when the reader is idle. */
+    public void releaseFlowControlTokens() {
+        if (clusterFlowControlGate != null) {
+            clusterFlowControlGate.release();
+        }
+    }
+
+    private TableAccount getTableAccount(String tableId) {
+        // rows of the same table usually come in runs and share the same table id instance
+        TableAccount tableAccount = lastTableAccount;
+        if (tableAccount != null && Objects.equals(tableAccount.tableId, tableId)) {
+            return tableAccount;
+        }
+        tableAccount = tableAccounts.get(tableId);
+        if (tableAccount == null) {
+            Counter counter = null;
+            if (StringUtils.isNotEmpty(tableId)) {
+                String tableName = getFullName(TablePath.of(tableId));
+                counter =
+                        sourceReceivedCountPerTable.computeIfAbsent(
+                                tableName,
+                                name -> metricsContext.counter(SOURCE_RECEIVED_COUNT + "#" + name));
+            }
+            tableAccount = new TableAccount(tableId, counter);
+            tableAccounts.put(tableId, tableAccount);
+        }
+        lastTableAccount = tableAccount;
+        return tableAccount;
+    }
+
+    private SeaTunnelRowType getRowType(String tableId) {
+        if (rowType instanceof SeaTunnelRowType) {
+            return (SeaTunnelRowType) rowType;
+        } else if (rowType instanceof MultipleRowType) {
+            return rowTypeMap.get(tableId);
+        }
+        throw new SeaTunnelEngineException("Unsupported row type: " + rowType.getClass().getName());
+    }
+
     @Override
     public void collect(SchemaChangeEvent event) {
         try {
@@ -233,6 +342,22 @@ public class SeaTunnelSourceCollector<T> implements Collector<T> {
         }
     }
 
+    private static class TableAccount {
+
+        private final String tableId;
+
+        private final Counter counter;
+
+        private final RowSizeEstimator sizeEstimator = new RowSizeEstimator();
+
+        private long pendingCount;
+
+        private TableAccount(String tableId, Counter counter) {
+            this.tableId = tableId;
+            this.counter = counter;
+        }
+    }
+
     private String getFullName(TablePath tablePath) {
         if (StringUtils.isBlank(tablePath.getTableName())) {
             tablePath =
@@ -45,6 +45,7 @@ import org.apache.seatunnel.engine.server.dag.physical.flow.PhysicalExecutionFlo
 import org.apache.seatunnel.engine.server.dag.physical.flow.UnknownFlowException;
 import org.apache.seatunnel.engine.server.execution.TaskGroup;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.execution.TaskReadiness;
 import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
 import org.apache.seatunnel.engine.server.task.flow.ActionFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.flow.FlowLifeCycle;
@@ -115,6 +116,8 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     private SeaTunnelMetricsContext metricsContext;
 
+    private transient TaskReadiness readiness;
+
     public SeaTunnelTask(long jobID, TaskLocation taskID, int indexID, Flow executionFlow) {
         super(jobID, taskID);
         this.indexID = indexID;
@@ -127,6 +130,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
         super.init();
         metricsContext = getExecutionContext().getOrCreateMetricsContext(taskLocation);
         this.currState = SeaTunnelTaskState.INIT;
+        readiness = new TaskReadiness();
         flowFutures = new ArrayList<>();
         allCycles = new ArrayList<>();
         startFlowLifeCycle = convertFlowToActionLifeCycle(executionFlow);
@@ -166,6 +170,7 @@ public abstract class SeaTunnelTask extends AbstractTask {
                 break;
             case RUNNING:
                 collect();
+                flush();
                 if (prepareCloseStatus) {
                     currState = PREPARE_CLOSE;
                 }
@@ -286,6 +291,16 @@ public abstract class SeaTunnelTask extends AbstractTask {
 
     protected abstract void collect() throws Exception;
 
+    /**
+     * Emit the records buffered by the flow life cycles, so a slow input never holds back a
+     * partially filled batch. Cycles are created downstream first, so flush them in reverse order.
+     */
+    protected void flush() throws Exception {
+        for (int i = allCycles.size() - 1; i >= 0; i--) {
+            allCycles.get(i).flush();
+        }
+    }
+
     @Override
     public Set<URL> getJarsUrl() {
         return getFlowInfo((action, set) -> set.addAll(action.getJarUrls()));
@@ -440,6 +455,11 @@ public abstract class SeaTunnelTask extends AbstractTask {
         return metricsContext;
     }
 
+    @Override
+    public TaskReadiness getReadiness() {
+        return readiness;
+    }
+
     @Override
     public void provideDynamicMetrics(
             MetricDescriptor descriptor, MetricsCollectionContext context) {
@@ -18,6 +18,9 @@
 package org.apache.seatunnel.engine.server.task;
 
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.env.EnvCommonOptions;
+import org.apache.seatunnel.api.env.ReadLimitScope;
 import org.apache.seatunnel.api.serialization.Serializer;
 import org.apache.seatunnel.api.source.SourceSplit;
 import org.apache.seatunnel.api.table.catalog.CatalogTable;
@@ -31,6 +34,8 @@ import org.apache.seatunnel.engine.server.dag.physical.config.SourceConfig;
 import org.apache.seatunnel.engine.server.dag.physical.flow.PhysicalExecutionFlow;
 import org.apache.seatunnel.engine.server.execution.ProgressState;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.flowcontrol.ClusterFlowControlGate;
+import org.apache.seatunnel.engine.server.flowcontrol.MasterTokenLessor;
 import org.apache.seatunnel.engine.server.task.flow.SourceFlowLifeCycle;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
@@ -94,12 +99,26 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
                 // TODO remove it when all connector use `getProducedCatalogTables`
                 sourceProducedType = sourceFlow.getAction().getSource().getProducedType();
             }
+            FlowControlStrategy flowControlStrategy = FlowControlStrategy.fromMap(envOption);
+            ClusterFlowControlGate clusterFlowControlGate = null;
+            if (envOption != null
+                    && ReadonlyConfig.fromMap(envOption).get(EnvCommonOptions.READ_LIMIT_SCOPE)
+                            == ReadLimitScope.JOB) {
+                // the limits are enforced by the job master for all readers together
+                clusterFlowControlGate =
+                        new ClusterFlowControlGate(
+                                flowControlStrategy,
+                                sourceFlow.getAction().getParallelism(),
+                                new MasterTokenLessor(getExecutionContext(), taskLocation));
+                flowControlStrategy = FlowControlStrategy.builder().build();
+            }
             this.collector =
                     new SeaTunnelSourceCollector<>(
                             checkpointLock,
                             outputs,
                             this.getMetricsContext(),
-                            FlowControlStrategy.fromMap(envOption),
+                            flowControlStrategy,
+                            clusterFlowControlGate,
                             sourceProducedType,
                             tablePaths);
             ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).setCollector(collector);
@@ -127,6 +146,14 @@ public class SourceSeaTunnelTask<T, SplitT extends SourceSplit> extends SeaTunne
         ((SourceFlowLifeCycle<T, SplitT>) startFlowLifeCycle).collect();
     }
 
+    @Override
+    protected void flush() throws Exception {
+        // records of a source task are only emitted under the checkpoint lock
+        synchronized (checkpointLock) {
+            super.flush();
+        }
+    }
+
     @NonNull @Override
     public ProgressState call() throws Exception {
         stateProcess();
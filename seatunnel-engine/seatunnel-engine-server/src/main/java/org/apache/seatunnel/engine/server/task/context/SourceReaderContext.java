@@ -73,6 +73,16 @@ public class SourceReaderContext implements SourceReader.Context {
         sourceActionLifeCycle.sendSourceEventToEnumerator(sourceEvent);
     }
 
+    @Override
+    public void markIdle(long maxIdleMillis) {
+        sourceActionLifeCycle.markIdle(maxIdleMillis);
+    }
+
+    @Override
+    public void signalDataAvailable() {
+        sourceActionLifeCycle.signalDataAvailable();
+    }
+
     @Override
     public MetricsContext getMetricsContext() {
         return metricsContext;
@@ -28,4 +28,7 @@ public interface FlowLifeCycle {
     default void close() throws IOException {}
 
     default void prepareClose() throws IOException {}
+
+    /** Emit the records buffered by this life cycle, called by the task after each collect. */
+    default void flush() throws Exception {}
 }
@@ -19,36 +19,44 @@ package org.apache.seatunnel.engine.server.task.flow;
 
 import org.apache.seatunnel.api.table.event.SchemaChangeEvent;
 import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleOutput;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleTransport;
 
-import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+/**
+ * Writes the records of an upstream task into the shuffle queues. Records are buffered per channel,
+ * the index of the queue in {@link ShuffleStrategy#getOutputQueueNames}, and every buffer is handed
+ * to its {@link ShuffleOutput} as one batch. Only the task thread calls this class, so the buffers
+ * are not synchronized.
+ */
 @SuppressWarnings("MagicNumber")
 @Slf4j
 public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         implements OneInputFlowLifeCycle<Record<?>> {
-    private final int pipelineId;
-    private final int taskIndex;
+    private static final int INITIAL_CHANNEL_BUFFER_SIZE = 16;
+
     private final ShuffleAction shuffleAction;
-    private final Map<String, IQueue<Record<?>>> shuffles;
+    private final ShuffleOutput[] shuffles;
+    private final ChannelBuffer[] shuffleBuffers;
     private final int shuffleBatchSize;
     private final long shuffleBatchFlushInterval;
-    private final Map<String, Queue<Record<?>>> shuffleBuffer;
     private final ShuffleStrategy shuffleStrategy;
+    private final SeaTunnelRowCodec rowCodec;
     private int shuffleBufferSize;
     private long lastModify;
 
@@ -59,14 +67,27 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             HazelcastInstance hazelcastInstance,
             CompletableFuture<Void> completableFuture) {
         super(runningTask, completableFuture);
-        this.pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
-        this.taskIndex = taskIndex;
+        int pipelineId = runningTask.getTaskLocation().getTaskGroupLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffleStrategy = shuffleAction.getConfig().getShuffleStrategy();
-        this.shuffles = shuffleStrategy.createShuffles(hazelcastInstance, pipelineId, taskIndex);
+        this.shuffles =
+                ShuffleTransport.of(shuffleAction.getConfig(), hazelcastInstance)
+                        .createOutputs(shuffleStrategy, pipelineId, taskIndex)
+                        .values()
+                        .toArray(new ShuffleOutput[0]);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
         this.shuffleBatchFlushInterval = shuffleAction.getConfig().getBatchFlushInterval();
-        this.shuffleBuffer = new HashMap<>();
+        this.shuffleBuffers = new ChannelBuffer[shuffles.length];
+        for (int i = 0; i < shuffles.length; i++) {
+            shuffleBuffers[i] =
+                    new ChannelBuffer(Math.min(INITIAL_CHANNEL_BUFFER_SIZE, shuffleBatchSize));
+        }
+        // without a schema the codec would only add the table id, send such rows as they are
+        this.rowCodec =
+                shuffleStrategy.getCatalogTables().isEmpty()
+                        ? null
+                        : new SeaTunnelRowCodec(
+                                hazelcastInstance, shuffleStrategy.getCatalogTables());
     }
 
     @Override
@@ -88,8 +109,7 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
             runningTask.ack(barrier);
 
             // The barrier needs to be replicated to all channels
-            for (Map.Entry<String, IQueue<Record<?>>> shuffle : shuffles.entrySet()) {
-                IQueue<Record<?>> shuffleQueue = shuffle.getValue();
+            for (ShuffleOutput shuffleQueue : shuffles) {
                 try {
                     shuffleQueue.put(record);
                 } catch (InterruptedException e) {
@@ -120,15 +140,19 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
     @Override
     public void close() throws IOException {
         super.close();
-        for (Map.Entry<String, IQueue<Record<?>>> shuffleItem : shuffles.entrySet()) {
-            log.info("destroy shuffle queue: {}", shuffleItem.getKey());
-            shuffleItem.getValue().destroy();
+        for (ShuffleOutput shuffleQueue : shuffles) {
+            log.info("destroy shuffle queue: {}", shuffleQueue.getName());
+            shuffleQueue.close();
         }
     }
 
-    private synchronized void shuffleItem(Record<?> record) {
-        String shuffleKey = shuffleStrategy.createShuffleKey(record, pipelineId, taskIndex);
-        shuffleBuffer.computeIfAbsent(shuffleKey, key -> new LinkedList<>()).add(record);
+    private void shuffleItem(Record<?> record) throws IOException {
+        int channel = shuffleStrategy.getShuffleChannel(record);
+        if (rowCodec != null && record.getData() instanceof SeaTunnelRow) {
+            // encode right away, upstream may reuse the row instance
+            record = new Record<>(rowCodec.encode((SeaTunnelRow) record.getData()));
+        }
+        shuffleBuffers[channel].add(record);
         shuffleBufferSize++;
 
         if (shuffleBufferSize >= shuffleBatchSize
@@ -138,27 +162,46 @@ public class ShuffleSinkFlowLifeCycle extends AbstractFlowLifeCycle
         }
     }
 
-    private synchronized void shuffleFlush() {
-        for (Map.Entry<String, Queue<Record<?>>> shuffleBatch : shuffleBuffer.entrySet()) {
-            IQueue<Record<?>> shuffleQueue = shuffles.get(shuffleBatch.getKey());
-            Queue<Record<?>> shuffleQueueBatch = shuffleBatch.getValue();
-            if (shuffleQueue.remainingCapacity() <= 0
-                    || !shuffleQueue.addAll(shuffleBatch.getValue())) {
-                for (; ; ) {
-                    Record<?> shuffleItem = shuffleQueueBatch.poll();
-                    if (shuffleItem == null) {
-                        break;
-                    }
-                    try {
-                        shuffleQueue.put(shuffleItem);
-                    } catch (InterruptedException e) {
-                        throw new RuntimeException(e);
-                    }
-                }
+    private void shuffleFlush() throws IOException {
+        for (int channel = 0; channel < shuffles.length; channel++) {
+            ChannelBuffer shuffleBuffer = shuffleBuffers[channel];
+            if (shuffleBuffer.size == 0) {
+                continue;
             }
-            shuffleQueueBatch.clear();
+            try {
+                shuffles[channel].putAll(shuffleBuffer.records());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            shuffleBuffer.clear();
         }
         shuffleBufferSize = 0;
         lastModify = System.currentTimeMillis();
     }
+
+    /** The records buffered for one channel, growing up to the shuffle batch size. */
+    private static final class ChannelBuffer {
+        private Record<?>[] records;
+        private int size;
+
+        private ChannelBuffer(int initialCapacity) {
+            this.records = new Record<?>[Math.max(1, initialCapacity)];
+        }
+
+        private void add(Record<?> record) {
+            if (size == records.length) {
+                records = Arrays.copyOf(records, size * 2);
+            }
+            records[size++] = record;
+        }
+
+        private List<Record<?>> records() {
+            return Arrays.asList(records).subList(0, size);
+        }
+
+        private void clear() {
+            Arrays.fill(records, 0, size, null);
+            size = 0;
+        }
+    }
 }
@@ -17,14 +17,17 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.engine.core.dag.actions.ShuffleAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
+import org.apache.seatunnel.engine.server.serializable.SeaTunnelRowCodec;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleInput;
+import org.apache.seatunnel.engine.server.task.shuffle.ShuffleTransport;
 
-import com.hazelcast.collection.IQueue;
 import com.hazelcast.core.HazelcastInstance;
 import lombok.extern.slf4j.Slf4j;
 
@@ -42,7 +45,8 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         implements OneOutputFlowLifeCycle<Record<?>> {
     private final ShuffleAction shuffleAction;
     private final int shuffleBatchSize;
-    private final IQueue<Record<?>>[] shuffles;
+    private final ShuffleInput[] shuffles;
+    private final SeaTunnelRowCodec rowCodec;
     private Map<Integer, List<Record<?>>> unsentBufferMap = new HashMap<>();
     private final Map<Integer, Barrier> alignedBarriers = new HashMap<>();
     private long currentCheckpointId = Long.MAX_VALUE;
@@ -58,11 +62,18 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int pipelineId = runningTask.getTaskLocation().getPipelineId();
         this.shuffleAction = shuffleAction;
         this.shuffles =
-                shuffleAction
-                        .getConfig()
-                        .getShuffleStrategy()
-                        .getShuffles(hazelcastInstance, pipelineId, taskIndex);
+                ShuffleTransport.of(shuffleAction.getConfig(), hazelcastInstance)
+                        .createInputs(
+                                shuffleAction.getConfig().getShuffleStrategy(),
+                                pipelineId,
+                                taskIndex);
         this.shuffleBatchSize = shuffleAction.getConfig().getBatchSize();
+        List<CatalogTable> catalogTables =
+                shuffleAction.getConfig().getShuffleStrategy().getCatalogTables();
+        this.rowCodec =
+                catalogTables.isEmpty()
+                        ? null
+                        : new SeaTunnelRowCodec(hazelcastInstance, catalogTables);
     }
 
     @Override
@@ -70,10 +81,10 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
         int emptyShuffleQueueCount = 0;
 
         for (int i = 0; i < shuffles.length; i++) {
-            IQueue<Record<?>> shuffleQueue = shuffles[i];
+            ShuffleInput shuffleQueue = shuffles[i];
             List<Record<?>> unsentBuffer =
                     unsentBufferMap.computeIfAbsent(i, k -> new LinkedList<>());
-            if (shuffleQueue.size() == 0) {
+            if (shuffleQueue.isEmpty()) {
                 emptyShuffleQueueCount++;
                 continue;
             }
@@ -138,22 +149,29 @@ public class ShuffleSourceFlowLifeCycle<T> extends AbstractFlowLifeCycle
                     if (prepareClose) {
                         return;
                     }
+                    if (rowCodec != null && record.getData() instanceof byte[]) {
+                        record = new Record<>(rowCodec.decode((byte[]) record.getData()));
+                    }
                     collector.collect(record);
                 }
             }
         }
 
         if (emptyShuffleQueueCount == shuffles.length) {
-            Thread.sleep(100);
+            runningTask.getReadiness().idle(100);
         }
     }
 
     @Override
     public void close() throws IOException {
-        super.close();
-        for (IQueue<Record<?>> shuffleQueue : shuffles) {
-            log.info("destroy shuffle queue: {}", shuffleQueue.getName());
-            shuffleQueue.destroy();
+        try {
+            super.close();
+        } finally {
+            // also unpublishes the direct shuffle endpoints of the queues
+            for (ShuffleInput shuffleQueue : shuffles) {
+                log.info("destroy shuffle queue: {}", shuffleQueue.getName());
+                shuffleQueue.close();
+            }
         }
     }
 }
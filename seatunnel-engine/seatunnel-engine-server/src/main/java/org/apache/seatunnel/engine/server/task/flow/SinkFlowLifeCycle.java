@@ -37,6 +37,8 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.RowSizeEstimator;
+import org.apache.seatunnel.engine.server.metrics.SampledTimer;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.context.SinkWriterContext;
 import org.apache.seatunnel.engine.server.task.operation.GetTaskGroupAddressOperation;
@@ -55,18 +57,22 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_BYTES_PER_SECONDS;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_COUNT;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_LATENCY;
 import static org.apache.seatunnel.api.common.metrics.MetricNames.SINK_WRITE_QPS;
 import static org.apache.seatunnel.engine.common.utils.ExceptionUtil.sneaky;
 import static org.apache.seatunnel.engine.server.task.AbstractTask.serializeStates;
@@ -94,18 +100,32 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
 
     private Optional<CommitInfoT> lastCommitInfo;
 
+    /**
+     * Commit infos of the checkpoints not yet notified as completed, key is the checkpoint id. The
+     * next checkpoint may be triggered before the previous one is durable and notified.
+     */
+    private final NavigableMap<Long, CommitInfoT> pendingCommitInfos =
+            new ConcurrentSkipListMap<>();
+
     private MetricsContext metricsContext;
 
     private Counter sinkWriteCount;
 
     private Map<String, Counter> sinkWriteCountPerTable = new ConcurrentHashMap<>();
 
+    // keyed by the table id of the rows, resolved to the full table name only once per table
+    private final Map<String, Counter> sinkWriteCountPerTableId = new HashMap<>();
+
+    private final RowSizeEstimator sizeEstimator = new RowSizeEstimator();
+
     private Meter sinkWriteQPS;
 
     private Counter sinkWriteBytes;
 
     private Meter sinkWriteBytesPerSeconds;
 
+    private final SampledTimer writeTimer;
+
     private final boolean containAggCommitter;
 
     private MultiTableResourceManager resourceManager;
@@ -133,6 +153,9 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
         sinkWriteQPS = metricsContext.meter(SINK_WRITE_QPS);
         sinkWriteBytes = metricsContext.counter(SINK_WRITE_BYTES);
         sinkWriteBytesPerSeconds = metricsContext.meter(SINK_WRITE_BYTES_PER_SECONDS);
+        writeTimer =
+                new SampledTimer(
+                        runningTask.getMetricsContext().latencyHistogram(SINK_WRITE_LATENCY));
         if (sinkAction.getSink() instanceof MultiTableSink) {
             List<TablePath> sinkTables = ((MultiTableSink) sinkAction.getSink()).getSinkTables();
             sinkTables.forEach(
@@ -206,6 +229,9 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 if (barrier.snapshot()) {
                     try {
                         lastCommitInfo = writer.prepareCommit();
+                        if (committer.isPresent() && lastCommitInfo.isPresent()) {
+                            pendingCommitInfos.put(barrier.getId(), lastCommitInfo.get());
+                        }
                     } catch (Exception e) {
                         writer.abortPrepare();
                         throw e;
@@ -266,25 +292,36 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
                 if (prepareClose) {
                     return;
                 }
-                writer.write((T) record.getData());
+                writeTimer.start();
+                try {
+                    writer.write((T) record.getData());
+                } finally {
+                    writeTimer.stop();
+                }
                 sinkWriteCount.inc();
                 sinkWriteQPS.markEvent();
                 if (record.getData() instanceof SeaTunnelRow) {
-                    long size = ((SeaTunnelRow) record.getData()).getBytesSize();
+                    SeaTunnelRow row = (SeaTunnelRow) record.getData();
+                    long size =
+                            sizeEstimator.sample()
+                                    ? sizeEstimator.update(row.getBytesSize())
+                                    : sizeEstimator.estimate();
                     sinkWriteBytes.inc(size);
                     sinkWriteBytesPerSeconds.markEvent(size);
-                    String tableId = ((SeaTunnelRow) record.getData()).getTableId();
+                    String tableId = row.getTableId();
                     if (StringUtils.isNotBlank(tableId)) {
-                        String tableName = getFullName(TablePath.of(tableId));
-                        Counter sinkTableCounter = sinkWriteCountPerTable.get(tableName);
-                        if (Objects.nonNull(sinkTableCounter)) {
-                            sinkTableCounter.inc();
-                        } else {
-                            Counter counter =
-                                    metricsContext.counter(SINK_WRITE_COUNT + "#" + tableName);
-                            counter.inc();
-                            sinkWriteCountPerTable.put(tableName, counter);
+                        Counter sinkTableCounter = sinkWriteCountPerTableId.get(tableId);
+                        if (Objects.isNull(sinkTableCounter)) {
+                            String tableName = getFullName(TablePath.of(tableId));
+                            sinkTableCounter =
+                                    sinkWriteCountPerTable.computeIfAbsent(
+                                            tableName,
+                                            name ->
+                                                    metricsContext.counter(
+                                                            SINK_WRITE_COUNT + "#" + name));
+                            sinkWriteCountPerTableId.put(tableId, sinkTableCounter);
                         }
+                        sinkTableCounter.inc();
                     }
                 }
             }
@@ -295,15 +332,19 @@ public class SinkFlowLifeCycle<T, CommitInfoT extends Serializable, AggregatedCo
 
     @Override
     public void notifyCheckpointComplete(long checkpointId) throws Exception {
-        if (committer.isPresent() && lastCommitInfo.isPresent()) {
-            committer.get().commit(Collections.singletonList(lastCommitInfo.get()));
+        NavigableMap<Long, CommitInfoT> completedCommitInfos =
+                pendingCommitInfos.headMap(checkpointId, true);
+        if (committer.isPresent() && !completedCommitInfos.isEmpty()) {
+            committer.get().commit(new ArrayList<>(completedCommitInfos.values()));
+            completedCommitInfos.clear();
         }
     }
 
     @Override
     public void notifyCheckpointAborted(long checkpointId) throws Exception {
-        if (committer.isPresent() && lastCommitInfo.isPresent()) {
-            committer.get().abort(Collections.singletonList(lastCommitInfo.get()));
+        CommitInfoT abortedCommitInfo = pendingCommitInfos.remove(checkpointId);
+        if (committer.isPresent() && abortedCommitInfo != null) {
+            committer.get().abort(Collections.singletonList(abortedCommitInfo));
         }
     }
 
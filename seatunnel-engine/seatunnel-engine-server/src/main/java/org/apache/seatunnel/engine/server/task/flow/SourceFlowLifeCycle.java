@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.event.EventListener;
 import org.apache.seatunnel.api.serialization.Serializer;
@@ -32,6 +33,7 @@ import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
 import org.apache.seatunnel.engine.server.event.JobEventListener;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.SampledTimer;
 import org.apache.seatunnel.engine.server.task.SeaTunnelSourceCollector;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.context.SourceReaderContext;
@@ -82,6 +84,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
     private SeaTunnelSourceCollector<T> collector;
 
     private final MetricsContext metricsContext;
+    private final SampledTimer pollTimer;
     private final EventListener eventListener;
 
     private final AtomicReference<SchemaChangePhase> schemaChangePhase = new AtomicReference<>();
@@ -100,6 +103,11 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         this.enumeratorTaskLocation = enumeratorTaskLocation;
         this.currentTaskLocation = currentTaskLocation;
         this.metricsContext = metricsContext;
+        this.pollTimer =
+                new SampledTimer(
+                        runningTask
+                                .getMetricsContext()
+                                .latencyHistogram(MetricNames.SOURCE_POLL_LATENCY));
         this.eventListener =
                 new JobEventListener(currentTaskLocation, runningTask.getExecutionContext());
     }
@@ -140,6 +148,9 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
 
     @Override
     public void close() throws IOException {
+        if (collector != null) {
+            collector.releaseFlowControlTokens();
+        }
         reader.close();
         super.close();
     }
@@ -153,10 +164,25 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 return;
             }
 
-            reader.pollNext(collector);
+            pollTimer.start();
+            try {
+                reader.pollNext(collector);
+            } finally {
+                pollTimer.stop();
+            }
+            collector.flushMetrics();
+            if (!collector.isEmptyThisPollNext() && collector.isThrottled()) {
+                // the reader may have ended its poll early, wait without the checkpoint lock
+                collector.awaitFlowControl();
+            }
             if (collector.isEmptyThisPollNext()) {
-                Thread.sleep(100);
+                collector.releaseFlowControlTokens();
+                // park the task instead of sleeping, unless the reader asked for longer already
+                if (!runningTask.getReadiness().isIdle()) {
+                    runningTask.getReadiness().idle(100);
+                }
             } else {
+                runningTask.getReadiness().clear();
                 collector.resetEmptyThisPollNext();
                 /**
                  * The current thread obtain a checkpoint lock in the method {@link
@@ -224,6 +250,14 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         }
     }
 
+    public void markIdle(long maxIdleMillis) {
+        runningTask.getReadiness().idle(maxIdleMillis);
+    }
+
+    public void signalDataAvailable() {
+        runningTask.getReadiness().signal();
+    }
+
     public void requestSplit() {
         try {
             runningTask
@@ -259,6 +293,7 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
         } else {
             reader.addSplits(splits);
         }
+        runningTask.getReadiness().signal();
     }
 
     public void triggerBarrier(Barrier barrier) throws Exception {
@@ -288,6 +323,8 @@ public class SourceFlowLifeCycle<T, SplitT extends SourceSplit> extends ActionFl
                 barrier.getId(),
                 System.currentTimeMillis() - startTime,
                 currentTaskLocation);
+        // the task may have to close or to stop for a schema change
+        runningTask.getReadiness().signal();
 
         CheckpointType checkpointType = ((CheckpointBarrier) barrier).getCheckpointType();
         if (checkpointType.isSchemaChangeCheckpoint()) {
@@ -17,6 +17,7 @@
 
 package org.apache.seatunnel.engine.server.task.flow;
 
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.api.transform.SeaTunnelTransform;
@@ -24,12 +25,14 @@ import org.apache.seatunnel.engine.core.dag.actions.TransformChainAction;
 import org.apache.seatunnel.engine.server.checkpoint.ActionStateKey;
 import org.apache.seatunnel.engine.server.checkpoint.ActionSubtaskState;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.metrics.SampledTimer;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -44,6 +47,13 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
 
     private final Collector<Record<?>> collector;
 
+    private final SampledTimer transformTimer;
+
+    // rows waiting for #mapBatch, only used if a transform of the chain works on batches
+    private List<T> buffer;
+
+    private int batchSize;
+
     public TransformFlowLifeCycle(
             TransformChainAction<T> action,
             SeaTunnelTask runningTask,
@@ -53,6 +63,11 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         this.action = action;
         this.transform = action.getTransforms();
         this.collector = collector;
+        this.transformTimer =
+                new SampledTimer(
+                        runningTask
+                                .getMetricsContext()
+                                .latencyHistogram(MetricNames.TRANSFORM_LATENCY));
     }
 
     @Override
@@ -60,6 +75,7 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         super.open();
         for (SeaTunnelTransform<T> t : transform) {
             try {
+                t.setMetricsContext(runningTask.getMetricsContext());
                 t.open();
             } catch (Exception e) {
                 log.error(
@@ -69,11 +85,19 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
                         e);
             }
         }
+        for (SeaTunnelTransform<T> t : transform) {
+            batchSize = Math.max(batchSize, t.getBatchSize());
+        }
+        if (batchSize > 1) {
+            buffer = new ArrayList<>(batchSize);
+        }
     }
 
     @Override
     public void received(Record<?> record) {
         if (record.getData() instanceof Barrier) {
+            // rows before the barrier belong to the checkpoint
+            flush();
             CheckpointBarrier barrier = (CheckpointBarrier) record.getData();
             if (barrier.prepareClose(this.runningTask.getTaskLocation())) {
                 prepareClose = true;
@@ -88,17 +112,33 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
             if (prepareClose) {
                 return;
             }
+            if (buffer != null) {
+                buffer.add((T) record.getData());
+                if (buffer.size() >= batchSize) {
+                    flush();
+                }
+                return;
+            }
             T inputData = (T) record.getData();
             T outputData = inputData;
-            for (SeaTunnelTransform<T> t : transform) {
-                outputData = t.map(inputData);
-                log.debug("Transform[{}] input row {} and output row {}", t, inputData, outputData);
-                if (outputData == null) {
-                    log.trace("Transform[{}] filtered data row {}", t, inputData);
-                    break;
-                }
+            transformTimer.start();
+            try {
+                for (SeaTunnelTransform<T> t : transform) {
+                    outputData = t.map(inputData);
+                    log.debug(
+                            "Transform[{}] input row {} and output row {}",
+                            t,
+                            inputData,
+                            outputData);
+                    if (outputData == null) {
+                        log.trace("Transform[{}] filtered data row {}", t, inputData);
+                        break;
+                    }
 
-                inputData = outputData;
+                    inputData = outputData;
+                }
+            } finally {
+                transformTimer.stop();
             }
             if (outputData != null) {
                 // todo log metrics
@@ -107,6 +147,29 @@ public class TransformFlowLifeCycle<T> extends ActionFlowLifeCycle
         }
     }
 
+    @Override
+    public void flush() {
+        if (buffer == null || buffer.isEmpty()) {
+            return;
+        }
+        List<T> outputs = buffer;
+        transformTimer.start();
+        try {
+            for (SeaTunnelTransform<T> t : transform) {
+                outputs = t.mapBatch(outputs);
+                if (outputs.isEmpty()) {
+                    break;
+                }
+            }
+        } finally {
+            transformTimer.stop();
+        }
+        for (T outputData : outputs) {
+            collector.collect(new Record<>(outputData));
+        }
+        buffer.clear();
+    }
+
     @Override
     public void restoreState(List<ActionSubtaskState> actionStateList) throws Exception {
         // nothing
@@ -23,6 +23,7 @@ import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
 
 import java.util.Collection;
+import java.util.Map;
 
 public abstract class AbstractTaskGroupWithIntermediateQueue extends TaskGroupDefaultImpl {
     public AbstractTaskGroupWithIntermediateQueue(
@@ -31,4 +32,10 @@ public abstract class AbstractTaskGroupWithIntermediateQueue extends TaskGroupDe
     }
 
     public abstract AbstractIntermediateQueue<?> getQueueCache(long id);
+
+    /** Returns the number of records buffered in each intermediate queue, by queue id. */
+    public abstract Map<Long, Integer> getQueueSizes();
+
+    /** Returns the number of records each intermediate queue can buffer. */
+    public abstract int getQueueCapacity();
 }
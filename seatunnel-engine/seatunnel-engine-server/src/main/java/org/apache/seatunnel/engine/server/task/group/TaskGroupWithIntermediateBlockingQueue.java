@@ -20,15 +20,18 @@ package org.apache.seatunnel.engine.server.task.group;
 import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskReadiness;
 import org.apache.seatunnel.engine.server.task.SeaTunnelTask;
 import org.apache.seatunnel.engine.server.task.group.queue.AbstractIntermediateQueue;
 import org.apache.seatunnel.engine.server.task.group.queue.IntermediateBlockingQueue;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWithIntermediateQueue {
 
@@ -41,9 +44,12 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
 
     private Map<Long, BlockingQueue<Record<?>>> blockingQueueCache = null;
 
+    private Map<Long, AtomicReference<TaskReadiness>> consumerReadinessCache = null;
+
     @Override
     public void init() {
         blockingQueueCache = new ConcurrentHashMap<>();
+        consumerReadinessCache = new ConcurrentHashMap<>();
         getTasks().stream()
                 .filter(SeaTunnelTask.class::isInstance)
                 .map(s -> (SeaTunnelTask) s)
@@ -53,6 +59,22 @@ public class TaskGroupWithIntermediateBlockingQueue extends AbstractTaskGroupWit
     @Override
     public AbstractIntermediateQueue<?> getQueueCache(long id) {
         blockingQueueCache.computeIfAbsent(id, i -> new ArrayBlockingQueue<>(QUEUE_SIZE));
-        return new IntermediateBlockingQueue(blockingQueueCache.get(id));
+        return new IntermediateBlockingQueue(
+                blockingQueueCache.get(id),
+                consumerReadinessCache.computeIfAbsent(id, i -> new AtomicReference<>()));
+    }
+
+    @Override
+    public Map<Long, Integer> getQueueSizes() {
+        Map<Long, Integer> sizes = new HashMap<>();
+        if (blockingQueueCache != null) {
+            blockingQueueCache.forEach((id, queue) -> sizes.put(id, queue.size()));
+        }
+        return sizes;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return QUEUE_SIZE;
     }
 }
@@ -26,12 +26,14 @@ import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEvent
 import org.apache.seatunnel.engine.server.task.group.queue.disruptor.RecordEventFactory;
 
 import com.lmax.disruptor.EventFactory;
+import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.DaemonThreadFactory;
 
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -69,4 +71,26 @@ public class TaskGroupWithIntermediateDisruptor extends AbstractTaskGroupWithInt
         this.disruptor.putIfAbsent(id, disruptor);
         return new IntermediateDisruptor(this.disruptor.get(id));
     }
+
+    @Override
+    public Map<Long, Integer> getQueueSizes() {
+        Map<Long, Integer> sizes = new HashMap<>();
+        if (disruptor != null) {
+            disruptor.forEach(
+                    (id, queue) -> {
+                        RingBuffer<RecordEvent> ringBuffer = queue.getRingBuffer();
+                        sizes.put(
+                                id,
+                                (int)
+                                        (ringBuffer.getBufferSize()
+                                                - ringBuffer.remainingCapacity()));
+                    });
+        }
+        return sizes;
+    }
+
+    @Override
+    public int getQueueCapacity() {
+        return RING_BUFFER_SIZE;
+    }
 }
@@ -21,16 +21,24 @@ import org.apache.seatunnel.api.table.type.Record;
 import org.apache.seatunnel.api.transform.Collector;
 import org.apache.seatunnel.common.utils.function.ConsumerWithException;
 import org.apache.seatunnel.engine.server.checkpoint.CheckpointBarrier;
+import org.apache.seatunnel.engine.server.execution.TaskReadiness;
 import org.apache.seatunnel.engine.server.task.record.Barrier;
 
 import java.io.IOException;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class IntermediateBlockingQueue extends AbstractIntermediateQueue<BlockingQueue<Record<?>>> {
 
-    public IntermediateBlockingQueue(BlockingQueue<Record<?>> queue) {
+    private static final long MAX_IDLE_MILLIS = 100;
+
+    // the readiness of the task reading the queue, shared by both ends of the queue
+    private final AtomicReference<TaskReadiness> consumerReadiness;
+
+    public IntermediateBlockingQueue(
+            BlockingQueue<Record<?>> queue, AtomicReference<TaskReadiness> consumerReadiness) {
         super(queue);
+        this.consumerReadiness = consumerReadiness;
     }
 
     @Override
@@ -40,17 +48,33 @@ public class IntermediateBlockingQueue extends AbstractIntermediateQueue<Blockin
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
+        TaskReadiness readiness = consumerReadiness.get();
+        if (readiness != null && readiness.isIdle()) {
+            readiness.signal();
+        }
     }
 
     @Override
     public void collect(Collector<Record<?>> collector) throws Exception {
+        TaskReadiness readiness = getRunningTask().getReadiness();
+        if (consumerReadiness.get() != readiness) {
+            consumerReadiness.set(readiness);
+        }
         while (true) {
-            Record<?> record = getIntermediateQueue().poll(100, TimeUnit.MILLISECONDS);
+            Record<?> record = getIntermediateQueue().poll();
             if (record != null) {
                 handleRecord(record, collector::collect);
-            } else {
+                continue;
+            }
+            if (readiness == null) {
+                break;
+            }
+            // mark idle before checking again, so a record put meanwhile signals the task
+            readiness.idle(MAX_IDLE_MILLIS);
+            if (getIntermediateQueue().isEmpty()) {
                 break;
             }
+            readiness.clear();
         }
     }
 
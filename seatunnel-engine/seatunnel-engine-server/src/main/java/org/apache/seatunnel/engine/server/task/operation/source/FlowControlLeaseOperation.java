@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.task.operation.source;
+
+import org.apache.seatunnel.engine.server.SeaTunnelServer;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.flowcontrol.FlowControlLease;
+import org.apache.seatunnel.engine.server.flowcontrol.JobFlowController;
+import org.apache.seatunnel.engine.server.master.JobMaster;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+
+/**
+ * Sent by a reader to lease read limit tokens of its job, or to give back the unused ones when it
+ * goes idle.
+ */
+public class FlowControlLeaseOperation extends Operation implements IdentifiedDataSerializable {
+
+    // the job master may not be restored yet after a master switch
+    private static final long JOB_MASTER_MISSING_RETRY_MILLIS = 100;
+
+    private TaskLocation taskLocation;
+
+    private long rows;
+
+    private long bytes;
+
+    private boolean release;
+
+    private FlowControlLease response;
+
+    public FlowControlLeaseOperation() {}
+
+    public FlowControlLeaseOperation(
+            TaskLocation taskLocation, long rows, long bytes, boolean release) {
+        this.taskLocation = taskLocation;
+        this.rows = rows;
+        this.bytes = bytes;
+        this.release = release;
+    }
+
+    @Override
+    public void run() throws Exception {
+        SeaTunnelServer server = getService();
+        JobMaster jobMaster = server.getCoordinatorService().getJobMaster(taskLocation.getJobId());
+        if (jobMaster == null) {
+            response = new FlowControlLease(0, 0, JOB_MASTER_MISSING_RETRY_MILLIS);
+            return;
+        }
+        JobFlowController flowController = jobMaster.getFlowController();
+        if (flowController == null) {
+            response = new FlowControlLease(rows, bytes, 0);
+        } else if (release) {
+            flowController.release(taskLocation, rows, bytes, System.nanoTime());
+            response = new FlowControlLease(0, 0, 0);
+        } else {
+            response = flowController.lease(taskLocation, rows, bytes, System.nanoTime());
+        }
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public String getServiceName() {
+        return SeaTunnelServer.SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeObject(taskLocation);
+        out.writeLong(rows);
+        out.writeLong(bytes);
+        out.writeBoolean(release);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        taskLocation = in.readObject();
+        rows = in.readLong();
+        bytes = in.readLong();
+        release = in.readBoolean();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.FLOW_CONTROL_LEASE_OPERATION;
+    }
+}
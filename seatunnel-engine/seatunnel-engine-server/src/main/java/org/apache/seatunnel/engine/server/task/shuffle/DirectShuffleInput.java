@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import com.hazelcast.cluster.Address;
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The reading end of a direct shuffle queue. It buffers at most {@code capacity} records received
+ * from the upstream task.
+ *
+ * <p>A sender opens a stream with a handshake frame, and numbers the frames of the stream. Frames
+ * that overtake each other on their way are held back until the frames before them arrived, so the
+ * records are buffered in the order they were sent. Every frame is answered with the credit limit
+ * of the stream: the number of records the sender may have sent since the handshake. It starts at
+ * the free capacity, which also accounts for records an earlier attempt of the upstream task left
+ * in the buffer, and grows by every record the downstream task takes. When the limit grew by half
+ * of the queue since the sender last heard of it, it is pushed to the sender with a {@link
+ * ShuffleCreditOperation}.
+ */
+class DirectShuffleInput implements ShuffleInput {
+
+    static final long HANDSHAKE = -1;
+    static final long CREDIT_QUERY = -2;
+    /** Answer to a frame of a stream that this queue does not read. */
+    static final long CLOSED = -1;
+
+    @Getter private final String name;
+    private final DirectShuffleTransport transport;
+    private final Address address;
+    private final int capacity;
+    private final BlockingQueue<Record<?>> received;
+    private final int grantThreshold;
+
+    /**
+     * Records taken by the downstream task so far. It is counted after the records left the buffer,
+     * so credit limits derived from it never exceed the free capacity.
+     */
+    private final AtomicLong taken = new AtomicLong();
+
+    /** The member of the sender that sent frames since the last grant, null otherwise. */
+    private final AtomicReference<Address> pendingGrant = new AtomicReference<>();
+
+    // the stream of the current sender, guarded by this
+    private volatile long streamId;
+    private volatile boolean streamOpen;
+    private volatile long creditBase;
+    private volatile long announcedLimit;
+    private long nextSequence;
+    /** Records put into the buffer so far. */
+    private long accepted;
+
+    private final TreeMap<Long, List<Record<?>>> heldBack = new TreeMap<>();
+    private int heldBackRecords;
+
+    DirectShuffleInput(String name, DirectShuffleTransport transport, int capacity) {
+        this.name = name;
+        this.transport = transport;
+        this.address = transport.getNodeEngine().getThisAddress();
+        this.capacity = Math.max(1, capacity);
+        this.received = new ArrayBlockingQueue<>(this.capacity);
+        this.grantThreshold = Math.max(1, this.capacity / 2);
+        transport.register(this);
+        transport.getEndpoints().put(name, address);
+    }
+
+    /**
+     * Handles one frame of a sender and returns the credit limit of its stream, or {@link #CLOSED}
+     * if the frame belongs to a stream that was replaced. Runs on an operation thread, so it never
+     * blocks: a sender exceeding its credit fails instead.
+     */
+    synchronized long offer(long stream, long sequence, List<Record<?>> records, Address sender) {
+        if (sequence == HANDSHAKE) {
+            streamId = stream;
+            streamOpen = true;
+            nextSequence = 0;
+            heldBack.clear();
+            heldBackRecords = 0;
+            creditBase = capacity - accepted;
+            announcedLimit = creditLimit();
+            return announcedLimit;
+        }
+        if (!streamOpen || stream != streamId) {
+            return CLOSED;
+        }
+        if (sequence != CREDIT_QUERY) {
+            if (records.size() > received.remainingCapacity() - heldBackRecords) {
+                throw new IllegalStateException(
+                        String.format(
+                                "direct shuffle queue %s received %d records with %d free slots",
+                                name,
+                                records.size(),
+                                received.remainingCapacity() - heldBackRecords));
+            }
+            if (sequence != nextSequence) {
+                heldBack.put(sequence, records);
+                heldBackRecords += records.size();
+            } else {
+                received.addAll(records);
+                accepted += records.size();
+                nextSequence++;
+                List<Record<?>> next;
+                while ((next = heldBack.remove(nextSequence)) != null) {
+                    heldBackRecords -= next.size();
+                    received.addAll(next);
+                    accepted += next.size();
+                    nextSequence++;
+                }
+            }
+        }
+        pendingGrant.set(sender);
+        announcedLimit = creditLimit();
+        return announcedLimit;
+    }
+
+    private long creditLimit() {
+        return creditBase + taken.get();
+    }
+
+    private void onTaken(int count) {
+        taken.addAndGet(count);
+        Address sender = pendingGrant.get();
+        if (sender == null || !streamOpen) {
+            return;
+        }
+        long limit = creditLimit();
+        if (limit - announcedLimit < grantThreshold) {
+            return;
+        }
+        if (pendingGrant.compareAndSet(sender, null)) {
+            announcedLimit = limit;
+            // a lost grant only delays the sender until its next credit query
+            NodeEngineUtil.sendOperationToMemberNode(
+                    transport.getNodeEngine(),
+                    new ShuffleCreditOperation(name, streamId, limit),
+                    sender);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return received.isEmpty();
+    }
+
+    @Override
+    public Record<?> take() throws InterruptedException {
+        Record<?> record = received.take();
+        onTaken(1);
+        return record;
+    }
+
+    @Override
+    public int drainTo(Collection<Record<?>> target, int maxElements) {
+        int drained = received.drainTo(target, maxElements);
+        if (drained > 0) {
+            onTaken(drained);
+        }
+        return drained;
+    }
+
+    @Override
+    public void close() {
+        transport.unregister(this);
+        transport.getEndpoints().remove(name, address);
+        synchronized (this) {
+            streamOpen = false;
+            heldBack.clear();
+            heldBackRecords = 0;
+        }
+        received.clear();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.utils.NodeEngineUtil;
+
+import com.hazelcast.cluster.Address;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInput.CREDIT_QUERY;
+import static org.apache.seatunnel.engine.server.task.shuffle.DirectShuffleInput.HANDSHAKE;
+
+/**
+ * The writing end of a direct shuffle queue. It locates the member of the reading task once that
+ * task has published its endpoint, opens a stream to it with a handshake, and then streams each
+ * batch as numbered frames. Frames are sent without waiting for the answers of the frames before
+ * them, as long as the credit limit granted by the reading end covers their records; the sender
+ * only blocks when the credit is used up. Answers and {@link ShuffleCreditOperation}s raise the
+ * limit as the reading task drains its buffer. A stalled downstream task costs one credit query
+ * per {@link #CREDIT_POLL_MILLIS}, in case a grant got lost, and nothing otherwise.
+ */
+@Slf4j
+class DirectShuffleOutput implements ShuffleOutput {
+
+    private static final long RETRY_INTERVAL_MILLIS = 100;
+    private static final long CREDIT_POLL_MILLIS = 1000;
+
+    @Getter private final String name;
+    private final DirectShuffleTransport transport;
+    private final long endpointTimeoutMillis;
+
+    /** Frames sent to the current target and not known to be answered, in sequence order. */
+    private final Deque<Frame> inFlight = new ArrayDeque<>();
+
+    private final Object creditLock = new Object();
+
+    private Address target;
+    private long streamId;
+    private long nextSequence;
+    /** Records sent in the current stream. */
+    private long sent;
+    /** Records the reading end accepts in the current stream, only grows within a stream. */
+    private volatile long creditLimit;
+
+    DirectShuffleOutput(String name, DirectShuffleTransport transport, long endpointTimeoutMillis) {
+        this.name = name;
+        this.transport = transport;
+        this.endpointTimeoutMillis = endpointTimeoutMillis;
+        transport.register(this);
+    }
+
+    /** Raises the credit limit of the stream, called with the limits pushed by the reading end. */
+    void grant(long stream, long limit) {
+        synchronized (creditLock) {
+            if (stream == streamId && limit > creditLimit) {
+                creditLimit = limit;
+                creditLock.notifyAll();
+            }
+        }
+    }
+
+    @Override
+    public void put(Record<?> record) throws IOException, InterruptedException {
+        putAll(Collections.singletonList(record));
+    }
+
+    @Override
+    public void putAll(Collection<Record<?>> records) throws IOException, InterruptedException {
+        if (records.isEmpty()) {
+            return;
+        }
+        send(records instanceof List ? (List<Record<?>>) records : new ArrayList<>(records));
+    }
+
+    private void send(List<Record<?>> records) throws IOException, InterruptedException {
+        int offset = 0;
+        while (offset < records.size()) {
+            if (target == null) {
+                locate();
+            }
+            if (!removeAnswered()) {
+                // the reading task moved, the frames it did not take go to its new member
+                resend();
+                continue;
+            }
+            long credit = creditLimit - sent;
+            if (credit <= 0) {
+                awaitCredits();
+                continue;
+            }
+            int count = (int) Math.min(credit, records.size() - offset);
+            // the caller reuses its batch, and a frame to the local member is not serialized
+            sendFrame(new ArrayList<>(records.subList(offset, offset + count)));
+            offset += count;
+        }
+    }
+
+    private void sendFrame(List<Record<?>> records) {
+        long stream = streamId;
+        Frame frame = new Frame(records, call(stream, nextSequence++, records));
+        sent += records.size();
+        inFlight.addLast(frame);
+        frame.answer.whenComplete(
+                (limit, error) -> {
+                    if (error == null && limit >= 0) {
+                        grant(stream, limit);
+                    } else {
+                        // wakes the sender up to handle the failure or the lost frame
+                        synchronized (creditLock) {
+                            creditLock.notifyAll();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Drops the answered frames from the head of the frames in flight.
+     *
+     * @return false if a frame was not taken because the reading task is gone
+     */
+    private boolean removeAnswered() throws IOException, InterruptedException {
+        while (!inFlight.isEmpty() && inFlight.peekFirst().answer.isDone()) {
+            if (await(inFlight.peekFirst().answer) < 0) {
+                return false;
+            }
+            inFlight.removeFirst();
+        }
+        return true;
+    }
+
+    /** Sends the frames the previous reading task did not take to the new one. */
+    private void resend() throws IOException, InterruptedException {
+        List<Record<?>> lost = awaitInFlight();
+        target = null;
+        locate();
+        if (!lost.isEmpty()) {
+            send(lost);
+        }
+    }
+
+    /** Waits for the answers of all frames in flight and returns the records not taken. */
+    private List<Record<?>> awaitInFlight() throws IOException, InterruptedException {
+        List<Record<?>> lost = new ArrayList<>();
+        Frame frame;
+        while ((frame = inFlight.pollFirst()) != null) {
+            if (await(frame.answer) < 0) {
+                lost.addAll(frame.records);
+            }
+        }
+        return lost;
+    }
+
+    /** Waits for the reading task to register its queue, for at most the endpoint timeout. */
+    private void locate() throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(endpointTimeoutMillis);
+        for (; ; ) {
+            Address address = transport.getEndpoints().get(name);
+            if (address != null) {
+                target = address;
+                long stream = ThreadLocalRandom.current().nextLong();
+                long limit = await(call(stream, HANDSHAKE, Collections.emptyList()));
+                if (limit >= 0) {
+                    synchronized (creditLock) {
+                        streamId = stream;
+                        creditLimit = limit;
+                    }
+                    nextSequence = 0;
+                    sent = 0;
+                    log.info("direct shuffle queue {} sends to {}", name, address);
+                    return;
+                }
+                // the endpoint is stale, its reading task is gone
+                target = null;
+            }
+            if (System.nanoTime() - deadline > 0) {
+                throw new IOException(
+                        String.format(
+                                "no task of the cluster reads direct shuffle queue %s after %d ms",
+                                name, endpointTimeoutMillis));
+            }
+            Thread.sleep(RETRY_INTERVAL_MILLIS);
+        }
+    }
+
+    private void awaitCredits() throws IOException, InterruptedException {
+        synchronized (creditLock) {
+            if (creditLimit - sent <= 0 && !isHeadAnswered()) {
+                creditLock.wait(CREDIT_POLL_MILLIS);
+            }
+        }
+        if (creditLimit - sent <= 0 && !isHeadAnswered()) {
+            long limit = await(call(streamId, CREDIT_QUERY, Collections.emptyList()));
+            if (limit >= 0) {
+                grant(streamId, limit);
+            } else {
+                resend();
+            }
+        }
+    }
+
+    private boolean isHeadAnswered() {
+        return !inFlight.isEmpty() && inFlight.peekFirst().answer.isDone();
+    }
+
+    private CompletableFuture<Long> call(long stream, long sequence, List<Record<?>> records) {
+        return NodeEngineUtil.sendOperationToMemberNode(
+                transport.getNodeEngine(),
+                new ShuffleFrameOperation(name, stream, sequence, records),
+                target);
+    }
+
+    private long await(CompletableFuture<Long> answer) throws IOException, InterruptedException {
+        try {
+            return answer.get();
+        } catch (ExecutionException e) {
+            throw new IOException("direct shuffle queue " + name + " failed", e.getCause());
+        }
+    }
+
+    /** Waits until the reading end took or refused every frame sent so far. */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (!awaitInFlight().isEmpty()) {
+                log.warn(
+                        "direct shuffle queue {} closed before its reading task took all records",
+                        name);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.clear();
+            transport.unregister(this);
+            target = null;
+            creditLimit = 0;
+            sent = 0;
+        }
+    }
+
+    private static class Frame {
+        private final List<Record<?>> records;
+        private final CompletableFuture<Long> answer;
+
+        private Frame(List<Record<?>> records, CompletableFuture<Long> answer) {
+            this.records = records;
+            this.answer = answer;
+        }
+    }
+}
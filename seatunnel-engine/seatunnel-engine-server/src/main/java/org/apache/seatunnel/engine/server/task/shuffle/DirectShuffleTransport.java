@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.instance.impl.HazelcastInstanceImpl;
+import com.hazelcast.instance.impl.HazelcastInstanceProxy;
+import com.hazelcast.map.IMap;
+import com.hazelcast.spi.impl.NodeEngine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Moves shuffle records straight to the member running the downstream task. The downstream task
+ * publishes the address of its member for each of its queues in {@link
+ * Constant#IMAP_SHUFFLE_ENDPOINTS}, and the upstream task streams its batches there as {@link
+ * ShuffleFrameOperation}s. Records therefore travel over the member connections of the cluster and
+ * share their TLS and security settings, without going through the partition owner of a queue.
+ *
+ * <p>Flow control is credit based: the reading end grants the sender a number of records, which
+ * grows as the downstream task drains its buffer, so a sender never has more than {@link
+ * ShuffleStrategy#getQueueMaxSize()} records buffered per queue. Frames within the credit are sent
+ * without waiting for each other.
+ *
+ * <p>There is one transport per member. It keeps the open ends of the queues of the member, so that
+ * frames and credit grants arriving as operations find them. It only holds them weakly, so an end
+ * that a failed task never closed does not outlive the task.
+ */
+@Slf4j
+public class DirectShuffleTransport implements ShuffleTransport {
+
+    static final long ENDPOINT_TIMEOUT_MILLIS = 60_000;
+
+    private static final String USER_CONTEXT_KEY = DirectShuffleTransport.class.getName();
+
+    @Getter private final NodeEngine nodeEngine;
+    @Getter private final IMap<String, Address> endpoints;
+
+    private final Map<String, WeakReference<DirectShuffleOutput>> outputs =
+            new ConcurrentHashMap<>();
+    private final Map<String, WeakReference<DirectShuffleInput>> inputs =
+            new ConcurrentHashMap<>();
+
+    private DirectShuffleTransport(HazelcastInstance hazelcastInstance) {
+        this.nodeEngine = nodeEngineOf(hazelcastInstance);
+        this.endpoints = hazelcastInstance.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS);
+    }
+
+    /** The transport of the member, shared by all of its tasks. */
+    public static DirectShuffleTransport of(HazelcastInstance hazelcastInstance) {
+        // keyed by member too, members started from the same config may share the user context
+        String key =
+                USER_CONTEXT_KEY
+                        + "/"
+                        + hazelcastInstance.getCluster().getLocalMember().getUuid();
+        return (DirectShuffleTransport)
+                hazelcastInstance
+                        .getUserContext()
+                        .computeIfAbsent(key, k -> new DirectShuffleTransport(hazelcastInstance));
+    }
+
+    @Override
+    public Map<String, ShuffleOutput> createOutputs(
+            ShuffleStrategy strategy, int pipelineId, int inputIndex) {
+        Map<String, ShuffleOutput> outputs = new LinkedHashMap<>();
+        for (String queueName : strategy.getOutputQueueNames(pipelineId, inputIndex)) {
+            outputs.put(
+                    queueName, new DirectShuffleOutput(queueName, this, ENDPOINT_TIMEOUT_MILLIS));
+        }
+        log.info(
+                "pipeline[{}] / reader[{}] assigned direct shuffle list: {}",
+                pipelineId,
+                inputIndex,
+                outputs.keySet());
+        return outputs;
+    }
+
+    @Override
+    public ShuffleInput[] createInputs(ShuffleStrategy strategy, int pipelineId, int targetIndex) {
+        String[] queueNames = strategy.getInputQueueNames(pipelineId, targetIndex);
+        ShuffleInput[] inputs = new ShuffleInput[queueNames.length];
+        for (int i = 0; i < queueNames.length; i++) {
+            inputs[i] = new DirectShuffleInput(queueNames[i], this, strategy.getQueueMaxSize());
+        }
+        log.info(
+                "pipeline[{}] / writer[{}] assigned direct shuffle list: {}",
+                pipelineId,
+                targetIndex,
+                Arrays.asList(queueNames));
+        return inputs;
+    }
+
+    void register(DirectShuffleOutput output) {
+        register(outputs, output.getName(), output);
+    }
+
+    void unregister(DirectShuffleOutput output) {
+        unregister(outputs, output.getName(), output);
+    }
+
+    DirectShuffleOutput lookupOutput(String queueName) {
+        return lookup(outputs, queueName);
+    }
+
+    void register(DirectShuffleInput input) {
+        register(inputs, input.getName(), input);
+    }
+
+    void unregister(DirectShuffleInput input) {
+        unregister(inputs, input.getName(), input);
+    }
+
+    DirectShuffleInput lookupInput(String queueName) {
+        return lookup(inputs, queueName);
+    }
+
+    private static <T> void register(Map<String, WeakReference<T>> ends, String name, T end) {
+        ends.values().removeIf(ref -> ref.get() == null);
+        ends.put(name, new WeakReference<>(end));
+    }
+
+    private static <T> void unregister(Map<String, WeakReference<T>> ends, String name, T end) {
+        ends.computeIfPresent(name, (key, ref) -> ref.get() == end ? null : ref);
+    }
+
+    private static <T> T lookup(Map<String, WeakReference<T>> ends, String name) {
+        WeakReference<T> ref = ends.get(name);
+        return ref == null ? null : ref.get();
+    }
+
+    private static NodeEngine nodeEngineOf(HazelcastInstance hazelcastInstance) {
+        if (hazelcastInstance instanceof HazelcastInstanceProxy) {
+            hazelcastInstance = ((HazelcastInstanceProxy) hazelcastInstance).getOriginal();
+        }
+        return ((HazelcastInstanceImpl) hazelcastInstance).node.getNodeEngine();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import lombok.AllArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Moves shuffle records through Hazelcast {@link IQueue}s. */
+@AllArgsConstructor
+public class IQueueShuffleTransport implements ShuffleTransport {
+
+    private final HazelcastInstance hazelcastInstance;
+
+    @Override
+    public Map<String, ShuffleOutput> createOutputs(
+            ShuffleStrategy strategy, int pipelineId, int inputIndex) {
+        Map<String, ShuffleOutput> outputs = new LinkedHashMap<>();
+        strategy.createShuffles(hazelcastInstance, pipelineId, inputIndex)
+                .forEach((name, queue) -> outputs.put(name, new IQueueShuffleOutput(queue)));
+        return outputs;
+    }
+
+    @Override
+    public ShuffleInput[] createInputs(ShuffleStrategy strategy, int pipelineId, int targetIndex) {
+        IQueue<Record<?>>[] queues =
+                strategy.getShuffles(hazelcastInstance, pipelineId, targetIndex);
+        ShuffleInput[] inputs = new ShuffleInput[queues.length];
+        for (int i = 0; i < queues.length; i++) {
+            inputs[i] = new IQueueShuffleInput(queues[i]);
+        }
+        return inputs;
+    }
+
+    @AllArgsConstructor
+    private static class IQueueShuffleOutput implements ShuffleOutput {
+        private final IQueue<Record<?>> queue;
+
+        @Override
+        public String getName() {
+            return queue.getName();
+        }
+
+        @Override
+        public void put(Record<?> record) throws InterruptedException {
+            queue.put(record);
+        }
+
+        /**
+         * Adds the records in as few {@code addAll} calls as the capacity of the queue allows. The
+         * queue rejects a batch larger than its remaining capacity as a whole, so the batch is cut
+         * to the remaining capacity. When the queue is full, a blocking put of the next record
+         * waits for room, and the rest is added as a batch again.
+         */
+        @Override
+        public void putAll(Collection<Record<?>> records) throws InterruptedException {
+            List<Record<?>> remaining =
+                    records instanceof List
+                            ? (List<Record<?>>) records
+                            : new ArrayList<>(records);
+            int offset = 0;
+            while (offset < remaining.size()) {
+                int batchSize = Math.min(queue.remainingCapacity(), remaining.size() - offset);
+                if (batchSize > 0 && queue.addAll(remaining.subList(offset, offset + batchSize))) {
+                    offset += batchSize;
+                } else {
+                    queue.put(remaining.get(offset++));
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            queue.destroy();
+        }
+    }
+
+    @AllArgsConstructor
+    private static class IQueueShuffleInput implements ShuffleInput {
+        private final IQueue<Record<?>> queue;
+
+        @Override
+        public String getName() {
+            return queue.getName();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.size() == 0;
+        }
+
+        @Override
+        public Record<?> take() throws InterruptedException {
+            return queue.take();
+        }
+
+        @Override
+        public int drainTo(Collection<Record<?>> target, int maxElements) {
+            return queue.drainTo(target, maxElements);
+        }
+
+        @Override
+        public void close() {
+            queue.destroy();
+        }
+    }
+}
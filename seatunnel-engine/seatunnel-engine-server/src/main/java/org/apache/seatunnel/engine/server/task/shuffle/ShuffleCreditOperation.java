@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+
+/**
+ * Sent by the downstream task of a direct shuffle queue to the member of the upstream task when the
+ * credit limit of the stream grew by half of the queue since the sender last heard of it. It raises
+ * the limit of the sender and wakes it up if it ran out of credit.
+ */
+public class ShuffleCreditOperation extends Operation implements IdentifiedDataSerializable {
+
+    private String queueName;
+
+    private long streamId;
+
+    private long creditLimit;
+
+    public ShuffleCreditOperation() {}
+
+    public ShuffleCreditOperation(String queueName, long streamId, long creditLimit) {
+        this.queueName = queueName;
+        this.streamId = streamId;
+        this.creditLimit = creditLimit;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DirectShuffleOutput output =
+                DirectShuffleTransport.of(getNodeEngine().getHazelcastInstance())
+                        .lookupOutput(queueName);
+        if (output != null) {
+            output.grant(streamId, creditLimit);
+        }
+    }
+
+    @Override
+    public boolean returnsResponse() {
+        return false;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(queueName);
+        out.writeLong(streamId);
+        out.writeLong(creditLimit);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        queueName = in.readString();
+        streamId = in.readLong();
+        creditLimit = in.readLong();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_CREDIT_OPERATION;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.engine.server.serializable.TaskDataSerializerHook;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.spi.impl.operationservice.Operation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A frame of records sent by the upstream task of a direct shuffle queue to the member of the
+ * downstream task. Frames carry the stream of the sender and their sequence number in it; the
+ * sequence numbers {@link DirectShuffleInput#HANDSHAKE} and {@link DirectShuffleInput#CREDIT_QUERY}
+ * mark frames without records that open a stream or only ask for credits. The response is the
+ * credit limit of the stream, or {@code -1} if no task of the member reads the queue in that
+ * stream.
+ */
+public class ShuffleFrameOperation extends Operation implements IdentifiedDataSerializable {
+
+    private String queueName;
+
+    private long streamId;
+
+    private long sequence;
+
+    private List<Record<?>> records;
+
+    private long response;
+
+    public ShuffleFrameOperation() {}
+
+    public ShuffleFrameOperation(
+            String queueName, long streamId, long sequence, List<Record<?>> records) {
+        this.queueName = queueName;
+        this.streamId = streamId;
+        this.sequence = sequence;
+        this.records = records;
+    }
+
+    @Override
+    public void run() throws Exception {
+        DirectShuffleInput input =
+                DirectShuffleTransport.of(getNodeEngine().getHazelcastInstance())
+                        .lookupInput(queueName);
+        response =
+                input == null
+                        ? DirectShuffleInput.CLOSED
+                        : input.offer(streamId, sequence, records, getCallerAddress());
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeString(queueName);
+        out.writeLong(streamId);
+        out.writeLong(sequence);
+        out.writeInt(records.size());
+        for (Record<?> record : records) {
+            out.writeObject(record);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        queueName = in.readString();
+        streamId = in.readLong();
+        sequence = in.readLong();
+        int size = in.readInt();
+        records = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            records.add(in.readObject());
+        }
+    }
+
+    @Override
+    public int getFactoryId() {
+        return TaskDataSerializerHook.FACTORY_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return TaskDataSerializerHook.SHUFFLE_FRAME_OPERATION;
+    }
+}
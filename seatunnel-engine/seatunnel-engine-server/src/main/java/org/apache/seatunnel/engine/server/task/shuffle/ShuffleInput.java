@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+
+/** The reading end of a shuffle queue, owned by one downstream task. */
+public interface ShuffleInput extends Closeable {
+
+    String getName();
+
+    boolean isEmpty() throws IOException;
+
+    /** Takes the next record, blocking until one arrives. */
+    Record<?> take() throws IOException, InterruptedException;
+
+    /** Moves at most {@code maxElements} received records into {@code target}. */
+    int drainTo(Collection<Record<?>> target, int maxElements) throws IOException;
+}
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.env.ShuffleTransportType;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleConfig;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import com.hazelcast.core.HazelcastInstance;
+
+import java.util.Map;
+
+/** Creates the queues a shuffle moves its records through. */
+public interface ShuffleTransport {
+
+    /** The outputs of the upstream task {@code inputIndex}, keyed by queue name. */
+    Map<String, ShuffleOutput> createOutputs(
+            ShuffleStrategy strategy, int pipelineId, int inputIndex);
+
+    /** The inputs of the downstream task {@code targetIndex}, one for each upstream task. */
+    ShuffleInput[] createInputs(ShuffleStrategy strategy, int pipelineId, int targetIndex);
+
+    static ShuffleTransport of(ShuffleConfig config, HazelcastInstance hazelcastInstance) {
+        if (config.getTransport() == ShuffleTransportType.DIRECT) {
+            return DirectShuffleTransport.of(hazelcastInstance);
+        }
+        return new IQueueShuffleTransport(hazelcastInstance);
+    }
+}
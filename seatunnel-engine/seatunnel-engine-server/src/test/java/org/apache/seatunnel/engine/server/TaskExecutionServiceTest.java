@@ -20,6 +20,7 @@ package org.apache.seatunnel.engine.server;
 import org.apache.seatunnel.engine.server.execution.BlockTask;
 import org.apache.seatunnel.engine.server.execution.ExceptionTestTask;
 import org.apache.seatunnel.engine.server.execution.FixedCallTestTimeTask;
+import org.apache.seatunnel.engine.server.execution.IdleTestTask;
 import org.apache.seatunnel.engine.server.execution.StopTimeTestTask;
 import org.apache.seatunnel.engine.server.execution.Task;
 import org.apache.seatunnel.engine.server.execution.TaskExecutionState;
@@ -263,6 +264,74 @@ public class TaskExecutionServiceTest extends AbstractSeaTunnelServerTest {
                 .untilAsserted(() -> assertEquals(FINISHED, taskCts.get().getExecutionState()));
     }
 
+    @Test
+    public void testIdleTaskResumesOnSignal() {
+        TaskExecutionService taskExecutionService = server.getTaskExecutionService();
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        // idle far longer than the test, only a signal can resume them
+        IdleTestTask parkedTask = new IdleTestTask(stop, 600_000, true);
+        IdleTestTask awaitingTask = new IdleTestTask(stop, 600_000, false);
+
+        CompletableFuture<TaskExecutionState> completableFuture =
+                taskExecutionService.deployLocalTask(
+                        new TaskGroupDefaultImpl(
+                                new TaskGroupLocation(
+                                        jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()),
+                                "ts",
+                                Lists.newArrayList(parkedTask, awaitingTask)));
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> {
+                            assertTrue(parkedTask.getReadiness().isIdle());
+                            assertTrue(awaitingTask.getReadiness().isIdle());
+                        });
+        int parkedCalls = parkedTask.getCalls();
+        int awaitingCalls = awaitingTask.getCalls();
+
+        // like a split assigned to an idle reader
+        stop.set(true);
+        parkedTask.getReadiness().signal();
+        awaitingTask.getReadiness().signal();
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> assertEquals(FINISHED, completableFuture.get().getExecutionState()));
+        assertEquals(parkedCalls + 1, parkedTask.getCalls());
+        assertEquals(awaitingCalls + 1, awaitingTask.getCalls());
+    }
+
+    @Test
+    public void testCancelIdleTask() {
+        TaskExecutionService taskExecutionService = server.getTaskExecutionService();
+
+        AtomicBoolean stop = new AtomicBoolean(false);
+        IdleTestTask parkedTask = new IdleTestTask(stop, 600_000, true);
+        IdleTestTask awaitingTask = new IdleTestTask(stop, 600_000, false);
+
+        TaskGroupDefaultImpl ts =
+                new TaskGroupDefaultImpl(
+                        new TaskGroupLocation(jobId, pipeLineId, FLAKE_ID_GENERATOR.newId()),
+                        "ts",
+                        Lists.newArrayList(parkedTask, awaitingTask));
+        CompletableFuture<TaskExecutionState> completableFuture =
+                taskExecutionService.deployLocalTask(ts);
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> {
+                            assertTrue(parkedTask.getReadiness().isIdle());
+                            assertTrue(awaitingTask.getReadiness().isIdle());
+                        });
+
+        taskExecutionService.cancelTaskGroup(ts.getTaskGroupLocation());
+
+        await().atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(
+                        () -> assertEquals(CANCELED, completableFuture.get().getExecutionState()));
+    }
+
     @RepeatedTest(2)
     @Disabled(
             "As we have more and more test cases the test the load of the test container will up, the test case may failed")
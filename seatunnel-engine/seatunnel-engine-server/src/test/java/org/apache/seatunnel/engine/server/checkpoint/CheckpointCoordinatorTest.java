@@ -17,6 +17,10 @@
 
 package org.apache.seatunnel.engine.server.checkpoint;
 
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.JobMetrics;
+import org.apache.seatunnel.api.common.metrics.Measurement;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
 import org.apache.seatunnel.engine.checkpoint.storage.exception.CheckpointStorageException;
 import org.apache.seatunnel.engine.common.config.server.CheckpointConfig;
 import org.apache.seatunnel.engine.common.config.server.CheckpointStorageConfig;
@@ -25,11 +29,15 @@ import org.apache.seatunnel.engine.server.AbstractSeaTunnelServerTest;
 import org.apache.seatunnel.engine.server.checkpoint.operation.TaskAcknowledgeOperation;
 import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
 import org.apache.seatunnel.engine.server.execution.TaskLocation;
+import org.apache.seatunnel.engine.server.metrics.JobMetricsUtil;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.apache.seatunnel.engine.common.Constant.IMAP_RUNNING_JOB_STATE;
@@ -60,4 +68,47 @@ public class CheckpointCoordinatorTest
                                 999, System.currentTimeMillis(), CheckpointType.CHECKPOINT_TYPE),
                         new ArrayList<>()));
     }
+
+    @Test
+    void testCheckpointDurationMetrics() throws CheckpointStorageException {
+        CheckpointConfig checkpointConfig = new CheckpointConfig();
+        checkpointConfig.setStorage(new CheckpointStorageConfig());
+        Map<Integer, CheckpointPlan> planMap = new HashMap<>();
+        planMap.put(1, CheckpointPlan.builder().pipelineId(1).build());
+        CheckpointManager checkpointManager =
+                new CheckpointManager(
+                        2L,
+                        false,
+                        nodeEngine,
+                        null,
+                        planMap,
+                        checkpointConfig,
+                        instance.getExecutorService("test"),
+                        nodeEngine.getHazelcastInstance().getMap(IMAP_RUNNING_JOB_STATE));
+        Histogram duration =
+                checkpointManager
+                        .getCheckpointCoordinator(1)
+                        .getMetricsContext()
+                        .histogram(MetricNames.CHECKPOINT_DURATION);
+        for (long i = 1; i <= 100; i++) {
+            duration.update(i);
+        }
+
+        JobMetrics jobMetrics =
+                JobMetricsUtil.toJobMetrics(
+                        Collections.singletonList(
+                                checkpointManager.getCheckpointMetrics(
+                                        Collections.singletonList(1))));
+        List<Measurement> count = jobMetrics.get(MetricNames.CHECKPOINT_DURATION + "Count");
+        Assertions.assertEquals(1, count.size());
+        Assertions.assertEquals(100L, count.get(0).value());
+        Assertions.assertEquals("2", count.get(0).tag("jobId"));
+        Assertions.assertEquals("1", count.get(0).tag("pipelineId"));
+        Assertions.assertEquals(
+                1L, jobMetrics.get(MetricNames.CHECKPOINT_DURATION + "Min").get(0).value());
+        Assertions.assertEquals(
+                100L, jobMetrics.get(MetricNames.CHECKPOINT_DURATION + "Max").get(0).value());
+        Assertions.assertEquals(
+                95L, jobMetrics.get(MetricNames.CHECKPOINT_DURATION + "P95").get(0).value());
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.checkpoint;
+
+import org.apache.seatunnel.engine.checkpoint.storage.PipelineState;
+import org.apache.seatunnel.engine.checkpoint.storage.api.CheckpointStorage;
+import org.apache.seatunnel.engine.checkpoint.storage.constants.StorageConstants;
+import org.apache.seatunnel.engine.checkpoint.storage.localfile.LocalFileStorage;
+import org.apache.seatunnel.engine.core.checkpoint.CheckpointType;
+import org.apache.seatunnel.engine.serializer.protobuf.ProtoStuffSerializer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class IncrementalCheckpointStoreTest {
+
+    private static final ActionStateKey STATE_KEY = new ActionStateKey("test-action");
+
+    @TempDir Path tempDir;
+
+    private CheckpointStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> config = new HashMap<>();
+        config.put(StorageConstants.STORAGE_NAME_SPACE, tempDir.toString() + "/");
+        storage = new LocalFileStorage(config);
+    }
+
+    @Test
+    void testCutPointsAreContentDefined() {
+        byte[] data = randomBytes(1024 * 1024, 1);
+        List<Integer> cutPoints = IncrementalCheckpointStore.cutPoints(data);
+        Assertions.assertEquals(data.length, cutPoints.get(cutPoints.size() - 1));
+        int start = 0;
+        for (int end : cutPoints) {
+            Assertions.assertTrue(end - start <= IncrementalCheckpointStore.MAX_CHUNK_SIZE);
+            start = end;
+        }
+
+        // inserting bytes only moves the cut points after the insertion
+        byte[] inserted = insert(data, 700 * 1024, new byte[100]);
+        List<Integer> shifted = IncrementalCheckpointStore.cutPoints(inserted);
+        Assertions.assertTrue(shifted.contains(cutPoints.get(0)));
+        Assertions.assertTrue(shifted.contains(cutPoints.get(cutPoints.size() - 2) + 100));
+    }
+
+    @Test
+    void testStoreOnlyChangedChunks() throws Exception {
+        IncrementalCheckpointStore store =
+                new IncrementalCheckpointStore(storage, new ProtoStuffSerializer());
+        byte[] state = randomBytes(1024 * 1024, 2);
+        byte[] changedState = insert(state, 500 * 1024, new byte[] {1, 2, 3});
+        byte[] smallState = new byte[] {4, 5, 6};
+
+        store.store(checkpoint(1, state, smallState));
+        store.store(checkpoint(2, changedState, smallState));
+
+        PipelineState first = storage.getCheckpoint("1", "1", "1");
+        PipelineState second = storage.getCheckpoint("1", "1", "2");
+        Assertions.assertTrue(IncrementalCheckpointStore.isIncremental(second.getStates()));
+        Assertions.assertTrue(first.getStates().length > state.length);
+        Assertions.assertTrue(second.getStates().length < state.length / 2);
+
+        CompletedCheckpoint restored =
+                new IncrementalCheckpointStore(storage, new ProtoStuffSerializer()).restore(second);
+        Assertions.assertEquals(2, restored.getCheckpointId());
+        ActionState actionState = restored.getTaskStates().get(STATE_KEY);
+        Assertions.assertEquals(2, actionState.getParallelism());
+        Assertions.assertArrayEquals(
+                changedState, actionState.getSubtaskStates().get(0).getState().get(0));
+        Assertions.assertArrayEquals(
+                smallState, actionState.getSubtaskStates().get(0).getState().get(1));
+        Assertions.assertNull(actionState.getSubtaskStates().get(1));
+        Assertions.assertArrayEquals(
+                smallState, actionState.getCoordinatorState().getState().get(0));
+    }
+
+    @Test
+    void testReleaseReferencedCheckpoints() throws Exception {
+        IncrementalCheckpointStore store =
+                new IncrementalCheckpointStore(storage, new ProtoStuffSerializer());
+        byte[] state = randomBytes(512 * 1024, 3);
+        store.store(checkpoint(1, state, state));
+        store.store(checkpoint(2, state, state));
+
+        // the chunks of checkpoint 1 are still used by checkpoint 2
+        Assertions.assertEquals(
+                Collections.emptyList(), store.release(Collections.singletonList("1")));
+        List<String> deletable = store.release(Collections.singletonList("2"));
+        Collections.sort(deletable);
+        Assertions.assertEquals(Arrays.asList("1", "2"), deletable);
+
+        // the released chunks are not referenced anymore
+        store.store(checkpoint(3, state, state));
+        Assertions.assertTrue(
+                storage.getCheckpoint("1", "1", "3").getStates().length > state.length);
+    }
+
+    @Test
+    void testReleaseRestoredCheckpoints() throws Exception {
+        byte[] state = randomBytes(512 * 1024, 5);
+        byte[] otherState = randomBytes(512 * 1024, 6);
+        IncrementalCheckpointStore store =
+                new IncrementalCheckpointStore(storage, new ProtoStuffSerializer());
+        store.store(checkpoint(1, state, state));
+        store.store(checkpoint(2, state, state));
+
+        // first restart, the new checkpoint still uses the chunks of checkpoint 1
+        store = new IncrementalCheckpointStore(storage, new ProtoStuffSerializer());
+        store.restore(storage.getCheckpoint("1", "1", "2"));
+        store.store(checkpoint(3, state, state));
+        deleteReleased(store.releaseRestored());
+        Assertions.assertEquals(Arrays.asList(1L, 3L), checkpointIds());
+
+        // second restart, the new checkpoint uses none of the restored chunks
+        store = new IncrementalCheckpointStore(storage, new ProtoStuffSerializer());
+        store.restore(storage.getCheckpoint("1", "1", "3"));
+        store.store(checkpoint(4, otherState, otherState));
+        deleteReleased(store.releaseRestored());
+        Assertions.assertEquals(Collections.singletonList(4L), checkpointIds());
+        Assertions.assertEquals(Collections.emptyList(), store.releaseRestored());
+
+        CompletedCheckpoint restored =
+                new IncrementalCheckpointStore(storage, new ProtoStuffSerializer())
+                        .restore(storage.getCheckpoint("1", "1", "4"));
+        Assertions.assertArrayEquals(
+                otherState,
+                restored.getTaskStates()
+                        .get(STATE_KEY)
+                        .getSubtaskStates()
+                        .get(0)
+                        .getState()
+                        .get(0));
+    }
+
+    @Test
+    void testRestoreFullCheckpoint() throws Exception {
+        ProtoStuffSerializer serializer = new ProtoStuffSerializer();
+        byte[] state = randomBytes(1024, 4);
+        PipelineState pipelineState =
+                PipelineState.builder()
+                        .jobId("1")
+                        .pipelineId(1)
+                        .checkpointId(1)
+                        .states(serializer.serialize(checkpoint(1, state, state)))
+                        .build();
+        Assertions.assertFalse(IncrementalCheckpointStore.isIncremental(pipelineState.getStates()));
+
+        CompletedCheckpoint restored =
+                new IncrementalCheckpointStore(storage, serializer).restore(pipelineState);
+        Assertions.assertArrayEquals(
+                state,
+                restored.getTaskStates()
+                        .get(STATE_KEY)
+                        .getSubtaskStates()
+                        .get(0)
+                        .getState()
+                        .get(0));
+    }
+
+    private void deleteReleased(List<String> checkpointIds) throws Exception {
+        if (!checkpointIds.isEmpty()) {
+            storage.deleteCheckpoint("1", "1", checkpointIds);
+        }
+    }
+
+    private List<Long> checkpointIds() throws Exception {
+        return storage.getAllCheckpoints("1").stream()
+                .map(PipelineState::getCheckpointId)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    private static CompletedCheckpoint checkpoint(
+            long checkpointId, byte[] state, byte[] smallState) {
+        ActionState actionState = new ActionState(STATE_KEY, 2);
+        actionState.reportState(
+                0, new ActionSubtaskState(STATE_KEY, 0, Arrays.asList(state, smallState)));
+        actionState.reportState(
+                -1, new ActionSubtaskState(STATE_KEY, -1, Collections.singletonList(smallState)));
+        Map<ActionStateKey, ActionState> taskStates = new HashMap<>();
+        taskStates.put(STATE_KEY, actionState);
+        Map<Long, TaskStatistics> taskStatistics = new HashMap<>();
+        taskStatistics.put(1L, new TaskStatistics(1L, 2));
+        return new CompletedCheckpoint(
+                1,
+                1,
+                checkpointId,
+                System.currentTimeMillis(),
+                CheckpointType.CHECKPOINT_TYPE,
+                System.currentTimeMillis(),
+                taskStates,
+                taskStatistics);
+    }
+
+    private static byte[] randomBytes(int length, long seed) {
+        byte[] data = new byte[length];
+        new Random(seed).nextBytes(data);
+        return data;
+    }
+
+    private static byte[] insert(byte[] data, int offset, byte[] inserted) {
+        byte[] result = new byte[data.length + inserted.length];
+        System.arraycopy(data, 0, result, 0, offset);
+        System.arraycopy(inserted, 0, result, offset, inserted.length);
+        System.arraycopy(data, offset, result, offset + inserted.length, data.length - offset);
+        return result;
+    }
+}
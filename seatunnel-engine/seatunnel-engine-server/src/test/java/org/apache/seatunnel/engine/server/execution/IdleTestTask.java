@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** For test use, marks itself idle after every call until it is stopped */
+public class IdleTestTask implements Task {
+
+    private final TaskReadiness readiness = new TaskReadiness();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicBoolean stop;
+    private final long idleMillis;
+    private final boolean isThreadsShare;
+
+    public IdleTestTask(AtomicBoolean stop, long idleMillis, boolean isThreadsShare) {
+        this.stop = stop;
+        this.idleMillis = idleMillis;
+        this.isThreadsShare = isThreadsShare;
+    }
+
+    @NonNull @Override
+    public ProgressState call() {
+        calls.incrementAndGet();
+        if (stop.get()) {
+            return ProgressState.DONE;
+        }
+        readiness.idle(idleMillis);
+        return ProgressState.NO_PROGRESS;
+    }
+
+    public int getCalls() {
+        return calls.get();
+    }
+
+    @Override
+    public TaskReadiness getReadiness() {
+        return readiness;
+    }
+
+    @NonNull @Override
+    public Long getTaskID() {
+        return (long) this.hashCode();
+    }
+
+    @Override
+    public boolean isThreadsShare() {
+        return isThreadsShare;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time from a record arriving at an empty source until the task emits it, i.e. the
+ * end-to-end latency of a sparse stream. {@code SLEEP} is a task that sleeps whenever a poll came
+ * back empty, {@code PARK} is a cooperative task that marks itself idle with {@link TaskReadiness}
+ * and is resumed by the producer's signal.
+ *
+ * <p>Run with {@code java -cp <test classpath>
+ * org.apache.seatunnel.engine.server.execution.SparseStreamLatencyBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class SparseStreamLatencyBenchmark {
+
+    private static final long MAX_IDLE_MILLIS = 100;
+
+    @Param({"SLEEP", "PARK"})
+    private String mode;
+
+    private ConcurrentLinkedQueue<CompletableFuture<Void>> source;
+    private TaskReadiness readiness;
+    private ExecutorService worker;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    @Setup
+    public void setup() {
+        source = new ConcurrentLinkedQueue<>();
+        readiness = new TaskReadiness();
+        worker = Executors.newSingleThreadExecutor();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        running = true;
+        worker.execute("SLEEP".equals(mode) ? this::sleepingTask : this::parkingTask);
+    }
+
+    @TearDown
+    public void tearDown() {
+        running = false;
+        readiness.signal();
+        worker.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    private void sleepingTask() {
+        while (running) {
+            CompletableFuture<Void> record = source.poll();
+            if (record != null) {
+                record.complete(null);
+                continue;
+            }
+            try {
+                Thread.sleep(MAX_IDLE_MILLIS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void parkingTask() {
+        while (running) {
+            CompletableFuture<Void> record = source.poll();
+            if (record != null) {
+                record.complete(null);
+                continue;
+            }
+            readiness.idle(MAX_IDLE_MILLIS);
+            if (!source.isEmpty()) {
+                readiness.clear();
+                continue;
+            }
+            if (readiness.park(() -> worker.execute(this::parkingTask), scheduler)) {
+                return;
+            }
+        }
+    }
+
+    @Benchmark
+    public void emitSparseRecord() {
+        CompletableFuture<Void> record = new CompletableFuture<>();
+        source.offer(record);
+        if (readiness.isIdle()) {
+            readiness.signal();
+        }
+        record.join();
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(SparseStreamLatencyBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
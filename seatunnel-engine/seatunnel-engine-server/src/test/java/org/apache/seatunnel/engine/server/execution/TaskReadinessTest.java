@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.execution;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TaskReadinessTest {
+
+    private ScheduledExecutorService scheduler;
+
+    @BeforeEach
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testSignalBeforeParkIsNotLost() {
+        TaskReadiness readiness = new TaskReadiness();
+        AtomicInteger resumed = new AtomicInteger();
+
+        readiness.idle(60_000);
+        readiness.signal();
+
+        // the caller keeps the task, nothing is left to resume it
+        Assertions.assertFalse(readiness.park(resumed::incrementAndGet, scheduler));
+        Assertions.assertFalse(readiness.isIdle());
+        Assertions.assertEquals(0, resumed.get());
+    }
+
+    @Test
+    public void testSignalRacingParkResumesOnce() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            TaskReadiness readiness = new TaskReadiness();
+            AtomicInteger resumed = new AtomicInteger();
+            readiness.idle(60_000);
+
+            CountDownLatch start = new CountDownLatch(1);
+            Thread signaller =
+                    new Thread(
+                            () -> {
+                                try {
+                                    start.await();
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                readiness.signal();
+                            });
+            signaller.start();
+            start.countDown();
+            boolean parked = readiness.park(resumed::incrementAndGet, scheduler);
+            signaller.join();
+
+            // either the worker kept the task or the signal resumed it, exactly once
+            Assertions.assertEquals(parked ? 1 : 0, resumed.get());
+            Assertions.assertFalse(readiness.isIdle());
+        }
+    }
+
+    @Test
+    public void testSignalBeforeAwaitDoesNotBlock() {
+        TaskReadiness readiness = new TaskReadiness();
+        readiness.idle(60_000);
+        readiness.signal();
+
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(5), readiness::await);
+    }
+
+    @Test
+    public void testSplitAssignmentResumesIdleTask() {
+        TaskReadiness readiness = new TaskReadiness();
+        AtomicInteger resumed = new AtomicInteger();
+
+        // markIdle of a reader without splits, then the enumerator assigns one
+        readiness.idle(60_000);
+        Assertions.assertTrue(readiness.park(resumed::incrementAndGet, scheduler));
+        Assertions.assertEquals(0, resumed.get());
+        readiness.signal();
+
+        Assertions.assertEquals(1, resumed.get());
+        Assertions.assertFalse(readiness.isIdle());
+        // a second split does not put the task into the queue twice
+        readiness.signal();
+        Assertions.assertEquals(1, resumed.get());
+    }
+
+    @Test
+    public void testSplitAssignmentWakesAwaitingTask() throws Exception {
+        TaskReadiness readiness = new TaskReadiness();
+        readiness.idle(60_000);
+        CountDownLatch woken = new CountDownLatch(1);
+        Thread worker =
+                new Thread(
+                        () -> {
+                            try {
+                                readiness.await();
+                                woken.countDown();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+        worker.start();
+
+        Assertions.assertFalse(woken.await(100, TimeUnit.MILLISECONDS));
+        readiness.signal();
+        Assertions.assertTrue(woken.await(5, TimeUnit.SECONDS));
+        worker.join();
+    }
+
+    @Test
+    public void testIdleTimeoutResumesParkedTask() throws Exception {
+        TaskReadiness readiness = new TaskReadiness();
+        CountDownLatch resumed = new CountDownLatch(1);
+
+        readiness.idle(50);
+        Assertions.assertTrue(readiness.park(resumed::countDown, scheduler));
+
+        Assertions.assertTrue(resumed.await(5, TimeUnit.SECONDS));
+        Assertions.assertFalse(readiness.isIdle());
+    }
+
+    @Test
+    public void testInterruptWhileAwaiting() throws Exception {
+        TaskReadiness readiness = new TaskReadiness();
+        readiness.idle(60_000);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Thread worker =
+                new Thread(
+                        () -> {
+                            try {
+                                readiness.await();
+                            } catch (InterruptedException e) {
+                                interrupted.countDown();
+                            }
+                        });
+        worker.start();
+
+        // cancelling a blocking task interrupts its thread
+        worker.interrupt();
+        Assertions.assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        worker.join();
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.flowcontrol;
+
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.execution.TaskGroupLocation;
+import org.apache.seatunnel.engine.server.execution.TaskLocation;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class JobFlowControllerTest {
+
+    private static final TaskLocation READER_1 =
+            new TaskLocation(new TaskGroupLocation(1, 1, 1), 1, 0);
+
+    private static final TaskLocation READER_2 =
+            new TaskLocation(new TaskGroupLocation(1, 1, 2), 1, 1);
+
+    @Test
+    public void testLeaseIsLimitedByRate() {
+        TokenBucket bucket = new TokenBucket(1000, 0);
+        Assertions.assertEquals(500, bucket.getCapacity());
+        Assertions.assertEquals(500, bucket.lease(READER_1, 800, 0));
+        Assertions.assertEquals(0, bucket.lease(READER_1, 100, 0));
+        Assertions.assertEquals(100, bucket.retryAfterMillis(100, 0));
+
+        long later = TimeUnit.MILLISECONDS.toNanos(100);
+        Assertions.assertEquals(100, bucket.lease(READER_1, 800, later));
+    }
+
+    @Test
+    public void testIdleReaderGivesItsShareToBusyReaders() {
+        TokenBucket bucket = new TokenBucket(1000, 0);
+        Assertions.assertEquals(100, bucket.lease(READER_1, 100, 0));
+        Assertions.assertEquals(250, bucket.lease(READER_2, 400, 0));
+        Assertions.assertEquals(2, bucket.activeReaders(0));
+
+        bucket.giveBack(READER_1, 60, 0);
+        Assertions.assertEquals(1, bucket.activeReaders(0));
+        Assertions.assertEquals(210, bucket.lease(READER_2, 400, 0));
+
+        // a reader that stopped leasing is not counted after the idle timeout
+        long later = TokenBucket.IDLE_TIMEOUT_NANOS * 2;
+        bucket.lease(READER_1, 1, 0);
+        bucket.lease(READER_2, 1, later);
+        Assertions.assertEquals(1, bucket.activeReaders(later));
+    }
+
+    @Test
+    public void testController() {
+        Assertions.assertNull(
+                JobFlowController.create(
+                        Collections.singletonMap("read_limit.rows_per_second", 10), 0));
+
+        Map<String, Object> env = new HashMap<>();
+        env.put("read_limit.scope", "job");
+        Assertions.assertNull(JobFlowController.create(env, 0));
+        env.put("read_limit.rows_per_second", "100");
+        JobFlowController controller = JobFlowController.create(env, 0);
+        Assertions.assertNotNull(controller);
+
+        FlowControlLease lease = controller.lease(READER_1, 80, 1000, 0);
+        Assertions.assertEquals(50, lease.getRows());
+        // bytes are not limited, nothing is granted nor needed
+        Assertions.assertEquals(0, lease.getBytes());
+        Assertions.assertEquals(300, lease.getRetryAfterMillis());
+    }
+
+    @Test
+    public void testGateLeasesInBatches() {
+        TokenBucket rows = new TokenBucket(1000, 0);
+        int[] leases = new int[1];
+        long[] released = new long[1];
+        ClusterFlowControlGate gate =
+                new ClusterFlowControlGate(
+                        FlowControlStrategy.ofCount(1000),
+                        2,
+                        new ClusterFlowControlGate.TokenLessor() {
+                            @Override
+                            public CompletableFuture<FlowControlLease> lease(
+                                    long rowCount, long bytes) {
+                                leases[0]++;
+                                return CompletableFuture.completedFuture(
+                                        new FlowControlLease(
+                                                rows.lease(READER_1, rowCount, 0), 0, 0));
+                            }
+
+                            @Override
+                            public void release(long unusedRows, long unusedBytes) {
+                                released[0] += unusedRows;
+                                rows.giveBack(READER_1, unusedRows, 0);
+                            }
+                        });
+        for (int i = 0; i < 250; i++) {
+            gate.audit(100);
+        }
+        // a batch is a tenth of the limit, the first lease also pays for the first row and the
+        // next batch is requested once half of the current one is spent
+        Assertions.assertEquals(3, leases[0]);
+
+        gate.release();
+        Assertions.assertEquals(51, released[0]);
+        gate.release();
+        Assertions.assertEquals(51, released[0]);
+    }
+
+    @Test
+    public void testGatePrefetchesTheNextLease() {
+        List<CompletableFuture<FlowControlLease>> leases = new ArrayList<>();
+        ClusterFlowControlGate gate =
+                new ClusterFlowControlGate(FlowControlStrategy.ofCount(1000), 1, lessor(leases));
+        CompletableFuture<FlowControlLease> first = new CompletableFuture<>();
+        first.complete(new FlowControlLease(101, 0, 0));
+        leases.add(first);
+
+        for (int i = 0; i < 60; i++) {
+            gate.audit(100);
+        }
+        // the second batch is requested in the background, the rows do not wait for it
+        Assertions.assertEquals(2, leases.size());
+        Assertions.assertFalse(leases.get(1).isDone());
+
+        leases.get(1).complete(new FlowControlLease(100, 0, 0));
+        for (int i = 0; i < 100; i++) {
+            gate.audit(100);
+        }
+        Assertions.assertEquals(3, leases.size());
+        Assertions.assertFalse(gate.isFallback());
+    }
+
+    @Test
+    public void testGateFallsBackWhenTheMasterDoesNotAnswer() {
+        List<CompletableFuture<FlowControlLease>> leases = new ArrayList<>();
+        ClusterFlowControlGate gate =
+                new ClusterFlowControlGate(
+                        FlowControlStrategy.ofCount(100_000), 1, lessor(leases), 50);
+
+        long start = System.nanoTime();
+        gate.audit(100);
+        Assertions.assertTrue(gate.isFallback());
+        // the next rows are limited locally and do not wait for the master anymore
+        for (int i = 0; i < 100; i++) {
+            gate.audit(100);
+        }
+        Assertions.assertTrue(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000,
+                "rows waited for the master in fallback");
+        Assertions.assertEquals(1, leases.size());
+
+        // the master answers again
+        leases.get(0).complete(new FlowControlLease(10_001, 0, 0));
+        gate.audit(100);
+        Assertions.assertFalse(gate.isFallback());
+    }
+
+    @Test
+    public void testGateFallsBackWhenTheLeaseFails() {
+        List<CompletableFuture<FlowControlLease>> leases = new ArrayList<>();
+        ClusterFlowControlGate gate =
+                new ClusterFlowControlGate(FlowControlStrategy.ofCount(1000), 1, lessor(leases));
+        CompletableFuture<FlowControlLease> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("master left"));
+        leases.add(failed);
+
+        gate.audit(100);
+        Assertions.assertTrue(gate.isFallback());
+    }
+
+    /** Hands out the prepared leases in order, and pending ones once they run out. */
+    private static ClusterFlowControlGate.TokenLessor lessor(
+            List<CompletableFuture<FlowControlLease>> leases) {
+        int[] requested = new int[1];
+        return new ClusterFlowControlGate.TokenLessor() {
+            @Override
+            public CompletableFuture<FlowControlLease> lease(long rows, long bytes) {
+                if (requested[0] == leases.size()) {
+                    leases.add(new CompletableFuture<>());
+                }
+                return leases.get(requested[0]++);
+            }
+
+            @Override
+            public void release(long unusedRows, long unusedBytes) {}
+        };
+    }
+}
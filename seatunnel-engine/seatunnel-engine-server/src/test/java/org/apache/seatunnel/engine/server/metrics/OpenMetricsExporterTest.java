@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.metrics;
+
+import org.apache.seatunnel.api.common.metrics.Histogram;
+import org.apache.seatunnel.api.common.metrics.Unit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OpenMetricsExporterTest {
+
+    @Test
+    public void testToSnakeCase() {
+        Assertions.assertEquals(
+                "source_received_qps", OpenMetricsExporter.toSnakeCase("SourceReceivedQPS"));
+        Assertions.assertEquals("received_count", OpenMetricsExporter.toSnakeCase("receivedCount"));
+        Assertions.assertEquals(
+                "sink_write_bytes_per_seconds",
+                OpenMetricsExporter.toSnakeCase("SinkWriteBytesPerSeconds"));
+    }
+
+    @Test
+    public void testRender() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        metricsContext.counter("SinkWriteCount").inc(3);
+        metricsContext.counter("SinkWriteCount#db.t\"1").inc(2);
+        metricsContext.meter("SinkWriteQPS").markEvent(10);
+        Histogram latency = metricsContext.latencyHistogram("SinkWriteLatency");
+        latency.update(2_000_000);
+        latency.update(4_000_000);
+        metricsContext.histogram("CheckpointDuration").update(1500);
+
+        Map<String, String> labels = new LinkedHashMap<>();
+        labels.put("job_id", "1");
+        labels.put("task_id", "2");
+        OpenMetricsExporter exporter = new OpenMetricsExporter();
+        exporter.addMetrics(labels, metricsContext);
+        String text = exporter.render();
+
+        Assertions.assertTrue(text.contains("# TYPE seatunnel_sink_write_count counter\n"));
+        Assertions.assertTrue(
+                text.contains("seatunnel_sink_write_count_total{job_id=\"1\",task_id=\"2\"} 3\n"));
+        Assertions.assertTrue(
+                text.contains(
+                        "seatunnel_sink_write_count_total{job_id=\"1\",task_id=\"2\",table=\"db.t\\\"1\"} 2\n"));
+        Assertions.assertTrue(text.contains("# TYPE seatunnel_sink_write_qps gauge\n"));
+        Assertions.assertTrue(
+                text.contains("# TYPE seatunnel_sink_write_latency_seconds summary\n"));
+        Assertions.assertTrue(
+                text.contains(
+                        "seatunnel_sink_write_latency_seconds_count{job_id=\"1\",task_id=\"2\"} 2\n"));
+        Assertions.assertTrue(
+                text.contains(
+                        "seatunnel_sink_write_latency_seconds_sum{job_id=\"1\",task_id=\"2\"} 0.006\n"));
+        Assertions.assertTrue(
+                text.contains(
+                        "seatunnel_checkpoint_duration_seconds{job_id=\"1\",task_id=\"2\",quantile=\"0.5\"} 1.5\n"));
+        Assertions.assertTrue(text.endsWith("# EOF\n"));
+        // the samples of a family must not be interleaved with other families
+        Assertions.assertEquals(
+                1, text.split("# TYPE seatunnel_sink_write_count counter", -1).length - 1);
+    }
+
+    @Test
+    public void testFingerprintChangesWithValues() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        long empty = metricsContext.fingerprint();
+        metricsContext.counter("SinkWriteCount");
+        long registered = metricsContext.fingerprint();
+        Assertions.assertNotEquals(empty, registered);
+        Assertions.assertEquals(registered, metricsContext.fingerprint());
+        metricsContext.counter("SinkWriteCount").inc();
+        Assertions.assertNotEquals(registered, metricsContext.fingerprint());
+        long counted = metricsContext.fingerprint();
+        metricsContext.latencyHistogram("SinkWriteLatency").update(10);
+        Assertions.assertNotEquals(counted, metricsContext.fingerprint());
+    }
+
+    @Test
+    public void testLatencyHistogramIsInNanoseconds() {
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        Assertions.assertEquals(Unit.NS, metricsContext.latencyHistogram("Latency").unit());
+        Assertions.assertSame(
+                metricsContext.latencyHistogram("Latency"),
+                metricsContext.latencyHistogram("Latency"));
+    }
+}
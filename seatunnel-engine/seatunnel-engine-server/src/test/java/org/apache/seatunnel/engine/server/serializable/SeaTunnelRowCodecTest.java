@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.engine.server.serializable;
+
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+public class SeaTunnelRowCodecTest {
+
+    private final InternalSerializationService serializationService =
+            new DefaultSerializationServiceBuilder().build();
+
+    private final SeaTunnelRowCodec codec =
+            new SeaTunnelRowCodec(
+                    serializationService,
+                    Arrays.asList(catalogTable("orders"), catalogTable("users")));
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        SeaTunnelRow row =
+                row(
+                        "test.users",
+                        true,
+                        (byte) 1,
+                        (short) 2,
+                        3,
+                        4L,
+                        5.5f,
+                        6.5d,
+                        "seatunnel 数据",
+                        new BigDecimal("10.25"),
+                        LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+        row.setRowKind(RowKind.UPDATE_AFTER);
+        Assertions.assertEquals(row, codec.decode(codec.encode(row)));
+    }
+
+    @Test
+    public void testNullFields() throws IOException {
+        SeaTunnelRow row =
+                row("test.orders", null, null, null, 3, null, null, null, null, null, null);
+        Assertions.assertEquals(row, codec.decode(codec.encode(row)));
+    }
+
+    @Test
+    public void testRowOutsideDictionary() throws IOException {
+        // unknown table
+        SeaTunnelRow unknown = new SeaTunnelRow(new Object[] {1, "a", null});
+        unknown.setTableId("test.other");
+        Assertions.assertEquals(unknown, codec.decode(codec.encode(unknown)));
+
+        // value not matching the declared type
+        SeaTunnelRow mismatch =
+                row("test.orders", true, (byte) 1, (short) 2, 3L, 4L, 5f, 6d, "s", null, null);
+        Assertions.assertEquals(mismatch, codec.decode(codec.encode(mismatch)));
+
+        // no table id and more than 127 fields
+        SeaTunnelRow wide = new SeaTunnelRow(300);
+        for (int i = 0; i < 300; i += 3) {
+            wide.setField(i, i);
+        }
+        Assertions.assertEquals(wide, codec.decode(codec.encode(wide)));
+    }
+
+    @Test
+    public void testSmallerThanGenericRecord() throws IOException {
+        SeaTunnelRow row =
+                row(
+                        "test.orders",
+                        true,
+                        (byte) 1,
+                        (short) 2,
+                        3,
+                        4L,
+                        5.5f,
+                        6.5d,
+                        "seatunnel",
+                        null,
+                        null);
+        BufferObjectDataOutput output = serializationService.createObjectDataOutput();
+        new RecordSerializer().write(output, new Record<>(row));
+        Assertions.assertTrue(codec.encode(row).length < output.toByteArray().length);
+
+        SeaTunnelRowCodec emptyCodec =
+                new SeaTunnelRowCodec(serializationService, Collections.emptyList());
+        Assertions.assertEquals(row, emptyCodec.decode(emptyCodec.encode(row)));
+    }
+
+    @Test
+    public void testPartitionShuffle() throws IOException {
+        ShuffleStrategy strategy =
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(2)
+                        .targetPartitions(3)
+                        .catalogTables(Collections.singletonList(catalogTable("orders")))
+                        .build();
+        SeaTunnelRowCodec partitionCodec =
+                new SeaTunnelRowCodec(serializationService, strategy.getCatalogTables());
+        SeaTunnelRow row =
+                row(
+                        "test.orders",
+                        true,
+                        (byte) 1,
+                        (short) 2,
+                        3,
+                        4L,
+                        5.5f,
+                        6.5d,
+                        "seatunnel",
+                        new BigDecimal("10.25"),
+                        null);
+        byte[] bytes = partitionCodec.encode(row);
+        Assertions.assertEquals(row, partitionCodec.decode(bytes));
+        // written with the schema of the table, without its id
+        Assertions.assertEquals(1, bytes[0]);
+
+        // a row not matching the schema is written generically, with its table id
+        SeaTunnelRow mismatch =
+                row("test.orders", true, (byte) 1, (short) 2, 3L, 4L, 5f, 6d, "s", null, null);
+        byte[] mismatchBytes = partitionCodec.encode(mismatch);
+        Assertions.assertEquals(0, mismatchBytes[0]);
+        Assertions.assertEquals(mismatch, partitionCodec.decode(mismatchBytes));
+
+        // without tables the shuffle sends rows as they are
+        Assertions.assertTrue(
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(2)
+                        .targetPartitions(3)
+                        .build()
+                        .getCatalogTables()
+                        .isEmpty());
+    }
+
+    private static SeaTunnelRow row(String tableId, Object... fields) {
+        SeaTunnelRow row = new SeaTunnelRow(fields);
+        row.setTableId(tableId);
+        return row;
+    }
+
+    private static CatalogTable catalogTable(String table) {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_boolean", BasicType.BOOLEAN_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_tinyint", BasicType.BYTE_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_smallint", BasicType.SHORT_TYPE, 0, true, null, null))
+                        .column(PhysicalColumn.of("c_int", BasicType.INT_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_bigint", BasicType.LONG_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_float", BasicType.FLOAT_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_double", BasicType.DOUBLE_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_string", BasicType.STRING_TYPE, 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_decimal", new DecimalType(10, 2), 0, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "c_timestamp",
+                                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                                        0,
+                                        true,
+                                        null,
+                                        null))
+                        .build();
+        return CatalogTable.of(
+                TableIdentifier.of("test", "test", null, table),
+                tableSchema,
+                new HashMap<>(),
+                new ArrayList<>(),
+                table);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task;
+
+import org.apache.seatunnel.api.table.catalog.TablePath;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.core.starter.flowcontrol.FlowControlStrategy;
+import org.apache.seatunnel.engine.server.flowcontrol.ClusterFlowControlGate;
+import org.apache.seatunnel.engine.server.flowcontrol.FlowControlLease;
+import org.apache.seatunnel.engine.server.metrics.SeaTunnelMetricsContext;
+import org.apache.seatunnel.engine.server.task.flow.OneInputFlowLifeCycle;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_BYTES;
+import static org.apache.seatunnel.api.common.metrics.MetricNames.SOURCE_RECEIVED_COUNT;
+import static org.awaitility.Awaitility.await;
+
+public class SeaTunnelSourceCollectorTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name"},
+                    new SeaTunnelDataType[] {BasicType.LONG_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testMetricsAreAddedOnFlush() {
+        List<Record<?>> received = new ArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> output = received::add;
+        SeaTunnelMetricsContext metricsContext = new SeaTunnelMetricsContext();
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        new Object(),
+                        Collections.singletonList(output),
+                        metricsContext,
+                        FlowControlStrategy.of(Integer.MAX_VALUE, Integer.MAX_VALUE),
+                        ROW_TYPE,
+                        Collections.singletonList(TablePath.of("db.t1")));
+
+        for (int i = 0; i < 10; i++) {
+            SeaTunnelRow row = new SeaTunnelRow(new Object[] {(long) i, "abcd"});
+            row.setTableId(i % 2 == 0 ? "db.t1" : "db.t2");
+            collector.collect(row);
+        }
+        Assertions.assertEquals(10, received.size());
+        // rows are only accounted locally until the flush
+        Assertions.assertEquals(0, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+
+        collector.flushMetrics();
+        Assertions.assertEquals(10, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+        Assertions.assertEquals(
+                5, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#db.t1").getCount());
+        Assertions.assertEquals(
+                5, metricsContext.counter(SOURCE_RECEIVED_COUNT + "#db.t2").getCount());
+        // all rows have the same size, so the estimate of the unsampled ones is exact
+        Assertions.assertEquals(10 * 12, metricsContext.counter(SOURCE_RECEIVED_BYTES).getCount());
+
+        collector.flushMetrics();
+        Assertions.assertEquals(10, metricsContext.counter(SOURCE_RECEIVED_COUNT).getCount());
+    }
+
+    @Test
+    public void testFlowControlWaitsWithoutCheckpointLock() throws Exception {
+        Object checkpointLock = new Object();
+        List<Record<?>> received = new CopyOnWriteArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> output = received::add;
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        checkpointLock,
+                        Collections.singletonList(output),
+                        new SeaTunnelMetricsContext(),
+                        FlowControlStrategy.ofCount(1),
+                        ROW_TYPE,
+                        Collections.emptyList());
+
+        Thread reader =
+                new Thread(
+                        () -> {
+                            for (int i = 0; i < 2; i++) {
+                                collector.collect(new SeaTunnelRow(new Object[] {(long) i, "a"}));
+                            }
+                        });
+        reader.start();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        // the second row waits about a second for its token
+        Thread.sleep(100);
+
+        long start = System.nanoTime();
+        synchronized (checkpointLock) {
+            Assertions.assertEquals(1, received.size());
+        }
+        Assertions.assertTrue(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500,
+                "the checkpoint lock is held while waiting for a token");
+        reader.join();
+        Assertions.assertEquals(2, received.size());
+    }
+
+    @Test
+    public void testThrottledReaderEndsItsPollBeforeWaiting() throws Exception {
+        Object checkpointLock = new Object();
+        List<Record<?>> received = new CopyOnWriteArrayList<>();
+        OneInputFlowLifeCycle<Record<?>> output = received::add;
+        ClusterFlowControlGate gate =
+                new ClusterFlowControlGate(
+                        FlowControlStrategy.ofCount(10),
+                        1,
+                        new ClusterFlowControlGate.TokenLessor() {
+                            private boolean granted;
+
+                            @Override
+                            public CompletableFuture<FlowControlLease> lease(
+                                    long rows, long bytes) {
+                                if (granted) {
+                                    // the job is at its limit, the master does not answer
+                                    return new CompletableFuture<>();
+                                }
+                                granted = true;
+                                return CompletableFuture.completedFuture(
+                                        new FlowControlLease(3, 0, 0));
+                            }
+
+                            @Override
+                            public void release(long unusedRows, long unusedBytes) {}
+                        });
+        SeaTunnelSourceCollector<SeaTunnelRow> collector =
+                new SeaTunnelSourceCollector<>(
+                        checkpointLock,
+                        Collections.singletonList(output),
+                        new SeaTunnelMetricsContext(),
+                        FlowControlStrategy.ofCount(10),
+                        gate,
+                        ROW_TYPE,
+                        Collections.emptyList());
+
+        CountDownLatch polled = new CountDownLatch(1);
+        Thread reader =
+                new Thread(
+                        () -> {
+                            // like a resumable reader, end the poll once the limit holds it back
+                            synchronized (checkpointLock) {
+                                long i = 0;
+                                do {
+                                    collector.collect(new SeaTunnelRow(new Object[] {i++, "a"}));
+                                } while (!collector.isThrottled());
+                            }
+                            polled.countDown();
+                            collector.awaitFlowControl();
+                        });
+        reader.start();
+        Assertions.assertTrue(polled.await(5, TimeUnit.SECONDS));
+        // the first row pays the lease for itself, the other two spend the rest of it
+        Assertions.assertEquals(3, received.size());
+
+        long start = System.nanoTime();
+        synchronized (checkpointLock) {
+            collector.sendRecordToNext(new Record<>("barrier"));
+        }
+        Assertions.assertTrue(
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 500,
+                "the barrier waits for the starved gate");
+        Assertions.assertTrue(reader.isAlive(), "the reader waits for tokens without the lock");
+        reader.join();
+        Assertions.assertEquals(4, received.size());
+    }
+}
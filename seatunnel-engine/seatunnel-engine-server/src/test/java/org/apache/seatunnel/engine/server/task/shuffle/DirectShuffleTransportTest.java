@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.common.Constant;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.TestUtils;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class DirectShuffleTransportTest {
+
+    private static HazelcastInstance reader;
+    private static HazelcastInstance writer;
+
+    @BeforeAll
+    public static void before() {
+        Config config = new Config();
+        config.setClusterName(TestUtils.getClusterName("DirectShuffleTransportTest"));
+        JoinConfig join = config.getNetworkConfig().getJoin();
+        join.getMulticastConfig().setEnabled(false);
+        join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+        reader = Hazelcast.newHazelcastInstance(config);
+        writer = Hazelcast.newHazelcastInstance(config);
+        Assertions.assertEquals(2, reader.getCluster().getMembers().size());
+    }
+
+    @AfterAll
+    public static void after() {
+        writer.shutdown();
+        reader.shutdown();
+    }
+
+    @Test
+    public void testRecordsCrossMembersInOrder() throws Exception {
+        ShuffleStrategy strategy = strategy(1L, 16);
+        ShuffleInput[] inputs = DirectShuffleTransport.of(reader).createInputs(strategy, 1, 0);
+        List<ShuffleOutput> outputs = new ArrayList<>();
+        for (int inputIndex = 0; inputIndex < 2; inputIndex++) {
+            outputs.addAll(
+                    DirectShuffleTransport.of(writer)
+                            .createOutputs(strategy, 1, inputIndex)
+                            .values());
+        }
+
+        List<CompletableFuture<Void>> senders = new ArrayList<>();
+        for (ShuffleOutput output : outputs) {
+            senders.add(
+                    CompletableFuture.runAsync(
+                            () -> {
+                                try {
+                                    for (int i = 0; i < 1000; i += 50) {
+                                        List<Record<?>> batch = new ArrayList<>();
+                                        for (int j = i; j < i + 50; j++) {
+                                            batch.add(row(j));
+                                        }
+                                        output.putAll(batch);
+                                    }
+                                    output.close();
+                                } catch (Exception e) {
+                                    throw new RuntimeException(e);
+                                }
+                            }));
+        }
+
+        for (ShuffleInput input : inputs) {
+            List<Record<?>> received = new ArrayList<>();
+            while (received.size() < 1000) {
+                if (input.drainTo(received, 64) == 0) {
+                    received.add(input.take());
+                }
+            }
+            for (int i = 0; i < 1000; i++) {
+                Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+            }
+            Assertions.assertTrue(input.isEmpty());
+        }
+        CompletableFuture.allOf(senders.toArray(new CompletableFuture[0]))
+                .get(30, TimeUnit.SECONDS);
+        for (ShuffleInput input : inputs) {
+            input.close();
+        }
+    }
+
+    @Test
+    public void testSenderBlocksWithoutCredits() throws Exception {
+        ShuffleStrategy strategy = strategy(2L, 8);
+        ShuffleInput[] inputs = DirectShuffleTransport.of(reader).createInputs(strategy, 1, 0);
+        ShuffleOutput output =
+                DirectShuffleTransport.of(writer)
+                        .createOutputs(strategy, 1, 0)
+                        .get(inputs[0].getName());
+
+        List<Record<?>> batch = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            batch.add(row(i));
+        }
+        output.putAll(batch);
+        CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                output.put(row(8));
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> blocked.get(500, TimeUnit.MILLISECONDS));
+
+        Collection<Record<?>> received = new ArrayList<>();
+        while (received.size() < 8) {
+            inputs[0].drainTo(received, 8);
+        }
+        blocked.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(8, ((SeaTunnelRow) inputs[0].take().getData()).getField(0));
+
+        output.close();
+        for (ShuffleInput input : inputs) {
+            input.close();
+        }
+    }
+
+    @Test
+    public void testReaderWakesStarvedSender() throws Exception {
+        ShuffleStrategy strategy = strategy(4L, 4);
+        ShuffleInput[] inputs = DirectShuffleTransport.of(reader).createInputs(strategy, 1, 0);
+        ShuffleOutput output =
+                DirectShuffleTransport.of(writer)
+                        .createOutputs(strategy, 1, 0)
+                        .get(inputs[0].getName());
+        List<Record<?>> batch = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            batch.add(row(i));
+        }
+        CompletableFuture<Void> starved =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                output.putAll(batch);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> starved.get(200, TimeUnit.MILLISECONDS));
+
+        // the credit grant arrives well before the sender would poll again
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < 4) {
+            inputs[0].drainTo(received, 4);
+        }
+        starved.get(500, TimeUnit.MILLISECONDS);
+
+        output.close();
+        for (ShuffleInput input : inputs) {
+            input.close();
+        }
+        Assertions.assertNull(
+                reader.getMap(Constant.IMAP_SHUFFLE_ENDPOINTS).get(inputs[0].getName()));
+    }
+
+    @Test
+    public void testRestartedSenderOnlyGetsFreeCapacity() throws Exception {
+        ShuffleStrategy strategy = strategy(3L, 8);
+        ShuffleInput[] inputs = DirectShuffleTransport.of(reader).createInputs(strategy, 1, 0);
+        Map<String, ShuffleOutput> outputs =
+                DirectShuffleTransport.of(writer).createOutputs(strategy, 1, 0);
+        ShuffleOutput output = outputs.get(inputs[0].getName());
+        List<Record<?>> batch = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            batch.add(row(i));
+        }
+        output.putAll(batch);
+        output.close();
+
+        // a new attempt of the upstream task finds the six records still buffered
+        ShuffleOutput restarted =
+                DirectShuffleTransport.of(writer)
+                        .createOutputs(strategy, 1, 0)
+                        .get(inputs[0].getName());
+        CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                List<Record<?>> next = new ArrayList<>();
+                                for (int i = 6; i < 12; i++) {
+                                    next.add(row(i));
+                                }
+                                restarted.putAll(next);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> blocked.get(500, TimeUnit.MILLISECONDS));
+
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < 12) {
+            if (inputs[0].drainTo(received, 12) == 0) {
+                received.add(inputs[0].take());
+            }
+        }
+        blocked.get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < 12; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        for (ShuffleInput input : inputs) {
+            input.close();
+        }
+    }
+
+    @Test
+    public void testSenderGivesUpWithoutReader() {
+        DirectShuffleOutput output =
+                new DirectShuffleOutput("unread-queue", DirectShuffleTransport.of(writer), 300);
+        IOException e = Assertions.assertThrows(IOException.class, () -> output.put(row(0)));
+        Assertions.assertTrue(e.getMessage().contains("unread-queue"), e.getMessage());
+    }
+
+    @Test
+    public void testFramesOvertakingEachOtherKeepOrder() {
+        ShuffleStrategy strategy = strategy(5L, 8);
+        DirectShuffleInput input =
+                (DirectShuffleInput)
+                        DirectShuffleTransport.of(reader).createInputs(strategy, 1, 0)[0];
+        Address sender = DirectShuffleTransport.of(writer).getNodeEngine().getThisAddress();
+
+        Assertions.assertEquals(
+                8, input.offer(7L, DirectShuffleInput.HANDSHAKE, Collections.emptyList(), sender));
+        Assertions.assertEquals(8, input.offer(7L, 1, Arrays.asList(row(2), row(3)), sender));
+        List<Record<?>> received = new ArrayList<>();
+        Assertions.assertEquals(0, input.drainTo(received, 8));
+        Assertions.assertEquals(8, input.offer(7L, 0, Arrays.asList(row(0), row(1)), sender));
+        Assertions.assertEquals(4, input.drainTo(received, 8));
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+
+        // the four records taken are credited to the stream
+        Assertions.assertEquals(
+                12,
+                input.offer(7L, DirectShuffleInput.CREDIT_QUERY, Collections.emptyList(), sender));
+        // frames of a replaced stream are refused
+        Assertions.assertEquals(
+                DirectShuffleInput.CLOSED,
+                input.offer(6L, 2, Collections.singletonList(row(4)), sender));
+        List<Record<?>> tooMany = new ArrayList<>();
+        for (int i = 0; i < 9; i++) {
+            tooMany.add(row(i));
+        }
+        Assertions.assertThrows(
+                IllegalStateException.class, () -> input.offer(7L, 2, tooMany, sender));
+        input.close();
+    }
+
+    @Test
+    public void testQueueEndsAreKeptPerMember() throws Exception {
+        Assertions.assertSame(DirectShuffleTransport.of(writer), DirectShuffleTransport.of(writer));
+        Assertions.assertNotSame(
+                DirectShuffleTransport.of(writer), DirectShuffleTransport.of(reader));
+
+        ShuffleStrategy strategy = strategy(6L, 8);
+        ShuffleInput input = DirectShuffleTransport.of(reader).createInputs(strategy, 1, 0)[0];
+        ShuffleOutput output =
+                DirectShuffleTransport.of(writer)
+                        .createOutputs(strategy, 1, 0)
+                        .get(input.getName());
+        Assertions.assertSame(
+                output, DirectShuffleTransport.of(writer).lookupOutput(input.getName()));
+        Assertions.assertNull(DirectShuffleTransport.of(reader).lookupOutput(input.getName()));
+
+        output.close();
+        input.close();
+        Assertions.assertNull(DirectShuffleTransport.of(writer).lookupOutput(input.getName()));
+        Assertions.assertNull(DirectShuffleTransport.of(reader).lookupInput(input.getName()));
+    }
+
+    private static Record<?> row(int value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+
+    private static ShuffleStrategy strategy(long jobId, int queueMaxSize) {
+        return ShufflePartitionStrategy.builder()
+                .jobId(jobId)
+                .inputPartitions(2)
+                .targetPartitions(1)
+                .queueMaxSize(queueMaxSize)
+                .build();
+    }
+}
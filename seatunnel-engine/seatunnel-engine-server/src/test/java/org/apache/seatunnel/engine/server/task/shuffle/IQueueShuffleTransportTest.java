@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.engine.server.task.shuffle;
+
+import org.apache.seatunnel.api.table.type.Record;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.engine.core.dag.actions.ShufflePartitionStrategy;
+import org.apache.seatunnel.engine.core.dag.actions.ShuffleStrategy;
+import org.apache.seatunnel.engine.server.TestUtils;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class IQueueShuffleTransportTest {
+
+    private static HazelcastInstance instance;
+
+    @BeforeAll
+    public static void before() {
+        Config config = new Config();
+        config.setClusterName(TestUtils.getClusterName("IQueueShuffleTransportTest"));
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        instance = Hazelcast.newHazelcastInstance(config);
+    }
+
+    @AfterAll
+    public static void after() {
+        instance.shutdown();
+    }
+
+    @Test
+    public void testBatchLargerThanFreeCapacity() throws Exception {
+        ShuffleStrategy strategy =
+                ShufflePartitionStrategy.builder()
+                        .jobId(1L)
+                        .inputPartitions(1)
+                        .targetPartitions(1)
+                        .queueMaxSize(8)
+                        .build();
+        IQueueShuffleTransport transport = new IQueueShuffleTransport(instance);
+        ShuffleInput input = transport.createInputs(strategy, 1, 0)[0];
+        ShuffleOutput output = transport.createOutputs(strategy, 1, 0).get(input.getName());
+
+        List<Record<?>> first = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            first.add(row(i));
+        }
+        output.putAll(first);
+        // only three of the next batch fit, the rest waits for the reader
+        CompletableFuture<Void> blocked =
+                CompletableFuture.runAsync(
+                        () -> {
+                            try {
+                                List<Record<?>> next = new ArrayList<>();
+                                for (int i = 5; i < 30; i++) {
+                                    next.add(row(i));
+                                }
+                                output.putAll(next);
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        Assertions.assertThrows(
+                TimeoutException.class, () -> blocked.get(500, TimeUnit.MILLISECONDS));
+
+        List<Record<?>> received = new ArrayList<>();
+        while (received.size() < 30) {
+            if (input.drainTo(received, 4) == 0) {
+                received.add(input.take());
+            }
+        }
+        blocked.get(10, TimeUnit.SECONDS);
+        for (int i = 0; i < 30; i++) {
+            Assertions.assertEquals(i, ((SeaTunnelRow) received.get(i).getData()).getField(0));
+        }
+        Assertions.assertTrue(input.isEmpty());
+        input.close();
+    }
+
+    private static Record<?> row(int value) {
+        return new Record<>(new SeaTunnelRow(new Object[] {value}));
+    }
+}
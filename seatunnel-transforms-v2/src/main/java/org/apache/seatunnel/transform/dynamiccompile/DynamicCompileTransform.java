@@ -29,6 +29,10 @@ import org.apache.seatunnel.transform.dynamiccompile.parse.GroovyClassParse;
 import org.apache.seatunnel.transform.dynamiccompile.parse.JavaClassParse;
 import org.apache.seatunnel.transform.exception.TransformException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
 import java.nio.file.Paths;
 
 import static org.apache.seatunnel.transform.dynamiccompile.CompileTransformErrorCode.COMPILE_TRANSFORM_ERROR_CODE;
@@ -46,6 +50,12 @@ public class DynamicCompileTransform extends MultipleFieldOutputTransform {
 
     private AbstractParse DynamicCompileParse;
 
+    // resolved once per transform instance, the class key is a digest of the whole source code
+    private transient Object compileLanguageInstance;
+
+    // (SeaTunnelRowAccessor)Object[] bound to the instance above
+    private transient MethodHandle outputFieldValuesHandle;
+
     public DynamicCompileTransform(ReadonlyConfig readonlyConfig, CatalogTable catalogTable) {
         super(catalogTable);
         CompileLanguage compileLanguage =
@@ -75,6 +85,41 @@ public class DynamicCompileTransform extends MultipleFieldOutputTransform {
         return PLUGIN_NAME;
     }
 
+    @Override
+    public void open() {
+        Object instance = getCompileLanguageInstance();
+        Method method =
+                ReflectionUtils.getDeclaredMethod(
+                                instance.getClass(),
+                                getInlineOutputFieldValues,
+                                SeaTunnelRowAccessor.class)
+                        .orElseThrow(
+                                () ->
+                                        new TransformException(
+                                                COMPILE_TRANSFORM_ERROR_CODE,
+                                                String.format(
+                                                        "no such method '%s' in '%s'",
+                                                        getInlineOutputFieldValues,
+                                                        instance.getClass())));
+        try {
+            outputFieldValuesHandle =
+                    MethodHandles.lookup()
+                            .unreflect(method)
+                            .bindTo(instance)
+                            .asType(
+                                    MethodType.methodType(
+                                            Object[].class, SeaTunnelRowAccessor.class));
+        } catch (IllegalAccessException e) {
+            throw new TransformException(COMPILE_TRANSFORM_ERROR_CODE, e.getMessage());
+        }
+    }
+
+    private void tryOpen() {
+        if (outputFieldValuesHandle == null) {
+            open();
+        }
+    }
+
     @Override
     protected Column[] getOutputColumns() {
         Object result;
@@ -94,21 +139,25 @@ public class DynamicCompileTransform extends MultipleFieldOutputTransform {
 
     @Override
     protected Object[] getOutputFieldValues(SeaTunnelRowAccessor inputRow) {
-        Object result;
+        tryOpen();
         try {
-            result =
-                    ReflectionUtils.invoke(
-                            getCompileLanguageInstance(), getInlineOutputFieldValues, inputRow);
-
-        } catch (Exception e) {
-            throw new TransformException(COMPILE_TRANSFORM_ERROR_CODE, e.getMessage());
+            return (Object[]) outputFieldValuesHandle.invokeExact(inputRow);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new TransformException(COMPILE_TRANSFORM_ERROR_CODE, e.getMessage(), e);
         }
-        return (Object[]) result;
     }
 
-    private Object getCompileLanguageInstance()
-            throws InstantiationException, IllegalAccessException {
-        Class<?> compileClass = DynamicCompileParse.parseClassSourceCode(sourceCode);
-        return compileClass.newInstance();
+    private Object getCompileLanguageInstance() {
+        if (compileLanguageInstance == null) {
+            Class<?> compileClass = DynamicCompileParse.parseClassSourceCode(sourceCode);
+            try {
+                compileLanguageInstance = compileClass.newInstance();
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new TransformException(COMPILE_TRANSFORM_ERROR_CODE, e.getMessage());
+            }
+        }
+        return compileLanguageInstance;
     }
 }
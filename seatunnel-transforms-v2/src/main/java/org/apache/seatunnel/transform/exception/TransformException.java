@@ -27,6 +27,11 @@ public class TransformException extends SeaTunnelRuntimeException {
         super(seaTunnelErrorCode, errorMessage);
     }
 
+    public TransformException(
+            SeaTunnelErrorCode seaTunnelErrorCode, String errorMessage, Throwable cause) {
+        super(seaTunnelErrorCode, errorMessage, cause);
+    }
+
     TransformException(SeaTunnelErrorCode seaTunnelErrorCode, Map<String, String> params) {
         super(seaTunnelErrorCode, params);
     }
@@ -17,12 +17,17 @@
 
 package org.apache.seatunnel.transform.sql;
 
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public interface SQLEngine {
+    /** Set the metrics context the engine reports to, called before {@link #init}. */
+    default void setMetricsContext(MetricsContext metricsContext) {}
+
     void init(
             String inputTableName,
             String catalogTableName,
@@ -33,5 +38,21 @@ public interface SQLEngine {
 
     SeaTunnelRow transformBySQL(SeaTunnelRow inputRow);
 
+    /**
+     * Transform a batch of rows, rows filtered out by the SQL are not part of the result. Engines
+     * that can evaluate a whole batch at once override this, by default each row is transformed on
+     * its own.
+     */
+    default List<SeaTunnelRow> transformBySQL(List<SeaTunnelRow> inputRows) {
+        List<SeaTunnelRow> outputRows = new ArrayList<>(inputRows.size());
+        for (SeaTunnelRow inputRow : inputRows) {
+            SeaTunnelRow outputRow = transformBySQL(inputRow);
+            if (outputRow != null) {
+                outputRows.add(outputRow);
+            }
+        }
+        return outputRows;
+    }
+
     default void close() {}
 }
@@ -18,6 +18,7 @@
 package org.apache.seatunnel.transform.sql;
 
 import org.apache.seatunnel.api.common.CommonOptions;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.configuration.Option;
 import org.apache.seatunnel.api.configuration.Options;
 import org.apache.seatunnel.api.configuration.ReadonlyConfig;
@@ -56,15 +57,28 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
                     .defaultValue(ZETA.name())
                     .withDescription("The SQL engine type");
 
+    public static final Option<Integer> KEY_BATCH_SIZE =
+            Options.key("batch_size")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The number of rows evaluated together in vectorized batch mode, "
+                                    + "0 or 1 means row by row");
+
     private final String query;
 
+    private final int batchSize;
+
     private final EngineType engineType;
 
     private transient SQLEngine sqlEngine;
 
+    private transient MetricsContext metricsContext;
+
     public SQLTransform(@NonNull ReadonlyConfig config, @NonNull CatalogTable catalogTable) {
         super(catalogTable);
         this.query = config.get(KEY_QUERY);
+        this.batchSize = config.get(KEY_BATCH_SIZE);
         if (config.getOptional(KEY_ENGINE).isPresent()) {
             this.engineType = EngineType.valueOf(config.get(KEY_ENGINE).toUpperCase());
         } else {
@@ -93,9 +107,17 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
         return PLUGIN_NAME;
     }
 
+    @Override
+    public void setMetricsContext(MetricsContext metricsContext) {
+        this.metricsContext = metricsContext;
+    }
+
     @Override
     public void open() {
         sqlEngine = SQLEngineFactory.getSQLEngine(engineType);
+        if (metricsContext != null) {
+            sqlEngine.setMetricsContext(metricsContext);
+        }
         sqlEngine.init(
                 inputTableName,
                 inputCatalogTable != null ? inputCatalogTable.getTableId().getTableName() : null,
@@ -115,6 +137,17 @@ public class SQLTransform extends AbstractCatalogSupportTransform {
         return sqlEngine.transformBySQL(inputRow);
     }
 
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public List<SeaTunnelRow> mapBatch(List<SeaTunnelRow> rows) {
+        tryOpen();
+        return sqlEngine.transformBySQL(rows);
+    }
+
     @Override
     protected TableSchema transformTableSchema() {
         tryOpen();
@@ -26,6 +26,7 @@ import org.apache.seatunnel.api.table.factory.TableTransformFactoryContext;
 
 import com.google.auto.service.AutoService;
 
+import static org.apache.seatunnel.transform.sql.SQLTransform.KEY_BATCH_SIZE;
 import static org.apache.seatunnel.transform.sql.SQLTransform.KEY_QUERY;
 
 @AutoService(Factory.class)
@@ -37,7 +38,7 @@ public class SQLTransformFactory implements TableTransformFactory {
 
     @Override
     public OptionRule optionRule() {
-        return OptionRule.builder().required(KEY_QUERY).build();
+        return OptionRule.builder().required(KEY_QUERY).optional(KEY_BATCH_SIZE).build();
     }
 
     @Override
@@ -0,0 +1,451 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLColumnVector.DoubleVector;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLColumnVector.LongVector;
+import org.apache.seatunnel.transform.sql.zeta.ZetaSQLColumnVector.ObjectVector;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+import java.util.Arrays;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * Compiles SQL expressions into evaluators working on a batch of rows column by column. Column
+ * references, numeric constants, arithmetic, unary minus and numeric comparisons are evaluated on
+ * primitive arrays, AND/OR only evaluate their right side for rows that are still undecided. Every
+ * other expression falls back to the row evaluators of {@link ZetaSQLFunction} and {@link
+ * ZetaSQLFilter}, applied to the selected rows only, so the results always match row mode.
+ */
+public class ZetaSQLBatchCompiler {
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+    private final ZetaSQLType zetaSQLType;
+
+    public ZetaSQLBatchCompiler(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLFunction zetaSQLFunction,
+            ZetaSQLFilter zetaSQLFilter,
+            ZetaSQLType zetaSQLType) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLFunction = zetaSQLFunction;
+        this.zetaSQLFilter = zetaSQLFilter;
+        this.zetaSQLType = zetaSQLType;
+    }
+
+    public ZetaSQLBatchEvaluator compile(Expression expression) {
+        if (expression instanceof Parenthesis) {
+            return compile(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof LongValue) {
+            SqlType sqlType = zetaSQLType.getExpressionType(expression).getSqlType();
+            long value = ((LongValue) expression).getValue();
+            return (rows, size, selected) -> {
+                LongVector vector = new LongVector(sqlType, size);
+                for (int i = 0; i < size; i++) {
+                    vector.setLong(i, value);
+                }
+                return vector;
+            };
+        }
+        if (expression instanceof DoubleValue) {
+            double value = ((DoubleValue) expression).getValue();
+            return (rows, size, selected) -> {
+                DoubleVector vector = new DoubleVector(SqlType.DOUBLE, size);
+                for (int i = 0; i < size; i++) {
+                    vector.setDouble(i, value);
+                }
+                return vector;
+            };
+        }
+        if (expression instanceof Column) {
+            int index = inputRowType.indexOf(((Column) expression).getColumnName(), false);
+            if (index != -1) {
+                return compileColumn(index, inputRowType.getFieldType(index).getSqlType());
+            }
+        }
+        if (expression instanceof SignedExpression) {
+            SignedExpression signedExpression = (SignedExpression) expression;
+            if (signedExpression.getSign() != '-') {
+                return compile(signedExpression.getExpression());
+            }
+            SqlType sqlType = zetaSQLType.getExpressionType(expression).getSqlType();
+            if (sqlType == SqlType.INT || sqlType == SqlType.BIGINT) {
+                return compileLongNegate(compile(signedExpression.getExpression()), sqlType);
+            }
+            if (sqlType == SqlType.DOUBLE) {
+                return compileDoubleNegate(compile(signedExpression.getExpression()));
+            }
+        }
+        if (expression instanceof BinaryExpression && isArithmetic(expression)) {
+            ZetaSQLBatchEvaluator arithmetic = compileArithmetic((BinaryExpression) expression);
+            if (arithmetic != null) {
+                return arithmetic;
+            }
+        }
+        return fallback(expression);
+    }
+
+    public ZetaSQLBatchPredicate compilePredicate(Expression whereExpr) {
+        if (whereExpr == null) {
+            return (rows, size, selected) -> Arrays.copyOf(selected, size);
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return compilePredicate(((Parenthesis) whereExpr).getExpression());
+        }
+        if (whereExpr instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) whereExpr;
+            ZetaSQLBatchPredicate left = compilePredicate(andExpression.getLeftExpression());
+            ZetaSQLBatchPredicate right = compilePredicate(andExpression.getRightExpression());
+            return (rows, size, selected) ->
+                    right.test(rows, size, left.test(rows, size, selected));
+        }
+        if (whereExpr instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) whereExpr;
+            ZetaSQLBatchPredicate left = compilePredicate(orExpression.getLeftExpression());
+            ZetaSQLBatchPredicate right = compilePredicate(orExpression.getRightExpression());
+            return (rows, size, selected) -> {
+                boolean[] result = left.test(rows, size, selected);
+                boolean[] undecided = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    undecided[i] = selected[i] && !result[i];
+                }
+                boolean[] rightResult = right.test(rows, size, undecided);
+                for (int i = 0; i < size; i++) {
+                    result[i] |= rightResult[i];
+                }
+                return result;
+            };
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            ZetaSQLBatchEvaluator evaluator = compile(isNullExpression.getLeftExpression());
+            boolean isNot = isNullExpression.isNot();
+            return (rows, size, selected) -> {
+                ZetaSQLColumnVector vector = evaluator.evaluate(rows, size, selected);
+                boolean[] result = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    result[i] = selected[i] && vector.isNull(i) != isNot;
+                }
+                return result;
+            };
+        }
+        if (whereExpr instanceof ComparisonOperator) {
+            ComparisonOperator comparison = (ComparisonOperator) whereExpr;
+            if (isNumber(comparison.getLeftExpression())
+                    && isNumber(comparison.getRightExpression())) {
+                ZetaSQLBatchPredicate predicate = compileNumericComparison(comparison);
+                if (predicate != null) {
+                    return predicate;
+                }
+            }
+        }
+        return fallbackPredicate(whereExpr);
+    }
+
+    private ZetaSQLBatchEvaluator compileColumn(int index, SqlType sqlType) {
+        switch (sqlType) {
+            case TINYINT:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+                return (rows, size, selected) -> {
+                    LongVector vector = new LongVector(sqlType, size);
+                    for (int i = 0; i < size; i++) {
+                        Object value = rows[i][index];
+                        if (value == null) {
+                            vector.setNull(i);
+                        } else {
+                            vector.setLong(i, ((Number) value).longValue());
+                        }
+                    }
+                    return vector;
+                };
+            case FLOAT:
+            case DOUBLE:
+                return (rows, size, selected) -> {
+                    DoubleVector vector = new DoubleVector(sqlType, size);
+                    for (int i = 0; i < size; i++) {
+                        Object value = rows[i][index];
+                        if (value == null) {
+                            vector.setNull(i);
+                        } else {
+                            vector.setDouble(i, ((Number) value).doubleValue());
+                        }
+                    }
+                    return vector;
+                };
+            default:
+                return (rows, size, selected) -> {
+                    ObjectVector vector = new ObjectVector(size);
+                    for (int i = 0; i < size; i++) {
+                        vector.set(i, rows[i][index]);
+                    }
+                    return vector;
+                };
+        }
+    }
+
+    private ZetaSQLBatchEvaluator compileLongNegate(ZetaSQLBatchEvaluator child, SqlType sqlType) {
+        return (rows, size, selected) -> {
+            ZetaSQLColumnVector input = child.evaluate(rows, size, selected);
+            LongVector vector = new LongVector(sqlType, size);
+            for (int i = 0; i < size; i++) {
+                if (!selected[i]) {
+                    continue;
+                }
+                if (input.isNull(i)) {
+                    vector.setNull(i);
+                } else {
+                    vector.setLong(i, -input.getLong(i));
+                }
+            }
+            return vector;
+        };
+    }
+
+    private ZetaSQLBatchEvaluator compileDoubleNegate(ZetaSQLBatchEvaluator child) {
+        return (rows, size, selected) -> {
+            ZetaSQLColumnVector input = child.evaluate(rows, size, selected);
+            DoubleVector vector = new DoubleVector(SqlType.DOUBLE, size);
+            for (int i = 0; i < size; i++) {
+                if (!selected[i]) {
+                    continue;
+                }
+                if (input.isNull(i)) {
+                    vector.setNull(i);
+                } else {
+                    vector.setDouble(i, -input.getDouble(i));
+                }
+            }
+            return vector;
+        };
+    }
+
+    private ZetaSQLBatchEvaluator compileArithmetic(BinaryExpression binaryExpression) {
+        if (!isNumber(binaryExpression.getLeftExpression())
+                || !isNumber(binaryExpression.getRightExpression())) {
+            return null;
+        }
+        SqlType sqlType = zetaSQLType.getExpressionType(binaryExpression).getSqlType();
+        if (sqlType == SqlType.INT || sqlType == SqlType.BIGINT) {
+            LongBinaryOperator operator = resolveLongOperator(binaryExpression);
+            // INT arithmetic overflows like java int, keep the low 32 bits of the long result
+            boolean narrow = sqlType == SqlType.INT;
+            ZetaSQLBatchEvaluator left = compile(binaryExpression.getLeftExpression());
+            ZetaSQLBatchEvaluator right = compile(binaryExpression.getRightExpression());
+            return (rows, size, selected) -> {
+                ZetaSQLColumnVector leftVector = left.evaluate(rows, size, selected);
+                ZetaSQLColumnVector rightVector = right.evaluate(rows, size, selected);
+                LongVector vector = new LongVector(sqlType, size);
+                for (int i = 0; i < size; i++) {
+                    if (!selected[i]) {
+                        continue;
+                    }
+                    if (leftVector.isNull(i) || rightVector.isNull(i)) {
+                        vector.setNull(i);
+                        continue;
+                    }
+                    long value =
+                            operator.applyAsLong(leftVector.getLong(i), rightVector.getLong(i));
+                    vector.setLong(i, narrow ? (int) value : value);
+                }
+                return vector;
+            };
+        }
+        if (sqlType == SqlType.DOUBLE) {
+            DoubleBinaryOperator operator = resolveDoubleOperator(binaryExpression);
+            ZetaSQLBatchEvaluator left = compile(binaryExpression.getLeftExpression());
+            ZetaSQLBatchEvaluator right = compile(binaryExpression.getRightExpression());
+            return (rows, size, selected) -> {
+                ZetaSQLColumnVector leftVector = left.evaluate(rows, size, selected);
+                ZetaSQLColumnVector rightVector = right.evaluate(rows, size, selected);
+                DoubleVector vector = new DoubleVector(SqlType.DOUBLE, size);
+                for (int i = 0; i < size; i++) {
+                    if (!selected[i]) {
+                        continue;
+                    }
+                    if (leftVector.isNull(i) || rightVector.isNull(i)) {
+                        vector.setNull(i);
+                        continue;
+                    }
+                    vector.setDouble(
+                            i,
+                            operator.applyAsDouble(
+                                    leftVector.getDouble(i), rightVector.getDouble(i)));
+                }
+                return vector;
+            };
+        }
+        return null;
+    }
+
+    private LongBinaryOperator resolveLongOperator(BinaryExpression binaryExpression) {
+        if (binaryExpression instanceof Addition) {
+            return (l, r) -> l + r;
+        }
+        if (binaryExpression instanceof Subtraction) {
+            return (l, r) -> l - r;
+        }
+        if (binaryExpression instanceof Multiplication) {
+            return (l, r) -> l * r;
+        }
+        if (binaryExpression instanceof Division) {
+            return (l, r) -> l / r;
+        }
+        return (l, r) -> l % r;
+    }
+
+    private DoubleBinaryOperator resolveDoubleOperator(BinaryExpression binaryExpression) {
+        if (binaryExpression instanceof Addition) {
+            return (l, r) -> l + r;
+        }
+        if (binaryExpression instanceof Subtraction) {
+            return (l, r) -> l - r;
+        }
+        if (binaryExpression instanceof Multiplication) {
+            return (l, r) -> l * r;
+        }
+        if (binaryExpression instanceof Division) {
+            return (l, r) -> l / r;
+        }
+        return (l, r) -> l % r;
+    }
+
+    private ZetaSQLBatchPredicate compileNumericComparison(ComparisonOperator comparison) {
+        ZetaSQLBatchEvaluator left = compile(comparison.getLeftExpression());
+        ZetaSQLBatchEvaluator right = compile(comparison.getRightExpression());
+        if (comparison instanceof NotEqualsTo) {
+            // same as row mode: a null left side only differs from a non null right side
+            return (rows, size, selected) -> {
+                ZetaSQLColumnVector leftVector = left.evaluate(rows, size, selected);
+                ZetaSQLColumnVector rightVector = right.evaluate(rows, size, selected);
+                boolean[] result = new boolean[size];
+                for (int i = 0; i < size; i++) {
+                    if (!selected[i]) {
+                        continue;
+                    }
+                    if (leftVector.isNull(i)) {
+                        result[i] = !rightVector.isNull(i);
+                    } else if (rightVector.isNull(i)) {
+                        result[i] = true;
+                    } else {
+                        result[i] = leftVector.getDouble(i) != rightVector.getDouble(i);
+                    }
+                }
+                return result;
+            };
+        }
+        DoubleComparator comparator;
+        if (comparison instanceof EqualsTo) {
+            comparator = (l, r) -> l == r;
+        } else if (comparison instanceof GreaterThan) {
+            comparator = (l, r) -> l > r;
+        } else if (comparison instanceof GreaterThanEquals) {
+            comparator = (l, r) -> l >= r;
+        } else if (comparison instanceof MinorThan) {
+            comparator = (l, r) -> l < r;
+        } else if (comparison instanceof MinorThanEquals) {
+            comparator = (l, r) -> l <= r;
+        } else {
+            return null;
+        }
+        return (rows, size, selected) -> {
+            ZetaSQLColumnVector leftVector = left.evaluate(rows, size, selected);
+            ZetaSQLColumnVector rightVector = right.evaluate(rows, size, selected);
+            boolean[] result = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                result[i] =
+                        selected[i]
+                                && !leftVector.isNull(i)
+                                && !rightVector.isNull(i)
+                                && comparator.compare(
+                                        leftVector.getDouble(i), rightVector.getDouble(i));
+            }
+            return result;
+        };
+    }
+
+    private ZetaSQLBatchEvaluator fallback(Expression expression) {
+        ZetaSQLEvaluator evaluator = zetaSQLFunction.compile(expression);
+        return (rows, size, selected) -> {
+            ObjectVector vector = new ObjectVector(size);
+            for (int i = 0; i < size; i++) {
+                if (selected[i]) {
+                    vector.set(i, evaluator.evaluate(rows[i]));
+                }
+            }
+            return vector;
+        };
+    }
+
+    private ZetaSQLBatchPredicate fallbackPredicate(Expression whereExpr) {
+        ZetaSQLPredicate predicate = zetaSQLFilter.compile(whereExpr);
+        return (rows, size, selected) -> {
+            boolean[] result = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                result[i] = selected[i] && predicate.test(rows[i]);
+            }
+            return result;
+        };
+    }
+
+    private boolean isArithmetic(Expression expression) {
+        return expression instanceof Addition
+                || expression instanceof Subtraction
+                || expression instanceof Multiplication
+                || expression instanceof Division
+                || expression instanceof Modulo;
+    }
+
+    private boolean isNumber(Expression expression) {
+        SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(expression);
+        return zetaSQLType.isNumberType(type.getSqlType()) && type.getSqlType() != SqlType.DECIMAL;
+    }
+
+    private interface DoubleComparator {
+        boolean compare(double left, double right);
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+/**
+ * A SQL condition expression compiled by {@link ZetaSQLBatchCompiler#compilePredicate}. The result
+ * is a new selection, a row is only kept if it was selected before and matches the condition.
+ */
+@FunctionalInterface
+public interface ZetaSQLBatchPredicate {
+
+    boolean[] test(Object[][] rows, int size, boolean[] selected);
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.SqlType;
+
+/**
+ * One column of a batch of rows. Numeric expressions keep their values in primitive arrays, so
+ * nested arithmetic and comparisons do not box intermediate results, values are only boxed when a
+ * row is materialized.
+ */
+public abstract class ZetaSQLColumnVector {
+
+    protected final boolean[] nulls;
+
+    protected ZetaSQLColumnVector(int size) {
+        this.nulls = new boolean[size];
+    }
+
+    public boolean isNull(int i) {
+        return nulls[i];
+    }
+
+    public void setNull(int i) {
+        nulls[i] = true;
+    }
+
+    /** The boxed value of row {@code i}, or {@code null}. */
+    public abstract Object get(int i);
+
+    public abstract long getLong(int i);
+
+    public abstract double getDouble(int i);
+
+    /** Values of TINYINT, SMALLINT, INT and BIGINT expressions. */
+    public static final class LongVector extends ZetaSQLColumnVector {
+        private final SqlType sqlType;
+        private final long[] values;
+
+        public LongVector(SqlType sqlType, int size) {
+            super(size);
+            this.sqlType = sqlType;
+            this.values = new long[size];
+        }
+
+        public void setLong(int i, long value) {
+            values[i] = value;
+        }
+
+        @Override
+        public Object get(int i) {
+            if (nulls[i]) {
+                return null;
+            }
+            switch (sqlType) {
+                case TINYINT:
+                    return (byte) values[i];
+                case SMALLINT:
+                    return (short) values[i];
+                case INT:
+                    return (int) values[i];
+                default:
+                    return values[i];
+            }
+        }
+
+        @Override
+        public long getLong(int i) {
+            return values[i];
+        }
+
+        @Override
+        public double getDouble(int i) {
+            return values[i];
+        }
+    }
+
+    /** Values of FLOAT and DOUBLE expressions. */
+    public static final class DoubleVector extends ZetaSQLColumnVector {
+        private final SqlType sqlType;
+        private final double[] values;
+
+        public DoubleVector(SqlType sqlType, int size) {
+            super(size);
+            this.sqlType = sqlType;
+            this.values = new double[size];
+        }
+
+        public void setDouble(int i, double value) {
+            values[i] = value;
+        }
+
+        @Override
+        public Object get(int i) {
+            if (nulls[i]) {
+                return null;
+            }
+            if (sqlType == SqlType.FLOAT) {
+                return (float) values[i];
+            }
+            return values[i];
+        }
+
+        @Override
+        public long getLong(int i) {
+            return (long) values[i];
+        }
+
+        @Override
+        public double getDouble(int i) {
+            return values[i];
+        }
+    }
+
+    /** Values of expressions without a primitive representation. */
+    public static final class ObjectVector extends ZetaSQLColumnVector {
+        private final Object[] values;
+
+        public ObjectVector(int size) {
+            super(size);
+            this.values = new Object[size];
+        }
+
+        public void set(int i, Object value) {
+            values[i] = value;
+            nulls[i] = value == null;
+        }
+
+        @Override
+        public Object get(int i) {
+            return values[i];
+        }
+
+        @Override
+        public long getLong(int i) {
+            return ((Number) values[i]).longValue();
+        }
+
+        @Override
+        public double getDouble(int i) {
+            return ((Number) values[i]).doubleValue();
+        }
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.seatunnel.transform.sql.zeta;
 
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
 import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
 import org.apache.seatunnel.api.table.type.SeaTunnelRow;
 import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
@@ -63,8 +65,23 @@ public class ZetaSQLEngine implements SQLEngine {
 
     private Integer allColumnsCount = null;
 
+    @Nullable private MetricsContext metricsContext;
+
+    private ZetaSQLPredicate filterPredicate;
+    private ZetaSQLEvaluator[] projectionEvaluators;
+
+    private ZetaSQLBatchPredicate batchFilterPredicate;
+    private ZetaSQLBatchEvaluator[] batchProjectionEvaluators;
+    // input field index of projections that only copy an input column, -1 otherwise
+    private int[] batchProjectionColumns;
+
     public ZetaSQLEngine() {}
 
+    @Override
+    public void setMetricsContext(MetricsContext metricsContext) {
+        this.metricsContext = metricsContext;
+    }
+
     @Override
     public void init(
             String inputTableName,
@@ -81,10 +98,19 @@ public class ZetaSQLEngine implements SQLEngine {
         ServiceLoader.load(ZetaUDF.class, classLoader).forEach(udfList::add);
 
         this.zetaSQLType = new ZetaSQLType(inputRowType, udfList);
-        this.zetaSQLFunction = new ZetaSQLFunction(inputRowType, zetaSQLType, udfList);
+        ZetaSQLPatternCache patternCache =
+                metricsContext == null
+                        ? new ZetaSQLPatternCache()
+                        : new ZetaSQLPatternCache(
+                                ZetaSQLPatternCache.DEFAULT_MAX_SIZE,
+                                metricsContext.counter(MetricNames.TRANSFORM_REGEXP_CACHE_HITS),
+                                metricsContext.counter(MetricNames.TRANSFORM_REGEXP_CACHE_MISSES));
+        this.zetaSQLFunction =
+                new ZetaSQLFunction(inputRowType, zetaSQLType, udfList, patternCache);
         this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
 
         parseSQL();
+        compileSQL();
     }
 
     private void parseSQL() {
@@ -100,6 +126,76 @@ public class ZetaSQLEngine implements SQLEngine {
         }
     }
 
+    /**
+     * Lower the WHERE clause and the SELECT list into pre-resolved evaluators, so that the
+     * expression tree is walked once here instead of once per row.
+     */
+    private void compileSQL() {
+        this.filterPredicate = zetaSQLFilter.compile(selectBody.getWhere());
+
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        ZetaSQLEvaluator[] evaluators = new ZetaSQLEvaluator[countColumnsSize(selectItems)];
+        int idx = 0;
+        for (SelectItem selectItem : selectItems) {
+            if (selectItem instanceof AllColumns) {
+                for (int i = 0; i < inputRowType.getTotalFields(); i++) {
+                    int fieldIndex = i;
+                    evaluators[idx] = inputFields -> inputFields[fieldIndex];
+                    idx++;
+                }
+            } else if (selectItem instanceof SelectExpressionItem) {
+                SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
+                evaluators[idx] = zetaSQLFunction.compile(expressionItem.getExpression());
+                idx++;
+            } else {
+                evaluators[idx] = inputFields -> null;
+                idx++;
+            }
+        }
+        this.projectionEvaluators = evaluators;
+    }
+
+    /**
+     * Compile the WHERE clause and the SELECT list for batch mode, done on the first batch so
+     * engines only used row by row never pay for it.
+     */
+    private void compileBatchSQL() {
+        ZetaSQLBatchCompiler batchCompiler =
+                new ZetaSQLBatchCompiler(inputRowType, zetaSQLFunction, zetaSQLFilter, zetaSQLType);
+
+        List<SelectItem> selectItems = selectBody.getSelectItems();
+        int columnsSize = countColumnsSize(selectItems);
+        ZetaSQLBatchEvaluator[] evaluators = new ZetaSQLBatchEvaluator[columnsSize];
+        int[] columns = new int[columnsSize];
+        Arrays.fill(columns, -1);
+        int idx = 0;
+        for (SelectItem selectItem : selectItems) {
+            if (selectItem instanceof AllColumns) {
+                for (int i = 0; i < inputRowType.getTotalFields(); i++) {
+                    columns[idx] = i;
+                    idx++;
+                }
+            } else if (selectItem instanceof SelectExpressionItem) {
+                Expression expression = ((SelectExpressionItem) selectItem).getExpression();
+                int index =
+                        expression instanceof Column
+                                ? inputRowType.indexOf(((Column) expression).getColumnName(), false)
+                                : -1;
+                if (index != -1) {
+                    columns[idx] = index;
+                } else {
+                    evaluators[idx] = batchCompiler.compile(expression);
+                }
+                idx++;
+            } else {
+                idx++;
+            }
+        }
+        this.batchProjectionColumns = columns;
+        this.batchProjectionEvaluators = evaluators;
+        this.batchFilterPredicate = batchCompiler.compilePredicate(selectBody.getWhere());
+    }
+
     private void validateSQL(Statement statement) {
         try {
             if (!(statement instanceof Select)) {
@@ -226,7 +322,7 @@ public class ZetaSQLEngine implements SQLEngine {
         Object[] inputFields = scanTable(inputRow);
 
         // Filter
-        boolean retain = zetaSQLFilter.executeFilter(selectBody.getWhere(), inputFields);
+        boolean retain = filterPredicate.test(inputFields);
         if (!retain) {
             return null;
         }
@@ -240,33 +336,61 @@ public class ZetaSQLEngine implements SQLEngine {
         return seaTunnelRow;
     }
 
+    @Override
+    public List<SeaTunnelRow> transformBySQL(List<SeaTunnelRow> inputRows) {
+        if (batchFilterPredicate == null) {
+            compileBatchSQL();
+        }
+        int size = inputRows.size();
+        Object[][] rows = new Object[size][];
+        for (int i = 0; i < size; i++) {
+            rows[i] = scanTable(inputRows.get(i));
+        }
+        boolean[] all = new boolean[size];
+        Arrays.fill(all, true);
+
+        // Filter
+        boolean[] selected = batchFilterPredicate.test(rows, size, all);
+
+        // Project, only the retained rows are evaluated
+        ZetaSQLColumnVector[] vectors = new ZetaSQLColumnVector[batchProjectionEvaluators.length];
+        for (int j = 0; j < vectors.length; j++) {
+            if (batchProjectionEvaluators[j] != null) {
+                vectors[j] = batchProjectionEvaluators[j].evaluate(rows, size, selected);
+            }
+        }
+
+        List<SeaTunnelRow> outputRows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (!selected[i]) {
+                continue;
+            }
+            Object[] outputFields = new Object[vectors.length];
+            for (int j = 0; j < vectors.length; j++) {
+                if (vectors[j] != null) {
+                    outputFields[j] = vectors[j].get(i);
+                } else if (batchProjectionColumns[j] != -1) {
+                    outputFields[j] = rows[i][batchProjectionColumns[j]];
+                }
+            }
+            SeaTunnelRow inputRow = inputRows.get(i);
+            SeaTunnelRow seaTunnelRow = new SeaTunnelRow(outputFields);
+            seaTunnelRow.setRowKind(inputRow.getRowKind());
+            seaTunnelRow.setTableId(inputRow.getTableId());
+            outputRows.add(seaTunnelRow);
+        }
+        return outputRows;
+    }
+
     private Object[] scanTable(SeaTunnelRow inputRow) {
         // do nothing, only return the input fields
         return inputRow.getFields();
     }
 
     private Object[] project(Object[] inputFields) {
-        List<SelectItem> selectItems = selectBody.getSelectItems();
-
-        int columnsSize = countColumnsSize(selectItems);
-
-        Object[] fields = new Object[columnsSize];
-
-        int idx = 0;
-        for (SelectItem selectItem : selectItems) {
-            if (selectItem instanceof AllColumns) {
-                for (Object inputField : inputFields) {
-                    fields[idx] = inputField;
-                    idx++;
-                }
-            } else if (selectItem instanceof SelectExpressionItem) {
-                SelectExpressionItem expressionItem = (SelectExpressionItem) selectItem;
-                Expression expression = expressionItem.getExpression();
-                fields[idx] = zetaSQLFunction.computeForValue(expression, inputFields);
-                idx++;
-            } else {
-                idx++;
-            }
+        Object[] fields = new Object[projectionEvaluators.length];
+        for (int i = 0; i < projectionEvaluators.length; i++) {
+            fields[i] = projectionEvaluators[i].evaluate(inputFields);
         }
         return fields;
     }
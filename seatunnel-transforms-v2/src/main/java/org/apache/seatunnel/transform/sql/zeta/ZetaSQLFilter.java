@@ -21,11 +21,10 @@ import org.apache.seatunnel.api.table.type.BasicType;
 import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
 import org.apache.seatunnel.transform.exception.TransformException;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import net.sf.jsqlparser.expression.Expression;
 import net.sf.jsqlparser.expression.Function;
 import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.StringValue;
 import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
 import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
 import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
@@ -43,7 +42,7 @@ import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.regex.Matcher;
+import java.util.List;
 import java.util.regex.Pattern;
 
 public class ZetaSQLFilter {
@@ -59,209 +58,7 @@ public class ZetaSQLFilter {
         return BasicType.BOOLEAN_TYPE.equals(zetaSQLType.getExpressionType(expression));
     }
 
-    public boolean executeFilter(Expression whereExpr, Object[] inputFields) {
-        if (whereExpr == null) {
-            return true;
-        }
-        if (whereExpr instanceof Function) {
-            return functionExpr((Function) whereExpr, inputFields);
-        }
-        if (whereExpr instanceof IsNullExpression) {
-            return isNullExpr((IsNullExpression) whereExpr, inputFields);
-        }
-        if (whereExpr instanceof InExpression) {
-            return inExpr((InExpression) whereExpr, inputFields);
-        }
-        if (whereExpr instanceof LikeExpression) {
-            boolean isNotLike = ((LikeExpression) whereExpr).isNot();
-            // not like SQL parsing
-            if (isNotLike) {
-                return notLikeExpr((LikeExpression) whereExpr, inputFields);
-            }
-            // like SQL parsing
-            if (!isNotLike) {
-                return likeExpr((LikeExpression) whereExpr, inputFields);
-            }
-        }
-        if (whereExpr instanceof ComparisonOperator) {
-            Pair<Object, Object> pair =
-                    executeComparisonOperator((ComparisonOperator) whereExpr, inputFields);
-            if (whereExpr instanceof EqualsTo) {
-                return equalsToExpr(pair);
-            }
-            if (whereExpr instanceof NotEqualsTo) {
-                return notEqualsToExpr(pair);
-            }
-            if (whereExpr instanceof GreaterThan) {
-                return greaterThanExpr(pair);
-            }
-            if (whereExpr instanceof GreaterThanEquals) {
-                return greaterThanEqualsExpr(pair);
-            }
-            if (whereExpr instanceof MinorThan) {
-                return minorThanExpr(pair);
-            }
-            if (whereExpr instanceof MinorThanEquals) {
-                return minorThanEqualsExpr(pair);
-            }
-        }
-        if (whereExpr instanceof AndExpression) {
-            return andExpr((AndExpression) whereExpr, inputFields);
-        }
-        if (whereExpr instanceof OrExpression) {
-            return orExpr((OrExpression) whereExpr, inputFields);
-        }
-        if (whereExpr instanceof Parenthesis) {
-            return parenthesisExpr((Parenthesis) whereExpr, inputFields);
-        }
-        throw new TransformException(
-                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
-                String.format("Unsupported SQL Expression: %s ", whereExpr));
-    }
-
-    private boolean functionExpr(Function function, Object[] inputFields) {
-        Boolean result = (Boolean) zetaSQLFunction.computeForValue(function, inputFields);
-        if (result == null) {
-            return false;
-        }
-        return result;
-    }
-
-    private boolean isNullExpr(IsNullExpression isNullExpression, Object[] inputFields) {
-        Expression leftExpr = isNullExpression.getLeftExpression();
-        Object leftVal = zetaSQLFunction.computeForValue(leftExpr, inputFields);
-        if (isNullExpression.isNot()) {
-            return leftVal != null;
-        } else {
-            return leftVal == null;
-        }
-    }
-
-    private boolean inExpr(InExpression inExpression, Object[] inputFields) {
-        Expression leftExpr = inExpression.getLeftExpression();
-        ExpressionList itemsList = (ExpressionList) inExpression.getRightItemsList();
-        Object leftValue = zetaSQLFunction.computeForValue(leftExpr, inputFields);
-        for (Expression exprItem : itemsList.getExpressions()) {
-            Object rightValue = zetaSQLFunction.computeForValue(exprItem, inputFields);
-            if (leftValue == null && rightValue == null) {
-                return true;
-            }
-            if (leftValue != null) {
-                if (leftValue instanceof Number && rightValue instanceof Number) {
-                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
-                        return !inExpression.isNot();
-                    }
-                } else if (leftValue.equals(rightValue)) {
-                    return !inExpression.isNot();
-                }
-
-            } else {
-                return false;
-            }
-        }
-        return inExpression.isNot(); // if all not in return true
-    }
-
-    /**
-     * Like expression filter
-     *
-     * @param likeExpression like expression
-     * @param inputFields input fields
-     * @return filter result
-     */
-    private boolean likeExpr(LikeExpression likeExpression, Object[] inputFields) {
-        Expression leftExpr = likeExpression.getLeftExpression();
-        Object leftVal = zetaSQLFunction.computeForValue(leftExpr, inputFields);
-        if (leftVal == null) {
-            return false;
-        }
-        Expression rightExpr = likeExpression.getRightExpression();
-        Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        String regex = rightVal.toString();
-        if (rightVal == null && regex.length() > 0) {
-            return false;
-        }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return matcher.matches();
-    }
-
-    /**
-     * Not Like expression filter
-     *
-     * @param likeExpression not like expression
-     * @param inputFields input fields
-     * @return filter result
-     */
-    private boolean notLikeExpr(LikeExpression likeExpression, Object[] inputFields) {
-        Expression leftExpr = likeExpression.getLeftExpression();
-        Object leftVal = zetaSQLFunction.computeForValue(leftExpr, inputFields);
-        if (leftVal == null) {
-            return false;
-        }
-        Expression rightExpr = likeExpression.getRightExpression();
-        Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        String regex = rightVal.toString();
-        if (rightVal == null && regex.length() > 0) {
-            return false;
-        }
-        String likeIdent = "%";
-        if (regex.startsWith(likeIdent)) {
-            regex = regex.replaceFirst(likeIdent, ".*");
-        }
-        if (regex.endsWith(likeIdent)) {
-            regex = regex.substring(0, regex.length() - 1) + ".*";
-        }
-        if (regex.startsWith("_")) {
-            regex = regex.replaceFirst("_", ".");
-        }
-        if (regex.endsWith("_")) {
-            regex = regex.substring(0, regex.length() - 1) + ".";
-        }
-        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
-            regex = regex.substring(0, regex.length() - 3) + "..*";
-        }
-        if (regex.startsWith("'") && regex.endsWith("'")) {
-            regex = regex.substring(0, regex.length() - 1).substring(1);
-        }
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(leftVal.toString());
-
-        return !matcher.matches();
-    }
-
-    private Pair<Object, Object> executeComparisonOperator(
-            ComparisonOperator comparisonOperator, Object[] inputFields) {
-        Expression leftExpr = comparisonOperator.getLeftExpression();
-        Expression rightExpr = comparisonOperator.getRightExpression();
-        Object leftVal = zetaSQLFunction.computeForValue(leftExpr, inputFields);
-        Object rightVal = zetaSQLFunction.computeForValue(rightExpr, inputFields);
-        return Pair.of(leftVal, rightVal);
-    }
-
-    boolean equalsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean equalsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -271,9 +68,7 @@ public class ZetaSQLFilter {
         return leftVal.equals(rightVal);
     }
 
-    private boolean notEqualsToExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean notEqualsToExpr(Object leftVal, Object rightVal) {
         if (leftVal == null) {
             return rightVal != null;
         }
@@ -283,9 +78,7 @@ public class ZetaSQLFilter {
         return !leftVal.equals(rightVal);
     }
 
-    private boolean greaterThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean greaterThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -311,9 +104,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean greaterThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean greaterThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -341,9 +132,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean minorThanExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -369,9 +158,7 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean minorThanEqualsExpr(Pair<Object, Object> pair) {
-        Object leftVal = pair.getLeft();
-        Object rightVal = pair.getRight();
+    boolean minorThanEqualsExpr(Object leftVal, Object rightVal) {
         if (leftVal == null || rightVal == null) {
             return false;
         }
@@ -399,24 +186,189 @@ public class ZetaSQLFilter {
                         leftVal.getClass().getSimpleName(), rightVal.getClass().getSimpleName()));
     }
 
-    private boolean andExpr(AndExpression andExpression, Object[] inputFields) {
-        Expression leftExpr = andExpression.getLeftExpression();
-        boolean leftRes = executeFilter(leftExpr, inputFields);
-        Expression rightExpr = andExpression.getRightExpression();
-        boolean rightRes = executeFilter(rightExpr, inputFields);
-        return leftRes && rightRes;
+    static String likeToRegex(String regex) {
+        String likeIdent = "%";
+        if (regex.startsWith(likeIdent)) {
+            regex = regex.replaceFirst(likeIdent, ".*");
+        }
+        if (regex.endsWith(likeIdent)) {
+            regex = regex.substring(0, regex.length() - 1) + ".*";
+        }
+        if (regex.startsWith("_")) {
+            regex = regex.replaceFirst("_", ".");
+        }
+        if (regex.endsWith("_")) {
+            regex = regex.substring(0, regex.length() - 1) + ".";
+        }
+        if (regex.length() >= 3 && regex.substring(regex.length() - 3).endsWith("_.*")) {
+            regex = regex.substring(0, regex.length() - 3) + "..*";
+        }
+        if (regex.startsWith("'") && regex.endsWith("'")) {
+            regex = regex.substring(0, regex.length() - 1).substring(1);
+        }
+        return regex;
     }
 
-    private boolean orExpr(OrExpression orExpression, Object[] inputFields) {
-        Expression leftExpr = orExpression.getLeftExpression();
-        boolean leftRes = executeFilter(leftExpr, inputFields);
-        Expression rightExpr = orExpression.getRightExpression();
-        boolean rightRes = executeFilter(rightExpr, inputFields);
-        return leftRes || rightRes;
+    /**
+     * Compile a condition into a {@link ZetaSQLPredicate}, the expression tree is only walked once
+     * instead of for every row.
+     */
+    public ZetaSQLPredicate compile(Expression whereExpr) {
+        if (whereExpr == null) {
+            return ZetaSQLPredicate.ALWAYS_TRUE;
+        }
+        if (whereExpr instanceof Function) {
+            ZetaSQLEvaluator evaluator = zetaSQLFunction.compile(whereExpr);
+            return inputFields -> {
+                Boolean result = (Boolean) evaluator.evaluate(inputFields);
+                return result != null && result;
+            };
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            ZetaSQLEvaluator evaluator =
+                    zetaSQLFunction.compile(isNullExpression.getLeftExpression());
+            if (isNullExpression.isNot()) {
+                return inputFields -> evaluator.evaluate(inputFields) != null;
+            }
+            return inputFields -> evaluator.evaluate(inputFields) == null;
+        }
+        if (whereExpr instanceof InExpression) {
+            return compileInExpr((InExpression) whereExpr);
+        }
+        if (whereExpr instanceof LikeExpression) {
+            return compileLikeExpr((LikeExpression) whereExpr);
+        }
+        if (whereExpr instanceof ComparisonOperator) {
+            return compileComparisonOperator((ComparisonOperator) whereExpr);
+        }
+        if (whereExpr instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) whereExpr;
+            ZetaSQLPredicate left = compile(andExpression.getLeftExpression());
+            ZetaSQLPredicate right = compile(andExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) && right.test(inputFields);
+        }
+        if (whereExpr instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) whereExpr;
+            ZetaSQLPredicate left = compile(orExpression.getLeftExpression());
+            ZetaSQLPredicate right = compile(orExpression.getRightExpression());
+            return inputFields -> left.test(inputFields) || right.test(inputFields);
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return compile(((Parenthesis) whereExpr).getExpression());
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", whereExpr));
     }
 
-    private boolean parenthesisExpr(Parenthesis parenthesis, Object[] inputFields) {
-        Expression expression = parenthesis.getExpression();
-        return executeFilter(expression, inputFields);
+    private ZetaSQLPredicate compileInExpr(InExpression inExpression) {
+        ZetaSQLEvaluator leftEvaluator = zetaSQLFunction.compile(inExpression.getLeftExpression());
+        List<Expression> items =
+                ((ExpressionList) inExpression.getRightItemsList()).getExpressions();
+        ZetaSQLEvaluator[] itemEvaluators = new ZetaSQLEvaluator[items.size()];
+        for (int i = 0; i < itemEvaluators.length; i++) {
+            itemEvaluators[i] = zetaSQLFunction.compile(items.get(i));
+        }
+        boolean isNot = inExpression.isNot();
+        return inputFields -> {
+            Object leftValue = leftEvaluator.evaluate(inputFields);
+            for (ZetaSQLEvaluator itemEvaluator : itemEvaluators) {
+                Object rightValue = itemEvaluator.evaluate(inputFields);
+                if (leftValue == null) {
+                    return rightValue == null;
+                }
+                if (leftValue instanceof Number && rightValue instanceof Number) {
+                    if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                        return !isNot;
+                    }
+                } else if (leftValue.equals(rightValue)) {
+                    return !isNot;
+                }
+            }
+            return isNot;
+        };
+    }
+
+    private ZetaSQLPredicate compileLikeExpr(LikeExpression likeExpression) {
+        ZetaSQLEvaluator leftEvaluator =
+                zetaSQLFunction.compile(likeExpression.getLeftExpression());
+        ZetaSQLEvaluator rightEvaluator =
+                zetaSQLFunction.compile(likeExpression.getRightExpression());
+        boolean isNot = likeExpression.isNot();
+        if (likeExpression.getRightExpression() instanceof StringValue) {
+            // literal pattern, compile it once for all rows
+            Pattern pattern =
+                    Pattern.compile(
+                            likeToRegex(
+                                    ((StringValue) likeExpression.getRightExpression())
+                                            .getValue()));
+            return inputFields -> {
+                Object leftVal = leftEvaluator.evaluate(inputFields);
+                if (leftVal == null) {
+                    return false;
+                }
+                return pattern.matcher(leftVal.toString()).matches() != isNot;
+            };
+        }
+        ZetaSQLPatternCache patternCache = zetaSQLFunction.getPatternCache();
+        return inputFields -> {
+            Object leftVal = leftEvaluator.evaluate(inputFields);
+            if (leftVal == null) {
+                return false;
+            }
+            Object rightVal = rightEvaluator.evaluate(inputFields);
+            if (rightVal == null) {
+                return false;
+            }
+            Pattern pattern = patternCache.compile(likeToRegex(rightVal.toString()), 0);
+            return pattern.matcher(leftVal.toString()).matches() != isNot;
+        };
+    }
+
+    private ZetaSQLPredicate compileComparisonOperator(ComparisonOperator comparisonOperator) {
+        ZetaSQLEvaluator leftEvaluator =
+                zetaSQLFunction.compile(comparisonOperator.getLeftExpression());
+        ZetaSQLEvaluator rightEvaluator =
+                zetaSQLFunction.compile(comparisonOperator.getRightExpression());
+        if (comparisonOperator instanceof EqualsTo) {
+            return inputFields ->
+                    equalsToExpr(
+                            leftEvaluator.evaluate(inputFields),
+                            rightEvaluator.evaluate(inputFields));
+        }
+        if (comparisonOperator instanceof NotEqualsTo) {
+            return inputFields ->
+                    notEqualsToExpr(
+                            leftEvaluator.evaluate(inputFields),
+                            rightEvaluator.evaluate(inputFields));
+        }
+        if (comparisonOperator instanceof GreaterThan) {
+            return inputFields ->
+                    greaterThanExpr(
+                            leftEvaluator.evaluate(inputFields),
+                            rightEvaluator.evaluate(inputFields));
+        }
+        if (comparisonOperator instanceof GreaterThanEquals) {
+            return inputFields ->
+                    greaterThanEqualsExpr(
+                            leftEvaluator.evaluate(inputFields),
+                            rightEvaluator.evaluate(inputFields));
+        }
+        if (comparisonOperator instanceof MinorThan) {
+            return inputFields ->
+                    minorThanExpr(
+                            leftEvaluator.evaluate(inputFields),
+                            rightEvaluator.evaluate(inputFields));
+        }
+        if (comparisonOperator instanceof MinorThanEquals) {
+            return inputFields ->
+                    minorThanEqualsExpr(
+                            leftEvaluator.evaluate(inputFields),
+                            rightEvaluator.evaluate(inputFields));
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", comparisonOperator));
     }
 }
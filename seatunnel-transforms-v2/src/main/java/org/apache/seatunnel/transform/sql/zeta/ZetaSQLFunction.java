@@ -30,8 +30,6 @@ import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
 import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
 import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
 
-import org.apache.commons.lang3.tuple.Pair;
-
 import net.sf.jsqlparser.expression.BinaryExpression;
 import net.sf.jsqlparser.expression.CaseExpression;
 import net.sf.jsqlparser.expression.CastExpression;
@@ -58,8 +56,12 @@ import net.sf.jsqlparser.schema.Column;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 public class ZetaSQLFunction {
     // ============================internal functions=====================
@@ -177,326 +179,213 @@ public class ZetaSQLFunction {
 
     private final List<ZetaUDF> udfList;
 
+    private final ZetaSQLPatternCache patternCache;
+
     public ZetaSQLFunction(
             SeaTunnelRowType inputRowType, ZetaSQLType zetaSQLType, List<ZetaUDF> udfList) {
+        this(inputRowType, zetaSQLType, udfList, new ZetaSQLPatternCache());
+    }
+
+    public ZetaSQLFunction(
+            SeaTunnelRowType inputRowType,
+            ZetaSQLType zetaSQLType,
+            List<ZetaUDF> udfList,
+            ZetaSQLPatternCache patternCache) {
         this.inputRowType = inputRowType;
         this.zetaSQLType = zetaSQLType;
-        this.zetaSQLFilter = new ZetaSQLFilter(this, zetaSQLType);
         this.udfList = udfList;
+        this.patternCache = patternCache;
+        this.zetaSQLFilter = new ZetaSQLFilter(this, zetaSQLType);
     }
 
-    public Object computeForValue(Expression expression, Object[] inputFields) {
-        if (expression instanceof NullValue) {
-            return null;
-        }
-        if (expression instanceof SignedExpression) {
-            SignedExpression signedExpression = (SignedExpression) expression;
-            if (signedExpression.getSign() == '-') {
-                Object value = computeForValue(signedExpression.getExpression(), inputFields);
-                if (value instanceof Integer) {
-                    return -((Integer) value);
-                }
-                if (value instanceof Long) {
-                    return -((Long) value);
-                }
-                if (value instanceof Double) {
-                    return -((Double) value);
-                }
-                if (value instanceof Number) {
-                    return -((Number) value).doubleValue();
-                }
-            } else {
-                return computeForValue(signedExpression, inputFields);
-            }
-        }
-        if (expression instanceof DoubleValue) {
-            return ((DoubleValue) expression).getValue();
-        }
-        if (expression instanceof LongValue) {
-            long longVal = ((LongValue) expression).getValue();
-            if (longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE) {
-                return (int) longVal;
-            } else {
-                return longVal;
-            }
-        }
-        if (expression instanceof StringValue) {
-            return ((StringValue) expression).getValue();
-        }
-        if (expression instanceof Column) {
-            Column columnExp = (Column) expression;
-            String columnName = columnExp.getColumnName();
-            int index = inputRowType.indexOf(columnName, false);
-            if (index != -1) {
-                return inputFields[index];
-            } else {
-                String fullyQualifiedName = columnExp.getFullyQualifiedName();
-                String[] columnNames = fullyQualifiedName.split("\\.");
-                int deep = columnNames.length;
-                SeaTunnelDataType parDataType = inputRowType;
-                SeaTunnelRow parRowValues = new SeaTunnelRow(inputFields);
-                Object res = parRowValues;
-                for (int i = 0; i < deep; i++) {
-                    if (parDataType instanceof MapType) {
-                        return ((Map) res).get(columnNames[i]);
-                    }
-                    parRowValues = (SeaTunnelRow) res;
-                    int idx = ((SeaTunnelRowType) parDataType).indexOf(columnNames[i], false);
-                    if (idx == -1) {
-                        throw new IllegalArgumentException(
-                                String.format("can't find field [%s]", fullyQualifiedName));
-                    }
-                    parDataType = ((SeaTunnelRowType) parDataType).getFieldType(idx);
-                    res = parRowValues.getFields()[idx];
-                }
-                return res;
-            }
-        }
-        if (expression instanceof Function) {
-            Function function = (Function) expression;
-            ExpressionList expressionList = function.getParameters();
-            List<Object> functionArgs = new ArrayList<>();
-            if (expressionList != null) {
-                for (Expression funcArgExpression : expressionList.getExpressions()) {
-                    functionArgs.add(computeForValue(funcArgExpression, inputFields));
-                }
-            }
-            return executeFunctionExpr(function.getName(), functionArgs);
-        }
-        if (expression instanceof TimeKeyExpression) {
-            return executeTimeKeyExpr(((TimeKeyExpression) expression).getStringValue());
-        }
-        if (expression instanceof ExtractExpression) {
-            ExtractExpression extract = (ExtractExpression) expression;
-            List<Object> functionArgs = new ArrayList<>();
-            functionArgs.add(computeForValue(extract.getExpression(), inputFields));
-            functionArgs.add(extract.getName());
-            return executeFunctionExpr(ZetaSQLFunction.EXTRACT, functionArgs);
-        }
-        if (expression instanceof Parenthesis) {
-            Parenthesis parenthesis = (Parenthesis) expression;
-            return computeForValue(parenthesis.getExpression(), inputFields);
-        }
-        if (expression instanceof CaseExpression) {
-            CaseExpression caseExpression = (CaseExpression) expression;
-            final Object value = executeCaseExpr(caseExpression, inputFields);
-            SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(expression);
-            return SystemFunction.castAs(value, type);
-        }
-        if (expression instanceof BinaryExpression) {
-            return executeBinaryExpr((BinaryExpression) expression, inputFields);
-        }
-        if (expression instanceof CastExpression) {
-            CastExpression castExpression = (CastExpression) expression;
-            Expression leftExpr = castExpression.getLeftExpression();
-            Object leftValue = computeForValue(leftExpr, inputFields);
-            return executeCastExpr(castExpression, leftValue);
-        }
-        throw new TransformException(
-                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
-                String.format("Unsupported SQL Expression: %s ", expression.toString()));
-    }
-
-    public Object executeCaseExpr(CaseExpression caseExpression, Object[] inputFields) {
-        Expression switchExpr = caseExpression.getSwitchExpression();
-        Object switchValue = switchExpr == null ? null : computeForValue(switchExpr, inputFields);
-        for (WhenClause whenClause : caseExpression.getWhenClauses()) {
-            Expression whenExpression = whenClause.getWhenExpression();
-            final Object when =
-                    zetaSQLFilter.isConditionExpr(whenExpression)
-                            ? zetaSQLFilter.executeFilter(whenExpression, inputFields)
-                            : computeForValue(whenExpression, inputFields);
-            // match: case [column] when column1 compare other, add by javalover123
-            if (when instanceof Boolean && (boolean) when) {
-                return computeForValue(whenClause.getThenExpression(), inputFields);
-            } else if (zetaSQLFilter.equalsToExpr(Pair.of(switchValue, when))) {
-                return computeForValue(whenClause.getThenExpression(), inputFields);
-            }
-        }
-        final Expression elseExpression = caseExpression.getElseExpression();
-        return elseExpression == null ? null : computeForValue(elseExpression, inputFields);
+    public ZetaSQLPatternCache getPatternCache() {
+        return patternCache;
     }
 
-    public Object executeFunctionExpr(String functionName, List<Object> args) {
+    /**
+     * Resolve a function name to the implementation that evaluates it, so the lookup can be done
+     * once when the SQL is compiled instead of for every row.
+     */
+    public FunctionHandle resolveFunction(String functionName) {
         switch (functionName.toUpperCase()) {
             case ASCII:
-                return StringFunction.ascii(args);
+                return StringFunction::ascii;
             case BIT_LENGTH:
-                return StringFunction.bitLength(args);
+                return StringFunction::bitLength;
             case CHAR_LENGTH:
             case LENGTH:
-                return StringFunction.charLength(args);
+                return StringFunction::charLength;
             case OCTET_LENGTH:
-                return StringFunction.octetLength(args);
+                return StringFunction::octetLength;
             case CHAR:
             case CHR:
-                return StringFunction.chr(args);
+                return StringFunction::chr;
             case CONCAT:
-                return StringFunction.concat(args);
+                return StringFunction::concat;
             case CONCAT_WS:
-                return StringFunction.concatWs(args);
+                return StringFunction::concatWs;
             case HEXTORAW:
-                return StringFunction.hextoraw(args);
+                return StringFunction::hextoraw;
             case RAWTOHEX:
-                return StringFunction.rawtohex(args);
+                return StringFunction::rawtohex;
             case INSERT:
-                return StringFunction.insert(args);
+                return StringFunction::insert;
             case LOWER:
             case LCASE:
-                return StringFunction.lower(args);
+                return StringFunction::lower;
             case UPPER:
             case UCASE:
-                return StringFunction.upper(args);
+                return StringFunction::upper;
             case LEFT:
-                return StringFunction.left(args);
+                return StringFunction::left;
             case RIGHT:
-                return StringFunction.right(args);
+                return StringFunction::right;
             case LOCATE:
             case POSITION:
-                return StringFunction.location(functionName, args);
+                return args -> StringFunction.location(functionName, args);
             case INSTR:
-                return StringFunction.instr(args);
+                return StringFunction::instr;
             case LPAD:
             case RPAD:
-                return StringFunction.pad(functionName, args);
+                return args -> StringFunction.pad(functionName, args);
             case LTRIM:
-                return StringFunction.ltrim(args);
+                return StringFunction::ltrim;
             case RTRIM:
-                return StringFunction.rtrim(args);
+                return StringFunction::rtrim;
             case TRIM:
-                return StringFunction.trim(args);
+                return StringFunction::trim;
             case REGEXP_REPLACE:
-                return StringFunction.regexpReplace(args);
+                return args -> StringFunction.regexpReplace(args, patternCache);
             case REGEXP_LIKE:
-                return StringFunction.regexpLike(args);
+                return args -> StringFunction.regexpLike(args, patternCache);
             case REGEXP_SUBSTR:
-                return StringFunction.regexpSubstr(args);
+                return args -> StringFunction.regexpSubstr(args, patternCache);
             case REPEAT:
-                return StringFunction.repeat(args);
+                return StringFunction::repeat;
             case REPLACE:
-                return StringFunction.replace(args);
+                return StringFunction::replace;
             case SOUNDEX:
-                return StringFunction.soundex(args);
+                return StringFunction::soundex;
             case SPACE:
-                return StringFunction.space(args);
+                return StringFunction::space;
             case SUBSTRING:
             case SUBSTR:
-                return StringFunction.substring(args);
+                return StringFunction::substring;
             case TO_CHAR:
-                return StringFunction.toChar(args);
+                return StringFunction::toChar;
             case TRANSLATE:
-                return StringFunction.translate(args);
+                return StringFunction::translate;
             case ABS:
-                return NumericFunction.abs(args);
+                return NumericFunction::abs;
             case ACOS:
-                return NumericFunction.acos(args);
+                return NumericFunction::acos;
             case ASIN:
-                return NumericFunction.asin(args);
+                return NumericFunction::asin;
             case ATAN:
-                return NumericFunction.atan(args);
+                return NumericFunction::atan;
             case COS:
-                return NumericFunction.cos(args);
+                return NumericFunction::cos;
             case COSH:
-                return NumericFunction.cosh(args);
+                return NumericFunction::cosh;
             case COT:
-                return NumericFunction.cot(args);
+                return NumericFunction::cot;
             case SIN:
-                return NumericFunction.sin(args);
+                return NumericFunction::sin;
             case SINH:
-                return NumericFunction.sinh(args);
+                return NumericFunction::sinh;
             case TAN:
-                return NumericFunction.tan(args);
+                return NumericFunction::tan;
             case TANH:
-                return NumericFunction.tanh(args);
+                return NumericFunction::tanh;
             case ATAN2:
-                return NumericFunction.atan2(args);
+                return NumericFunction::atan2;
             case MOD:
-                return NumericFunction.mod(args);
+                return NumericFunction::mod;
             case CEIL:
             case CEILING:
-                return NumericFunction.ceil(args);
+                return NumericFunction::ceil;
             case EXP:
-                return NumericFunction.exp(args);
+                return NumericFunction::exp;
             case FLOOR:
-                return NumericFunction.floor(args);
+                return NumericFunction::floor;
             case LN:
-                return NumericFunction.ln(args);
+                return NumericFunction::ln;
             case LOG:
-                return NumericFunction.log(args);
+                return NumericFunction::log;
             case LOG10:
-                return NumericFunction.log10(args);
+                return NumericFunction::log10;
             case RADIANS:
-                return NumericFunction.radians(args);
+                return NumericFunction::radians;
             case SQRT:
-                return NumericFunction.sqrt(args);
+                return NumericFunction::sqrt;
             case PI:
-                return NumericFunction.pi(args);
+                return NumericFunction::pi;
             case POWER:
-                return NumericFunction.power(args);
+                return NumericFunction::power;
             case RAND:
             case RANDOM:
-                return NumericFunction.random(args);
+                return NumericFunction::random;
             case ROUND:
-                return NumericFunction.round(args);
+                return NumericFunction::round;
             case SIGN:
-                return NumericFunction.sign(args);
+                return NumericFunction::sign;
             case TRUNC:
             case TRUNCATE:
-                return NumericFunction.trunc(args);
+                return NumericFunction::trunc;
             case NOW:
-                return DateTimeFunction.currentTimestamp();
+                return args -> DateTimeFunction.currentTimestamp();
             case DATEADD:
             case TIMESTAMPADD:
-                return DateTimeFunction.dateadd(args);
+                return DateTimeFunction::dateadd;
             case DATEDIFF:
-                return DateTimeFunction.datediff(args);
+                return DateTimeFunction::datediff;
             case DATE_TRUNC:
-                return DateTimeFunction.dateTrunc(args);
+                return DateTimeFunction::dateTrunc;
             case DAYNAME:
-                return DateTimeFunction.dayname(args);
+                return DateTimeFunction::dayname;
             case DAY_OF_MONTH:
-                return DateTimeFunction.dayOfMonth(args);
+                return DateTimeFunction::dayOfMonth;
             case DAY_OF_WEEK:
-                return DateTimeFunction.dayOfWeek(args);
+                return DateTimeFunction::dayOfWeek;
             case DAY_OF_YEAR:
-                return DateTimeFunction.dayOfYear(args);
+                return DateTimeFunction::dayOfYear;
             case FROM_UNIXTIME:
-                return DateTimeFunction.fromUnixTime(args);
+                return DateTimeFunction::fromUnixTime;
             case EXTRACT:
-                return DateTimeFunction.extract(args);
+                return DateTimeFunction::extract;
             case FORMATDATETIME:
-                return DateTimeFunction.formatdatetime(args);
+                return DateTimeFunction::formatdatetime;
             case HOUR:
-                return DateTimeFunction.hour(args);
+                return DateTimeFunction::hour;
             case MINUTE:
-                return DateTimeFunction.minute(args);
+                return DateTimeFunction::minute;
             case MONTH:
-                return DateTimeFunction.month(args);
+                return DateTimeFunction::month;
             case MONTHNAME:
-                return DateTimeFunction.monthname(args);
+                return DateTimeFunction::monthname;
             case PARSEDATETIME:
             case TO_DATE:
-                return DateTimeFunction.parsedatetime(args);
+                return DateTimeFunction::parsedatetime;
             case IS_DATE:
-                return DateTimeFunction.isDate(args);
+                return DateTimeFunction::isDate;
             case QUARTER:
-                return DateTimeFunction.quarter(args);
+                return DateTimeFunction::quarter;
             case SECOND:
-                return DateTimeFunction.second(args);
+                return DateTimeFunction::second;
             case WEEK:
-                return DateTimeFunction.week(args);
+                return DateTimeFunction::week;
             case YEAR:
-                return DateTimeFunction.year(args);
+                return DateTimeFunction::year;
             case COALESCE:
-                return SystemFunction.coalesce(args);
+                return SystemFunction::coalesce;
             case IFNULL:
-                return SystemFunction.ifnull(args);
+                return SystemFunction::ifnull;
             case NULLIF:
-                return SystemFunction.nullif(args);
+                return SystemFunction::nullif;
             default:
                 for (ZetaUDF udf : udfList) {
                     if (udf.functionName().equalsIgnoreCase(functionName)) {
-                        return udf.evaluate(args);
+                        return udf::evaluate;
                     }
                 }
                 throw new TransformException(
@@ -505,136 +394,411 @@ public class ZetaSQLFunction {
         }
     }
 
-    public Object executeTimeKeyExpr(String timeKeyExpr) {
+    private Supplier<Object> resolveTimeKey(String timeKeyExpr) {
         switch (timeKeyExpr.toUpperCase()) {
             case CURRENT_DATE:
             case CURRENT_DATE_P:
-                return DateTimeFunction.currentDate();
+                return DateTimeFunction::currentDate;
             case CURRENT_TIME:
             case CURRENT_TIME_P:
-                return DateTimeFunction.currentTime();
+                return DateTimeFunction::currentTime;
             case CURRENT_TIMESTAMP:
             case CURRENT_TIMESTAMP_P:
-                return DateTimeFunction.currentTimestamp();
+                return DateTimeFunction::currentTimestamp;
         }
         throw new TransformException(
                 CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
                 String.format("Unsupported TimeKey expression: %s", timeKeyExpr));
     }
 
-    public Object executeCastExpr(CastExpression castExpression, Object arg) {
-        String dataType = castExpression.getType().getDataType();
-        List<Object> args = new ArrayList<>(2);
-        args.add(arg);
-        args.add(dataType.toUpperCase());
-        if (dataType.equalsIgnoreCase("DECIMAL")) {
-            List<String> ps = castExpression.getType().getArgumentsStringList();
-            args.add(Integer.parseInt(ps.get(0)));
-            args.add(Integer.parseInt(ps.get(1)));
-        }
-        return SystemFunction.castAs(args);
-    }
-
-    private Object executeBinaryExpr(BinaryExpression binaryExpression, Object[] inputFields) {
-        if (binaryExpression instanceof Concat) {
-            Concat concat = (Concat) binaryExpression;
-            Expression leftExpr = concat.getLeftExpression();
-            Expression rightExpr = concat.getRightExpression();
-            Function function = new Function();
-            function.setName(ZetaSQLFunction.CONCAT);
-            ExpressionList expressionList = new ExpressionList();
-            expressionList.setExpressions(new ArrayList<>());
-            expressionList.getExpressions().add(leftExpr);
-            expressionList.getExpressions().add(rightExpr);
-            function.setParameters(expressionList);
-            return computeForValue(function, inputFields);
-        }
-        Number leftValue =
-                (Number) computeForValue(binaryExpression.getLeftExpression(), inputFields);
-        Number rightValue =
-                (Number) computeForValue(binaryExpression.getRightExpression(), inputFields);
-        if (leftValue == null || rightValue == null) {
-            return null;
-        }
-        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+    private NumericOperator resolveNumericOperator(
+            BinaryExpression binaryExpression, SeaTunnelDataType<?> resultType) {
         if (resultType.getSqlType() == SqlType.INT) {
             if (binaryExpression instanceof Addition) {
-                return leftValue.intValue() + rightValue.intValue();
+                return (leftValue, rightValue) -> leftValue.intValue() + rightValue.intValue();
             }
             if (binaryExpression instanceof Subtraction) {
-                return leftValue.intValue() - rightValue.intValue();
+                return (leftValue, rightValue) -> leftValue.intValue() - rightValue.intValue();
             }
             if (binaryExpression instanceof Multiplication) {
-                return leftValue.intValue() * rightValue.intValue();
+                return (leftValue, rightValue) -> leftValue.intValue() * rightValue.intValue();
             }
             if (binaryExpression instanceof Division) {
-                return leftValue.intValue() / rightValue.intValue();
+                return (leftValue, rightValue) -> leftValue.intValue() / rightValue.intValue();
             }
             if (binaryExpression instanceof Modulo) {
-                return leftValue.intValue() % rightValue.intValue();
+                return (leftValue, rightValue) -> leftValue.intValue() % rightValue.intValue();
             }
         }
         if (resultType.getSqlType() == SqlType.DECIMAL) {
-            BigDecimal bigDecimal = BigDecimal.valueOf(leftValue.doubleValue());
             if (binaryExpression instanceof Addition) {
-                return bigDecimal.add(BigDecimal.valueOf(rightValue.doubleValue()));
+                return (leftValue, rightValue) ->
+                        BigDecimal.valueOf(leftValue.doubleValue())
+                                .add(BigDecimal.valueOf(rightValue.doubleValue()));
             }
             if (binaryExpression instanceof Subtraction) {
-                return bigDecimal.subtract(BigDecimal.valueOf(rightValue.doubleValue()));
+                return (leftValue, rightValue) ->
+                        BigDecimal.valueOf(leftValue.doubleValue())
+                                .subtract(BigDecimal.valueOf(rightValue.doubleValue()));
             }
             if (binaryExpression instanceof Multiplication) {
-                return bigDecimal.multiply(BigDecimal.valueOf(rightValue.doubleValue()));
+                return (leftValue, rightValue) ->
+                        BigDecimal.valueOf(leftValue.doubleValue())
+                                .multiply(BigDecimal.valueOf(rightValue.doubleValue()));
             }
             if (binaryExpression instanceof Division) {
-                DecimalType decimalType = (DecimalType) resultType;
-                return bigDecimal.divide(
-                        BigDecimal.valueOf(rightValue.doubleValue()),
-                        decimalType.getScale(),
-                        RoundingMode.UP);
+                int scale = ((DecimalType) resultType).getScale();
+                return (leftValue, rightValue) ->
+                        BigDecimal.valueOf(leftValue.doubleValue())
+                                .divide(
+                                        BigDecimal.valueOf(rightValue.doubleValue()),
+                                        scale,
+                                        RoundingMode.UP);
             }
             if (binaryExpression instanceof Modulo) {
-                List<Object> args = new ArrayList<>();
-                args.add(leftValue);
-                args.add(rightValue);
-                return NumericFunction.mod(args);
+                return (leftValue, rightValue) -> {
+                    List<Object> args = new ArrayList<>();
+                    args.add(leftValue);
+                    args.add(rightValue);
+                    return NumericFunction.mod(args);
+                };
             }
         }
         if (resultType.getSqlType() == SqlType.DOUBLE) {
             if (binaryExpression instanceof Addition) {
-                return leftValue.doubleValue() + rightValue.doubleValue();
+                return (leftValue, rightValue) ->
+                        leftValue.doubleValue() + rightValue.doubleValue();
             }
             if (binaryExpression instanceof Subtraction) {
-                return leftValue.doubleValue() - rightValue.doubleValue();
+                return (leftValue, rightValue) ->
+                        leftValue.doubleValue() - rightValue.doubleValue();
             }
             if (binaryExpression instanceof Multiplication) {
-                return leftValue.doubleValue() * rightValue.doubleValue();
+                return (leftValue, rightValue) ->
+                        leftValue.doubleValue() * rightValue.doubleValue();
             }
             if (binaryExpression instanceof Division) {
-                return leftValue.doubleValue() / rightValue.doubleValue();
+                return (leftValue, rightValue) ->
+                        leftValue.doubleValue() / rightValue.doubleValue();
             }
             if (binaryExpression instanceof Modulo) {
-                return leftValue.doubleValue() % rightValue.doubleValue();
+                return (leftValue, rightValue) ->
+                        leftValue.doubleValue() % rightValue.doubleValue();
             }
         }
         if (resultType.getSqlType() == SqlType.BIGINT) {
             if (binaryExpression instanceof Addition) {
-                return leftValue.longValue() + rightValue.longValue();
+                return (leftValue, rightValue) -> leftValue.longValue() + rightValue.longValue();
             }
             if (binaryExpression instanceof Subtraction) {
-                return leftValue.longValue() - rightValue.longValue();
+                return (leftValue, rightValue) -> leftValue.longValue() - rightValue.longValue();
             }
             if (binaryExpression instanceof Multiplication) {
-                return leftValue.longValue() * rightValue.longValue();
+                return (leftValue, rightValue) -> leftValue.longValue() * rightValue.longValue();
             }
             if (binaryExpression instanceof Division) {
-                return leftValue.longValue() / rightValue.longValue();
+                return (leftValue, rightValue) -> leftValue.longValue() / rightValue.longValue();
             }
             if (binaryExpression instanceof Modulo) {
-                return leftValue.longValue() % rightValue.longValue();
+                return (leftValue, rightValue) -> leftValue.longValue() % rightValue.longValue();
             }
         }
         throw new TransformException(
                 CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
                 String.format("Unsupported SQL Expression: %s ", binaryExpression));
     }
+
+    /**
+     * Compile an expression into a {@link ZetaSQLEvaluator}, all the dispatch on the expression
+     * tree is done here once instead of for every row.
+     */
+    public ZetaSQLEvaluator compile(Expression expression) {
+        if (expression instanceof NullValue) {
+            return inputFields -> null;
+        }
+        if (expression instanceof SignedExpression) {
+            return compileSignedExpr((SignedExpression) expression);
+        }
+        if (expression instanceof DoubleValue) {
+            Object value = ((DoubleValue) expression).getValue();
+            return inputFields -> value;
+        }
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            Object value =
+                    longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE
+                            ? (Object) (int) longVal
+                            : (Object) longVal;
+            return inputFields -> value;
+        }
+        if (expression instanceof StringValue) {
+            Object value = ((StringValue) expression).getValue();
+            return inputFields -> value;
+        }
+        if (expression instanceof Column) {
+            return compileColumn((Column) expression);
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            ExpressionList expressionList = function.getParameters();
+            List<Expression> argExpressions =
+                    expressionList == null
+                            ? Collections.emptyList()
+                            : expressionList.getExpressions();
+            return compileFunctionCall(function.getName(), argExpressions);
+        }
+        if (expression instanceof TimeKeyExpression) {
+            Supplier<Object> timeKey =
+                    resolveTimeKey(((TimeKeyExpression) expression).getStringValue());
+            return inputFields -> timeKey.get();
+        }
+        if (expression instanceof ExtractExpression) {
+            ExtractExpression extract = (ExtractExpression) expression;
+            FunctionHandle handle = resolveFunction(ZetaSQLFunction.EXTRACT);
+            ZetaSQLEvaluator argEvaluator = compile(extract.getExpression());
+            String name = extract.getName();
+            return inputFields -> {
+                List<Object> functionArgs = new ArrayList<>(2);
+                functionArgs.add(argEvaluator.evaluate(inputFields));
+                functionArgs.add(name);
+                return handle.apply(functionArgs);
+            };
+        }
+        if (expression instanceof Parenthesis) {
+            return compile(((Parenthesis) expression).getExpression());
+        }
+        if (expression instanceof CaseExpression) {
+            return compileCaseExpr((CaseExpression) expression);
+        }
+        if (expression instanceof BinaryExpression) {
+            return compileBinaryExpr((BinaryExpression) expression);
+        }
+        if (expression instanceof CastExpression) {
+            return compileCastExpr((CastExpression) expression);
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", expression.toString()));
+    }
+
+    private ZetaSQLEvaluator compileSignedExpr(SignedExpression signedExpression) {
+        ZetaSQLEvaluator evaluator = compile(signedExpression.getExpression());
+        if (signedExpression.getSign() != '-') {
+            return evaluator;
+        }
+        return inputFields -> {
+            Object value = evaluator.evaluate(inputFields);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Integer) {
+                return -((Integer) value);
+            }
+            if (value instanceof Long) {
+                return -((Long) value);
+            }
+            if (value instanceof Double) {
+                return -((Double) value);
+            }
+            if (value instanceof Number) {
+                return -((Number) value).doubleValue();
+            }
+            throw new TransformException(
+                    CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                    String.format("Unsupported SQL Expression: %s ", signedExpression));
+        };
+    }
+
+    private ZetaSQLEvaluator compileColumn(Column columnExp) {
+        int index = inputRowType.indexOf(columnExp.getColumnName(), false);
+        if (index != -1) {
+            return inputFields -> inputFields[index];
+        }
+        // resolve the path of a struct query once, the map key (if any) is always the last one
+        String fullyQualifiedName = columnExp.getFullyQualifiedName();
+        String[] columnNames = fullyQualifiedName.split("\\.");
+        int[] path = new int[columnNames.length];
+        int deep = 0;
+        String mapKey = null;
+        SeaTunnelDataType<?> parDataType = inputRowType;
+        for (String columnName : columnNames) {
+            if (parDataType instanceof MapType) {
+                mapKey = columnName;
+                break;
+            }
+            int idx = ((SeaTunnelRowType) parDataType).indexOf(columnName, false);
+            if (idx == -1) {
+                throw new IllegalArgumentException(
+                        String.format("can't find field [%s]", fullyQualifiedName));
+            }
+            path[deep++] = idx;
+            parDataType = ((SeaTunnelRowType) parDataType).getFieldType(idx);
+        }
+        int[] fieldPath = Arrays.copyOf(path, deep);
+        String key = mapKey;
+        return inputFields -> {
+            Object res = inputFields[fieldPath[0]];
+            for (int i = 1; i < fieldPath.length && res != null; i++) {
+                res = ((SeaTunnelRow) res).getField(fieldPath[i]);
+            }
+            if (res == null || key == null) {
+                return res;
+            }
+            return ((Map<?, ?>) res).get(key);
+        };
+    }
+
+    private ZetaSQLEvaluator compileFunctionCall(
+            String functionName, List<Expression> argExpressions) {
+        FunctionHandle handle = resolveLiteralRegexpFunction(functionName, argExpressions);
+        if (handle == null) {
+            handle = resolveFunction(functionName);
+        }
+        FunctionHandle functionHandle = handle;
+        ZetaSQLEvaluator[] argEvaluators = new ZetaSQLEvaluator[argExpressions.size()];
+        for (int i = 0; i < argEvaluators.length; i++) {
+            argEvaluators[i] = compile(argExpressions.get(i));
+        }
+        return inputFields -> {
+            List<Object> functionArgs = new ArrayList<>(argEvaluators.length);
+            for (ZetaSQLEvaluator argEvaluator : argEvaluators) {
+                functionArgs.add(argEvaluator.evaluate(inputFields));
+            }
+            return functionHandle.apply(functionArgs);
+        };
+    }
+
+    /**
+     * Bind a REGEXP_* function whose pattern and mode are literals to a pattern compiled right now.
+     * Returns null if the pattern is only known at runtime, in which case the function goes through
+     * the {@link ZetaSQLPatternCache}.
+     */
+    private FunctionHandle resolveLiteralRegexpFunction(
+            String functionName, List<Expression> argExpressions) {
+        int modeIndex;
+        switch (functionName.toUpperCase()) {
+            case REGEXP_REPLACE:
+                modeIndex = 3;
+                break;
+            case REGEXP_LIKE:
+                modeIndex = 2;
+                break;
+            case REGEXP_SUBSTR:
+                modeIndex = 4;
+                break;
+            default:
+                return null;
+        }
+        if (argExpressions.size() < 2 || !(argExpressions.get(1) instanceof StringValue)) {
+            return null;
+        }
+        String regexpMode = null;
+        if (argExpressions.size() > modeIndex) {
+            Expression modeExpression = argExpressions.get(modeIndex);
+            if (modeExpression instanceof StringValue) {
+                regexpMode = ((StringValue) modeExpression).getValue();
+            } else if (!(modeExpression instanceof NullValue)) {
+                return null;
+            }
+        }
+        Pattern pattern =
+                Pattern.compile(
+                        ((StringValue) argExpressions.get(1)).getValue(),
+                        StringFunction.makeRegexpFlags(regexpMode, false));
+        StringFunction.RegexpCompiler literalCompiler = (regexp, flags) -> pattern;
+        switch (functionName.toUpperCase()) {
+            case REGEXP_REPLACE:
+                return args -> StringFunction.regexpReplace(args, literalCompiler);
+            case REGEXP_LIKE:
+                return args -> StringFunction.regexpLike(args, literalCompiler);
+            default:
+                return args -> StringFunction.regexpSubstr(args, literalCompiler);
+        }
+    }
+
+    private ZetaSQLEvaluator compileCaseExpr(CaseExpression caseExpression) {
+        Expression switchExpr = caseExpression.getSwitchExpression();
+        ZetaSQLEvaluator switchEvaluator =
+                switchExpr == null ? inputFields -> null : compile(switchExpr);
+        List<WhenClause> whenClauses = caseExpression.getWhenClauses();
+        ZetaSQLEvaluator[] whenEvaluators = new ZetaSQLEvaluator[whenClauses.size()];
+        ZetaSQLEvaluator[] thenEvaluators = new ZetaSQLEvaluator[whenClauses.size()];
+        for (int i = 0; i < whenClauses.size(); i++) {
+            Expression whenExpression = whenClauses.get(i).getWhenExpression();
+            if (zetaSQLFilter.isConditionExpr(whenExpression)) {
+                ZetaSQLPredicate predicate = zetaSQLFilter.compile(whenExpression);
+                whenEvaluators[i] = predicate::test;
+            } else {
+                whenEvaluators[i] = compile(whenExpression);
+            }
+            thenEvaluators[i] = compile(whenClauses.get(i).getThenExpression());
+        }
+        Expression elseExpression = caseExpression.getElseExpression();
+        ZetaSQLEvaluator elseEvaluator =
+                elseExpression == null ? inputFields -> null : compile(elseExpression);
+        SeaTunnelDataType<?> type = zetaSQLType.getExpressionType(caseExpression);
+        return inputFields -> {
+            Object switchValue = switchEvaluator.evaluate(inputFields);
+            for (int i = 0; i < whenEvaluators.length; i++) {
+                Object when = whenEvaluators[i].evaluate(inputFields);
+                if ((when instanceof Boolean && (boolean) when)
+                        || zetaSQLFilter.equalsToExpr(switchValue, when)) {
+                    return SystemFunction.castAs(thenEvaluators[i].evaluate(inputFields), type);
+                }
+            }
+            return SystemFunction.castAs(elseEvaluator.evaluate(inputFields), type);
+        };
+    }
+
+    private ZetaSQLEvaluator compileBinaryExpr(BinaryExpression binaryExpression) {
+        if (binaryExpression instanceof Concat) {
+            return compileFunctionCall(
+                    ZetaSQLFunction.CONCAT,
+                    Arrays.asList(
+                            binaryExpression.getLeftExpression(),
+                            binaryExpression.getRightExpression()));
+        }
+        ZetaSQLEvaluator leftEvaluator = compile(binaryExpression.getLeftExpression());
+        ZetaSQLEvaluator rightEvaluator = compile(binaryExpression.getRightExpression());
+        NumericOperator operator =
+                resolveNumericOperator(
+                        binaryExpression, zetaSQLType.getExpressionType(binaryExpression));
+        return inputFields -> {
+            Number leftValue = (Number) leftEvaluator.evaluate(inputFields);
+            Number rightValue = (Number) rightEvaluator.evaluate(inputFields);
+            if (leftValue == null || rightValue == null) {
+                return null;
+            }
+            return operator.apply(leftValue, rightValue);
+        };
+    }
+
+    private ZetaSQLEvaluator compileCastExpr(CastExpression castExpression) {
+        ZetaSQLEvaluator leftEvaluator = compile(castExpression.getLeftExpression());
+        String dataType = castExpression.getType().getDataType().toUpperCase();
+        List<Object> typeArgs = new ArrayList<>(3);
+        typeArgs.add(dataType);
+        if (dataType.equals("DECIMAL")) {
+            List<String> ps = castExpression.getType().getArgumentsStringList();
+            typeArgs.add(Integer.parseInt(ps.get(0)));
+            typeArgs.add(Integer.parseInt(ps.get(1)));
+        }
+        return inputFields -> {
+            List<Object> args = new ArrayList<>(typeArgs.size() + 1);
+            args.add(leftEvaluator.evaluate(inputFields));
+            args.addAll(typeArgs);
+            return SystemFunction.castAs(args);
+        };
+    }
+
+    /** A resolved SQL function, which evaluates the already computed function arguments. */
+    @FunctionalInterface
+    public interface FunctionHandle {
+        Object apply(List<Object> args);
+    }
+
+    @FunctionalInterface
+    private interface NumericOperator {
+        Object apply(Number leftValue, Number rightValue);
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.common.metrics.Counter;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
+import org.apache.seatunnel.transform.sql.zeta.functions.StringFunction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded LRU cache of the regular expressions that are computed at runtime by LIKE and the
+ * REGEXP_* functions, keyed by the regexp and its flags. Literal patterns are compiled when the SQL
+ * is compiled and never reach this cache. Not thread safe, each {@link ZetaSQLEngine} owns its own
+ * instance.
+ */
+public class ZetaSQLPatternCache implements StringFunction.RegexpCompiler {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final int maxSize;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final LinkedHashMap<PatternKey, Pattern> patterns;
+
+    public ZetaSQLPatternCache() {
+        this(
+                DEFAULT_MAX_SIZE,
+                new ThreadSafeCounter(MetricNames.TRANSFORM_REGEXP_CACHE_HITS),
+                new ThreadSafeCounter(MetricNames.TRANSFORM_REGEXP_CACHE_MISSES));
+    }
+
+    public ZetaSQLPatternCache(int maxSize, Counter hitCounter, Counter missCounter) {
+        this.maxSize = maxSize;
+        this.hitCounter = hitCounter;
+        this.missCounter = missCounter;
+        this.patterns =
+                new LinkedHashMap<PatternKey, Pattern>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<PatternKey, Pattern> eldest) {
+                        return size() > ZetaSQLPatternCache.this.maxSize;
+                    }
+                };
+    }
+
+    @Override
+    public Pattern compile(String regexp, int flags) {
+        PatternKey key = new PatternKey(regexp, flags);
+        Pattern pattern = patterns.get(key);
+        if (pattern != null) {
+            hitCounter.inc();
+            return pattern;
+        }
+        missCounter.inc();
+        pattern = Pattern.compile(regexp, flags);
+        patterns.put(key, pattern);
+        return pattern;
+    }
+
+    public Counter getHitCounter() {
+        return hitCounter;
+    }
+
+    public Counter getMissCounter() {
+        return missCounter;
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    private static final class PatternKey {
+        private final String regexp;
+        private final int flags;
+
+        private PatternKey(String regexp, int flags) {
+            this.regexp = regexp;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey that = (PatternKey) o;
+            return flags == that.flags && regexp.equals(that.regexp);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(regexp, flags);
+        }
+    }
+}
@@ -29,6 +29,13 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class StringFunction {
+
+    /** Compiles the regular expressions used by the REGEXP_* functions. */
+    @FunctionalInterface
+    public interface RegexpCompiler {
+        Pattern compile(String regexp, int flags);
+    }
+
     private static final byte[] SOUNDEX_INDEX =
             "71237128722455712623718272\000\000\000\000\000\00071237128722455712623718272"
                     .getBytes(StandardCharsets.ISO_8859_1);
@@ -350,6 +357,10 @@ public class StringFunction {
     }
 
     public static String regexpReplace(List<Object> args) {
+        return regexpReplace(args, Pattern::compile);
+    }
+
+    public static String regexpReplace(List<Object> args, RegexpCompiler regexpCompiler) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
@@ -360,7 +371,7 @@ public class StringFunction {
         if (args.size() >= 4) {
             regexpMode = (String) args.get(3);
         }
-        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode);
+        return regexpReplace(input, regexp, replacement, 1, 0, regexpMode, regexpCompiler);
     }
 
     private static String regexpReplace(
@@ -369,10 +380,14 @@ public class StringFunction {
             String replacement,
             int position,
             int occurrence,
-            String regexpMode) {
+            String regexpMode,
+            RegexpCompiler regexpCompiler) {
         int flags = makeRegexpFlags(regexpMode, false);
         Matcher matcher =
-                Pattern.compile(regexp, flags).matcher(input).region(position - 1, input.length());
+                regexpCompiler
+                        .compile(regexp, flags)
+                        .matcher(input)
+                        .region(position - 1, input.length());
         if (occurrence == 0) {
             return matcher.replaceAll(replacement);
         } else {
@@ -391,6 +406,10 @@ public class StringFunction {
     }
 
     public static Boolean regexpLike(List<Object> args) {
+        return regexpLike(args, Pattern::compile);
+    }
+
+    public static Boolean regexpLike(List<Object> args, RegexpCompiler regexpCompiler) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
@@ -401,10 +420,10 @@ public class StringFunction {
             regexpMode = (String) args.get(2);
         }
         int flags = makeRegexpFlags(regexpMode, false);
-        return Pattern.compile(regexp, flags).matcher(input).find();
+        return regexpCompiler.compile(regexp, flags).matcher(input).find();
     }
 
-    private static int makeRegexpFlags(String stringFlags, boolean ignoreGlobalFlag) {
+    public static int makeRegexpFlags(String stringFlags, boolean ignoreGlobalFlag) {
         int flags = Pattern.UNICODE_CASE;
         if (stringFlags != null) {
             for (int i = 0; i < stringFlags.length(); ++i) {
@@ -439,13 +458,17 @@ public class StringFunction {
     }
 
     public static String regexpSubstr(List<Object> args) {
+        return regexpSubstr(args, Pattern::compile);
+    }
+
+    public static String regexpSubstr(List<Object> args, RegexpCompiler regexpCompiler) {
         String input = (String) args.get(0);
         if (input == null) {
             return null;
         }
         String regexp = (String) args.get(1);
         if (args.size() == 2) {
-            return regexpSubstr(input, regexp, null, null, null, null);
+            return regexpSubstr(input, regexp, null, null, null, null, regexpCompiler);
         }
         if (args.size() >= 6) {
             Integer positionArg = null;
@@ -462,7 +485,13 @@ public class StringFunction {
                 subexpressionArg = ((Number) args.get(5)).intValue();
             }
             return regexpSubstr(
-                    input, regexp, positionArg, occurrenceArg, regexpMode, subexpressionArg);
+                    input,
+                    regexp,
+                    positionArg,
+                    occurrenceArg,
+                    regexpMode,
+                    subexpressionArg,
+                    regexpCompiler);
         }
 
         return null;
@@ -475,11 +504,29 @@ public class StringFunction {
             Integer occurrenceArg,
             String regexpMode,
             Integer subexpressionArg) {
+        return regexpSubstr(
+                input,
+                regexp,
+                positionArg,
+                occurrenceArg,
+                regexpMode,
+                subexpressionArg,
+                Pattern::compile);
+    }
+
+    private static String regexpSubstr(
+            String input,
+            String regexp,
+            Integer positionArg,
+            Integer occurrenceArg,
+            String regexpMode,
+            Integer subexpressionArg,
+            RegexpCompiler regexpCompiler) {
         int position = positionArg != null ? positionArg - 1 : 0;
         int requestedOccurrence = occurrenceArg != null ? occurrenceArg : 1;
         int subexpression = subexpressionArg != null ? subexpressionArg : 0;
         int flags = makeRegexpFlags(regexpMode, false);
-        Matcher m = Pattern.compile(regexp, flags).matcher(input);
+        Matcher m = regexpCompiler.compile(regexp, flags).matcher(input);
 
         boolean found = m.find(position);
         for (int occurrence = 1; occurrence < requestedOccurrence && found; occurrence++) {
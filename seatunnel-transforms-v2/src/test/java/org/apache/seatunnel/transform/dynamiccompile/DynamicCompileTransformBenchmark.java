@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.dynamiccompile;
+
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.common.utils.ReflectionUtils;
+import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor;
+import org.apache.seatunnel.transform.dynamiccompile.parse.AbstractParse;
+import org.apache.seatunnel.transform.dynamiccompile.parse.GroovyClassParse;
+import org.apache.seatunnel.transform.dynamiccompile.parse.JavaClassParse;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rows per second of {@link DynamicCompileTransform}: {@code perRowReflection} is the former
+ * implementation, which resolved the class by the digest of the source code, created an instance
+ * and invoked the entry point by reflection for every row, {@code boundMethodHandle} is the
+ * transform itself.
+ *
+ * <p>Run with {@code java -cp <test classpath>
+ * org.apache.seatunnel.transform.dynamiccompile.DynamicCompileTransformBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DynamicCompileTransformBenchmark {
+
+    private static final int BATCH_SIZE = 1024;
+
+    @Param({"JAVA", "GROOVY"})
+    private CompileLanguage language;
+
+    private String sourceCode;
+    private AbstractParse parse;
+    private DynamicCompileTransform transform;
+    private SeaTunnelRow[] rows;
+
+    @Setup
+    public void setup() {
+        if (language == CompileLanguage.JAVA) {
+            sourceCode = DynamicCompileTransformTest.JAVA_SOURCE_CODE;
+            parse = new JavaClassParse();
+        } else {
+            sourceCode = DynamicCompileTransformTest.GROOVY_SOURCE_CODE;
+            parse = new GroovyClassParse();
+        }
+        transform =
+                new DynamicCompileTransform(
+                        DynamicCompileTransformTest.config(language, sourceCode),
+                        DynamicCompileTransformTest.catalogTable());
+        transform.getProducedCatalogTable();
+        transform.open();
+        rows = new SeaTunnelRow[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows[i] = new SeaTunnelRow(new Object[] {i, "name_" + i});
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void perRowReflection(Blackhole blackhole) throws Exception {
+        for (SeaTunnelRow row : rows) {
+            Object instance = parse.parseClassSourceCode(sourceCode).newInstance();
+            blackhole.consume(
+                    ReflectionUtils.invoke(
+                            instance,
+                            DynamicCompileTransform.getInlineOutputFieldValues,
+                            new SeaTunnelRowAccessor(row)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void boundMethodHandle(Blackhole blackhole) {
+        for (SeaTunnelRow row : rows) {
+            blackhole.consume(transform.map(row));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(DynamicCompileTransformBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
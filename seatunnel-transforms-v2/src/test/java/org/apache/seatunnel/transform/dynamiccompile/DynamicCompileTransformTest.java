@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.dynamiccompile;
+
+import org.apache.seatunnel.api.configuration.ReadonlyConfig;
+import org.apache.seatunnel.api.table.catalog.CatalogTable;
+import org.apache.seatunnel.api.table.catalog.PhysicalColumn;
+import org.apache.seatunnel.api.table.catalog.TableIdentifier;
+import org.apache.seatunnel.api.table.catalog.TableSchema;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.transform.exception.TransformException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+public class DynamicCompileTransformTest {
+
+    static final String JAVA_SOURCE_CODE =
+            "import org.apache.seatunnel.api.table.catalog.CatalogTable;\n"
+                    + "import org.apache.seatunnel.api.table.catalog.Column;\n"
+                    + "import org.apache.seatunnel.api.table.catalog.PhysicalColumn;\n"
+                    + "import org.apache.seatunnel.api.table.type.BasicType;\n"
+                    + "import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor;\n"
+                    + "public Column[] getInlineOutputColumns(CatalogTable inputCatalogTable) {\n"
+                    + "    return new Column[] {\n"
+                    + "        PhysicalColumn.of(\"label\", BasicType.STRING_TYPE, 10, true, \"\", \"\")\n"
+                    + "    };\n"
+                    + "}\n"
+                    + "public Object[] getInlineOutputFieldValues(SeaTunnelRowAccessor inputRow) {\n"
+                    + "    return new Object[] {inputRow.getField(1) + \"_\" + inputRow.getField(0)};\n"
+                    + "}\n";
+
+    static final String GROOVY_SOURCE_CODE =
+            "import org.apache.seatunnel.api.table.catalog.CatalogTable\n"
+                    + "import org.apache.seatunnel.api.table.catalog.Column\n"
+                    + "import org.apache.seatunnel.api.table.catalog.PhysicalColumn\n"
+                    + "import org.apache.seatunnel.api.table.type.BasicType\n"
+                    + "import org.apache.seatunnel.transform.common.SeaTunnelRowAccessor\n"
+                    + "class Label {\n"
+                    + "    Column[] getInlineOutputColumns(CatalogTable inputCatalogTable) {\n"
+                    + "        [PhysicalColumn.of(\"label\", BasicType.STRING_TYPE, 10, true, \"\", \"\")]"
+                    + " as Column[]\n"
+                    + "    }\n"
+                    + "    Object[] getInlineOutputFieldValues(SeaTunnelRowAccessor inputRow) {\n"
+                    + "        [inputRow.getField(1) + \"_\" + inputRow.getField(0)] as Object[]\n"
+                    + "    }\n"
+                    + "}\n";
+
+    @Test
+    public void testJavaSourceCode() {
+        assertTransform(CompileLanguage.JAVA, JAVA_SOURCE_CODE);
+    }
+
+    @Test
+    public void testGroovySourceCode() {
+        assertTransform(CompileLanguage.GROOVY, GROOVY_SOURCE_CODE);
+    }
+
+    @Test
+    public void testFailingSourceCode() {
+        String sourceCode =
+                JAVA_SOURCE_CODE.replace(
+                        "    return new Object[]",
+                        "    if (inputRow.getField(0).equals(1)) {\n"
+                                + "        throw new IllegalStateException(\"boom\");\n"
+                                + "    }\n"
+                                + "    if (inputRow.getField(0).equals(2)) {\n"
+                                + "        throw new StackOverflowError();\n"
+                                + "    }\n"
+                                + "    return new Object[]");
+        DynamicCompileTransform transform =
+                new DynamicCompileTransform(
+                        config(CompileLanguage.JAVA, sourceCode), catalogTable());
+        transform.open();
+
+        TransformException exception =
+                Assertions.assertThrows(
+                        TransformException.class,
+                        () -> transform.map(new SeaTunnelRow(new Object[] {1, "name"})));
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+        Assertions.assertThrows(
+                StackOverflowError.class,
+                () -> transform.map(new SeaTunnelRow(new Object[] {2, "name"})));
+    }
+
+    private void assertTransform(CompileLanguage language, String sourceCode) {
+        DynamicCompileTransform transform =
+                new DynamicCompileTransform(config(language, sourceCode), catalogTable());
+        Assertions.assertEquals(
+                3, transform.getProducedCatalogTable().getTableSchema().getColumns().size());
+        transform.open();
+        for (int i = 0; i < 3; i++) {
+            SeaTunnelRow output = transform.map(new SeaTunnelRow(new Object[] {i, "name"}));
+            Assertions.assertEquals("name_" + i, output.getField(2));
+        }
+    }
+
+    static ReadonlyConfig config(CompileLanguage language, String sourceCode) {
+        HashMap<String, Object> config = new HashMap<>();
+        config.put(DynamicCompileTransformConfig.COMPILE_LANGUAGE.key(), language.name());
+        config.put(DynamicCompileTransformConfig.SOURCE_CODE.key(), sourceCode);
+        return ReadonlyConfig.fromMap(config);
+    }
+
+    static CatalogTable catalogTable() {
+        TableSchema tableSchema =
+                TableSchema.builder()
+                        .column(PhysicalColumn.of("id", BasicType.INT_TYPE, 10, true, null, null))
+                        .column(
+                                PhysicalColumn.of(
+                                        "name", BasicType.STRING_TYPE, 10, true, null, null))
+                        .build();
+        return CatalogTable.of(
+                TableIdentifier.of("test", "test", null, "test"),
+                tableSchema,
+                new HashMap<>(),
+                new ArrayList<>(),
+                "test");
+    }
+}
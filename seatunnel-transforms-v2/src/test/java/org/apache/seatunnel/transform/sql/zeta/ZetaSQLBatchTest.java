@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.RowKind;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ZetaSQLBatchTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "amount", "level"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        BasicType.LONG_TYPE,
+                        BasicType.SHORT_TYPE
+                    });
+
+    private static List<SeaTunnelRow> rows() {
+        List<SeaTunnelRow> rows =
+                new ArrayList<>(
+                        Arrays.asList(
+                                new SeaTunnelRow(
+                                        new Object[] {1, "alice", 17, 12.5, 100L, (short) 1}),
+                                new SeaTunnelRow(new Object[] {2, "bob", 30, 88.0, -5L, (short) 2}),
+                                new SeaTunnelRow(
+                                        new Object[] {3, null, null, 50.5, null, (short) 3}),
+                                new SeaTunnelRow(
+                                        new Object[] {
+                                            Integer.MAX_VALUE, "abba", 45, null, 7L, null
+                                        }),
+                                new SeaTunnelRow(
+                                        new Object[] {0, "carl", 18, 0.0, 0L, (short) 0})));
+        rows.get(1).setRowKind(RowKind.UPDATE_AFTER);
+        rows.get(2).setTableId("test");
+        return rows;
+    }
+
+    @Test
+    public void testBatchMatchesRowMode() {
+        String[] queries =
+                new String[] {
+                    "select * from test",
+                    "select id, name from test where age > 18",
+                    "select id + 1, -age, -score, age * 2 + id, amount - id, level + 1,"
+                            + " score / 2, id % 3, (age + level) * id from test",
+                    "select id, UPPER(name), age + 1 from test where age >= 18 and score < 50.5"
+                            + " or id = 2",
+                    "select name from test where age <> 30",
+                    "select name from test where age is null or name like 'a%'",
+                    "select name, amount from test where amount is not null and"
+                            + " (level = 2 or level + 1 > 3)",
+                    "select id, CASE WHEN age > 18 THEN 'adult' ELSE 'child' END, score + 1"
+                            + " from test where id in (1, 2, 3)"
+                };
+        for (String query : queries) {
+            ZetaSQLEngine engine = new ZetaSQLEngine();
+            engine.init("test", null, ROW_TYPE, query);
+
+            List<SeaTunnelRow> expected = new ArrayList<>();
+            for (SeaTunnelRow row : rows()) {
+                SeaTunnelRow output = engine.transformBySQL(row);
+                if (output != null) {
+                    expected.add(output);
+                }
+            }
+            Assertions.assertEquals(expected, engine.transformBySQL(rows()), query);
+        }
+    }
+
+    @Test
+    public void testBatchDoesNotEvaluateFilteredRows() {
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.init("test", null, ROW_TYPE, "select 100 / id from test where id > 0");
+        List<SeaTunnelRow> outputs = engine.transformBySQL(rows());
+        Assertions.assertEquals(4, outputs.size());
+        Assertions.assertEquals(100, outputs.get(0).getField(0));
+    }
+}
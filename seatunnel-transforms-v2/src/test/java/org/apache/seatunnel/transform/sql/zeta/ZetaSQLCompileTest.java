@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.LocalTimeType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.transform.exception.TransformException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ZetaSQLCompileTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"id", "name", "age", "score", "create_time", "info"},
+                    new SeaTunnelDataType[] {
+                        BasicType.INT_TYPE,
+                        BasicType.STRING_TYPE,
+                        BasicType.INT_TYPE,
+                        BasicType.DOUBLE_TYPE,
+                        LocalTimeType.LOCAL_DATE_TIME_TYPE,
+                        new SeaTunnelRowType(
+                                new String[] {"city"},
+                                new SeaTunnelDataType[] {BasicType.STRING_TYPE})
+                    });
+
+    private static final Object[][] ROWS =
+            new Object[][] {
+                {1, "alice", 17, 12.5, LocalDateTime.of(2023, 1, 1, 8, 0), row("paris")},
+                {2, "bob", 30, 88.0, LocalDateTime.of(2022, 6, 30, 23, 59), row("rome")},
+                {3, "carl", 18, 50.5, LocalDateTime.of(2021, 12, 31, 0, 0), row((Object) null)},
+                {4, "abba", 45, 0.0, LocalDateTime.of(2020, 2, 29, 12, 30), row("oslo")}
+            };
+
+    @Test
+    public void testCompiledProjection() throws Exception {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, new ArrayList<>());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, new ArrayList<>());
+        Map<String, Object[]> expressions = new LinkedHashMap<>();
+        expressions.put("id", new Object[] {1, 2, 3, 4});
+        expressions.put("-age", new Object[] {-17, -30, -18, -45});
+        expressions.put("age + 1", new Object[] {18, 31, 19, 46});
+        expressions.put("score * 2", new Object[] {25.0, 176.0, 101.0, 0.0});
+        expressions.put("id / 2", new Object[] {0, 1, 1, 2});
+        expressions.put("age % 3", new Object[] {2, 0, 0, 0});
+        expressions.put(
+                "id + 10000000000",
+                new Object[] {10000000001L, 10000000002L, 10000000003L, 10000000004L});
+        expressions.put("name || '_x'", new Object[] {"alice_x", "bob_x", "carl_x", "abba_x"});
+        expressions.put("UPPER(name)", new Object[] {"ALICE", "BOB", "CARL", "ABBA"});
+        expressions.put("CONCAT(name, id)", new Object[] {"alice1", "bob2", "carl3", "abba4"});
+        expressions.put("(age + id) * 2", new Object[] {36, 64, 42, 98});
+        expressions.put("CAST(id AS STRING)", new Object[] {"1", "2", "3", "4"});
+        expressions.put("info.city", new Object[] {"paris", "rome", null, "oslo"});
+        expressions.put("EXTRACT(YEAR FROM create_time)", new Object[] {2023, 2022, 2021, 2020});
+        expressions.put(
+                "CASE WHEN age > 18 THEN 'adult' ELSE 'child' END",
+                new Object[] {"child", "adult", "child", "adult"});
+        expressions.put(
+                "CASE id WHEN 1 THEN 'one' WHEN 2 THEN 'two' END",
+                new Object[] {"one", "two", null, null});
+        expressions.put(
+                "IFNULL(info.city, 'none')", new Object[] {"paris", "rome", "none", "oslo"});
+        for (Map.Entry<String, Object[]> entry : expressions.entrySet()) {
+            SelectExpressionItem item =
+                    (SelectExpressionItem)
+                            parse("select " + entry.getKey() + " from test")
+                                    .getSelectItems()
+                                    .get(0);
+            ZetaSQLEvaluator evaluator = zetaSQLFunction.compile(item.getExpression());
+            for (int i = 0; i < ROWS.length; i++) {
+                Assertions.assertEquals(
+                        entry.getValue()[i], evaluator.evaluate(ROWS[i]), entry.getKey());
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledFilter() throws Exception {
+        ZetaSQLType zetaSQLType = new ZetaSQLType(ROW_TYPE, new ArrayList<>());
+        ZetaSQLFunction zetaSQLFunction =
+                new ZetaSQLFunction(ROW_TYPE, zetaSQLType, new ArrayList<>());
+        ZetaSQLFilter zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+        Map<String, boolean[]> conditions = new LinkedHashMap<>();
+        conditions.put("age > 18", new boolean[] {false, true, false, true});
+        conditions.put(
+                "age >= 18 and score < 50.5 or id = 2", new boolean[] {false, true, false, true});
+        conditions.put("name like 'a%'", new boolean[] {true, false, false, true});
+        conditions.put("name not like '%b_'", new boolean[] {true, true, true, false});
+        conditions.put("id in (1, 3)", new boolean[] {true, false, true, false});
+        conditions.put("id not in (1, 3)", new boolean[] {false, true, false, true});
+        conditions.put("info.city is null", new boolean[] {false, false, true, false});
+        conditions.put(
+                "(age <> 30) and REGEXP_LIKE(name, 'a.*')",
+                new boolean[] {true, false, true, true});
+        for (Map.Entry<String, boolean[]> entry : conditions.entrySet()) {
+            PlainSelect select = parse("select * from test where " + entry.getKey());
+            ZetaSQLPredicate predicate = zetaSQLFilter.compile(select.getWhere());
+            for (int i = 0; i < ROWS.length; i++) {
+                Assertions.assertEquals(
+                        entry.getValue()[i], predicate.test(ROWS[i]), entry.getKey());
+            }
+        }
+
+        // a timestamp is not comparable with a string literal
+        ZetaSQLPredicate mismatched =
+                zetaSQLFilter.compile(
+                        parse("select * from test where create_time < '2022-01-01'").getWhere());
+        Assertions.assertThrows(TransformException.class, () -> mismatched.test(ROWS[0]));
+    }
+
+    @Test
+    public void testEngineUsesCompiledPlan() {
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select id, name || '-' || age as label from test where age >= 18");
+        Assertions.assertNull(engine.transformBySQL(new SeaTunnelRow(ROWS[0])));
+        SeaTunnelRow output = engine.transformBySQL(new SeaTunnelRow(ROWS[1]));
+        Assertions.assertArrayEquals(new Object[] {2, "bob-30"}, output.getFields());
+    }
+
+    private static PlainSelect parse(String sql) throws Exception {
+        return (PlainSelect) ((Select) CCJSqlParserUtil.parse(sql)).getSelectBody();
+    }
+
+    private static SeaTunnelRow row(Object... fields) {
+        return new SeaTunnelRow(fields);
+    }
+}
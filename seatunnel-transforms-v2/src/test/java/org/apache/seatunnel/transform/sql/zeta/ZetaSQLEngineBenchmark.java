@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.parser.CCJSqlParserUtil;
+import net.sf.jsqlparser.statement.select.PlainSelect;
+import net.sf.jsqlparser.statement.select.Select;
+import net.sf.jsqlparser.statement.select.SelectExpressionItem;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the plan compiled by {@link ZetaSQLEngine#init} with the row-by-row {@link
+ * ZetaSQLInterpreter} it replaced, for a projection and a filter mixing columns, arithmetic,
+ * functions and a CASE expression.
+ *
+ * <p>Run with {@code java -cp <test classpath>
+ * org.apache.seatunnel.transform.sql.zeta.ZetaSQLEngineBenchmark}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZetaSQLEngineBenchmark {
+
+    private static final String SQL =
+            "select id, UPPER(name) as name, age + 1 as next_age, score * 1.5 as weighted,"
+                    + " CASE WHEN age >= 18 THEN 'adult' ELSE 'child' END as stage from test"
+                    + " where age > 10 and score >= 0.5 and name is not null";
+
+    private static final int BATCH_SIZE = 1024;
+
+    private SeaTunnelRowType rowType;
+    private SeaTunnelRow[] rows;
+
+    private ZetaSQLEngine engine;
+
+    private ZetaSQLInterpreter interpreter;
+    private Expression whereExpr;
+    private Expression[] selectExprs;
+
+    @Setup
+    public void setup() throws Exception {
+        rowType =
+                new SeaTunnelRowType(
+                        new String[] {"id", "name", "age", "score"},
+                        new SeaTunnelDataType[] {
+                            BasicType.LONG_TYPE,
+                            BasicType.STRING_TYPE,
+                            BasicType.INT_TYPE,
+                            BasicType.DOUBLE_TYPE
+                        });
+        rows = new SeaTunnelRow[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            rows[i] = new SeaTunnelRow(new Object[] {(long) i, "name_" + i, i % 80, i * 0.25});
+        }
+
+        engine = new ZetaSQLEngine();
+        engine.init("test", null, rowType, SQL);
+
+        PlainSelect selectBody =
+                (PlainSelect) ((Select) CCJSqlParserUtil.parse(SQL)).getSelectBody();
+        interpreter = new ZetaSQLInterpreter(rowType);
+        whereExpr = selectBody.getWhere();
+        selectExprs =
+                selectBody.getSelectItems().stream()
+                        .map(item -> ((SelectExpressionItem) item).getExpression())
+                        .toArray(Expression[]::new);
+
+        // both paths have to compute the same rows to be comparable
+        for (SeaTunnelRow row : rows) {
+            SeaTunnelRow expected = engine.transformBySQL(row);
+            Object[] actual = interpret(row);
+            if (expected == null ? actual != null : !Arrays.equals(expected.getFields(), actual)) {
+                throw new IllegalStateException("The interpreter disagrees on " + row);
+            }
+        }
+    }
+
+    private Object[] interpret(SeaTunnelRow row) {
+        Object[] inputFields = row.getFields();
+        if (!interpreter.executeFilter(whereExpr, inputFields)) {
+            return null;
+        }
+        Object[] fields = new Object[selectExprs.length];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = interpreter.computeForValue(selectExprs[i], inputFields);
+        }
+        return fields;
+    }
+
+    @Benchmark
+    public void interpreted(Blackhole blackhole) {
+        for (SeaTunnelRow row : rows) {
+            Object[] fields = interpret(row);
+            if (fields != null) {
+                blackhole.consume(new SeaTunnelRow(fields));
+            }
+        }
+    }
+
+    @Benchmark
+    public void compiled(Blackhole blackhole) {
+        for (SeaTunnelRow row : rows) {
+            blackhole.consume(engine.transformBySQL(row));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new Runner(
+                        new OptionsBuilder()
+                                .include(ZetaSQLEngineBenchmark.class.getSimpleName())
+                                .build())
+                .run();
+    }
+}
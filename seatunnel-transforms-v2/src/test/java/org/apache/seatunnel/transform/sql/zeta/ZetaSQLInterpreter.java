@@ -0,0 +1,442 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.table.type.DecimalType;
+import org.apache.seatunnel.api.table.type.MapType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+import org.apache.seatunnel.api.table.type.SqlType;
+import org.apache.seatunnel.common.exception.CommonErrorCodeDeprecated;
+import org.apache.seatunnel.transform.exception.TransformException;
+import org.apache.seatunnel.transform.sql.zeta.functions.DateTimeFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.NumericFunction;
+import org.apache.seatunnel.transform.sql.zeta.functions.SystemFunction;
+
+import net.sf.jsqlparser.expression.BinaryExpression;
+import net.sf.jsqlparser.expression.CaseExpression;
+import net.sf.jsqlparser.expression.CastExpression;
+import net.sf.jsqlparser.expression.DoubleValue;
+import net.sf.jsqlparser.expression.Expression;
+import net.sf.jsqlparser.expression.ExtractExpression;
+import net.sf.jsqlparser.expression.Function;
+import net.sf.jsqlparser.expression.LongValue;
+import net.sf.jsqlparser.expression.NullValue;
+import net.sf.jsqlparser.expression.Parenthesis;
+import net.sf.jsqlparser.expression.SignedExpression;
+import net.sf.jsqlparser.expression.StringValue;
+import net.sf.jsqlparser.expression.TimeKeyExpression;
+import net.sf.jsqlparser.expression.WhenClause;
+import net.sf.jsqlparser.expression.operators.arithmetic.Addition;
+import net.sf.jsqlparser.expression.operators.arithmetic.Concat;
+import net.sf.jsqlparser.expression.operators.arithmetic.Division;
+import net.sf.jsqlparser.expression.operators.arithmetic.Modulo;
+import net.sf.jsqlparser.expression.operators.arithmetic.Multiplication;
+import net.sf.jsqlparser.expression.operators.arithmetic.Subtraction;
+import net.sf.jsqlparser.expression.operators.conditional.AndExpression;
+import net.sf.jsqlparser.expression.operators.conditional.OrExpression;
+import net.sf.jsqlparser.expression.operators.relational.ComparisonOperator;
+import net.sf.jsqlparser.expression.operators.relational.EqualsTo;
+import net.sf.jsqlparser.expression.operators.relational.ExpressionList;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThan;
+import net.sf.jsqlparser.expression.operators.relational.GreaterThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.InExpression;
+import net.sf.jsqlparser.expression.operators.relational.IsNullExpression;
+import net.sf.jsqlparser.expression.operators.relational.LikeExpression;
+import net.sf.jsqlparser.expression.operators.relational.MinorThan;
+import net.sf.jsqlparser.expression.operators.relational.MinorThanEquals;
+import net.sf.jsqlparser.expression.operators.relational.NotEqualsTo;
+import net.sf.jsqlparser.schema.Column;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The row-by-row evaluation of ZetaSQL expressions that {@link ZetaSQLFunction#compile} and {@link
+ * ZetaSQLFilter#compile} replaced, kept as the baseline of {@link ZetaSQLEngineBenchmark}. Walks
+ * the jsqlparser tree, resolves the types and the functions by name again for every row.
+ */
+class ZetaSQLInterpreter {
+
+    private final SeaTunnelRowType inputRowType;
+    private final ZetaSQLType zetaSQLType;
+    private final ZetaSQLFunction zetaSQLFunction;
+    private final ZetaSQLFilter zetaSQLFilter;
+
+    ZetaSQLInterpreter(SeaTunnelRowType inputRowType) {
+        this.inputRowType = inputRowType;
+        this.zetaSQLType = new ZetaSQLType(inputRowType, new ArrayList<>());
+        this.zetaSQLFunction = new ZetaSQLFunction(inputRowType, zetaSQLType, new ArrayList<>());
+        this.zetaSQLFilter = new ZetaSQLFilter(zetaSQLFunction, zetaSQLType);
+    }
+
+    Object computeForValue(Expression expression, Object[] inputFields) {
+        if (expression instanceof NullValue) {
+            return null;
+        }
+        if (expression instanceof SignedExpression) {
+            SignedExpression signedExpression = (SignedExpression) expression;
+            Object value = computeForValue(signedExpression.getExpression(), inputFields);
+            if (signedExpression.getSign() != '-') {
+                return value;
+            }
+            if (value instanceof Integer) {
+                return -((Integer) value);
+            }
+            if (value instanceof Long) {
+                return -((Long) value);
+            }
+            if (value instanceof Double) {
+                return -((Double) value);
+            }
+            if (value instanceof Number) {
+                return -((Number) value).doubleValue();
+            }
+        }
+        if (expression instanceof DoubleValue) {
+            return ((DoubleValue) expression).getValue();
+        }
+        if (expression instanceof LongValue) {
+            long longVal = ((LongValue) expression).getValue();
+            if (longVal <= Integer.MAX_VALUE && longVal >= Integer.MIN_VALUE) {
+                return (int) longVal;
+            } else {
+                return longVal;
+            }
+        }
+        if (expression instanceof StringValue) {
+            return ((StringValue) expression).getValue();
+        }
+        if (expression instanceof Column) {
+            return columnValue((Column) expression, inputFields);
+        }
+        if (expression instanceof Function) {
+            Function function = (Function) expression;
+            ExpressionList expressionList = function.getParameters();
+            List<Object> functionArgs = new ArrayList<>();
+            if (expressionList != null) {
+                for (Expression funcArgExpression : expressionList.getExpressions()) {
+                    functionArgs.add(computeForValue(funcArgExpression, inputFields));
+                }
+            }
+            return zetaSQLFunction.resolveFunction(function.getName()).apply(functionArgs);
+        }
+        if (expression instanceof TimeKeyExpression) {
+            return timeKeyValue(((TimeKeyExpression) expression).getStringValue());
+        }
+        if (expression instanceof ExtractExpression) {
+            ExtractExpression extract = (ExtractExpression) expression;
+            List<Object> functionArgs = new ArrayList<>();
+            functionArgs.add(computeForValue(extract.getExpression(), inputFields));
+            functionArgs.add(extract.getName());
+            return zetaSQLFunction.resolveFunction(ZetaSQLFunction.EXTRACT).apply(functionArgs);
+        }
+        if (expression instanceof Parenthesis) {
+            return computeForValue(((Parenthesis) expression).getExpression(), inputFields);
+        }
+        if (expression instanceof CaseExpression) {
+            Object value = executeCaseExpr((CaseExpression) expression, inputFields);
+            return SystemFunction.castAs(value, zetaSQLType.getExpressionType(expression));
+        }
+        if (expression instanceof BinaryExpression) {
+            return executeBinaryExpr((BinaryExpression) expression, inputFields);
+        }
+        if (expression instanceof CastExpression) {
+            CastExpression castExpression = (CastExpression) expression;
+            Object leftValue = computeForValue(castExpression.getLeftExpression(), inputFields);
+            return executeCastExpr(castExpression, leftValue);
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", expression));
+    }
+
+    boolean executeFilter(Expression whereExpr, Object[] inputFields) {
+        if (whereExpr == null) {
+            return true;
+        }
+        if (whereExpr instanceof Function) {
+            Boolean result = (Boolean) computeForValue(whereExpr, inputFields);
+            return result != null && result;
+        }
+        if (whereExpr instanceof IsNullExpression) {
+            IsNullExpression isNullExpression = (IsNullExpression) whereExpr;
+            Object leftVal = computeForValue(isNullExpression.getLeftExpression(), inputFields);
+            return isNullExpression.isNot() ? leftVal != null : leftVal == null;
+        }
+        if (whereExpr instanceof InExpression) {
+            return inExpr((InExpression) whereExpr, inputFields);
+        }
+        if (whereExpr instanceof LikeExpression) {
+            return likeExpr((LikeExpression) whereExpr, inputFields);
+        }
+        if (whereExpr instanceof ComparisonOperator) {
+            ComparisonOperator comparisonOperator = (ComparisonOperator) whereExpr;
+            Object leftVal =
+                    computeForValue(comparisonOperator.getLeftExpression(), inputFields);
+            Object rightVal =
+                    computeForValue(comparisonOperator.getRightExpression(), inputFields);
+            if (whereExpr instanceof EqualsTo) {
+                return zetaSQLFilter.equalsToExpr(leftVal, rightVal);
+            }
+            if (whereExpr instanceof NotEqualsTo) {
+                return zetaSQLFilter.notEqualsToExpr(leftVal, rightVal);
+            }
+            if (whereExpr instanceof GreaterThan) {
+                return zetaSQLFilter.greaterThanExpr(leftVal, rightVal);
+            }
+            if (whereExpr instanceof GreaterThanEquals) {
+                return zetaSQLFilter.greaterThanEqualsExpr(leftVal, rightVal);
+            }
+            if (whereExpr instanceof MinorThan) {
+                return zetaSQLFilter.minorThanExpr(leftVal, rightVal);
+            }
+            if (whereExpr instanceof MinorThanEquals) {
+                return zetaSQLFilter.minorThanEqualsExpr(leftVal, rightVal);
+            }
+        }
+        if (whereExpr instanceof AndExpression) {
+            AndExpression andExpression = (AndExpression) whereExpr;
+            boolean leftRes = executeFilter(andExpression.getLeftExpression(), inputFields);
+            boolean rightRes = executeFilter(andExpression.getRightExpression(), inputFields);
+            return leftRes && rightRes;
+        }
+        if (whereExpr instanceof OrExpression) {
+            OrExpression orExpression = (OrExpression) whereExpr;
+            boolean leftRes = executeFilter(orExpression.getLeftExpression(), inputFields);
+            boolean rightRes = executeFilter(orExpression.getRightExpression(), inputFields);
+            return leftRes || rightRes;
+        }
+        if (whereExpr instanceof Parenthesis) {
+            return executeFilter(((Parenthesis) whereExpr).getExpression(), inputFields);
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", whereExpr));
+    }
+
+    private Object columnValue(Column columnExp, Object[] inputFields) {
+        int index = inputRowType.indexOf(columnExp.getColumnName(), false);
+        if (index != -1) {
+            return inputFields[index];
+        }
+        String fullyQualifiedName = columnExp.getFullyQualifiedName();
+        String[] columnNames = fullyQualifiedName.split("\\.");
+        SeaTunnelDataType<?> parDataType = inputRowType;
+        Object res = new SeaTunnelRow(inputFields);
+        for (String columnName : columnNames) {
+            if (parDataType instanceof MapType) {
+                return ((Map<?, ?>) res).get(columnName);
+            }
+            int idx = ((SeaTunnelRowType) parDataType).indexOf(columnName, false);
+            if (idx == -1) {
+                throw new IllegalArgumentException(
+                        String.format("can't find field [%s]", fullyQualifiedName));
+            }
+            parDataType = ((SeaTunnelRowType) parDataType).getFieldType(idx);
+            res = ((SeaTunnelRow) res).getFields()[idx];
+        }
+        return res;
+    }
+
+    private Object timeKeyValue(String timeKeyExpr) {
+        switch (timeKeyExpr.toUpperCase()) {
+            case ZetaSQLFunction.CURRENT_DATE:
+            case ZetaSQLFunction.CURRENT_DATE_P:
+                return DateTimeFunction.currentDate();
+            case ZetaSQLFunction.CURRENT_TIME:
+            case ZetaSQLFunction.CURRENT_TIME_P:
+                return DateTimeFunction.currentTime();
+            case ZetaSQLFunction.CURRENT_TIMESTAMP:
+            case ZetaSQLFunction.CURRENT_TIMESTAMP_P:
+                return DateTimeFunction.currentTimestamp();
+            default:
+                throw new TransformException(
+                        CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                        String.format("Unsupported TimeKey expression: %s", timeKeyExpr));
+        }
+    }
+
+    private Object executeCaseExpr(CaseExpression caseExpression, Object[] inputFields) {
+        Expression switchExpr = caseExpression.getSwitchExpression();
+        Object switchValue = switchExpr == null ? null : computeForValue(switchExpr, inputFields);
+        for (WhenClause whenClause : caseExpression.getWhenClauses()) {
+            Expression whenExpression = whenClause.getWhenExpression();
+            Object when =
+                    zetaSQLFilter.isConditionExpr(whenExpression)
+                            ? executeFilter(whenExpression, inputFields)
+                            : computeForValue(whenExpression, inputFields);
+            if ((when instanceof Boolean && (boolean) when)
+                    || zetaSQLFilter.equalsToExpr(switchValue, when)) {
+                return computeForValue(whenClause.getThenExpression(), inputFields);
+            }
+        }
+        Expression elseExpression = caseExpression.getElseExpression();
+        return elseExpression == null ? null : computeForValue(elseExpression, inputFields);
+    }
+
+    private Object executeCastExpr(CastExpression castExpression, Object arg) {
+        String dataType = castExpression.getType().getDataType();
+        List<Object> args = new ArrayList<>(4);
+        args.add(arg);
+        args.add(dataType.toUpperCase());
+        if (dataType.equalsIgnoreCase("DECIMAL")) {
+            List<String> ps = castExpression.getType().getArgumentsStringList();
+            args.add(Integer.parseInt(ps.get(0)));
+            args.add(Integer.parseInt(ps.get(1)));
+        }
+        return SystemFunction.castAs(args);
+    }
+
+    private Object executeBinaryExpr(BinaryExpression binaryExpression, Object[] inputFields) {
+        if (binaryExpression instanceof Concat) {
+            List<Object> args = new ArrayList<>(2);
+            args.add(computeForValue(binaryExpression.getLeftExpression(), inputFields));
+            args.add(computeForValue(binaryExpression.getRightExpression(), inputFields));
+            return zetaSQLFunction.resolveFunction(ZetaSQLFunction.CONCAT).apply(args);
+        }
+        Number leftValue =
+                (Number) computeForValue(binaryExpression.getLeftExpression(), inputFields);
+        Number rightValue =
+                (Number) computeForValue(binaryExpression.getRightExpression(), inputFields);
+        if (leftValue == null || rightValue == null) {
+            return null;
+        }
+        SeaTunnelDataType<?> resultType = zetaSQLType.getExpressionType(binaryExpression);
+        if (resultType.getSqlType() == SqlType.INT) {
+            if (binaryExpression instanceof Addition) {
+                return leftValue.intValue() + rightValue.intValue();
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return leftValue.intValue() - rightValue.intValue();
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return leftValue.intValue() * rightValue.intValue();
+            }
+            if (binaryExpression instanceof Division) {
+                return leftValue.intValue() / rightValue.intValue();
+            }
+            if (binaryExpression instanceof Modulo) {
+                return leftValue.intValue() % rightValue.intValue();
+            }
+        }
+        if (resultType.getSqlType() == SqlType.DECIMAL) {
+            BigDecimal bigDecimal = BigDecimal.valueOf(leftValue.doubleValue());
+            if (binaryExpression instanceof Addition) {
+                return bigDecimal.add(BigDecimal.valueOf(rightValue.doubleValue()));
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return bigDecimal.subtract(BigDecimal.valueOf(rightValue.doubleValue()));
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return bigDecimal.multiply(BigDecimal.valueOf(rightValue.doubleValue()));
+            }
+            if (binaryExpression instanceof Division) {
+                return bigDecimal.divide(
+                        BigDecimal.valueOf(rightValue.doubleValue()),
+                        ((DecimalType) resultType).getScale(),
+                        RoundingMode.UP);
+            }
+            if (binaryExpression instanceof Modulo) {
+                List<Object> args = new ArrayList<>(2);
+                args.add(leftValue);
+                args.add(rightValue);
+                return NumericFunction.mod(args);
+            }
+        }
+        if (resultType.getSqlType() == SqlType.DOUBLE) {
+            if (binaryExpression instanceof Addition) {
+                return leftValue.doubleValue() + rightValue.doubleValue();
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return leftValue.doubleValue() - rightValue.doubleValue();
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return leftValue.doubleValue() * rightValue.doubleValue();
+            }
+            if (binaryExpression instanceof Division) {
+                return leftValue.doubleValue() / rightValue.doubleValue();
+            }
+            if (binaryExpression instanceof Modulo) {
+                return leftValue.doubleValue() % rightValue.doubleValue();
+            }
+        }
+        if (resultType.getSqlType() == SqlType.BIGINT) {
+            if (binaryExpression instanceof Addition) {
+                return leftValue.longValue() + rightValue.longValue();
+            }
+            if (binaryExpression instanceof Subtraction) {
+                return leftValue.longValue() - rightValue.longValue();
+            }
+            if (binaryExpression instanceof Multiplication) {
+                return leftValue.longValue() * rightValue.longValue();
+            }
+            if (binaryExpression instanceof Division) {
+                return leftValue.longValue() / rightValue.longValue();
+            }
+            if (binaryExpression instanceof Modulo) {
+                return leftValue.longValue() % rightValue.longValue();
+            }
+        }
+        throw new TransformException(
+                CommonErrorCodeDeprecated.UNSUPPORTED_OPERATION,
+                String.format("Unsupported SQL Expression: %s ", binaryExpression));
+    }
+
+    private boolean inExpr(InExpression inExpression, Object[] inputFields) {
+        ExpressionList itemsList = (ExpressionList) inExpression.getRightItemsList();
+        Object leftValue = computeForValue(inExpression.getLeftExpression(), inputFields);
+        for (Expression exprItem : itemsList.getExpressions()) {
+            Object rightValue = computeForValue(exprItem, inputFields);
+            if (leftValue == null && rightValue == null) {
+                return true;
+            }
+            if (leftValue == null) {
+                return false;
+            }
+            if (leftValue instanceof Number && rightValue instanceof Number) {
+                if (((Number) leftValue).doubleValue() == ((Number) rightValue).doubleValue()) {
+                    return !inExpression.isNot();
+                }
+            } else if (leftValue.equals(rightValue)) {
+                return !inExpression.isNot();
+            }
+        }
+        return inExpression.isNot();
+    }
+
+    private boolean likeExpr(LikeExpression likeExpression, Object[] inputFields) {
+        Object leftVal = computeForValue(likeExpression.getLeftExpression(), inputFields);
+        Object rightVal = computeForValue(likeExpression.getRightExpression(), inputFields);
+        if (leftVal == null || rightVal == null) {
+            return false;
+        }
+        String regex = ZetaSQLFilter.likeToRegex(rightVal.toString());
+        boolean matches =
+                zetaSQLFunction
+                        .getPatternCache()
+                        .compile(regex, 0)
+                        .matcher(leftVal.toString())
+                        .matches();
+        return likeExpression.isNot() != matches;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.seatunnel.transform.sql.zeta;
+
+import org.apache.seatunnel.api.common.metrics.AbstractMetricsContext;
+import org.apache.seatunnel.api.common.metrics.MetricNames;
+import org.apache.seatunnel.api.common.metrics.MetricsContext;
+import org.apache.seatunnel.api.common.metrics.ThreadSafeCounter;
+import org.apache.seatunnel.api.table.type.BasicType;
+import org.apache.seatunnel.api.table.type.SeaTunnelDataType;
+import org.apache.seatunnel.api.table.type.SeaTunnelRow;
+import org.apache.seatunnel.api.table.type.SeaTunnelRowType;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.Pattern;
+
+public class ZetaSQLPatternCacheTest {
+
+    private static final SeaTunnelRowType ROW_TYPE =
+            new SeaTunnelRowType(
+                    new String[] {"name", "pattern"},
+                    new SeaTunnelDataType[] {BasicType.STRING_TYPE, BasicType.STRING_TYPE});
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        ZetaSQLPatternCache cache =
+                new ZetaSQLPatternCache(
+                        2, new ThreadSafeCounter("hits"), new ThreadSafeCounter("misses"));
+        Pattern a = cache.compile("a.*", 0);
+        cache.compile("b.*", 0);
+        Assertions.assertSame(a, cache.compile("a.*", 0));
+        cache.compile("c.*", 0);
+        Assertions.assertEquals(2, cache.size());
+        // "b.*" was the least recently used one
+        cache.compile("b.*", 0);
+        Assertions.assertEquals(1, cache.getHitCounter().getCount());
+        Assertions.assertEquals(4, cache.getMissCounter().getCount());
+        // same regexp with other flags is a different pattern
+        Assertions.assertEquals(
+                Pattern.CASE_INSENSITIVE, cache.compile("b.*", Pattern.CASE_INSENSITIVE).flags());
+    }
+
+    @Test
+    public void testSameRegexpWithDifferentFlags() {
+        ZetaSQLPatternCache cache =
+                new ZetaSQLPatternCache(
+                        4, new ThreadSafeCounter("hits"), new ThreadSafeCounter("misses"));
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals(
+                    Pattern.CASE_INSENSITIVE,
+                    cache.compile("a.*", Pattern.CASE_INSENSITIVE).flags());
+            Assertions.assertEquals(0, cache.compile("a.*", 0).flags());
+        }
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(2, cache.getMissCounter().getCount());
+        Assertions.assertEquals(4, cache.getHitCounter().getCount());
+    }
+
+    @Test
+    public void testRuntimePatternsReportToMetricsContext() {
+        MetricsContext metricsContext = new AbstractMetricsContext() {};
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.setMetricsContext(metricsContext);
+        engine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select name from test where REGEXP_LIKE(name, pattern) or name like 'z%'");
+
+        Assertions.assertNotNull(engine.transformBySQL(row("apple", "^a")));
+        Assertions.assertNotNull(engine.transformBySQL(row("avocado", "^a")));
+        Assertions.assertNull(engine.transformBySQL(row("banana", "^c")));
+        Assertions.assertNotNull(engine.transformBySQL(row("zucchini", "^c")));
+
+        Assertions.assertEquals(
+                2, metricsContext.counter(MetricNames.TRANSFORM_REGEXP_CACHE_HITS).getCount());
+        Assertions.assertEquals(
+                2, metricsContext.counter(MetricNames.TRANSFORM_REGEXP_CACHE_MISSES).getCount());
+    }
+
+    @Test
+    public void testLiteralPatternsBypassCache() {
+        MetricsContext metricsContext = new AbstractMetricsContext() {};
+        ZetaSQLEngine engine = new ZetaSQLEngine();
+        engine.setMetricsContext(metricsContext);
+        engine.init(
+                "test",
+                null,
+                ROW_TYPE,
+                "select REGEXP_REPLACE(name, 'a', 'A') as name from test"
+                        + " where REGEXP_LIKE(name, 'N', 'i') and name not like '%x'");
+
+        SeaTunnelRow output = engine.transformBySQL(row("banana", null));
+        Assertions.assertEquals("bAnAnA", output.getField(0));
+        Assertions.assertNull(engine.transformBySQL(row("apple", null)));
+
+        Assertions.assertEquals(
+                0, metricsContext.counter(MetricNames.TRANSFORM_REGEXP_CACHE_HITS).getCount());
+        Assertions.assertEquals(
+                0, metricsContext.counter(MetricNames.TRANSFORM_REGEXP_CACHE_MISSES).getCount());
+    }
+
+    private static SeaTunnelRow row(Object... fields) {
+        return new SeaTunnelRow(fields);
+    }
+}